@@ -86,22 +86,28 @@ class AlternativeHttpClientImpl extends HttpClientBase {
                     write(out, "\r\n");
                 } else {
 
-                    String postParam;
+                    byte[] bytes;
                     if (HttpParameter.containsJson(req.getParameters())) {
                         request.setHeader(new HTTPHeader(
                                 "Content-Type",
                                 "application/json"
                         ));
-                        postParam = req.getParameters()[0].getJsonObject().toString();
+                        JSONBodyWriter writer = JSONBodyWriter.acquire();
+                        try {
+                            req.getParameters()[0].writeJSON(writer);
+                            bytes = writer.toByteArray();
+                        } finally {
+                            writer.release();
+                        }
                     } else {
                         request.setHeader(new HTTPHeader(
                                 "Content-Type",
                                 "application/x-www-form-urlencoded"
                         ));
-                        postParam = HttpParameter.encodeParameters(req.getParameters());
+                        String postParam = HttpParameter.encodeParameters(req.getParameters());
+                        logger.debug("Post Params: ", postParam);
+                        bytes = postParam.getBytes("UTF-8");
                     }
-                    logger.debug("Post Params: ", postParam);
-                    byte[] bytes = postParam.getBytes("UTF-8");
                     request.setHeader(new HTTPHeader("Content-Length",
                             Integer.toString(bytes.length)));
                     os = new ByteArrayOutputStream();
@@ -61,6 +61,16 @@ final class LazyStatus implements twitter4j.Status {
         return getTarget().getCreatedAt();
     }
 
+    /**
+     * Returns created_at in milliseconds since the epoch
+     *
+     * @return created_at in milliseconds, or -1 if not available
+     * @since Twitter4J 4.0.8
+     */
+    public long getCreatedAtMillis() {
+        return getTarget().getCreatedAtMillis();
+    }
+
 
     /**
      * Returns the id of the status
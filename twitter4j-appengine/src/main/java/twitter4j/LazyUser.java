@@ -297,6 +297,11 @@ final class LazyUser implements twitter4j.User {
         return getTarget().getCreatedAt();
     }
 
+    @Override
+    public long getCreatedAtMillis() {
+        return getTarget().getCreatedAtMillis();
+    }
+
     @Override
     public int getFavouritesCount() {
         return getTarget().getFavouritesCount();
@@ -59,4 +59,22 @@ public interface AsyncTwitter extends java.io.Serializable,
      * @since Twitter4J 2.1.9
      */
     void shutdown();
+
+    /**
+     * Returns a view of this instance whose resource methods return a {@link TwitterFuture}, executed on the internal dispatcher.<br>
+     * The number of calls processed concurrently is bound by async.numThreads.
+     *
+     * @return FutureTwitter bound to the same configuration and authorization
+     * @since Twitter4J 4.0.8
+     */
+    FutureTwitter futures();
+
+    /**
+     * Returns a view of this instance whose resource methods return a {@link TwitterFuture}, executed on the given executor.
+     *
+     * @param executor executor running the calls
+     * @return FutureTwitter bound to the same configuration and authorization
+     * @since Twitter4J 4.0.8
+     */
+    FutureTwitter futures(java.util.concurrent.Executor executor);
 }
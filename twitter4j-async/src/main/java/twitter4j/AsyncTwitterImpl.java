@@ -29,6 +29,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static twitter4j.TwitterMethod.*;
 
@@ -2740,6 +2741,21 @@ class AsyncTwitterImpl extends TwitterBaseImpl implements AsyncTwitter {
         }
     }
 
+    @Override
+    public FutureTwitter futures() {
+        return futures(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                getDispatcher().invokeLater(command);
+            }
+        });
+    }
+
+    @Override
+    public FutureTwitter futures(Executor executor) {
+        return new FutureTwitterImpl(twitter, executor);
+    }
+
     private Dispatcher getDispatcher() {
         if (null == AsyncTwitterImpl.dispatcher) {
             synchronized (AsyncTwitterImpl.class) {
@@ -2843,6 +2859,9 @@ class AsyncTwitterImpl extends TwitterBaseImpl implements AsyncTwitter {
     abstract class AsyncTask implements Runnable {
         final List<TwitterListener> listeners;
         final TwitterMethod method;
+        private int retriedCount = 0;
+        // set while waiting for the response headers of the first request
+        private DeferredRetry suspended;
 
         AsyncTask(TwitterMethod method, List<TwitterListener> listeners) {
             this.method = method;
@@ -2853,9 +2872,40 @@ class AsyncTwitterImpl extends TwitterBaseImpl implements AsyncTwitter {
 
         @Override
         public void run() {
+            // the HttpClient leaves the retries and the wait for the response headers to this task instead of blocking the dispatcher thread
+            final DeferredRetry retry = DeferredRetry.begin(retriedCount, suspended);
+            suspended = null;
             try {
                 invoke(listeners);
             } catch (TwitterException te) {
+                if (retry.isSuspended(te)) {
+                    suspended = retry;
+                    if (retry.getSuspensionTimeout() > 0) {
+                        RetryTimer.schedule(new Runnable() {
+                            @Override
+                            public void run() {
+                                retry.timeOut();
+                            }
+                        }, retry.getSuspensionTimeout());
+                    }
+                    retry.resumeWhenReady(new Runnable() {
+                        @Override
+                        public void run() {
+                            getDispatcher().invokeLater(AsyncTask.this);
+                        }
+                    });
+                    return;
+                }
+                if (retry.isRetryRequested(te)) {
+                    retriedCount = retry.getNextRetriedCount();
+                    RetryTimer.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            getDispatcher().invokeLater(AsyncTask.this);
+                        }
+                    }, retry.getDelayMillis());
+                    return;
+                }
                 if (listeners != null) {
                     for (TwitterListener listener : listeners) {
                         try {
@@ -2864,6 +2914,8 @@ class AsyncTwitterImpl extends TwitterBaseImpl implements AsyncTwitter {
                         }
                     }
                 }
+            } finally {
+                DeferredRetry.end(retry);
             }
         }
     }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.api.*;
+
+/**
+ * Twitter API returning a {@link TwitterFuture} from every resource method.<br>
+ * Obtain an instance with {@link AsyncTwitter#futures()} or {@link AsyncTwitter#futures(java.util.concurrent.Executor)}.<br>
+ * Calls are executed on the associated executor. With the default HttpClient, each call occupies an executor thread while the underlying HTTP request is in flight, size the executor according to the desired concurrency.<br>
+ * With twitter4j.NIOHttpClientImpl configured as the HttpClient implementation, a call releases its executor thread while waiting for the response headers of its first request, and is resumed on the executor when they arrive. The executor thread is still occupied while the response body is read and bound, while the requests following the first one of the call are in flight, and for requests going through the response cache or the request coalescer.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface FutureTwitter extends
+        TimelinesResourcesFuture,
+        TweetsResourcesFuture,
+        SearchResourceFuture,
+        DirectMessagesResourcesFuture,
+        FriendsFollowersResourcesFuture,
+        UsersResourcesFuture,
+        SuggestedUsersResourcesFuture,
+        FavoritesResourcesFuture,
+        ListsResourcesFuture,
+        SavedSearchesResourcesFuture,
+        PlacesGeoResourcesFuture,
+        TrendsResourcesFuture,
+        SpamReportingResourceFuture,
+        HelpResourcesFuture {
+
+    /**
+     * @return {@link twitter4j.api.TimelinesResourcesFuture}
+     */
+    TimelinesResourcesFuture timelines();
+
+    /**
+     * @return {@link twitter4j.api.TweetsResourcesFuture}
+     */
+    TweetsResourcesFuture tweets();
+
+    /**
+     * @return {@link twitter4j.api.SearchResourceFuture}
+     */
+    SearchResourceFuture search();
+
+    /**
+     * @return {@link twitter4j.api.DirectMessagesResourcesFuture}
+     */
+    DirectMessagesResourcesFuture directMessages();
+
+    /**
+     * @return {@link twitter4j.api.FriendsFollowersResourcesFuture}
+     */
+    FriendsFollowersResourcesFuture friendsFollowers();
+
+    /**
+     * @return {@link twitter4j.api.UsersResourcesFuture}
+     */
+    UsersResourcesFuture users();
+
+    /**
+     * @return {@link twitter4j.api.SuggestedUsersResourcesFuture}
+     */
+    SuggestedUsersResourcesFuture suggestedUsers();
+
+    /**
+     * @return {@link twitter4j.api.FavoritesResourcesFuture}
+     */
+    FavoritesResourcesFuture favorites();
+
+    /**
+     * @return {@link twitter4j.api.ListsResourcesFuture}
+     */
+    ListsResourcesFuture list();
+
+    /**
+     * @return {@link twitter4j.api.SavedSearchesResourcesFuture}
+     */
+    SavedSearchesResourcesFuture savedSearches();
+
+    /**
+     * @return {@link twitter4j.api.PlacesGeoResourcesFuture}
+     */
+    PlacesGeoResourcesFuture placesGeo();
+
+    /**
+     * @return {@link twitter4j.api.TrendsResourcesFuture}
+     */
+    TrendsResourcesFuture trends();
+
+    /**
+     * @return {@link twitter4j.api.SpamReportingResourceFuture}
+     */
+    SpamReportingResourceFuture spamReporting();
+
+    /**
+     * @return {@link twitter4j.api.HelpResourcesFuture}
+     */
+    HelpResourcesFuture help();
+}
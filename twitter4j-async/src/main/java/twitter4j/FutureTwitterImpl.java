@@ -0,0 +1,2427 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.api.*;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * FutureTwitter implementation delegating each call to a synchronous {@link Twitter} instance, executed on an {@link Executor}.
+ *
+ * @since Twitter4J 4.0.8
+ */
+class FutureTwitterImpl implements FutureTwitter {
+    private final Twitter twitter;
+    private final Executor executor;
+
+    /*package*/
+    FutureTwitterImpl(Twitter twitter, Executor executor) {
+        if (twitter == null) {
+            throw new NullPointerException("twitter cannot be null");
+        }
+        if (executor == null) {
+            throw new NullPointerException("executor cannot be null");
+        }
+        this.twitter = twitter;
+        this.executor = executor;
+    }
+
+    abstract static class Task<V> implements Runnable {
+        final TwitterFutureImpl<V> future = new TwitterFutureImpl<V>();
+        private Executor executor;
+        private int retriedCount = 0;
+        // set while waiting for the response headers of the first request
+        private DeferredRetry suspended;
+
+        abstract V call() throws TwitterException;
+
+        @Override
+        public void run() {
+            if (!future.start()) {
+                // cancelled before being executed, or while suspended
+                if (suspended != null) {
+                    suspended.discard();
+                    suspended = null;
+                }
+                return;
+            }
+            // the HttpClient leaves the retries and the wait for the response headers to this task instead of blocking
+            final DeferredRetry retry = DeferredRetry.begin(retriedCount, suspended);
+            suspended = null;
+            try {
+                future.complete(call());
+            } catch (TwitterException te) {
+                if (retry.isSuspended(te)) {
+                    suspended = retry;
+                    future.suspend();
+                    if (retry.getSuspensionTimeout() > 0) {
+                        RetryTimer.schedule(new Runnable() {
+                            @Override
+                            public void run() {
+                                retry.timeOut();
+                            }
+                        }, retry.getSuspensionTimeout());
+                    }
+                    retry.resumeWhenReady(new Runnable() {
+                        @Override
+                        public void run() {
+                            execute();
+                        }
+                    });
+                } else if (retry.isRetryRequested(te)) {
+                    retriedCount = retry.getNextRetriedCount();
+                    future.suspend();
+                    RetryTimer.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            execute();
+                        }
+                    }, retry.getDelayMillis());
+                } else {
+                    future.fail(te);
+                }
+            } catch (RuntimeException re) {
+                future.fail(new TwitterException(re));
+            } finally {
+                DeferredRetry.end(retry);
+                if (future.isCancelled()) {
+                    // clear the interrupt possibly delivered by cancel(true) so that the worker thread can be reused
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        void execute() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException ree) {
+                future.fail(new TwitterException("executor rejected the call", ree));
+            }
+        }
+    }
+
+    private <V> TwitterFuture<V> submit(Task<V> task) {
+        task.executor = executor;
+        task.execute();
+        return task.future;
+    }
+
+    @Override
+    public TimelinesResourcesFuture timelines() {
+        return this;
+    }
+
+    @Override
+    public TweetsResourcesFuture tweets() {
+        return this;
+    }
+
+    @Override
+    public SearchResourceFuture search() {
+        return this;
+    }
+
+    @Override
+    public DirectMessagesResourcesFuture directMessages() {
+        return this;
+    }
+
+    @Override
+    public FriendsFollowersResourcesFuture friendsFollowers() {
+        return this;
+    }
+
+    @Override
+    public UsersResourcesFuture users() {
+        return this;
+    }
+
+    @Override
+    public SuggestedUsersResourcesFuture suggestedUsers() {
+        return this;
+    }
+
+    @Override
+    public FavoritesResourcesFuture favorites() {
+        return this;
+    }
+
+    @Override
+    public ListsResourcesFuture list() {
+        return this;
+    }
+
+    @Override
+    public SavedSearchesResourcesFuture savedSearches() {
+        return this;
+    }
+
+    @Override
+    public PlacesGeoResourcesFuture placesGeo() {
+        return this;
+    }
+
+    @Override
+    public TrendsResourcesFuture trends() {
+        return this;
+    }
+
+    @Override
+    public SpamReportingResourceFuture spamReporting() {
+        return this;
+    }
+
+    @Override
+    public HelpResourcesFuture help() {
+        return this;
+    }
+
+    /* Timelines Resources */
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getMentionsTimeline() {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getMentionsTimeline();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getMentionsTimeline(final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getMentionsTimeline(paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getUserTimeline(final String screenName, final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getUserTimeline(screenName, paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getUserTimeline(final Long userId, final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getUserTimeline(userId, paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getUserTimeline(final String screenName) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getUserTimeline(screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getUserTimeline(final Long userId) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getUserTimeline(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getUserTimeline() {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getUserTimeline();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getUserTimeline(final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getUserTimeline(paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getHomeTimeline() {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getHomeTimeline();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getHomeTimeline(final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getHomeTimeline(paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getRetweetsOfMe() {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getRetweetsOfMe();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getRetweetsOfMe(final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getRetweetsOfMe(paging);
+            }
+        });
+    }
+
+    /* Tweets Resources */
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getRetweets(final Long statusId) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getRetweets(statusId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getRetweeterIds(final Long statusId, final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getRetweeterIds(statusId, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getRetweeterIds(final Long statusId, final Integer count, final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getRetweeterIds(statusId, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Status> showStatus(final Long id) {
+        return submit(new Task<Status>() {
+            @Override
+            Status call() throws TwitterException {
+                return twitter.showStatus(id);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Status> destroyStatus(final Long statusId) {
+        return submit(new Task<Status>() {
+            @Override
+            Status call() throws TwitterException {
+                return twitter.destroyStatus(statusId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Status> updateStatus(final String status) {
+        return submit(new Task<Status>() {
+            @Override
+            Status call() throws TwitterException {
+                return twitter.updateStatus(status);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Status> updateStatus(final StatusUpdate latestStatus) {
+        return submit(new Task<Status>() {
+            @Override
+            Status call() throws TwitterException {
+                return twitter.updateStatus(latestStatus);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Status> retweetStatus(final Long statusId) {
+        return submit(new Task<Status>() {
+            @Override
+            Status call() throws TwitterException {
+                return twitter.retweetStatus(statusId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Status> unRetweetStatus(final Long statusId) {
+        return submit(new Task<Status>() {
+            @Override
+            Status call() throws TwitterException {
+                return twitter.unRetweetStatus(statusId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<OEmbed> getOEmbed(final OEmbedRequest req) {
+        return submit(new Task<OEmbed>() {
+            @Override
+            OEmbed call() throws TwitterException {
+                return twitter.getOEmbed(req);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> lookup(final long... ids) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.lookup(ids);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UploadedMedia> uploadMedia(final File mediaFile) {
+        return submit(new Task<UploadedMedia>() {
+            @Override
+            UploadedMedia call() throws TwitterException {
+                return twitter.uploadMedia(mediaFile);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UploadedMedia> uploadMedia(final String fileName, final InputStream media) {
+        return submit(new Task<UploadedMedia>() {
+            @Override
+            UploadedMedia call() throws TwitterException {
+                return twitter.uploadMedia(fileName, media);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UploadedMedia> uploadMediaChunked(final String fileName, final InputStream media) {
+        return submit(new Task<UploadedMedia>() {
+            @Override
+            UploadedMedia call() throws TwitterException {
+                return twitter.uploadMediaChunked(fileName, media);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UploadedMedia> uploadMediaChunked(final File mediaFile) {
+        return submit(new Task<UploadedMedia>() {
+            @Override
+            UploadedMedia call() throws TwitterException {
+                return twitter.uploadMediaChunked(mediaFile);
+            }
+        });
+    }
+
+    /* Search Resource */
+
+    @Override
+    public TwitterFuture<QueryResult> search(final Query query) {
+        return submit(new Task<QueryResult>() {
+            @Override
+            QueryResult call() throws TwitterException {
+                return twitter.search(query);
+            }
+        });
+    }
+
+    /* Direct Messages Resources */
+
+    @Override
+    public TwitterFuture<DirectMessageList> getDirectMessages(final Integer count) {
+        return submit(new Task<DirectMessageList>() {
+            @Override
+            DirectMessageList call() throws TwitterException {
+                return twitter.getDirectMessages(count);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<DirectMessageList> getDirectMessages(final Integer count, final String cursor) {
+        return submit(new Task<DirectMessageList>() {
+            @Override
+            DirectMessageList call() throws TwitterException {
+                return twitter.getDirectMessages(count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<DirectMessage> showDirectMessage(final Long id) {
+        return submit(new Task<DirectMessage>() {
+            @Override
+            DirectMessage call() throws TwitterException {
+                return twitter.showDirectMessage(id);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Void> destroyDirectMessage(final Long id) {
+        return submit(new Task<Void>() {
+            @Override
+            Void call() throws TwitterException {
+                twitter.destroyDirectMessage(id);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<DirectMessage> sendDirectMessage(final Long userId, final String text, final QuickReply... quickReplies) {
+        return submit(new Task<DirectMessage>() {
+            @Override
+            DirectMessage call() throws TwitterException {
+                return twitter.sendDirectMessage(userId, text, quickReplies);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<DirectMessage> sendDirectMessage(final Long userId, final String text, final String quickReplyResponse) {
+        return submit(new Task<DirectMessage>() {
+            @Override
+            DirectMessage call() throws TwitterException {
+                return twitter.sendDirectMessage(userId, text, quickReplyResponse);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<DirectMessage> sendDirectMessage(final Long userId, final String text, final Long mediaId) {
+        return submit(new Task<DirectMessage>() {
+            @Override
+            DirectMessage call() throws TwitterException {
+                return twitter.sendDirectMessage(userId, text, mediaId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<DirectMessage> sendDirectMessage(final Long userId, final String text) {
+        return submit(new Task<DirectMessage>() {
+            @Override
+            DirectMessage call() throws TwitterException {
+                return twitter.sendDirectMessage(userId, text);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<DirectMessage> sendDirectMessage(final String screenName, final String text) {
+        return submit(new Task<DirectMessage>() {
+            @Override
+            DirectMessage call() throws TwitterException {
+                return twitter.sendDirectMessage(screenName, text);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<InputStream> getDMImageAsStream(final String url) {
+        return submit(new Task<InputStream>() {
+            @Override
+            InputStream call() throws TwitterException {
+                return twitter.getDMImageAsStream(url);
+            }
+        });
+    }
+
+    /* Friends Followers Resources */
+
+    @Override
+    public TwitterFuture<IDs> getNoRetweetsFriendships() {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getNoRetweetsFriendships();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getFriendsIDs(final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getFriendsIDs(cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getFriendsIDs(final Long userId, final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getFriendsIDs(userId, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getFriendsIDs(final Long userId, final Long cursor, final Integer count) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getFriendsIDs(userId, cursor, count);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getFriendsIDs(final String screenName, final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getFriendsIDs(screenName, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getFriendsIDs(final String screenName, final Long cursor, final Integer count) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getFriendsIDs(screenName, cursor, count);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getFollowersIDs(final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getFollowersIDs(cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getFollowersIDs(final Long userId, final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getFollowersIDs(userId, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getFollowersIDs(final Long userId, final Long cursor, final Integer count) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getFollowersIDs(userId, cursor, count);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getFollowersIDs(final String screenName, final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getFollowersIDs(screenName, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getFollowersIDs(final String screenName, final Long cursor, final Integer count) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getFollowersIDs(screenName, cursor, count);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Friendship>> lookupFriendships(final long... ids) {
+        return submit(new Task<ResponseList<Friendship>>() {
+            @Override
+            ResponseList<Friendship> call() throws TwitterException {
+                return twitter.lookupFriendships(ids);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Friendship>> lookupFriendships(final String... screenNames) {
+        return submit(new Task<ResponseList<Friendship>>() {
+            @Override
+            ResponseList<Friendship> call() throws TwitterException {
+                return twitter.lookupFriendships(screenNames);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getIncomingFriendships(final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getIncomingFriendships(cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getOutgoingFriendships(final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getOutgoingFriendships(cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> createFriendship(final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.createFriendship(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> createFriendship(final String screenName) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.createFriendship(screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> createFriendship(final Long userId, final Boolean follow) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.createFriendship(userId, follow);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> createFriendship(final String screenName, final Boolean follow) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.createFriendship(screenName, follow);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> destroyFriendship(final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.destroyFriendship(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> destroyFriendship(final String screenName) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.destroyFriendship(screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Relationship> updateFriendship(final Long userId, final Boolean enableDeviceNotification, final Boolean retweets) {
+        return submit(new Task<Relationship>() {
+            @Override
+            Relationship call() throws TwitterException {
+                return twitter.updateFriendship(userId, enableDeviceNotification, retweets);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Relationship> updateFriendship(final String screenName, final Boolean enableDeviceNotification, final Boolean retweets) {
+        return submit(new Task<Relationship>() {
+            @Override
+            Relationship call() throws TwitterException {
+                return twitter.updateFriendship(screenName, enableDeviceNotification, retweets);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Relationship> showFriendship(final Long sourceId, final Long targetId) {
+        return submit(new Task<Relationship>() {
+            @Override
+            Relationship call() throws TwitterException {
+                return twitter.showFriendship(sourceId, targetId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Relationship> showFriendship(final String sourceScreenName, final String targetScreenName) {
+        return submit(new Task<Relationship>() {
+            @Override
+            Relationship call() throws TwitterException {
+                return twitter.showFriendship(sourceScreenName, targetScreenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFriendsList(final Long userId, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFriendsList(userId, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFriendsList(final Long userId, final Long cursor, final Integer count) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFriendsList(userId, cursor, count);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFriendsList(final String screenName, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFriendsList(screenName, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFriendsList(final String screenName, final Long cursor, final Integer count) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFriendsList(screenName, cursor, count);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFriendsList(final Long userId, final Long cursor, final Integer count, final Boolean skipStatus, final Boolean includeUserEntities) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFriendsList(userId, cursor, count, skipStatus, includeUserEntities);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFriendsList(final String screenName, final Long cursor, final Integer count, final Boolean skipStatus, final Boolean includeUserEntities) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFriendsList(screenName, cursor, count, skipStatus, includeUserEntities);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFollowersList(final Long userId, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFollowersList(userId, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFollowersList(final String screenName, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFollowersList(screenName, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFollowersList(final Long userId, final Long cursor, final Integer count) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFollowersList(userId, cursor, count);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFollowersList(final String screenName, final Long cursor, final Integer count) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFollowersList(screenName, cursor, count);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFollowersList(final Long userId, final Long cursor, final Integer count, final Boolean skipStatus, final Boolean includeUserEntities) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFollowersList(userId, cursor, count, skipStatus, includeUserEntities);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getFollowersList(final String screenName, final Long cursor, final Integer count, final Boolean skipStatus, final Boolean includeUserEntities) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getFollowersList(screenName, cursor, count, skipStatus, includeUserEntities);
+            }
+        });
+    }
+
+    /* Users Resources */
+
+    @Override
+    public TwitterFuture<AccountSettings> getAccountSettings() {
+        return submit(new Task<AccountSettings>() {
+            @Override
+            AccountSettings call() throws TwitterException {
+                return twitter.getAccountSettings();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> verifyCredentials() {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.verifyCredentials();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<AccountSettings> updateAccountSettings(final Integer trendLocationWoeid, final Boolean sleepTimeEnabled, final String startSleepTime, final String endSleepTime, final String timeZone, final String lang) {
+        return submit(new Task<AccountSettings>() {
+            @Override
+            AccountSettings call() throws TwitterException {
+                return twitter.updateAccountSettings(trendLocationWoeid, sleepTimeEnabled, startSleepTime, endSleepTime, timeZone, lang);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<AccountSettings> updateAllowDmsFrom(final String allowDmsFrom) {
+        return submit(new Task<AccountSettings>() {
+            @Override
+            AccountSettings call() throws TwitterException {
+                return twitter.updateAllowDmsFrom(allowDmsFrom);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> updateProfile(final String name, final String url, final String location, final String description) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.updateProfile(name, url, location, description);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> updateProfileImage(final File image) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.updateProfileImage(image);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> updateProfileImage(final InputStream image) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.updateProfileImage(image);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getBlocksList() {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getBlocksList();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getBlocksList(final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getBlocksList(cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getBlocksIDs() {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getBlocksIDs();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getBlocksIDs(final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getBlocksIDs(cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> createBlock(final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.createBlock(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> createBlock(final String screenName) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.createBlock(screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> destroyBlock(final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.destroyBlock(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> destroyBlock(final String screen_name) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.destroyBlock(screen_name);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getMutesList(final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getMutesList(cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<IDs> getMutesIDs(final Long cursor) {
+        return submit(new Task<IDs>() {
+            @Override
+            IDs call() throws TwitterException {
+                return twitter.getMutesIDs(cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> createMute(final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.createMute(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> createMute(final String screenName) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.createMute(screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> destroyMute(final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.destroyMute(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> destroyMute(final String screenName) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.destroyMute(screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<User>> lookupUsers(final long... ids) {
+        return submit(new Task<ResponseList<User>>() {
+            @Override
+            ResponseList<User> call() throws TwitterException {
+                return twitter.lookupUsers(ids);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<User>> lookupUsers(final String... screenNames) {
+        return submit(new Task<ResponseList<User>>() {
+            @Override
+            ResponseList<User> call() throws TwitterException {
+                return twitter.lookupUsers(screenNames);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> showUser(final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.showUser(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> showUser(final String screenName) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.showUser(screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<User>> searchUsers(final String query, final Integer page) {
+        return submit(new Task<ResponseList<User>>() {
+            @Override
+            ResponseList<User> call() throws TwitterException {
+                return twitter.searchUsers(query, page);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<User>> getContributees(final Long userId) {
+        return submit(new Task<ResponseList<User>>() {
+            @Override
+            ResponseList<User> call() throws TwitterException {
+                return twitter.getContributees(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<User>> getContributees(final String screenName) {
+        return submit(new Task<ResponseList<User>>() {
+            @Override
+            ResponseList<User> call() throws TwitterException {
+                return twitter.getContributees(screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<User>> getContributors(final Long userId) {
+        return submit(new Task<ResponseList<User>>() {
+            @Override
+            ResponseList<User> call() throws TwitterException {
+                return twitter.getContributors(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<User>> getContributors(final String screenName) {
+        return submit(new Task<ResponseList<User>>() {
+            @Override
+            ResponseList<User> call() throws TwitterException {
+                return twitter.getContributors(screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Void> removeProfileBanner() {
+        return submit(new Task<Void>() {
+            @Override
+            Void call() throws TwitterException {
+                twitter.removeProfileBanner();
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Void> updateProfileBanner(final File image) {
+        return submit(new Task<Void>() {
+            @Override
+            Void call() throws TwitterException {
+                twitter.updateProfileBanner(image);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Void> updateProfileBanner(final InputStream image) {
+        return submit(new Task<Void>() {
+            @Override
+            Void call() throws TwitterException {
+                twitter.updateProfileBanner(image);
+                return null;
+            }
+        });
+    }
+
+    /* Suggested Users Resources */
+
+    @Override
+    public TwitterFuture<ResponseList<User>> getUserSuggestions(final String categorySlug) {
+        return submit(new Task<ResponseList<User>>() {
+            @Override
+            ResponseList<User> call() throws TwitterException {
+                return twitter.getUserSuggestions(categorySlug);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Category>> getSuggestedUserCategories() {
+        return submit(new Task<ResponseList<Category>>() {
+            @Override
+            ResponseList<Category> call() throws TwitterException {
+                return twitter.getSuggestedUserCategories();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<User>> getMemberSuggestions(final String categorySlug) {
+        return submit(new Task<ResponseList<User>>() {
+            @Override
+            ResponseList<User> call() throws TwitterException {
+                return twitter.getMemberSuggestions(categorySlug);
+            }
+        });
+    }
+
+    /* Favorites Resources */
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getFavorites() {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getFavorites();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getFavorites(final Long userId) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getFavorites(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getFavorites(final String screenName) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getFavorites(screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getFavorites(final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getFavorites(paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getFavorites(final Long userId, final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getFavorites(userId, paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getFavorites(final String screenName, final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getFavorites(screenName, paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Status> createFavorite(final Long id) {
+        return submit(new Task<Status>() {
+            @Override
+            Status call() throws TwitterException {
+                return twitter.createFavorite(id);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Status> destroyFavorite(final Long id) {
+        return submit(new Task<Status>() {
+            @Override
+            Status call() throws TwitterException {
+                return twitter.destroyFavorite(id);
+            }
+        });
+    }
+
+    /* Lists Resources */
+
+    @Override
+    public TwitterFuture<ResponseList<UserList>> getUserLists(final String listOwnerScreenName) {
+        return submit(new Task<ResponseList<UserList>>() {
+            @Override
+            ResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserLists(listOwnerScreenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<UserList>> getUserLists(final String listOwnerScreenName, final Boolean reverse) {
+        return submit(new Task<ResponseList<UserList>>() {
+            @Override
+            ResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserLists(listOwnerScreenName, reverse);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<UserList>> getUserLists(final Long listOwnerUserId) {
+        return submit(new Task<ResponseList<UserList>>() {
+            @Override
+            ResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserLists(listOwnerUserId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<UserList>> getUserLists(final Long listOwnerUserId, final Boolean reverse) {
+        return submit(new Task<ResponseList<UserList>>() {
+            @Override
+            ResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserLists(listOwnerUserId, reverse);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getUserListStatuses(final Long listId, final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getUserListStatuses(listId, paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getUserListStatuses(final Long ownerId, final String slug, final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getUserListStatuses(ownerId, slug, paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Status>> getUserListStatuses(final String ownerScreenName, final String slug, final Paging paging) {
+        return submit(new Task<ResponseList<Status>>() {
+            @Override
+            ResponseList<Status> call() throws TwitterException {
+                return twitter.getUserListStatuses(ownerScreenName, slug, paging);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserListMember(final Long listId, final Long userId) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserListMember(listId, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserListMember(final Long listId, final String screenName) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserListMember(listId, screenName);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserListMembers(final Long listId, final String[] screenNames) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserListMembers(listId, screenNames);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserListMembers(final Long listId, final long[] userIds) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserListMembers(listId, userIds);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserListMembers(final String ownerScreenName, final String slug, final String[] screenNames) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserListMembers(ownerScreenName, slug, screenNames);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserListMember(final Long ownerId, final String slug, final Long userId) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserListMember(ownerId, slug, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserListMember(final String ownerScreenName, final String slug, final Long userId) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserListMember(ownerScreenName, slug, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListMemberships(cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListMemberships(count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(final Long listMemberId, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListMemberships(listMemberId, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(final Long listMemberId, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListMemberships(listMemberId, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(final String listMemberScreenName, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListMemberships(listMemberScreenName, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(final String listMemberScreenName, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListMemberships(listMemberScreenName, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(final String listMemberScreenName, final Long cursor, final Boolean filterToOwnedLists) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListMemberships(listMemberScreenName, cursor, filterToOwnedLists);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(final String listMemberScreenName, final Integer count, final Long cursor, final Boolean filterToOwnedLists) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListMemberships(listMemberScreenName, count, cursor, filterToOwnedLists);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(final Long listMemberId, final Long cursor, final Boolean filterToOwnedLists) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListMemberships(listMemberId, cursor, filterToOwnedLists);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(final Long listMemberId, final Integer count, final Long cursor, final Boolean filterToOwnedLists) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListMemberships(listMemberId, count, cursor, filterToOwnedLists);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListSubscribers(final Long listId, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListSubscribers(listId, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListSubscribers(final Long listId, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListSubscribers(listId, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListSubscribers(final Long listId, final Integer count, final Long cursor, final Boolean skipStatus) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListSubscribers(listId, count, cursor, skipStatus);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListSubscribers(final Long ownerId, final String slug, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListSubscribers(ownerId, slug, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListSubscribers(final Long ownerId, final String slug, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListSubscribers(ownerId, slug, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListSubscribers(final Long ownerId, final String slug, final Integer count, final Long cursor, final Boolean skipStatus) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListSubscribers(ownerId, slug, count, cursor, skipStatus);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListSubscribers(final String ownerScreenName, final String slug, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListSubscribers(ownerScreenName, slug, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListSubscribers(final String ownerScreenName, final String slug, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListSubscribers(ownerScreenName, slug, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListSubscribers(final String ownerScreenName, final String slug, final Integer count, final Long cursor, final Boolean skipStatus) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListSubscribers(ownerScreenName, slug, count, cursor, skipStatus);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListSubscription(final Long listId) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListSubscription(listId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListSubscription(final Long ownerId, final String slug) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListSubscription(ownerId, slug);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListSubscription(final String ownerScreenName, final String slug) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListSubscription(ownerScreenName, slug);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> showUserListSubscription(final Long listId, final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.showUserListSubscription(listId, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> showUserListSubscription(final Long ownerId, final String slug, final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.showUserListSubscription(ownerId, slug, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> showUserListSubscription(final String ownerScreenName, final String slug, final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.showUserListSubscription(ownerScreenName, slug, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserListSubscription(final Long listId) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserListSubscription(listId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserListSubscription(final Long ownerId, final String slug) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserListSubscription(ownerId, slug);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserListSubscription(final String ownerScreenName, final String slug) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserListSubscription(ownerScreenName, slug);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListMembers(final Long listId, final long... userIds) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListMembers(listId, userIds);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListMembers(final Long ownerId, final String slug, final long... userIds) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListMembers(ownerId, slug, userIds);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListMembers(final String ownerScreenName, final String slug, final long... userIds) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListMembers(ownerScreenName, slug, userIds);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListMembers(final Long listId, final String... screenNames) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListMembers(listId, screenNames);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListMembers(final Long ownerId, final String slug, final String... screenNames) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListMembers(ownerId, slug, screenNames);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListMembers(final String ownerScreenName, final String slug, final String... screenNames) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListMembers(ownerScreenName, slug, screenNames);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> showUserListMembership(final Long listId, final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.showUserListMembership(listId, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> showUserListMembership(final Long ownerId, final String slug, final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.showUserListMembership(ownerId, slug, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> showUserListMembership(final String ownerScreenName, final String slug, final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.showUserListMembership(ownerScreenName, slug, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListMembers(final Long listId, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListMembers(listId, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListMembers(final Long listId, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListMembers(listId, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListMembers(final Long listId, final Integer count, final Long cursor, final Boolean skipStatus) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListMembers(listId, count, cursor, skipStatus);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListMembers(final Long ownerId, final String slug, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListMembers(ownerId, slug, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListMembers(final Long ownerId, final String slug, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListMembers(ownerId, slug, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListMembers(final Long ownerId, final String slug, final Integer count, final Long cursor, final Boolean skipStatus) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListMembers(ownerId, slug, count, cursor, skipStatus);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListMembers(final String ownerScreenName, final String slug, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListMembers(ownerScreenName, slug, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListMembers(final String ownerScreenName, final String slug, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListMembers(ownerScreenName, slug, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<User>> getUserListMembers(final String ownerScreenName, final String slug, final Integer count, final Long cursor, final Boolean skipStatus) {
+        return submit(new Task<PagableResponseList<User>>() {
+            @Override
+            PagableResponseList<User> call() throws TwitterException {
+                return twitter.getUserListMembers(ownerScreenName, slug, count, cursor, skipStatus);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListMember(final Long listId, final Long userId) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListMember(listId, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListMember(final Long ownerId, final String slug, final Long userId) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListMember(ownerId, slug, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserListMember(final String ownerScreenName, final String slug, final Long userId) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserListMember(ownerScreenName, slug, userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserList(final Long listId) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserList(listId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserList(final Long ownerId, final String slug) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserList(ownerId, slug);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> destroyUserList(final String ownerScreenName, final String slug) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.destroyUserList(ownerScreenName, slug);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> updateUserList(final Long listId, final String newListName, final Boolean isPublicList, final String newDescription) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.updateUserList(listId, newListName, isPublicList, newDescription);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> updateUserList(final Long ownerId, final String slug, final String newListName, final Boolean isPublicList, final String newDescription) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.updateUserList(ownerId, slug, newListName, isPublicList, newDescription);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> updateUserList(final String ownerScreenName, final String slug, final String newListName, final Boolean isPublicList, final String newDescription) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.updateUserList(ownerScreenName, slug, newListName, isPublicList, newDescription);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> createUserList(final String listName, final Boolean isPublicList, final String description) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.createUserList(listName, isPublicList, description);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> showUserList(final Long listId) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.showUserList(listId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> showUserList(final Long ownerId, final String slug) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.showUserList(ownerId, slug);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<UserList> showUserList(final String ownerScreenName, final String slug) {
+        return submit(new Task<UserList>() {
+            @Override
+            UserList call() throws TwitterException {
+                return twitter.showUserList(ownerScreenName, slug);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListSubscriptions(final String listSubscriberScreenName, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListSubscriptions(listSubscriberScreenName, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListSubscriptions(final String listSubscriberScreenName, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListSubscriptions(listSubscriberScreenName, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListSubscriptions(final Long listSubscriberId, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListSubscriptions(listSubscriberId, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListSubscriptions(final Long listSubscriberId, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListSubscriptions(listSubscriberId, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListsOwnerships(final String listOwnerScreenName, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListsOwnerships(listOwnerScreenName, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListsOwnerships(final String listOwnerScreenName, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListsOwnerships(listOwnerScreenName, count, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListsOwnerships(final Long listOwnerId, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListsOwnerships(listOwnerId, cursor);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<PagableResponseList<UserList>> getUserListsOwnerships(final Long listOwnerId, final Integer count, final Long cursor) {
+        return submit(new Task<PagableResponseList<UserList>>() {
+            @Override
+            PagableResponseList<UserList> call() throws TwitterException {
+                return twitter.getUserListsOwnerships(listOwnerId, count, cursor);
+            }
+        });
+    }
+
+    /* Saved Searches Resources */
+
+    @Override
+    public TwitterFuture<ResponseList<SavedSearch>> getSavedSearches() {
+        return submit(new Task<ResponseList<SavedSearch>>() {
+            @Override
+            ResponseList<SavedSearch> call() throws TwitterException {
+                return twitter.getSavedSearches();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<SavedSearch> showSavedSearch(final Long id) {
+        return submit(new Task<SavedSearch>() {
+            @Override
+            SavedSearch call() throws TwitterException {
+                return twitter.showSavedSearch(id);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<SavedSearch> createSavedSearch(final String query) {
+        return submit(new Task<SavedSearch>() {
+            @Override
+            SavedSearch call() throws TwitterException {
+                return twitter.createSavedSearch(query);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<SavedSearch> destroySavedSearch(final Long id) {
+        return submit(new Task<SavedSearch>() {
+            @Override
+            SavedSearch call() throws TwitterException {
+                return twitter.destroySavedSearch(id);
+            }
+        });
+    }
+
+    /* Places Geo Resources */
+
+    @Override
+    public TwitterFuture<Place> getGeoDetails(final String placeId) {
+        return submit(new Task<Place>() {
+            @Override
+            Place call() throws TwitterException {
+                return twitter.getGeoDetails(placeId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Place>> reverseGeoCode(final GeoQuery query) {
+        return submit(new Task<ResponseList<Place>>() {
+            @Override
+            ResponseList<Place> call() throws TwitterException {
+                return twitter.reverseGeoCode(query);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Place>> searchPlaces(final GeoQuery query) {
+        return submit(new Task<ResponseList<Place>>() {
+            @Override
+            ResponseList<Place> call() throws TwitterException {
+                return twitter.searchPlaces(query);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Place>> getSimilarPlaces(final GeoLocation location, final String name, final String containedWithin, final String streetAddress) {
+        return submit(new Task<ResponseList<Place>>() {
+            @Override
+            ResponseList<Place> call() throws TwitterException {
+                return twitter.getSimilarPlaces(location, name, containedWithin, streetAddress);
+            }
+        });
+    }
+
+    /* Trends Resources */
+
+    @Override
+    public TwitterFuture<Trends> getPlaceTrends(final Integer woeid) {
+        return submit(new Task<Trends>() {
+            @Override
+            Trends call() throws TwitterException {
+                return twitter.getPlaceTrends(woeid);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Location>> getAvailableTrends() {
+        return submit(new Task<ResponseList<Location>>() {
+            @Override
+            ResponseList<Location> call() throws TwitterException {
+                return twitter.getAvailableTrends();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<Location>> getClosestTrends(final GeoLocation location) {
+        return submit(new Task<ResponseList<Location>>() {
+            @Override
+            ResponseList<Location> call() throws TwitterException {
+                return twitter.getClosestTrends(location);
+            }
+        });
+    }
+
+    /* Spam Reporting Resource */
+
+    @Override
+    public TwitterFuture<User> reportSpam(final Long userId) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.reportSpam(userId);
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<User> reportSpam(final String screenName) {
+        return submit(new Task<User>() {
+            @Override
+            User call() throws TwitterException {
+                return twitter.reportSpam(screenName);
+            }
+        });
+    }
+
+    /* Help Resources */
+
+    @Override
+    public TwitterFuture<TwitterAPIConfiguration> getAPIConfiguration() {
+        return submit(new Task<TwitterAPIConfiguration>() {
+            @Override
+            TwitterAPIConfiguration call() throws TwitterException {
+                return twitter.getAPIConfiguration();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<ResponseList<HelpResources.Language>> getLanguages() {
+        return submit(new Task<ResponseList<HelpResources.Language>>() {
+            @Override
+            ResponseList<HelpResources.Language> call() throws TwitterException {
+                return twitter.getLanguages();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<String> getPrivacyPolicy() {
+        return submit(new Task<String>() {
+            @Override
+            String call() throws TwitterException {
+                return twitter.getPrivacyPolicy();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<String> getTermsOfService() {
+        return submit(new Task<String>() {
+            @Override
+            String call() throws TwitterException {
+                return twitter.getTermsOfService();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Map<String, RateLimitStatus>> getRateLimitStatus() {
+        return submit(new Task<Map<String, RateLimitStatus>>() {
+            @Override
+            Map<String, RateLimitStatus> call() throws TwitterException {
+                return twitter.getRateLimitStatus();
+            }
+        });
+    }
+
+    @Override
+    public TwitterFuture<Map<String, RateLimitStatus>> getRateLimitStatus(final String... resources) {
+        return submit(new Task<Map<String, RateLimitStatus>>() {
+            @Override
+            Map<String, RateLimitStatus> call() throws TwitterException {
+                return twitter.getRateLimitStatus(resources);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "FutureTwitterImpl{" +
+                "twitter=" + twitter +
+                ", executor=" + executor +
+                '}';
+    }
+}
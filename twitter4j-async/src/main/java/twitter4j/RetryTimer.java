@@ -0,0 +1,50 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer resubmitting failed asynchronous calls when their retry is due, so that no worker thread sleeps in between.<br>
+ * The timer thread only hands the call back to its executor or dispatcher.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class RetryTimer {
+    private RetryTimer() {
+        throw new AssertionError();
+    }
+
+    // created on first use
+    private static final class Holder {
+        private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "Twitter4J Retry Timer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    static void schedule(Runnable resubmit, long delayMillis) {
+        Holder.timer.schedule(resubmit, delayMillis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.util.function.Consumer;
+import twitter4j.util.function.Function;
+
+import java.util.concurrent.Future;
+
+/**
+ * A {@link Future} of a Twitter API call, which can be composed without blocking the calling thread.<br>
+ * Callbacks registered with thenApply/thenAccept/exceptionally are invoked on the thread completing the future, or immediately on the calling thread if the future is already done.<br>
+ * Failures are always reported as {@link TwitterException}. Dependents of a cancelled future fail with a TwitterException caused by {@link java.util.concurrent.CancellationException}.
+ *
+ * @param <V> type of the result
+ * @since Twitter4J 4.0.8
+ */
+public interface TwitterFuture<V> extends Future<V> {
+    /**
+     * Waits for the call to complete and returns its result.
+     *
+     * @return the result
+     * @throws TwitterException when the call failed, or the waiting thread was interrupted
+     * @throws java.util.concurrent.CancellationException when the future was cancelled
+     */
+    V join() throws TwitterException;
+
+    /**
+     * Returns a new future completing with the result of the given function applied to the result of this future.
+     *
+     * @param fn  function to apply
+     * @param <R> type of the new result
+     * @return new future
+     */
+    <R> TwitterFuture<R> thenApply(Function<? super V, ? extends R> fn);
+
+    /**
+     * Returns a new future completing with the result of the future returned by the given function, typically another API call depending on the result of this one.
+     *
+     * @param fn  function returning the next future
+     * @param <R> type of the new result
+     * @return new future
+     */
+    <R> TwitterFuture<R> thenCompose(Function<? super V, ? extends TwitterFuture<R>> fn);
+
+    /**
+     * Returns a new future completing after the given action has consumed the result of this future.
+     *
+     * @param action action to perform
+     * @return new future
+     */
+    TwitterFuture<Void> thenAccept(Consumer<? super V> action);
+
+    /**
+     * Returns a new future completing with the result of this future, or with the result of the given function if this future failed.
+     *
+     * @param fn function computing the fallback value from the failure
+     * @return new future
+     */
+    TwitterFuture<V> exceptionally(Function<? super TwitterException, ? extends V> fn);
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.util.function.Consumer;
+import twitter4j.util.function.Function;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * @since Twitter4J 4.0.8
+ */
+class TwitterFutureImpl<V> implements TwitterFuture<V> {
+    private static final int PENDING = 0;
+    private static final int SUCCEEDED = 1;
+    private static final int FAILED = 2;
+    private static final int CANCELLED = 3;
+
+    private int state = PENDING;
+    private V value;
+    private TwitterException exception;
+    // thread executing the call, interrupted by cancel(true)
+    private Thread runner;
+    private List<Runnable> callbacks = new ArrayList<Runnable>(1);
+
+    /**
+     * Marks the calling thread as the one executing the call.
+     *
+     * @return false if the future has been cancelled before the call started
+     */
+    synchronized boolean start() {
+        if (state != PENDING) {
+            return false;
+        }
+        runner = Thread.currentThread();
+        return true;
+    }
+
+    /**
+     * Marks the call as not running, while it waits for a retry.
+     */
+    synchronized void suspend() {
+        runner = null;
+    }
+
+    boolean complete(V value) {
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            this.value = value;
+            state = SUCCEEDED;
+        }
+        done();
+        return true;
+    }
+
+    boolean fail(TwitterException exception) {
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            this.exception = exception;
+            state = FAILED;
+        }
+        done();
+        return true;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        synchronized (this) {
+            if (state != PENDING) {
+                return false;
+            }
+            state = CANCELLED;
+            if (mayInterruptIfRunning && runner != null) {
+                runner.interrupt();
+            }
+        }
+        done();
+        return true;
+    }
+
+    private void done() {
+        List<Runnable> toRun;
+        synchronized (this) {
+            runner = null;
+            toRun = callbacks;
+            callbacks = null;
+            notifyAll();
+        }
+        for (Runnable callback : toRun) {
+            callback.run();
+        }
+    }
+
+    private void onDone(Runnable callback) {
+        synchronized (this) {
+            if (state == PENDING) {
+                callbacks.add(callback);
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return state != PENDING;
+    }
+
+    @Override
+    public synchronized V get() throws InterruptedException, ExecutionException {
+        while (state == PENDING) {
+            wait();
+        }
+        return report();
+    }
+
+    @Override
+    public synchronized V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (state == PENDING) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return report();
+    }
+
+    private V report() throws ExecutionException {
+        if (state == CANCELLED) {
+            throw new CancellationException();
+        }
+        if (state == FAILED) {
+            throw new ExecutionException(exception);
+        }
+        return value;
+    }
+
+    @Override
+    public V join() throws TwitterException {
+        try {
+            return get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TwitterException("interrupted while waiting for the result", e);
+        } catch (ExecutionException e) {
+            throw (TwitterException) e.getCause();
+        }
+    }
+
+    /**
+     * @return the failure to be propagated to dependents, or null if this future succeeded
+     */
+    private synchronized TwitterException failure() {
+        if (state == CANCELLED) {
+            return new TwitterException(new CancellationException());
+        }
+        return exception;
+    }
+
+    @Override
+    public <R> TwitterFuture<R> thenApply(final Function<? super V, ? extends R> fn) {
+        final TwitterFutureImpl<R> next = new TwitterFutureImpl<R>();
+        onDone(new Runnable() {
+            @Override
+            public void run() {
+                TwitterException failure = failure();
+                if (failure != null) {
+                    next.fail(failure);
+                    return;
+                }
+                try {
+                    next.complete(fn.apply(value));
+                } catch (RuntimeException e) {
+                    next.fail(new TwitterException(e));
+                }
+            }
+        });
+        return next;
+    }
+
+    @Override
+    public <R> TwitterFuture<R> thenCompose(final Function<? super V, ? extends TwitterFuture<R>> fn) {
+        final TwitterFutureImpl<R> next = new TwitterFutureImpl<R>();
+        onDone(new Runnable() {
+            @Override
+            public void run() {
+                TwitterException failure = failure();
+                if (failure != null) {
+                    next.fail(failure);
+                    return;
+                }
+                TwitterFuture<R> composed;
+                try {
+                    composed = fn.apply(value);
+                } catch (RuntimeException e) {
+                    next.fail(new TwitterException(e));
+                    return;
+                }
+                composed.thenAccept(new Consumer<R>() {
+                    @Override
+                    public void accept(R result) {
+                        next.complete(result);
+                    }
+                }).exceptionally(new Function<TwitterException, Void>() {
+                    @Override
+                    public Void apply(TwitterException e) {
+                        next.fail(e);
+                        return null;
+                    }
+                });
+            }
+        });
+        return next;
+    }
+
+    @Override
+    public TwitterFuture<Void> thenAccept(final Consumer<? super V> action) {
+        final TwitterFutureImpl<Void> next = new TwitterFutureImpl<Void>();
+        onDone(new Runnable() {
+            @Override
+            public void run() {
+                TwitterException failure = failure();
+                if (failure != null) {
+                    next.fail(failure);
+                    return;
+                }
+                try {
+                    action.accept(value);
+                    next.complete(null);
+                } catch (RuntimeException e) {
+                    next.fail(new TwitterException(e));
+                }
+            }
+        });
+        return next;
+    }
+
+    @Override
+    public TwitterFuture<V> exceptionally(final Function<? super TwitterException, ? extends V> fn) {
+        final TwitterFutureImpl<V> next = new TwitterFutureImpl<V>();
+        onDone(new Runnable() {
+            @Override
+            public void run() {
+                TwitterException failure = failure();
+                if (failure == null) {
+                    next.complete(value);
+                    return;
+                }
+                try {
+                    next.complete(fn.apply(failure));
+                } catch (RuntimeException e) {
+                    next.fail(new TwitterException(e));
+                }
+            }
+        });
+        return next;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TwitterFutureImpl{" +
+                "state=" + (state == PENDING ? "pending" : state == SUCCEEDED ? "succeeded" : state == FAILED ? "failed" : "cancelled") +
+                '}';
+    }
+}
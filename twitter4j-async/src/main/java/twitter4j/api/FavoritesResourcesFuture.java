@@ -0,0 +1,112 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.api;
+
+import twitter4j.*;
+
+/**
+ * Future returning counterpart of {@link FavoritesResources}.<br>
+ * Each method returns immediately with a {@link TwitterFuture} completing with the value the synchronous method would have returned.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface FavoritesResourcesFuture {
+    /**
+     * Returns the 20 most recent favorite statuses for the authenticating user or user specified by the ID parameter in the requested format.
+     * <br>This method calls https://api.twitter.com/1.1/favorites.json
+     *
+     * @return favorite statuses
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/favorites">GET favorites | Twitter Developers</a>
+     * @since Twitter4J 2.0.1
+     */
+    TwitterFuture<ResponseList<Status>> getFavorites();
+
+    /**
+     * Returns the 20 most recent favorite statuses for the authenticating user or user specified by the ID parameter in the requested format.
+     *
+     * @param userId the id of the user for whom to request a list of favorite statuses
+     * @return favorite statuses
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/favorites">GET favorites | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<ResponseList<Status>> getFavorites(Long userId);
+
+    /**
+     * Returns the 20 most recent favorite statuses for the authenticating user or user specified by the ID parameter in the requested format.
+     *
+     * @param screenName the screen name of the user for whom to request a list of favorite statuses
+     * @return favorite statuses
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/favorites">GET favorites | Twitter Developers</a>
+     * @since Twitter4J 2.0.1
+     */
+    TwitterFuture<ResponseList<Status>> getFavorites(String screenName);
+
+    /**
+     * Returns the 20 most recent favorite statuses for the authenticating user or user specified by the ID parameter in the requested format.
+     * <br>This method calls https://api.twitter.com/1.1/favorites.json
+     *
+     * @param paging controls pagination. Supports sinceId and page parameters.
+     * @return favorite statuses
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/favorites">GET favorites | Twitter Developers</a>
+     * @since Twitter4J 2.2.5
+     */
+    TwitterFuture<ResponseList<Status>> getFavorites(Paging paging);
+
+    /**
+     * Returns the 20 most recent favorite statuses for the authenticating user or user specified by the ID parameter in the requested format.
+     * <br>This method calls https://api.twitter.com/1.1/favorites/[id].json
+     *
+     * @param userId the id of the user for whom to request a list of favorite statuses
+     * @param paging controls pagination. Supports sinceId and page parameters.
+     * @return favorite statuses
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/favorites">GET favorites | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<ResponseList<Status>> getFavorites(Long userId, Paging paging);
+
+    /**
+     * Returns the 20 most recent favorite statuses for the authenticating user or user specified by the ID parameter in the requested format.
+     * <br>This method calls https://api.twitter.com/1.1/favorites/[id].json
+     *
+     * @param screenName the screen name of the user for whom to request a list of favorite statuses
+     * @param paging     controls pagination. Supports sinceId and page parameters.
+     * @return favorite statuses
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/favorites">GET favorites | Twitter Developers</a>
+     * @since Twitter4J 2.2.5
+     */
+    TwitterFuture<ResponseList<Status>> getFavorites(String screenName, Paging paging);
+
+    /**
+     * Favorites the status specified in the ID parameter as the authenticating user.  Returns the favorite status when successful.
+     * <br>This method calls https://api.twitter.com/1.1/favorites/create/[id].json
+     *
+     * @param id the ID of the status to favorite
+     * @return created favorite status
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/favorites/create/:id">POST favorites/create/:id | Twitter Developers</a>
+     */
+    TwitterFuture<Status> createFavorite(Long id);
+
+    /**
+     * Un-favorites the status specified in the ID parameter as the authenticating user.  Returns the un-favorited status in the requested format when successful.
+     * <br>This method calls https://api.twitter.com/1.1/favorites/destroy/[id].json
+     *
+     * @param id the ID of the status to un-favorite
+     * @return destroyed statuses
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/favorites/destroy/:id">POST favorites/destroy/:id | Twitter Developers</a>
+     */
+    TwitterFuture<Status> destroyFavorite(Long id);
+}
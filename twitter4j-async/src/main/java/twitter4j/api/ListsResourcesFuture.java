@@ -0,0 +1,1062 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.api;
+
+import twitter4j.*;
+
+/**
+ * Future returning counterpart of {@link ListsResources}.<br>
+ * Each method returns immediately with a {@link TwitterFuture} completing with the value the synchronous method would have returned.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface ListsResourcesFuture {
+    /**
+     * List the lists of the specified user. Private lists will be included if the authenticated users is the same as the user whose lists are being returned.
+     * <br>This method calls https://api.twitter.com/1.1/lists.json
+     *
+     * @param listOwnerScreenName The screen name of the list owner
+     *                            as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/list">GET lists/list | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<ResponseList<UserList>> getUserLists(String listOwnerScreenName);
+
+    /**
+     * List the lists of the specified user. Private lists will be included if the authenticated users is the same as the user whose lists are being returned.
+     * <br>This method calls https://api.twitter.com/1.1/lists.json
+     *
+     * @param listOwnerScreenName The screen name of the list owner
+     *                            as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param reverse             Set this to true if you would like owned lists to be returned first
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/list">GET lists/list | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<ResponseList<UserList>> getUserLists(String listOwnerScreenName, Boolean reverse);
+
+    /**
+     * List the lists of the specified user. Private lists will be included if the authenticated users is the same as the user whose lists are being returned.
+     * <br>This method calls https://api.twitter.com/1.1/lists.json
+     *
+     * @param listOwnerUserId The id of the list owner
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/list">GET lists/list | Twitter Developers</a>
+     * @since Twitter4J 2.2.3
+     */
+    TwitterFuture<ResponseList<UserList>> getUserLists(Long listOwnerUserId);
+
+    /**
+     * List the lists of the specified user. Private lists will be included if the authenticated users is the same as the user whose lists are being returned.
+     * <br>This method calls https://api.twitter.com/1.1/lists.json
+     *
+     * @param listOwnerUserId The id of the list owner
+     * @param reverse         Set this to true if you would like owned lists to be returned first
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/list">GET lists/list | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<ResponseList<UserList>> getUserLists(Long listOwnerUserId, Boolean reverse);
+
+    /**
+     * Show tweet timeline for members of the specified list.
+     * <br>https://api.twitter.com/1/user/lists/list_id/statuses.json
+     *
+     * @param listId The id of the list
+     * @param paging controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return list of statuses for members of the specified list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/statuses">GET lists/statuses | Twitter Developers</a>
+     * @since Twitter4J 2.2.3
+     */
+    TwitterFuture<ResponseList<Status>> getUserListStatuses(Long listId, Paging paging);
+
+    /**
+     * Show tweet timeline for members of the specified list.
+     * <br>https://api.twitter.com/1/user/lists/list_id/statuses.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param paging  controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return list of statuses for members of the specified list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/statuses">GET lists/statuses | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<ResponseList<Status>> getUserListStatuses(Long ownerId, String slug, Paging paging);
+
+    /**
+     * Show tweet timeline for members of the specified list.
+     * <br>https://api.twitter.com/1.1/lists/statuses.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param paging          controls pagination. Supports since_id, max_id, count and page parameters.
+     * @return list of statuses for members of the specified list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/statuses">GET lists/statuses | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<ResponseList<Status>> getUserListStatuses(String ownerScreenName, String slug, Paging paging);
+
+    /**
+     * Removes the specified member from the list. The authenticated user must be the list's owner to remove members from the list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/destroy.json
+     *
+     * @param listId The id of the list.
+     * @param userId The screen name of the member you wish to remove from the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/destroy">POST lists/members/destroy | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<UserList> destroyUserListMember(Long listId, Long userId);
+
+    /**
+     * Removes the specified members from the list. The authenticated user must be the list's owner to remove members from the list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/destroy.json
+     *
+     * @param listId     The id of the list.
+     * @param screenName The screen name of the member you wish to remove from the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/destroy">POST lists/members/destroy | Twitter Developers</a>
+     * @since Twitter4J 3.0.6
+     */
+    TwitterFuture<UserList> destroyUserListMember(Long listId, String screenName);
+
+    /**
+     * Removes the specified members from the list. The authenticated user must be the list's owner to remove members from the list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/destroy_all.json
+     *
+     * @param listId      The id of the list.
+     * @param screenNames The screen names of the members you wish to remove from the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/destroy_all">POST lists/members/destroy_all | Twitter Developers</a>
+     * @since Twitter4J 3.0.6
+     */
+    TwitterFuture<UserList> destroyUserListMembers(Long listId, String[] screenNames);
+
+    /**
+     * Removes the specified members from the list. The authenticated user must be the list's owner to remove members from the list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/destroy_all.json
+     *
+     * @param listId  The id of the list.
+     * @param userIds The array of ids of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/destroy_all">POST lists/members/destroy_all | Twitter Developers</a>
+     * @since Twitter4J 3.0.6
+     */
+    TwitterFuture<UserList> destroyUserListMembers(Long listId, long[] userIds);
+
+    /**
+     * Removes the specified members from the list. The authenticated user must be the list's owner to remove members from the list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/destroy_all.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param screenNames     The screen names of the members you wish to remove from the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/destroy_all">POST lists/members/destroy_all | Twitter Developers</a>
+     * @since Twitter4J 3.0.6
+     */
+    TwitterFuture<UserList> destroyUserListMembers(String ownerScreenName, String slug, String[] screenNames);
+
+    /**
+     * Removes the specified member from the list. The authenticated user must be the list's owner to remove members from the list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/destroy.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param userId  The screen name of the member you wish to remove from the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/destroy">POST lists/members/destroy | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<UserList> destroyUserListMember(Long ownerId, String slug, Long userId);
+
+    /**
+     * Removes the specified member from the list. The authenticated user must be the list's owner to remove members from the list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/destroy.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param userId          The screen name of the member you wish to remove from the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/destroy">POST lists/members/destroy | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<UserList> destroyUserListMember(String ownerScreenName, String slug, Long userId);
+
+    /**
+     * List the lists the authenticating user has been added to.
+     * <br>This method calls https://api.twitter.com/1.1/lists/memberships.json
+     *
+     * @param cursor Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/memberships">GET lists/memberships | Twitter Developers</a>
+     * @since Twitter4J 2.2.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(Long cursor);
+
+    /**
+     * List the lists the authenticating user has been added to.
+     * <br>This method calls https://api.twitter.com/1.1/lists/memberships.json
+     *
+     * @param count  The amount of results to return per page. No more than 1000 results will ever be returned in a single page.
+     * @param cursor Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/memberships">GET lists/memberships | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(Integer count, Long cursor);
+
+    /**
+     * List the lists the specified user has been added to.
+     * <br>This method calls https://api.twitter.com/1.1/lists/memberships.json
+     *
+     * @param listMemberId The id of the list member
+     * @param cursor       Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/memberships">GET lists/memberships | Twitter Developers</a>
+     * @since Twitter4J 2.2.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(Long listMemberId, Long cursor);
+
+    /**
+     * List the lists the specified user has been added to.
+     * <br>This method calls https://api.twitter.com/1.1/lists/memberships.json
+     *
+     * @param listMemberId The id of the list member
+     * @param count        The amount of results to return per page. No more than 1000 results will ever be returned in a single page.
+     * @param cursor       Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/memberships">GET lists/memberships | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(Long listMemberId, Integer count, Long cursor);
+
+    /**
+     * List the lists the specified user has been added to.
+     * <br>This method calls https://api.twitter.com/1.1/lists/memberships.json
+     *
+     * @param listMemberScreenName The screen name of the list member
+     * @param cursor               Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/memberships">GET lists/memberships | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, Long cursor);
+
+    /**
+     * List the lists the specified user has been added to.
+     * <br>This method calls https://api.twitter.com/1.1/lists/memberships.json
+     *
+     * @param listMemberScreenName The screen name of the list member
+     * @param count                The amount of results to return per page. No more than 1000 results will ever be returned in a single page.
+     * @param cursor               Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/memberships">GET lists/memberships | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, Integer count, Long cursor);
+
+    /**
+     * List the lists the specified user has been added to.
+     * <br>This method calls https://api.twitter.com/1.1/lists/memberships.json
+     *
+     * @param listMemberScreenName The screen name of the list member
+     * @param cursor               Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param filterToOwnedLists   Whether to return just lists the authenticating user owns, and the user represented by listMemberScreenName is a member of.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/memberships">GET lists/memberships | Twitter Developers</a>
+     * @since Twitter4J 2.2.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, Long cursor, Boolean filterToOwnedLists);
+
+    /**
+     * List the lists the specified user has been added to.
+     * <br>This method calls https://api.twitter.com/1.1/lists/memberships.json
+     *
+     * @param listMemberScreenName The screen name of the list member
+     * @param count                The amount of results to return per page. No more than 1000 results will ever be returned in a single page.
+     * @param cursor               Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param filterToOwnedLists   Whether to return just lists the authenticating user owns, and the user represented by listMemberScreenName is a member of.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/memberships">GET lists/memberships | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(String listMemberScreenName, Integer count, Long cursor, Boolean filterToOwnedLists);
+
+    /**
+     * List the lists the specified user has been added to.
+     * <br>This method calls https://api.twitter.com/1.1/lists/memberships.json
+     *
+     * @param listMemberId       The id of the list member
+     * @param cursor             Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param filterToOwnedLists Whether to return just lists the authenticating user owns, and the user represented by listMemberId is a member of.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/memberships">GET lists/memberships | Twitter Developers</a>
+     * @since Twitter4J 2.2.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(Long listMemberId, Long cursor, Boolean filterToOwnedLists);
+
+    /**
+     * List the lists the specified user has been added to.
+     * <br>This method calls https://api.twitter.com/1.1/lists/memberships.json
+     *
+     * @param listMemberId       The id of the list member
+     * @param count              The amount of results to return per page. No more than 1000 results will ever be returned in a single page.
+     * @param cursor             Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param filterToOwnedLists Whether to return just lists the authenticating user owns, and the user represented by listMemberId is a member of.
+     * @return the list of lists
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/memberships">GET lists/memberships | Twitter Developers</a>
+     * @since Twitter4J 2.2.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListMemberships(Long listMemberId, Integer count, Long cursor, Boolean filterToOwnedLists);
+
+    /**
+     * Returns the subscribers of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers.json
+     *
+     * @param listId The id of the list
+     * @param cursor Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers">GET lists/subscribers | Twitter Developers</a>
+     * @since Twitter4J 2.2.3
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListSubscribers(Long listId, Long cursor);
+
+    /**
+     * Returns the subscribers of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers.json
+     *
+     * @param listId The id of the list
+     * @param count  Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers">GET lists/subscribers | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListSubscribers(Long listId, Integer count, Long cursor);
+
+    /**
+     * Returns the subscribers of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers.json
+     *
+     * @param listId     The id of the list
+     * @param count      Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor     Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers">GET lists/subscribers | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListSubscribers(Long listId, Integer count, Long cursor, Boolean skipStatus);
+
+    /**
+     * Returns the subscribers of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param cursor  Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers">GET lists/subscribers | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListSubscribers(Long ownerId, String slug, Long cursor);
+
+    /**
+     * Returns the subscribers of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param count   Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor  Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers">GET lists/subscribers | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListSubscribers(Long ownerId, String slug, Integer count, Long cursor);
+
+    /**
+     * Returns the subscribers of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers.json
+     *
+     * @param ownerId    The user ID of the user who owns the list being requested by a slug.
+     * @param slug       slug of the list
+     * @param count      Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor     Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers">GET lists/subscribers | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListSubscribers(Long ownerId, String slug, Integer count, Long cursor, Boolean skipStatus);
+
+    /**
+     * Returns the subscribers of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers">GET lists/subscribers | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListSubscribers(String ownerScreenName, String slug, Long cursor);
+
+    /**
+     * Returns the subscribers of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param count           Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers">GET lists/subscribers | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListSubscribers(String ownerScreenName, String slug, Integer count, Long cursor);
+
+    /**
+     * Returns the subscribers of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param count           Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus      When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers">GET lists/subscribers | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListSubscribers(String ownerScreenName, String slug, Integer count, Long cursor, Boolean skipStatus);
+
+    /**
+     * Make the authenticated user follow the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/list/subscribers/create.json
+     *
+     * @param listId The id of the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/subscribers/create">POST lists/subscribers/create | Twitter Developers</a>
+     * @since Twitter4J 2.2.3
+     */
+    TwitterFuture<UserList> createUserListSubscription(Long listId);
+
+    /**
+     * Make the authenticated user follow the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/list/subscribers/create.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/subscribers/create">POST lists/subscribers/create | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<UserList> createUserListSubscription(Long ownerId, String slug);
+
+    /**
+     * Make the authenticated user follow the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/list/subscribers/create.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/subscribers/create">POST lists/subscribers/create | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<UserList> createUserListSubscription(String ownerScreenName, String slug);
+
+    /**
+     * Check if the specified user is a subscriber of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers/show.json
+     *
+     * @param listId The id of the list.
+     * @param userId The id of the user who you want to know is a member or not of the specified list.
+     * @return the updated list
+     *                          , or the user is not a member of the specified list(TwitterException.getStatusCode() returns 404 in that case.)
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers/show">GET lists/subscribers/show | Twitter Developers</a>
+     * @since Twitter4J 2.2.3
+     */
+    TwitterFuture<User> showUserListSubscription(Long listId, Long userId);
+
+    /**
+     * Check if the specified user is a subscriber of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers/show.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param userId  The id of the user who you want to know is a member or not of the specified list.
+     * @return the updated list
+     *                          , or the user is not a member of the specified list(TwitterException.getStatusCode() returns 404 in that case.)
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers/show">GET lists/subscribers/show | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<User> showUserListSubscription(Long ownerId, String slug, Long userId);
+
+    /**
+     * Check if the specified user is a subscriber of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscribers/show.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param userId          The id of the user who you want to know is a member or not of the specified list.
+     * @return the updated list
+     *                          , or the user is not a member of the specified list(TwitterException.getStatusCode() returns 404 in that case.)
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscribers/show">GET lists/subscribers/show | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<User> showUserListSubscription(String ownerScreenName, String slug, Long userId);
+
+    /**
+     * Unsubscribes the authenticated user form the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/subscribers/destroy.json
+     *
+     * @param listId The id of the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/subscribers/destroy">POST lists/subscribers/destroy | Twitter Developers</a>
+     * @since Twitter4J 2.2.3
+     */
+    TwitterFuture<UserList> destroyUserListSubscription(Long listId);
+
+    /**
+     * Unsubscribes the authenticated user form the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/subscribers/destroy.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/subscribers/destroy">POST lists/subscribers/destroy | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<UserList> destroyUserListSubscription(Long ownerId, String slug);
+
+    /**
+     * Unsubscribes the authenticated user form the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/subscribers/destroy.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/subscribers/destroy">POST lists/subscribers/destroy | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<UserList> destroyUserListSubscription(String ownerScreenName, String slug);
+
+    /**
+     * Adds multiple members to a list, by specifying a comma-separated list of member ids or screen names. The authenticated user must own the list to be able to add members to it. Lists are limited to having 5000 members, and you are limited to adding up to 100 members to a list at a time with this method.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/create_all.json
+     *
+     * @param listId  The id of the list.
+     * @param userIds The array of ids of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return the list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/create_all">POST lists/members/create_all | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<UserList> createUserListMembers(Long listId, long... userIds);
+
+    /**
+     * Adds multiple members to a list, by specifying a comma-separated list of member ids or screen names. The authenticated user must own the list to be able to add members to it. Lists are limited to having 5000 members, and you are limited to adding up to 100 members to a list at a time with this method.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/create_all.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param userIds The array of ids of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return the list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/create_all">POST lists/members/create_all | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<UserList> createUserListMembers(Long ownerId, String slug, long... userIds);
+
+    /**
+     * Adds multiple members to a list, by specifying a comma-separated list of member ids or screen names. The authenticated user must own the list to be able to add members to it. Lists are limited to having 5000 members, and you are limited to adding up to 100 members to a list at a time with this method.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/create_all.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param userIds         The array of ids of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return the list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/create_all">POST lists/members/create_all | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<UserList> createUserListMembers(String ownerScreenName, String slug, long... userIds);
+
+    /**
+     * Adds multiple members to a list, by specifying a comma-separated list of member ids or screen names. The authenticated user must own the list to be able to add members to it. Lists are limited to having 5000 members, and you are limited to adding up to 100 members to a list at a time with this method.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/create_all.json
+     *
+     * @param listId      The id of the list.
+     * @param screenNames The array of screen names of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return the list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/create_all">POST lists/members/create_all | Twitter Developers</a>
+     * @since Twitter4J 2.1.7
+     */
+    TwitterFuture<UserList> createUserListMembers(Long listId, String... screenNames);
+
+    /**
+     * Adds multiple members to a list, by specifying a comma-separated list of member ids or screen names. The authenticated user must own the list to be able to add members to it. Lists are limited to having 5000 members, and you are limited to adding up to 100 members to a list at a time with this method.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/create_all.json
+     *
+     * @param ownerId     The user ID of the user who owns the list being requested by a slug.
+     * @param slug        slug of the list
+     * @param screenNames The array of screen names of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return the list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/create_all">POST lists/members/create_all | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<UserList> createUserListMembers(Long ownerId, String slug, String... screenNames);
+
+    /**
+     * Adds multiple members to a list, by specifying a comma-separated list of member ids or screen names. The authenticated user must own the list to be able to add members to it. Lists are limited to having 5000 members, and you are limited to adding up to 100 members to a list at a time with this method.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/create_all.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param screenNames     The array of screen names of the user to add as member of the list. up to 100 are allowed in a single request.
+     * @return the list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/create_all">POST lists/members/create_all | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<UserList> createUserListMembers(String ownerScreenName, String slug, String... screenNames);
+
+    /**
+     * Check if a user is a member of the specified list.<br>
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/show.json
+     *
+     * @param listId The id of the list.
+     * @param userId The id of the user who you want to know is a member or not of the specified list.
+     * @return the updated list
+     *                          , or the user is not a member of the specified list(TwitterException.getStatusCode() returns 404 in that case.)
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members/show">GET lists/members/show | Twitter Developers</a>
+     * @since Twitter4J 2.2.3
+     */
+    TwitterFuture<User> showUserListMembership(Long listId, Long userId);
+
+    /**
+     * Check if a user is a member of the specified list.<br>
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/show.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param userId  The id of the user who you want to know is a member or not of the specified list.
+     * @return the updated list
+     *                          , or the user is not a member of the specified list(TwitterException.getStatusCode() returns 404 in that case.)
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members/show">GET lists/members/show | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<User> showUserListMembership(Long ownerId, String slug, Long userId);
+
+    /**
+     * Check if a user is a member of the specified list.<br>
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/show.json
+     *
+     * @param ownerScreenName Id The user ID of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param userId          The id of the user who you want to know is a member or not of the specified list.
+     * @return the updated list
+     *                          , or the user is not a member of the specified list(TwitterException.getStatusCode() returns 404 in that case.)
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members/show">GET lists/members/show | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<User> showUserListMembership(String ownerScreenName, String slug, Long userId);
+
+    /**
+     * Returns the members of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members.json
+     *
+     * @param listId The id of the list
+     * @param cursor Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members">GET lists/members | Twitter Developers</a>
+     * @since Twitter4J 2.2.3
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListMembers(Long listId, Long cursor);
+
+    /**
+     * Returns the members of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members.json
+     *
+     * @param listId The id of the list
+     * @param count  Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members">GET lists/members | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListMembers(Long listId, Integer count, Long cursor);
+
+    /**
+     * Returns the members of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members.json
+     *
+     * @param listId     The id of the list
+     * @param count      Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor     Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members">GET lists/members | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListMembers(Long listId, Integer count, Long cursor, Boolean skipStatus);
+
+    /**
+     * Returns the members of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param cursor  Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members">GET lists/members | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListMembers(Long ownerId, String slug, Long cursor);
+
+    /**
+     * Returns the members of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param count   Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor  Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members">GET lists/members | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListMembers(Long ownerId, String slug, Integer count, Long cursor);
+
+    /**
+     * Returns the members of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members.json
+     *
+     * @param ownerId    The user ID of the user who owns the list being requested by a slug.
+     * @param slug       slug of the list
+     * @param count      Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor     Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members">GET lists/members | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListMembers(Long ownerId, String slug, Integer count, Long cursor, Boolean skipStatus);
+
+    /**
+     * Returns the members of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members">GET lists/members | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListMembers(String ownerScreenName, String slug, Long cursor);
+
+    /**
+     * Returns the members of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param count           Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members">GET lists/members | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListMembers(String ownerScreenName, String slug, Integer count, Long cursor);
+
+    /**
+     * Returns the members of the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param count           Specifies the number of results to return per page. The default is 20, with a maximum of 5,000.
+     * @param cursor          Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @param skipStatus      When set to either true, t or 1 statuses will not be included in the returned user objects.
+     * @return the members of the specified list.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/members">GET lists/members | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<User>> getUserListMembers(String ownerScreenName, String slug, Integer count, Long cursor, Boolean skipStatus);
+
+    /**
+     * Adds a member to a list. The authenticated user must own the list to be able to add members to it. Lists are limited to having 5000 members.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/create.json
+     *
+     * @param listId The id of the list.
+     * @param userId The id of the user to add as a member of the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/create">POST lists/members/create | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<UserList> createUserListMember(Long listId, Long userId);
+
+    /**
+     * Adds a member to a list. The authenticated user must own the list to be able to add members to it. Lists are limited to having 5000 members.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/create.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @param userId  The id of the user to add as a member of the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/create">POST lists/members/create | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<UserList> createUserListMember(Long ownerId, String slug, Long userId);
+
+    /**
+     * Adds a member to a list. The authenticated user must own the list to be able to add members to it. Lists are limited to having 5000 members.
+     * <br>This method calls https://api.twitter.com/1.1/lists/members/create.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param userId          The id of the user to add as a member of the list.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/members/create">POST lists/members/create | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<UserList> createUserListMember(String ownerScreenName, String slug, Long userId);
+
+    /**
+     * Deletes the specified list. Must be owned by the authenticated user.
+     * <br>This method calls https://api.twitter.com/1.1/lists/destroy.json
+     *
+     * @param listId The id of the list to delete
+     * @return the deleted list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/destroy">POST lists/destroy | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<UserList> destroyUserList(Long listId);
+
+    /**
+     * Deletes the specified list. Must be owned by the authenticated user.
+     * <br>This method calls https://api.twitter.com/1.1/lists/destroy.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @return the deleted list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/destroy">POST lists/destroy | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<UserList> destroyUserList(Long ownerId, String slug);
+
+    /**
+     * Deletes the specified list. Must be owned by the authenticated user.
+     * <br>This method calls https://api.twitter.com/1.1/lists/destroy.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @return the deleted list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/destroy">POST lists/destroy | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<UserList> destroyUserList(String ownerScreenName, String slug);
+
+    /**
+     * Updates the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/update.json
+     *
+     * @param listId         The id of the list to update.
+     * @param newListName    What you'd like to change the list's name to.
+     * @param isPublicList   Whether your list is public or private. Optional. Values can be public or private. Lists are public by default if no mode is specified.
+     * @param newDescription What you'd like to change the list description to.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/update">POST lists/update | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<UserList> updateUserList(Long listId, String newListName, Boolean isPublicList, String newDescription);
+
+    /**
+     * Updates the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/update.json
+     *
+     * @param ownerId        The user ID of the user who owns the list being requested by a slug.
+     * @param slug           slug of the list
+     * @param newListName    What you'd like to change the list's name to.
+     * @param isPublicList   Whether your list is public or private. Optional. Values can be public or private. Lists are public by default if no mode is specified.
+     * @param newDescription What you'd like to change the list description to.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/update">POST lists/update | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<UserList> updateUserList(Long ownerId, String slug, String newListName, Boolean isPublicList, String newDescription);
+
+    /**
+     * Updates the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/update.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @param newListName     What you'd like to change the list's name to.
+     * @param isPublicList    Whether your list is public or private. Optional. Values can be public or private. Lists are public by default if no mode is specified.
+     * @param newDescription  What you'd like to change the list description to.
+     * @return the updated list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/update">POST lists/update | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<UserList> updateUserList(String ownerScreenName, String slug, String newListName, Boolean isPublicList, String newDescription);
+
+    /**
+     * Creates a new list for the authenticated user. Accounts are limited to 20 lists.
+     * <br>This method calls https://api.twitter.com/1.1/lists/create.json
+     *
+     * @param listName     The name of the list you are creating. Required.
+     * @param isPublicList set true if you wish to make a public list
+     * @param description  The description of the list you are creating. Optional.
+     * @return the list that was created
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/lists/create">POST lists/create | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<UserList> createUserList(String listName, Boolean isPublicList, String description);
+
+    /**
+     * Show the specified list. Private lists will only be shown if the authenticated user owns the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/show.json
+     *
+     * @param listId The id of the list to show
+     * @return the specified list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/show">https://dev.twitter.com/docs/api/1.1/get/lists/show | Twitter Developers</a>
+     * @since Twitter4J 2.2.3
+     */
+    TwitterFuture<UserList> showUserList(Long listId);
+
+    /**
+     * Show the specified list. Private lists will only be shown if the authenticated user owns the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/show.json
+     *
+     * @param ownerId The user ID of the user who owns the list being requested by a slug.
+     * @param slug    slug of the list
+     * @return the specified list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/show">https://dev.twitter.com/docs/api/1.1/get/lists/show | Twitter Developers</a>
+     * @since Twitter4J 3.0.0
+     */
+    TwitterFuture<UserList> showUserList(Long ownerId, String slug);
+
+    /**
+     * Show the specified list. Private lists will only be shown if the authenticated user owns the specified list.
+     * <br>This method calls https://api.twitter.com/1.1/lists/show.json
+     *
+     * @param ownerScreenName The screen name of the user who owns the list being requested by a slug.
+     * @param slug            slug of the list
+     * @return the specified list
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/show">https://dev.twitter.com/docs/api/1.1/get/lists/show | Twitter Developers</a>
+     * @since Twitter4J 3.0.2
+     */
+    TwitterFuture<UserList> showUserList(String ownerScreenName, String slug);
+
+    /**
+     * List the lists the specified user follows.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscriptions.json
+     *
+     * @param listSubscriberScreenName The screen name of the list subscriber
+     * @param cursor                   Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists the specified user is subscribed to
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscriptions">GET lists/subscriptions | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListSubscriptions(String listSubscriberScreenName, Long cursor);
+
+    /**
+     * List the lists the specified user follows.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscriptions.json
+     *
+     * @param listSubscriberScreenName The screen name of the list subscriber
+     * @param count                    The amount of results to return per page. Defaults to 20. No more than 1000 results will ever be returned in a single page.
+     * @param cursor                   Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists the specified user is subscribed to
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscriptions">GET lists/subscriptions | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListSubscriptions(String listSubscriberScreenName, Integer count, Long cursor);
+
+    /**
+     * List the lists the specified user follows.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscriptions.json
+     *
+     * @param listSubscriberId The ID of the list subscriber
+     * @param cursor           Breaks the results into pages. A single page contains 20 lists. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists the specified user is subscribed to
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscriptions">GET lists/subscriptions | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListSubscriptions(Long listSubscriberId, Long cursor);
+
+    /**
+     * List the lists the specified user follows.
+     * <br>This method calls https://api.twitter.com/1.1/lists/subscriptions.json
+     *
+     * @param listSubscriberId The ID of the list subscriber
+     * @param count            The amount of results to return per page. Defaults to 20. No more than 1000 results will ever be returned in a single page.
+     * @param cursor           Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned to in the response body's next_cursor and previous_cursor attributes to page back and forth in the list.
+     * @return the list of lists the specified user is subscribed to
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/get/lists/subscriptions">GET lists/subscriptions | Twitter Developers</a>
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListSubscriptions(Long listSubscriberId, Integer count, Long cursor);
+
+    /**
+     * Returns the lists owned by the specified Twitter user. Private lists will only be shown if the authenticated user is also the owner of the lists.
+     * <br>This method calls https://api.twitter.com/1.1/lists/ownerships.json
+     *
+     * @param listOwnerScreenName The screen name of the list owner
+     * @param cursor              Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned in the response body's next_cursor and previous_cursor attributes to page back and forth in the list. It is recommended to always use cursors when the method supports them. See <a href="https://dev.twitter.com/docs/misc/cursoring">Using cursors</a> to navigate collections for more information.
+     * @return lists owned by the specified Twitter user
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListsOwnerships(String listOwnerScreenName, Long cursor);
+
+    /**
+     * Returns the lists owned by the specified Twitter user. Private lists will only be shown if the authenticated user is also the owner of the lists.
+     * <br>This method calls https://api.twitter.com/1.1/lists/ownerships.json
+     *
+     * @param listOwnerScreenName The screen name of the list owner
+     * @param count               The amount of results to return per page. Defaults to 20. No more than 1000 results will ever be returned in a single page.
+     * @param cursor              Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned in the response body's next_cursor and previous_cursor attributes to page back and forth in the list. It is recommended to always use cursors when the method supports them. See <a href="https://dev.twitter.com/docs/misc/cursoring">Using cursors</a> to navigate collections for more information.
+     * @return lists owned by the specified Twitter user
+     * @since Twitter4J 4.0.1
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListsOwnerships(String listOwnerScreenName, Integer count, Long cursor);
+
+    /**
+     * Returns the lists owned by the specified Twitter user. Private lists will only be shown if the authenticated user is also the owner of the lists.
+     * <br>This method calls https://api.twitter.com/1.1/lists/ownerships.json
+     *
+     * @param listOwnerId The id of the list owner
+     * @param cursor      Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned in the response body's next_cursor and previous_cursor attributes to page back and forth in the list. It is recommended to always use cursors when the method supports them. See <a href="https://dev.twitter.com/docs/misc/cursoring">Using cursors</a> to navigate collections for more information.
+     * @return lists owned by the specified Twitter user
+     * @since Twitter4J 4.0.4
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListsOwnerships(Long listOwnerId, Long cursor);
+
+    /**
+     * Returns the lists owned by the specified Twitter user. Private lists will only be shown if the authenticated user is also the owner of the lists.
+     * <br>This method calls https://api.twitter.com/1.1/lists/ownerships.json
+     *
+     * @param listOwnerId The id of the list owner
+     * @param count       The amount of results to return per page. Defaults to 20. No more than 1000 results will ever be returned in a single page.
+     * @param cursor      Breaks the results into pages. Provide a value of -1 to begin paging. Provide values as returned in the response body's next_cursor and previous_cursor attributes to page back and forth in the list. It is recommended to always use cursors when the method supports them. See <a href="https://dev.twitter.com/docs/misc/cursoring">Using cursors</a> to navigate collections for more information.
+     * @return lists owned by the specified Twitter user
+     * @since Twitter4J 4.0.1
+     */
+    TwitterFuture<PagableResponseList<UserList>> getUserListsOwnerships(Long listOwnerId, Integer count, Long cursor);
+}
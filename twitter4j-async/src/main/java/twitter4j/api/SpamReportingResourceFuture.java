@@ -0,0 +1,49 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.api;
+
+import twitter4j.*;
+
+/**
+ * Future returning counterpart of {@link SpamReportingResource}.<br>
+ * Each method returns immediately with a {@link TwitterFuture} completing with the value the synchronous method would have returned.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface SpamReportingResourceFuture {
+    /**
+     * The user specified in the id is blocked by the authenticated user and reported as a spammer.
+     * <br>This method calls https://api.twitter.com/1.1/report_spam.json
+     *
+     * @param userId The ID of the user you want to report as a spammer.
+     * @return The User reported as a spammer.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/report_spam">POST report_spam | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<User> reportSpam(Long userId);
+
+    /**
+     * The user specified in the id is blocked by the authenticated user and reported as a spammer.
+     * <br>This method calls https://api.twitter.com/1.1/report_spam.json
+     *
+     * @param screenName The screen name of the user you want to report as a spammer.
+     * @return The User reported as a spammer.
+     * @see <a href="https://dev.twitter.com/docs/api/1.1/post/report_spam">POST report_spam | Twitter Developers</a>
+     * @since Twitter4J 2.1.0
+     */
+    TwitterFuture<User> reportSpam(String screenName);
+}
@@ -0,0 +1,476 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+import twitter4j.util.function.Consumer;
+import twitter4j.util.function.Function;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FutureTwitterTest {
+
+    /**
+     * @return Twitter returning canned values for help resources and users().showUser()
+     */
+    private static Twitter stubTwitter(final CountDownLatch gate) {
+        return (Twitter) Proxy.newProxyInstance(Twitter.class.getClassLoader(), new Class[]{Twitter.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        String name = method.getName();
+                        if (gate != null) {
+                            gate.await();
+                        }
+                        if ("getPrivacyPolicy".equals(name)) {
+                            return "privacy";
+                        }
+                        if ("getTermsOfService".equals(name)) {
+                            throw new TwitterException("tos unavailable");
+                        }
+                        if ("showUser".equals(name)) {
+                            return user((String) args[0]);
+                        }
+                        if ("toString".equals(name)) {
+                            return "stub";
+                        }
+                        throw new UnsupportedOperationException(name);
+                    }
+                });
+    }
+
+    private static User user(final String screenName) {
+        return (User) Proxy.newProxyInstance(User.class.getClassLoader(), new Class[]{User.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if ("getScreenName".equals(method.getName())) {
+                            return screenName;
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Test
+    void testCompletion() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            FutureTwitter twitter = new FutureTwitterImpl(stubTwitter(null), executor);
+            assertEquals("privacy", twitter.help().getPrivacyPolicy().join());
+            assertEquals("privacy", twitter.getPrivacyPolicy().get(5, TimeUnit.SECONDS));
+
+            TwitterFuture<Integer> length = twitter.help().getPrivacyPolicy()
+                    .thenApply(new Function<String, Integer>() {
+                        @Override
+                        public Integer apply(String s) {
+                            return s.length();
+                        }
+                    });
+            assertEquals(Integer.valueOf(7), length.join());
+
+            final FutureTwitter ft = twitter;
+            TwitterFuture<User> composed = twitter.help().getPrivacyPolicy()
+                    .thenCompose(new Function<String, TwitterFuture<User>>() {
+                        @Override
+                        public TwitterFuture<User> apply(String s) {
+                            return ft.users().showUser(s);
+                        }
+                    });
+            assertEquals("privacy", composed.join().getScreenName());
+            assertTrue(composed.isDone());
+            assertFalse(composed.isCancelled());
+
+            final List<String> accepted = new ArrayList<String>();
+            twitter.help().getPrivacyPolicy().thenAccept(new Consumer<String>() {
+                @Override
+                public void accept(String s) {
+                    accepted.add(s);
+                }
+            }).join();
+            assertEquals(1, accepted.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testFailure() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            FutureTwitter twitter = new FutureTwitterImpl(stubTwitter(null), executor);
+            TwitterFuture<String> tos = twitter.help().getTermsOfService();
+            try {
+                tos.join();
+                fail("should fail");
+            } catch (TwitterException expected) {
+                assertEquals("tos unavailable", expected.getMessage());
+            }
+            try {
+                tos.get();
+                fail("should fail");
+            } catch (ExecutionException expected) {
+                assertTrue(expected.getCause() instanceof TwitterException);
+            }
+            // failure skips thenApply and reaches exceptionally
+            String recovered = tos.thenApply(new Function<String, String>() {
+                @Override
+                public String apply(String s) {
+                    throw new AssertionError("should not be called");
+                }
+            }).exceptionally(new Function<TwitterException, String>() {
+                @Override
+                public String apply(TwitterException e) {
+                    return "recovered:" + e.getMessage();
+                }
+            }).join();
+            assertEquals("recovered:tos unavailable", recovered);
+
+            // unexpected runtime exceptions from the underlying call are reported as TwitterException
+            try {
+                twitter.timelines().getHomeTimeline().join();
+                fail("should fail");
+            } catch (TwitterException expected) {
+                assertTrue(expected.getCause() instanceof UnsupportedOperationException);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            FutureTwitter twitter = new FutureTwitterImpl(stubTwitter(gate), executor);
+            TwitterFuture<String> first = twitter.help().getPrivacyPolicy();
+            TwitterFuture<String> second = twitter.help().getPrivacyPolicy();
+            TwitterFuture<String> dependent = second.exceptionally(new Function<TwitterException, String>() {
+                @Override
+                public String apply(TwitterException e) {
+                    return e.getCause() instanceof CancellationException ? "cancelled" : "other";
+                }
+            });
+            // second is queued behind first and never starts
+            assertTrue(second.cancel(false));
+            assertFalse(second.cancel(false));
+            assertTrue(second.isCancelled());
+            assertTrue(second.isDone());
+            assertEquals("cancelled", dependent.join());
+            try {
+                second.join();
+                fail("should be cancelled");
+            } catch (CancellationException expected) {
+            }
+            gate.countDown();
+            assertEquals("privacy", first.join());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testRejectedExecution() throws Exception {
+        FutureTwitter twitter = new FutureTwitterImpl(stubTwitter(null), new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        });
+        TwitterFuture<String> future = twitter.help().getPrivacyPolicy();
+        assertTrue(future.isDone());
+        try {
+            future.join();
+            fail("should fail");
+        } catch (TwitterException expected) {
+            assertTrue(expected.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    void testRetryIsScheduledWithoutBlockingTheWorker() throws Exception {
+        final List<Integer> attempts = new ArrayList<Integer>();
+        // behaves like an HttpClient whose RetryPolicy asks for a retry after 200ms
+        Twitter flaky = (Twitter) Proxy.newProxyInstance(Twitter.class.getClassLoader(), new Class[]{Twitter.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if ("getPrivacyPolicy".equals(method.getName())) {
+                            int retriedCount = DeferredRetry.startRequest();
+                            attempts.add(retriedCount);
+                            if (retriedCount < 2) {
+                                TwitterException te = new TwitterException("over capacity");
+                                if (!DeferredRetry.defer(te, retriedCount + 1, 200)) {
+                                    throw new AssertionError("retry should be deferred");
+                                }
+                                throw te;
+                            }
+                            return "privacy";
+                        }
+                        return "tos";
+                    }
+                });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            FutureTwitter twitter = new FutureTwitterImpl(flaky, executor);
+            long start = System.currentTimeMillis();
+            TwitterFuture<String> retried = twitter.help().getPrivacyPolicy();
+            // the only worker thread is free while the first call waits for its retry
+            assertEquals("tos", twitter.help().getTermsOfService().get(150, TimeUnit.MILLISECONDS));
+            assertFalse(retried.isDone());
+            assertEquals("privacy", retried.get(5, TimeUnit.SECONDS));
+            assertTrue(System.currentTimeMillis() - start >= 400);
+            assertEquals(3, attempts.size());
+            assertEquals(Integer.valueOf(2), attempts.get(2));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testOnlyTheFirstRequestOfACallIsDeferred() throws Exception {
+        final List<String> sent = new ArrayList<String>();
+        final HttpClientBase client = new HttpClientBase(new ConfigurationBuilder()
+                .setHttpRetryCount(1).setHttpRetryIntervalSeconds(0).build().getHttpClientConfiguration()) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            HttpResponse handleRequest(HttpRequest req) throws TwitterException {
+                for (int retriedCount = getInitialRetriedCount(); ; retriedCount++) {
+                    sent.add(req.getURL() + " " + retriedCount + " " + Thread.currentThread().getName());
+                    if (!req.getURL().startsWith("fail") || retriedCount > 0) {
+                        return null;
+                    }
+                    TwitterException te = new TwitterException("connection reset", new IOException("connection reset"), -1);
+                    if (!retry(req, retriedCount, te)) {
+                        throw te;
+                    }
+                }
+            }
+        };
+        // getPrivacyPolicy() makes two requests like a chunked upload, getTermsOfService() a single one
+        Twitter twitter = (Twitter) Proxy.newProxyInstance(Twitter.class.getClassLoader(), new Class[]{Twitter.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if ("getPrivacyPolicy".equals(method.getName())) {
+                            client.get("init");
+                            client.get("fail-append");
+                            return "privacy";
+                        }
+                        client.get("fail-tos");
+                        return "tos";
+                    }
+                });
+        ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                return new Thread(r, "worker");
+            }
+        });
+        try {
+            FutureTwitter future = new FutureTwitterImpl(twitter, executor);
+            assertEquals("privacy", future.help().getPrivacyPolicy().get(5, TimeUnit.SECONDS));
+            // the succeeded INIT is not sent again, APPEND is retried in place
+            assertEquals(Arrays.asList("init 0 worker", "fail-append 0 worker", "fail-append 1 worker"), sent);
+
+            sent.clear();
+            assertEquals("tos", future.help().getTermsOfService().get(5, TimeUnit.SECONDS));
+            // the call is attempted again from the timer
+            assertEquals(Arrays.asList("fail-tos 0 worker", "fail-tos 1 worker"), sent);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testCoalescedRequestsAreRetriedInPlace() throws Exception {
+        final List<Integer> sent = new ArrayList<Integer>();
+        final long hits = RequestCoalescer.getStatistics().getHits();
+        final HttpClientBase client = new HttpClientBase(new ConfigurationBuilder().setHttpRequestCoalescingEnabled(true)
+                .setHttpRetryCount(1).setHttpRetryIntervalSeconds(0).build().getHttpClientConfiguration()) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            HttpResponse handleRequest(HttpRequest req) throws TwitterException {
+                for (int retriedCount = getInitialRetriedCount(); ; retriedCount++) {
+                    sent.add(retriedCount);
+                    if (retriedCount > 0) {
+                        return new HttpResponse(CONF) {
+                            {
+                                statusCode = 200;
+                            }
+
+                            @Override
+                            public String getResponseHeader(String name) {
+                                return null;
+                            }
+
+                            @Override
+                            public Map<String, List<String>> getResponseHeaderFields() {
+                                return null;
+                            }
+
+                            @Override
+                            public void disconnect() {
+                            }
+                        };
+                    }
+                    // fails once the second call is waiting for the response
+                    while (RequestCoalescer.getStatistics().getHits() == hits) {
+                        try {
+                            Thread.sleep(10);
+                        } catch (InterruptedException e) {
+                            throw new TwitterException(e);
+                        }
+                    }
+                    TwitterException te = new TwitterException("over capacity", null, 503);
+                    if (!retry(req, retriedCount, te)) {
+                        throw te;
+                    }
+                }
+            }
+        };
+        Twitter twitter = (Twitter) Proxy.newProxyInstance(Twitter.class.getClassLoader(), new Class[]{Twitter.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        return "status " + client.get("users").getStatusCode();
+                    }
+                });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            FutureTwitter future = new FutureTwitterImpl(twitter, executor);
+            TwitterFuture<String> first = future.help().getPrivacyPolicy();
+            TwitterFuture<String> second = future.help().getPrivacyPolicy();
+            // the waiting call gets the retried response, not the failure of the first attempt
+            assertEquals("status 200", first.get(5, TimeUnit.SECONDS));
+            assertEquals("status 200", second.get(5, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList(0, 1), sent);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testCallReleasesTheWorkerWhileWaitingForTheResponseHeaders() throws Exception {
+        final CountDownLatch slowResponse = new CountDownLatch(1);
+        final ServerSocket serverSocket = new ServerSocket(0);
+        Thread acceptor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (true) {
+                        final Socket socket = serverSocket.accept();
+                        new Thread(new Runnable() {
+                            @Override
+                            public void run() {
+                                respond(socket, slowResponse);
+                            }
+                        }).start();
+                    }
+                } catch (IOException ignore) {
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+        final String base = "http://127.0.0.1:" + serverSocket.getLocalPort();
+        final HttpClient client = new NIOHttpClientImpl(new ConfigurationBuilder().setGZIPEnabled(false)
+                .setHttpNIOPipeliningDepth(1).build().getHttpClientConfiguration());
+        Twitter twitter = (Twitter) Proxy.newProxyInstance(Twitter.class.getClassLoader(), new Class[]{Twitter.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        String path = "getPrivacyPolicy".equals(method.getName()) ? "/slow" : "/fast";
+                        return client.get(base + path).asString().trim() + " " + Thread.currentThread().getName();
+                    }
+                });
+        ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                return new Thread(r, "worker");
+            }
+        });
+        try {
+            FutureTwitter future = new FutureTwitterImpl(twitter, executor);
+            TwitterFuture<String> slow = future.help().getPrivacyPolicy();
+            // the only worker is not held by the slow call
+            assertEquals("fast worker", future.help().getTermsOfService().get(5, TimeUnit.SECONDS));
+            assertFalse(slow.isDone());
+            slowResponse.countDown();
+            assertEquals("slow worker", slow.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+            serverSocket.close();
+        }
+    }
+
+    private static void respond(Socket socket, CountDownLatch slowResponse) {
+        try {
+            InputStream in = socket.getInputStream();
+            OutputStream out = socket.getOutputStream();
+            while (true) {
+                StringBuilder head = new StringBuilder();
+                int c;
+                while (head.indexOf("\r\n\r\n") < 0 && (c = in.read()) != -1) {
+                    head.append((char) c);
+                }
+                if (head.indexOf("\r\n\r\n") < 0) {
+                    return;
+                }
+                String path = head.toString().split(" ")[1];
+                if (path.equals("/slow")) {
+                    slowResponse.await();
+                }
+                out.write(("HTTP/1.1 200 OK\r\nContent-Length: " + (path.length() - 1) + "\r\n\r\n" + path.substring(1)).getBytes("UTF-8"));
+                out.flush();
+            }
+        } catch (IOException ignore) {
+        } catch (InterruptedException ignore) {
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, so that each result comes with its allocation rate.<br>
+ * gc.alloc.rate.norm is the number of bytes allocated per operation, e.g. per home timeline response.
+ * <pre>
+ * mvn -f twitter4j-benchmarks/pom.xml package
+ * java -jar twitter4j-benchmarks/target/benchmarks.jar [JMH options] [benchmark regexp]
+ * </pre>
+ *
+ * @since Twitter4J 4.0.8
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+        throw new AssertionError();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
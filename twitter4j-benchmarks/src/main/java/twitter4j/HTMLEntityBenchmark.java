@@ -0,0 +1,119 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unescaping of status texts, with and without sliding entity indices, and of the other unescaped fields of a timeline.
+ *
+ * @since Twitter4J 4.0.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HTMLEntityBenchmark {
+    private String text;
+    private UserMentionEntity[] userMentionEntities;
+    private URLEntity[] urlEntities;
+    private HashtagEntity[] hashtagEntities;
+    private MediaEntity[] mediaEntities;
+    private EntityIndex[] entities;
+    private int[] starts;
+    private int[] ends;
+    private String[] timelineFields;
+
+    @Setup
+    public void setUp() throws TwitterException {
+        JSONObject status = new JSONObject(Payloads.string(Payloads.STATUS));
+        text = status.getString("full_text");
+        JSONObject entitiesJSON = status.getJSONObject("entities");
+        userMentionEntities = EntitiesParseUtil.getUserMentions(entitiesJSON);
+        urlEntities = EntitiesParseUtil.getUrls(entitiesJSON);
+        hashtagEntities = EntitiesParseUtil.getHashtags(entitiesJSON);
+        mediaEntities = EntitiesParseUtil.getMedia(entitiesJSON);
+
+        int count = userMentionEntities.length + urlEntities.length + hashtagEntities.length + mediaEntities.length;
+        entities = new EntityIndex[count];
+        int i = 0;
+        for (Object entity : userMentionEntities) {
+            entities[i++] = (EntityIndex) entity;
+        }
+        for (Object entity : urlEntities) {
+            entities[i++] = (EntityIndex) entity;
+        }
+        for (Object entity : hashtagEntities) {
+            entities[i++] = (EntityIndex) entity;
+        }
+        for (Object entity : mediaEntities) {
+            entities[i++] = (EntityIndex) entity;
+        }
+        starts = new int[count];
+        ends = new int[count];
+        for (i = 0; i < count; i++) {
+            starts[i] = entities[i].getStart();
+            ends[i] = entities[i].getEnd();
+        }
+
+        // texts, sources and screen names, most of which contain no entity reference at all
+        JSONArray timeline = new JSONArray(Payloads.string(Payloads.HOME_TIMELINE));
+        timelineFields = new String[timeline.length() * 3];
+        for (i = 0; i < timeline.length(); i++) {
+            JSONObject timelineStatus = timeline.getJSONObject(i);
+            timelineFields[i * 3] = timelineStatus.getString("full_text");
+            timelineFields[i * 3 + 1] = timelineStatus.getString("source");
+            timelineFields[i * 3 + 2] = timelineStatus.getJSONObject("user").getString("screen_name");
+        }
+    }
+
+    @Benchmark
+    public String unescape() {
+        return HTMLEntity.unescape(text);
+    }
+
+    @Benchmark
+    public String unescapeAndSlideEntityIndices() {
+        // the indices are slid in place, so they are restored for every call
+        for (int i = 0; i < entities.length; i++) {
+            entities[i].setStart(starts[i]);
+            entities[i].setEnd(ends[i]);
+        }
+        return HTMLEntity.unescapeAndSlideEntityIncdices(text, userMentionEntities, urlEntities, hashtagEntities, mediaEntities);
+    }
+
+    @Benchmark
+    public void unescapeTimeline(Blackhole blackhole) {
+        for (String field : timelineFields) {
+            blackhole.consume(HTMLEntity.unescape(field));
+        }
+    }
+}
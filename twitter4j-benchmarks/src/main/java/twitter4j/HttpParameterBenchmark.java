@@ -0,0 +1,108 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.UnsupportedEncodingException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Percent encoding of request parameters and serialization of JSON request bodies.
+ *
+ * @since Twitter4J 4.0.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HttpParameterBenchmark {
+    private String ascii = "Introducing application-only authentication for the Twitter REST API v1.1";
+    private String unicode = "こんにちは 😀 Twitter4J 4.0.7 released! #t4j";
+    private HttpParameter[] timelineParameters = {
+            new HttpParameter("count", 200),
+            new HttpParameter("since_id", 1050118621198921728L),
+            new HttpParameter("tweet_mode", "extended"),
+            new HttpParameter("include_entities", true)
+    };
+
+    private JSONBodyWriter.Body directMessage = new JSONBodyWriter.Body() {
+        @Override
+        public void writeTo(JSONBodyWriter writer) throws JSONException {
+            writer.object().key("event").object()
+                    .key("type").value("message_create")
+                    .key("message_create").object()
+                    .key("target").object().key("recipient_id").value(6253282L).endObject()
+                    .key("message_data").object().key("text").value(unicode).endObject()
+                    .endObject()
+                    .endObject().endObject();
+        }
+    };
+
+    @Benchmark
+    public String encodeASCII() {
+        return HttpParameter.encode(ascii);
+    }
+
+    @Benchmark
+    public String encodeUnicode() {
+        return HttpParameter.encode(unicode);
+    }
+
+    @Benchmark
+    public String encodeParameters() {
+        return HttpParameter.encodeParameters(timelineParameters);
+    }
+
+    @Benchmark
+    public byte[] directMessageTree() throws UnsupportedEncodingException {
+        JSONObject json = new JSONObject();
+        JSONObject event = new JSONObject();
+        JSONObject messageCreate = new JSONObject();
+        JSONObject target = new JSONObject();
+        target.put("recipient_id", 6253282L);
+        messageCreate.put("target", target);
+        JSONObject messageData = new JSONObject();
+        messageData.put("text", unicode);
+        messageCreate.put("message_data", messageData);
+        event.put("type", "message_create");
+        event.put("message_create", messageCreate);
+        json.put("event", event);
+        return json.toString().getBytes("UTF-8");
+    }
+
+    @Benchmark
+    public int directMessageWriter() {
+        JSONBodyWriter writer = JSONBodyWriter.acquire();
+        try {
+            directMessage.writeTo(writer);
+            return writer.length();
+        } finally {
+            writer.release();
+        }
+    }
+}
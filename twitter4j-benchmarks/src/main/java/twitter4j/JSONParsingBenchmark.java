@@ -0,0 +1,82 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of response bodies into JSONObject trees, and the pull parser skipping over the same bodies.
+ *
+ * @since Twitter4J 4.0.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JSONParsingBenchmark {
+    private String status;
+    private String homeTimeline;
+    private CharBuffer homeTimelineChars;
+    private byte[] homeTimelineBytes;
+
+    @Setup
+    public void setUp() {
+        status = Payloads.string(Payloads.STATUS);
+        homeTimeline = Payloads.string(Payloads.HOME_TIMELINE);
+        homeTimelineChars = CharBuffer.wrap(homeTimeline.toCharArray());
+        homeTimelineBytes = Payloads.bytes(Payloads.HOME_TIMELINE);
+    }
+
+    @Benchmark
+    public JSONObject statusObject() {
+        return new JSONObject(status);
+    }
+
+    @Benchmark
+    public JSONArray homeTimelineArray() {
+        return new JSONArray(homeTimeline);
+    }
+
+    /**
+     * the path of HttpResponse.asJSONArray(), tokenizing the pooled char buffer without a String copy
+     */
+    @Benchmark
+    public JSONArray homeTimelineArrayFromCharSequence() {
+        return new JSONArray(new JSONTokener(homeTimelineChars.duplicate()));
+    }
+
+    @Benchmark
+    public int homeTimelinePullParserSkip() {
+        JSONPullParser parser = new JSONPullParser(homeTimelineBytes, 0, homeTimelineBytes.length);
+        parser.skipValue();
+        return parser.peek();
+    }
+}
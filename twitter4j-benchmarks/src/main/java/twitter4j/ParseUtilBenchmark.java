@@ -0,0 +1,55 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of created_at dates of statuses and users.
+ *
+ * @since Twitter4J 4.0.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseUtilBenchmark {
+    private String createdAt = "Wed Oct 10 20:19:24 +0000 2018";
+
+    @Benchmark
+    public Date statusCreatedAt() throws TwitterException {
+        return ParseUtil.getDate(createdAt, "EEE MMM d HH:mm:ss z yyyy");
+    }
+
+    @Benchmark
+    public Date userCreatedAt() throws TwitterException {
+        return ParseUtil.getDate(createdAt, "EEE MMM dd HH:mm:ss z yyyy");
+    }
+}
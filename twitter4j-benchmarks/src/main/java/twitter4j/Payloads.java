@@ -0,0 +1,104 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recorded API payloads the benchmarks run against.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class Payloads {
+    /**
+     * 20 statuses as returned by statuses/home_timeline with tweet_mode=extended
+     */
+    static final String HOME_TIMELINE = "home_timeline.json";
+    /**
+     * a status with mentions, hashtags, URLs and media
+     */
+    static final String STATUS = "status.json";
+    static final String USER = "user.json";
+    /**
+     * statuses, deletion notices and limit notices as delivered by statuses/filter
+     */
+    static final String STREAM = "stream.txt";
+
+    private Payloads() {
+        throw new AssertionError();
+    }
+
+    static byte[] bytes(String name) {
+        InputStream is = Payloads.class.getResourceAsStream(name);
+        if (is == null) {
+            throw new IllegalArgumentException("payload not found: " + name);
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int n;
+            while ((n = is.read(buf)) != -1) {
+                out.write(buf, 0, n);
+            }
+            is.close();
+            return out.toByteArray();
+        } catch (IOException ioe) {
+            throw new IllegalStateException(ioe);
+        }
+    }
+
+    static String string(String name) {
+        return new String(bytes(name), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A response serving the payload the way HttpClientImpl serves a response body.
+     */
+    static final class PayloadHttpResponse extends HttpResponse {
+        private static final HttpClientConfiguration CONF = new ConfigurationBuilder().build().getHttpClientConfiguration();
+        private final String contentLength;
+
+        PayloadHttpResponse(byte[] body) {
+            super(CONF);
+            this.statusCode = 200;
+            this.is = new ByteArrayInputStream(body);
+            this.contentLength = String.valueOf(body.length);
+        }
+
+        @Override
+        public String getResponseHeader(String name) {
+            return "Content-Length".equalsIgnoreCase(name) ? contentLength : null;
+        }
+
+        @Override
+        public Map<String, List<String>> getResponseHeaderFields() {
+            return null;
+        }
+
+        @Override
+        public void disconnect() {
+        }
+    }
+}
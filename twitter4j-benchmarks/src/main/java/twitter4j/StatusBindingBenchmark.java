@@ -0,0 +1,88 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding of statuses and users, from parsed trees and from whole responses.<br>
+ * The homeTimeline benchmarks cover everything between the response body stream and the returned list,
+ * so their gc.alloc.rate.norm is the number of bytes allocated per home timeline response.
+ *
+ * @since Twitter4J 4.0.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StatusBindingBenchmark {
+    private JSONObject status;
+    private JSONObject user;
+    private byte[] statusBytes;
+    private byte[] homeTimeline;
+    private ObjectFactory treeFactory;
+    private ObjectFactory streamingFactory;
+
+    @Setup
+    public void setUp() {
+        status = new JSONObject(Payloads.string(Payloads.STATUS));
+        user = new JSONObject(Payloads.string(Payloads.USER));
+        statusBytes = Payloads.bytes(Payloads.STATUS);
+        homeTimeline = Payloads.bytes(Payloads.HOME_TIMELINE);
+        treeFactory = new JSONImplFactory(new ConfigurationBuilder().build());
+        streamingFactory = new JSONImplFactory(new ConfigurationBuilder().setJSONStreamingParserEnabled(true).build());
+    }
+
+    @Benchmark
+    public Status statusFromJSONObject() throws TwitterException {
+        return new StatusJSONImpl(status);
+    }
+
+    @Benchmark
+    public User userFromJSONObject() throws TwitterException {
+        return new UserJSONImpl(user);
+    }
+
+    @Benchmark
+    public Status statusFromPullParser() throws TwitterException {
+        return new StatusJSONImpl(new JSONPullParser(statusBytes, 0, statusBytes.length));
+    }
+
+    @Benchmark
+    public ResponseList<Status> homeTimeline() throws TwitterException {
+        return treeFactory.createStatusList(new Payloads.PayloadHttpResponse(homeTimeline));
+    }
+
+    @Benchmark
+    public ResponseList<Status> homeTimelineWithStreamingParser() throws TwitterException {
+        return streamingFactory.createStatusList(new Payloads.PayloadHttpResponse(homeTimeline));
+    }
+}
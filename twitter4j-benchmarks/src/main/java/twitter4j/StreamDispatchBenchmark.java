@@ -0,0 +1,162 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading, parsing and dispatching of streaming API messages, one message per invocation.<br>
+ * The dispatcher runs events on the calling thread so that only the stream handling itself is measured.
+ *
+ * @since Twitter4J 4.0.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StreamDispatchBenchmark {
+    private StatusStreamImpl stream;
+    private Blackhole blackhole;
+    private StatusListener statusListener;
+    private StreamListener[] noListeners = new StreamListener[0];
+    private RawStreamListener[] rawListeners;
+    private RawStreamListener[] rawBytesListeners;
+
+    @Setup
+    public void setUp(Blackhole blackhole) throws IOException {
+        this.blackhole = blackhole;
+        stream = new StatusStreamImpl(new CallerRunsDispatcher(),
+                new RepeatingInputStream(Payloads.bytes(Payloads.STREAM)), new ConfigurationBuilder().build());
+        statusListener = new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+                StreamDispatchBenchmark.this.blackhole.consume(status);
+            }
+
+            @Override
+            public void onDeletionNotice(StatusDeletionNotice statusDeletionNotice) {
+                StreamDispatchBenchmark.this.blackhole.consume(statusDeletionNotice);
+            }
+
+            @Override
+            public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+                StreamDispatchBenchmark.this.blackhole.consume(numberOfLimitedStatuses);
+            }
+        };
+        rawListeners = new RawStreamListener[]{new RawStreamListener() {
+            @Override
+            public void onMessage(String rawString) {
+                StreamDispatchBenchmark.this.blackhole.consume(rawString);
+            }
+
+            @Override
+            public void onException(Exception ex) {
+            }
+        }};
+        rawBytesListeners = new RawStreamListener[]{new RawStreamBytesListener() {
+            @Override
+            public void onMessage(byte[] message, int offset, int length) {
+                StreamDispatchBenchmark.this.blackhole.consume(message);
+            }
+
+            @Override
+            public void onMessage(String rawString) {
+                StreamDispatchBenchmark.this.blackhole.consume(rawString);
+            }
+
+            @Override
+            public void onException(Exception ex) {
+            }
+        }};
+    }
+
+    @Benchmark
+    public void statusListener() throws TwitterException {
+        stream.next(statusListener);
+    }
+
+    /**
+     * raw listeners only, which skips parsing the messages
+     */
+    @Benchmark
+    public void rawStreamListener() throws TwitterException {
+        stream.next(noListeners, rawListeners);
+    }
+
+    /**
+     * raw listeners taking the bytes of the messages, which skips decoding them as well
+     */
+    @Benchmark
+    public void rawStreamBytesListener() throws TwitterException {
+        stream.next(noListeners, rawBytesListeners);
+    }
+
+    private static final class CallerRunsDispatcher implements Dispatcher {
+        @Override
+        public void invokeLater(Runnable task) {
+            task.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    /**
+     * Serves the payload over and over so that the stream never ends.
+     */
+    private static final class RepeatingInputStream extends InputStream {
+        private final byte[] payload;
+        private int position;
+
+        RepeatingInputStream(byte[] payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public int read() {
+            int b = payload[position] & 0xff;
+            position = (position + 1) % payload.length;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            int n = Math.min(len, payload.length - position);
+            System.arraycopy(payload, position, b, off, n);
+            position = (position + n) % payload.length;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.auth;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import twitter4j.HttpParameter;
+import twitter4j.HttpRequest;
+import twitter4j.RequestMethod;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OAuth 1.0a signing of requests.
+ *
+ * @since Twitter4J 4.0.8
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OAuthSignatureBenchmark {
+    private OAuthAuthorization oauth;
+    private AccessToken accessToken;
+    private String baseString;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        oauth = new OAuthAuthorization(new ConfigurationBuilder()
+                .setOAuthConsumerKey("xvz1evFS4wEEPTGEFPHBog")
+                .setOAuthConsumerSecret("kAcSOqF21Fu85e7zjz7ZN2U4ZRhfV3WpwPAoE3Z7kBw")
+                .build());
+        accessToken = new AccessToken("370773112-GmHxMAgYyLbNEtIKZeRNFsMKPR9EyMZeS9weJAEb",
+                "LswwdoUaIvS8ltyTt5jkRh4J50vUPVVHtR2YPi5kE");
+        oauth.setOAuthAccessToken(accessToken);
+        baseString = "POST&https%3A%2F%2Fapi.twitter.com%2F1.1%2Fstatuses%2Fupdate.json&include_entities%3Dtrue"
+                + "%26oauth_consumer_key%3Dxvz1evFS4wEEPTGEFPHBog%26oauth_nonce%3DkYjzVBB8Y0ZFabxSWbWovY3uYSQ2pTgmZeNu2VS4cg"
+                + "%26oauth_signature_method%3DHMAC-SHA1%26oauth_timestamp%3D1318622958"
+                + "%26oauth_token%3D370773112-GmHxMAgYyLbNEtIKZeRNFsMKPR9EyMZeS9weJAEb%26oauth_version%3D1.0"
+                + "%26status%3DHello%2520Ladies%2520%252B%2520Gentlemen%252C%2520a%2520signed%2520OAuth%2520request%2521";
+        request = new HttpRequest(RequestMethod.POST, "https://api.twitter.com/1.1/statuses/update.json",
+                new HttpParameter[]{new HttpParameter("status", "Hello Ladies + Gentlemen, a signed OAuth request!"),
+                        new HttpParameter("include_entities", true)}, oauth, null);
+    }
+
+    @Benchmark
+    public String generateSignature() {
+        return oauth.generateSignature(baseString, accessToken);
+    }
+
+    /**
+     * signature including nonce, timestamp and the base string of the request
+     */
+    @Benchmark
+    public String authorizationHeader() {
+        return oauth.getAuthorizationHeader(request);
+    }
+}
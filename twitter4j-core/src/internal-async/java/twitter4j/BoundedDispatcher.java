@@ -0,0 +1,528 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.conf.Configuration;
+import twitter4j.management.StreamDispatchStatistics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatcher handing tasks to its threads through a bounded ring buffer, so that a stream reader outpacing the listeners cannot exhaust the heap.<br>
+ * When the buffer is full, the {@link OverflowPolicy} decides between blocking the caller, which stops reading from the connection and lets TCP flow
+ * control push back on the server, and discarding or spilling events. Dropping by type and spilling apply to {@link Event}s only; the caller waits
+ * for room for any other task.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class BoundedDispatcher implements Dispatcher {
+    private static final Logger logger = Logger.getLogger(BoundedDispatcher.class);
+    static final long SHUTDOWN_TIME = 5000;
+    private static final StreamDispatchStatistics statistics = new StreamDispatchStatistics();
+
+    enum OverflowPolicy {
+        /**
+         * the caller waits until a task has been taken from the buffer
+         */
+        BLOCK,
+        /**
+         * the oldest queued event is discarded to make room for a new event. Other tasks are never discarded, the caller waits instead
+         */
+        DROP_OLDEST,
+        /**
+         * the new event is discarded if its type is droppable, otherwise the caller waits
+         */
+        DROP_TYPE,
+        /**
+         * the new event, and every event after it, is written to a spill file until the threads have caught up
+         */
+        SPILL
+    }
+
+    /**
+     * Task handling one streaming API message.
+     */
+    interface Event extends Runnable {
+        /**
+         * @return type of the message, matched against the droppable types
+         */
+        String getType();
+
+        /**
+         * @return the message, as written to spill files
+         */
+        String getMessage();
+
+        /**
+         * @return object handling the message. Spilled events with equal handlers are kept in memory as a count.
+         */
+        Object getHandler();
+
+        /**
+         * @param message message read back from a spill file
+         * @return event handling the message the way this event handles its own
+         */
+        Event withMessage(String message);
+    }
+
+    private final Runnable[] tasks;
+    // System.nanoTime() at which each task was queued
+    private final long[] queuedAt;
+    private int head = 0;
+    private int size = 0;
+    private final OverflowPolicy policy;
+    private final Set<String> droppableTypes = new HashSet<String>();
+    private final File spillDirectory;
+    // holds the events which did not fit in the buffer, null while nothing is spilled
+    private SpillFile spillFile = null;
+    private final Thread[] threads;
+    private int waitingThreads = 0;
+    private int waitingCallers = 0;
+    private boolean shutdown = false;
+    // null for the lanes of a PartitionedDispatcher, which registers a hook of its own
+    private final Thread shutdownHook;
+
+    public BoundedDispatcher(Configuration conf) {
+        this(conf, conf.getStreamDispatchQueueSize(), conf.getAsyncNumThreads(), "Twitter4J Stream Dispatcher[%d]", true);
+    }
+
+    /**
+     * @param conf         configuration providing the overflow policy
+     * @param capacity     number of tasks the buffer holds
+     * @param numThreads   number of threads running the tasks
+     * @param threadName   format of the thread names, given the thread number
+     * @param shutdownHook whether to shut the dispatcher down when the JVM exits
+     */
+    BoundedDispatcher(Configuration conf, int capacity, int numThreads, String threadName, boolean shutdownHook) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("stream dispatch queue size must be positive: " + capacity);
+        }
+        tasks = new Runnable[capacity];
+        queuedAt = new long[tasks.length];
+        policy = OverflowPolicy.valueOf(conf.getStreamDispatchOverflowPolicy().trim().toUpperCase(Locale.US));
+        if (conf.getStreamDispatchDroppableTypes() != null) {
+            for (String type : conf.getStreamDispatchDroppableTypes().split(",")) {
+                if (type.trim().length() > 0) {
+                    droppableTypes.add(type.trim());
+                }
+            }
+        }
+        spillDirectory = conf.getStreamDispatchSpillDirectory() != null ? new File(conf.getStreamDispatchSpillDirectory()) : null;
+        statistics.addCapacity(tasks.length);
+
+        threads = new Thread[numThreads];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    work();
+                }
+            });
+            threads[i].setName(String.format(threadName, i));
+            threads[i].setDaemon(conf.isDaemonEnabled());
+            threads[i].start();
+        }
+        this.shutdownHook = shutdownHook ? addShutdownHook(this) : null;
+    }
+
+    /**
+     * Registers a hook shutting the dispatcher down when the JVM exits. The hook holds on to the dispatcher, so it is to be removed with
+     * {@link #removeShutdownHook(Thread)} once the dispatcher has been shut down.
+     *
+     * @param dispatcher dispatcher to shut down
+     * @return the hook
+     */
+    static Thread addShutdownHook(final Dispatcher dispatcher) {
+        Thread hook = new Thread() {
+            @Override
+            public void run() {
+                dispatcher.shutdown();
+            }
+        };
+        Runtime.getRuntime().addShutdownHook(hook);
+        return hook;
+    }
+
+    static void removeShutdownHook(Thread hook) {
+        // the hook shutting the dispatcher down cannot remove itself
+        if (hook != null && hook != Thread.currentThread()) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(hook);
+            } catch (IllegalStateException ignore) {
+                // the JVM is shutting down
+            }
+        }
+    }
+
+    static StreamDispatchStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public void invokeLater(Runnable task) {
+        long blockedSince = 0;
+        try {
+            synchronized (this) {
+                if (shutdown) {
+                    throw new RejectedExecutionException("the dispatcher has been shut down");
+                }
+                long now = System.nanoTime();
+                // events arriving while others are spilled follow them to the spill file to keep the order
+                if (spillFile != null && spill(task, now)) {
+                    return;
+                }
+                while (size == tasks.length) {
+                    if (policy == OverflowPolicy.DROP_OLDEST && task instanceof Event && dropOldestEvent()) {
+                        statistics.eventDropped(true);
+                        break;
+                    }
+                    if (policy == OverflowPolicy.DROP_TYPE && task instanceof Event
+                            && droppableTypes.contains(((Event) task).getType())) {
+                        statistics.eventDropped(false);
+                        return;
+                    }
+                    if (policy == OverflowPolicy.SPILL && spill(task, now)) {
+                        return;
+                    }
+                    if (blockedSince == 0) {
+                        blockedSince = System.currentTimeMillis();
+                    }
+                    waitingCallers++;
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // the stream is being closed
+                        Thread.currentThread().interrupt();
+                        statistics.eventDropped(false);
+                        return;
+                    } finally {
+                        waitingCallers--;
+                    }
+                    if (shutdown) {
+                        throw new RejectedExecutionException("the dispatcher has been shut down");
+                    }
+                }
+                enqueue(task, now);
+                if (waitingThreads > 0) {
+                    notifyAll();
+                }
+            }
+        } finally {
+            if (blockedSince != 0) {
+                statistics.readBlocked(System.currentTimeMillis() - blockedSince);
+            }
+        }
+    }
+
+    private void work() {
+        while (true) {
+            Runnable task;
+            long lag;
+            synchronized (this) {
+                // spilled events are moved to the buffer as soon as it has room, so an empty buffer means there is nothing left
+                while (size == 0 && !shutdown) {
+                    waitingThreads++;
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    } finally {
+                        waitingThreads--;
+                    }
+                }
+                if (size == 0) {
+                    return;
+                }
+                lag = System.nanoTime() - queuedAt[head];
+                task = dequeue();
+                if (spillFile != null) {
+                    unspill();
+                }
+                if (waitingCallers > 0) {
+                    notifyAll();
+                }
+            }
+            statistics.eventDispatched(TimeUnit.NANOSECONDS.toMillis(lag));
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.warn("Uncaught exception in dispatched task", e);
+            }
+        }
+    }
+
+    private void enqueue(Runnable task, long time) {
+        int tail = head + size;
+        if (tail >= tasks.length) {
+            tail -= tasks.length;
+        }
+        tasks[tail] = task;
+        queuedAt[tail] = time;
+        size++;
+        statistics.eventQueued();
+    }
+
+    private Runnable dequeue() {
+        Runnable task = tasks[head];
+        tasks[head] = null;
+        if (++head == tasks.length) {
+            head = 0;
+        }
+        size--;
+        return task;
+    }
+
+    /**
+     * Removes the oldest queued event, leaving lifecycle and control tasks in the buffer.
+     *
+     * @return false if no event is queued
+     */
+    private boolean dropOldestEvent() {
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % tasks.length;
+            if (tasks[index] instanceof Event) {
+                // shift the tasks queued before it by one to keep the order
+                for (int j = i; j > 0; j--) {
+                    int to = (head + j) % tasks.length;
+                    int from = (head + j - 1) % tasks.length;
+                    tasks[to] = tasks[from];
+                    queuedAt[to] = queuedAt[from];
+                }
+                dequeue();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return false if the task cannot be spilled and the caller has to wait for room in the buffer
+     */
+    private boolean spill(Runnable task, long time) {
+        if (policy != OverflowPolicy.SPILL || !(task instanceof Event)) {
+            return false;
+        }
+        try {
+            if (spillFile == null) {
+                spillFile = new SpillFile(spillDirectory);
+            }
+            spillFile.write((Event) task, time);
+            statistics.eventSpilled();
+            return true;
+        } catch (IOException ioe) {
+            logger.warn("Failed to spill a stream event, waiting for room instead", ioe);
+            return false;
+        }
+    }
+
+    private void unspill() {
+        try {
+            while (size < tasks.length && spillFile.size() > 0) {
+                Event event = spillFile.read();
+                statistics.eventsUnspilled(1);
+                enqueue(event, spillFile.getQueuedAt());
+            }
+        } catch (IOException ioe) {
+            logger.warn("Failed to read spilled stream events, discarding them", ioe);
+            discardSpilled();
+            return;
+        }
+        if (spillFile.size() == 0) {
+            spillFile.delete();
+            spillFile = null;
+        }
+    }
+
+    private void discardSpilled() {
+        long remaining = spillFile.size();
+        statistics.eventsUnspilled((int) remaining);
+        for (long i = 0; i < remaining; i++) {
+            statistics.eventDropped(false);
+        }
+        spillFile.delete();
+        spillFile = null;
+    }
+
+    /**
+     * Stops accepting tasks. The threads keep running the queued tasks.
+     *
+     * @return false if the dispatcher had already been stopped
+     */
+    synchronized boolean stop() {
+        if (shutdown) {
+            return false;
+        }
+        shutdown = true;
+        notifyAll();
+        removeShutdownHook(shutdownHook);
+        return true;
+    }
+
+    /**
+     * Lets the threads run the queued tasks for up to five seconds, then interrupts them and discards the tasks left.
+     */
+    @Override
+    public void shutdown() {
+        if (stop()) {
+            awaitTermination(System.currentTimeMillis() + SHUTDOWN_TIME);
+        }
+    }
+
+    /**
+     * Waits for the threads of a stopped dispatcher to run the queued tasks, then interrupts them and discards the tasks left.
+     *
+     * @param deadline time to stop waiting at, in milliseconds since the epoch
+     */
+    void awaitTermination(long deadline) {
+        try {
+            for (Thread thread : threads) {
+                long remaining = deadline - System.currentTimeMillis();
+                // a listener may shut the stream down from a dispatcher thread
+                if (remaining > 0 && thread != Thread.currentThread()) {
+                    thread.join(remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.warn(e.getMessage());
+        }
+        for (Thread thread : threads) {
+            if (thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+        synchronized (this) {
+            while (size > 0) {
+                dequeue();
+                statistics.eventDropped(true);
+            }
+            if (spillFile != null) {
+                discardSpilled();
+            }
+        }
+        statistics.addCapacity(-tasks.length);
+    }
+
+    /**
+     * Events written to disk in arrival order. Runs of consecutive events sharing a handler are kept in memory as a count, so that spilling
+     * does not use memory in proportion to the number of events.
+     */
+    private static final class SpillFile {
+        private final File file;
+        private final DataOutputStream out;
+        private final DataInputStream in;
+        private final LinkedList<Run> runs = new LinkedList<Run>();
+        private long size = 0;
+        private boolean flushed = true;
+        private long queuedAt;
+
+        SpillFile(File directory) throws IOException {
+            file = File.createTempFile("twitter4j-stream", ".spill", directory);
+            file.deleteOnExit();
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        }
+
+        long size() {
+            return size;
+        }
+
+        void write(Event event, long time) throws IOException {
+            byte[] message = event.getMessage().getBytes("UTF-8");
+            out.writeLong(time);
+            out.writeInt(message.length);
+            out.write(message);
+            flushed = false;
+            Run last = runs.peekLast();
+            if (last != null && last.event.getHandler().equals(event.getHandler())) {
+                last.count++;
+            } else {
+                runs.add(new Run(event));
+            }
+            size++;
+        }
+
+        /**
+         * @return the oldest spilled event. {@link #getQueuedAt()} returns the time it was queued at afterwards.
+         */
+        Event read() throws IOException {
+            if (!flushed) {
+                out.flush();
+                flushed = true;
+            }
+            queuedAt = in.readLong();
+            byte[] message = new byte[in.readInt()];
+            in.readFully(message);
+            Run first = runs.peek();
+            if (--first.count == 0) {
+                runs.poll();
+            }
+            size--;
+            return first.event.withMessage(new String(message, "UTF-8"));
+        }
+
+        long getQueuedAt() {
+            return queuedAt;
+        }
+
+        void delete() {
+            try {
+                out.close();
+            } catch (IOException ignore) {
+            }
+            try {
+                in.close();
+            } catch (IOException ignore) {
+            }
+            if (!file.delete()) {
+                logger.warn("Failed to delete spill file: ", file.getAbsolutePath());
+            }
+        }
+    }
+
+    private static final class Run {
+        private final Event event;
+        private int count = 1;
+
+        Run(Event event) {
+            this.event = event;
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "BoundedDispatcher{" +
+                "capacity=" + tasks.length +
+                ", size=" + size +
+                ", policy=" + policy +
+                ", spilled=" + (spillFile != null ? spillFile.size() : 0) +
+                ", shutdown=" + shutdown +
+                '}';
+    }
+}
@@ -61,4 +61,21 @@ final class DispatcherFactory {
             throw new AssertionError(e);
         }
     }
+
+    /**
+     * returns a Dispatcher instance for streams. Streams get a {@link BoundedDispatcher}, or a {@link PartitionedDispatcher} when a partition key is configured,
+     * unless a custom dispatcher implementation is configured or the queue size is not positive.
+     *
+     * @return dispatcher instance
+     * @since Twitter4J 4.0.8
+     */
+    public Dispatcher getStreamInstance() {
+        if (conf.getStreamDispatchQueueSize() > 0 && DispatcherImpl.class.getName().equals(dispatcherImpl)) {
+            if (conf.getStreamDispatchPartitionKey() != null) {
+                return new PartitionedDispatcher(conf);
+            }
+            return new BoundedDispatcher(conf);
+        }
+        return getInstance();
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.conf.Configuration;
+
+/**
+ * Dispatcher spreading tasks over single-threaded lanes by the partition key of the tasks, so that the tasks sharing a key run one at a time and in
+ * the order they were queued, while tasks with different keys run in parallel.<br>
+ * Each lane is a {@link BoundedDispatcher} with its share of the configured queue size, and applies the configured overflow policy on its own.
+ * Tasks without a key run on the first lane.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class PartitionedDispatcher implements Dispatcher {
+
+    /**
+     * Task carrying the key it's ordered by.
+     */
+    interface Keyed extends Runnable {
+        /**
+         * @return the key, or -1 if the task has none
+         */
+        long getPartitionKey();
+    }
+
+    private final BoundedDispatcher[] lanes;
+    private final Thread shutdownHook;
+
+    public PartitionedDispatcher(Configuration conf) {
+        lanes = new BoundedDispatcher[conf.getAsyncNumThreads()];
+        int capacity = Math.max(1, conf.getStreamDispatchQueueSize() / lanes.length);
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new BoundedDispatcher(conf, capacity, 1, "Twitter4J Stream Dispatcher[" + i + "]", false);
+        }
+        shutdownHook = BoundedDispatcher.addShutdownHook(this);
+    }
+
+    @Override
+    public void invokeLater(Runnable task) {
+        lanes[getLane(task)].invokeLater(task);
+    }
+
+    int getLane(Runnable task) {
+        if (!(task instanceof Keyed)) {
+            return 0;
+        }
+        long key = ((Keyed) task).getPartitionKey();
+        if (key == -1) {
+            return 0;
+        }
+        // ids are spread unevenly in their low bits, mix them before taking the remainder
+        long hash = (key ^ (key >>> 32)) * 0x9E3779B97F4A7C15L;
+        return (int) ((hash >>> 32) % lanes.length);
+    }
+
+    /**
+     * Lets the lanes run the queued tasks for up to five seconds in total, then interrupts them and discards the tasks left.
+     */
+    @Override
+    public void shutdown() {
+        BoundedDispatcher.removeShutdownHook(shutdownHook);
+        boolean stopped = false;
+        for (BoundedDispatcher lane : lanes) {
+            stopped |= lane.stop();
+        }
+        if (stopped) {
+            long deadline = System.currentTimeMillis() + BoundedDispatcher.SHUTDOWN_TIME;
+            for (BoundedDispatcher lane : lanes) {
+                lane.awaitTermination(deadline);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionedDispatcher{" +
+                "lanes=" + lanes.length +
+                '}';
+    }
+}
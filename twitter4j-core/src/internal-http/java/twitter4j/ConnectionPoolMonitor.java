@@ -0,0 +1,41 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.management.ConnectionPoolStatistics;
+
+/**
+ * Singleton holding the connection pool statistics shared by all HttpClient instances.<br>
+ * The statistics are exposed through JMX by {@link TwitterAPIMonitor} when MBean is enabled.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public final class ConnectionPoolMonitor {
+    private static final ConnectionPoolMonitor SINGLETON = new ConnectionPoolMonitor();
+    private final ConnectionPoolStatistics statistics = new ConnectionPoolStatistics();
+
+    private ConnectionPoolMonitor() {
+    }
+
+    public static ConnectionPoolMonitor getInstance() {
+        return SINGLETON;
+    }
+
+    public ConnectionPoolStatistics getStatistics() {
+        return statistics;
+    }
+}
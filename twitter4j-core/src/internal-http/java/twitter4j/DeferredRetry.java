@@ -0,0 +1,243 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+/**
+ * Lets an asynchronous caller take over the retries of the requests made by the calling thread.<br>
+ * While a DeferredRetry is active, HttpClient implementations don't sleep between retries. They throw the failure instead, and leave the delay before the next attempt here, so that the caller can schedule the attempt on a timer and release the thread meanwhile.<br>
+ * The caller attempts the whole call again, so only the first request of a call is deferred. The requests following it are retried in place, as attempting the call again would repeat the requests which already succeeded, e.g. the INIT and APPEND commands of a chunked media upload.<br>
+ * The first request of a call can also be suspended while waiting for the response headers, by HttpClient implementations which are called back when the headers arrive. The caller is released and runs the call again from {@link #resumeWhenReady(Runnable)}, which picks the response up instead of sending the request again.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class DeferredRetry {
+    private static final ThreadLocal<DeferredRetry> current = new ThreadLocal<DeferredRetry>();
+
+    private final int retriedCount;
+    // number of requests the call has started
+    private int requests = 0;
+    private int nextRetriedCount;
+    private long delayMillis = -1;
+    private TwitterException failure;
+    // exchange sent by the suspended previous run of the call, to be picked up by its first request
+    private NIOHttpExchange resumed;
+    private HttpRequest resumedRequest;
+    // exchange the call has been suspended on
+    private NIOHttpExchange pending;
+    private HttpRequest pendingRequest;
+    private TwitterException suspension;
+    private NIOHttpExchange suspendedOn;
+    private long suspensionTimeout;
+    private boolean resuming = false;
+
+    private DeferredRetry(int retriedCount) {
+        this.retriedCount = retriedCount;
+    }
+
+    /**
+     * Activates deferred retries for the calling thread.
+     *
+     * @param retriedCount number of times the call has already been retried
+     * @return the deferred retry, to be passed to {@link #end(DeferredRetry)}
+     */
+    static DeferredRetry begin(int retriedCount) {
+        return begin(retriedCount, null);
+    }
+
+    /**
+     * Activates deferred retries for the calling thread.
+     *
+     * @param retriedCount number of times the call has already been retried
+     * @param suspended    the deferred retry of the suspended previous run of the call, or null
+     * @return the deferred retry, to be passed to {@link #end(DeferredRetry)}
+     */
+    static DeferredRetry begin(int retriedCount, DeferredRetry suspended) {
+        DeferredRetry retry = new DeferredRetry(retriedCount);
+        if (suspended != null) {
+            retry.resumed = suspended.pending;
+            retry.resumedRequest = suspended.pendingRequest;
+            suspended.pending = null;
+        }
+        current.set(retry);
+        return retry;
+    }
+
+    static void end(DeferredRetry retry) {
+        if (current.get() == retry) {
+            current.remove();
+        }
+        if (retry.resumed != null) {
+            // the call didn't make the same request again
+            retry.resumed.discard();
+            retry.resumed = null;
+        }
+        if (!retry.resuming) {
+            retry.discard();
+        }
+    }
+
+    /**
+     * Marks the start of a request made by the calling thread.
+     *
+     * @return number of times the request has already been retried: the number of times the call has been retried for its first request, 0 otherwise
+     */
+    static int startRequest() {
+        DeferredRetry retry = current.get();
+        if (retry == null) {
+            return 0;
+        }
+        return ++retry.requests == 1 ? retry.retriedCount : 0;
+    }
+
+    /**
+     * @return true if the calling thread runs a resumed call whose first request has not been made yet
+     */
+    static boolean isResuming() {
+        DeferredRetry retry = current.get();
+        return retry != null && retry.resumed != null;
+    }
+
+    /**
+     * Picks the response to the first request of a resumed call up.
+     *
+     * @param req request about to be sent
+     * @return the exchange sent by the suspended previous run of the call, or null if the request is to be sent
+     */
+    static NIOHttpExchange takeResumedExchange(HttpRequest req) {
+        DeferredRetry retry = current.get();
+        if (retry == null || retry.resumed == null) {
+            return null;
+        }
+        NIOHttpExchange exchange = retry.resumed;
+        retry.resumed = null;
+        if (retry.requests == 1 && req.equals(retry.resumedRequest)) {
+            // the response is attributed to the credential which signed the suspended attempt
+            req.setSigner(retry.resumedRequest.takeSigner());
+            return exchange;
+        }
+        exchange.discard();
+        return null;
+    }
+
+    /**
+     * Suspends the call until the response headers arrive, if the calling thread has deferred retries and is making the first request of the call.
+     *
+     * @param req           request sent
+     * @param exchange      exchange carrying the request
+     * @param timeoutMillis maximum time to wait for the response headers, 0 for no limit
+     * @return the exception to be thrown to the caller, or null if the calling thread is to wait for the headers
+     */
+    static TwitterException suspend(HttpRequest req, NIOHttpExchange exchange, long timeoutMillis) {
+        DeferredRetry retry = current.get();
+        if (retry == null || retry.requests != 1 || retry.pending != null) {
+            return null;
+        }
+        retry.pending = exchange;
+        retry.pendingRequest = req;
+        retry.suspendedOn = exchange;
+        retry.suspensionTimeout = timeoutMillis;
+        retry.suspension = new TwitterException("suspended until the response headers arrive");
+        return retry.suspension;
+    }
+
+    /**
+     * @param failure exception thrown by the HttpClient
+     * @return true if the exception suspends the call of the calling thread instead of failing it
+     */
+    static boolean isSuspension(TwitterException failure) {
+        DeferredRetry retry = current.get();
+        return retry != null && retry.suspension == failure;
+    }
+
+    /**
+     * @param failure the failure of the call
+     * @return true if the call has been suspended, and should be run again from {@link #resumeWhenReady(Runnable)}
+     */
+    boolean isSuspended(TwitterException failure) {
+        return suspension != null && suspension == failure;
+    }
+
+    /**
+     * Runs the suspended call again once the response headers arrived. The resumption is called back on the selector loop thread, and is not to block.
+     *
+     * @param resumption runs the call again, with this deferred retry passed to {@link #begin(int, DeferredRetry)}
+     */
+    void resumeWhenReady(Runnable resumption) {
+        resuming = true;
+        pending.onHeaders(resumption);
+    }
+
+    /**
+     * @return maximum time to wait for the response headers before calling {@link #timeOut()}, 0 for no limit
+     */
+    long getSuspensionTimeout() {
+        return suspensionTimeout;
+    }
+
+    /**
+     * Fails the response the call has been suspended on with a timeout, unless the headers already arrived.
+     */
+    void timeOut() {
+        suspendedOn.timeOut();
+    }
+
+    /**
+     * Gives the response the call has been suspended on up, e.g. when the call got cancelled.
+     */
+    void discard() {
+        NIOHttpExchange exchange = pending;
+        pending = null;
+        if (exchange != null) {
+            exchange.discard();
+        }
+    }
+
+    /**
+     * Defers the next attempt to the caller, if the calling thread has deferred retries.
+     *
+     * @param failure          failure to be thrown to the caller
+     * @param nextRetriedCount retried count of the next attempt
+     * @param delayMillis      delay before the next attempt, or -1 if the failure is not to be retried
+     * @return true if the retry has been deferred, false if the request is to be retried in place
+     */
+    static boolean defer(TwitterException failure, int nextRetriedCount, long delayMillis) {
+        DeferredRetry retry = current.get();
+        if (retry == null || retry.requests > 1) {
+            return false;
+        }
+        retry.failure = failure;
+        retry.nextRetriedCount = nextRetriedCount;
+        retry.delayMillis = delayMillis;
+        return true;
+    }
+
+    /**
+     * @param failure the failure of the call
+     * @return true if the call should be attempted again after {@link #getDelayMillis()}
+     */
+    boolean isRetryRequested(TwitterException failure) {
+        return this.failure == failure && delayMillis >= 0;
+    }
+
+    long getDelayMillis() {
+        return delayMillis;
+    }
+
+    int getNextRetriedCount() {
+        return nextRetriedCount;
+    }
+}
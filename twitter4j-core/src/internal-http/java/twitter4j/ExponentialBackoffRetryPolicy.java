@@ -0,0 +1,165 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.Random;
+
+import static twitter4j.HttpResponseCode.*;
+
+/**
+ * Retries with exponential backoff and full jitter: the n-th retry waits a random delay between 0 and min(maxDelay, baseDelay * 2^n).<br>
+ * When the response tells when to come back, with Retry-After or X-Rate-Limit-Reset, that delay is used instead, or the request is not retried if it is longer than maxDelay.<br>
+ * Only idempotent requests (GET, HEAD, PUT and DELETE) are retried after a network failure or a server error, since a POST may have been processed even though it failed. A POST is retried only when it has certainly not been processed: the connection could not be established, or the request was rejected by rate limiting.<br>
+ * A retry budget caps the number of retries per time window across all requests, so that retries don't multiply the load on an API which is already failing.
+ * <pre>
+ * ConfigurationBuilder cb = new ConfigurationBuilder();
+ * cb.setHttpRetryPolicy(new ExponentialBackoffRetryPolicy(3, 1000, 60 * 1000, 20, 60 * 1000));
+ * </pre>
+ *
+ * @since Twitter4J 4.0.8
+ */
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+    private static final long serialVersionUID = -6390217386287307284L;
+    private final int maxRetries;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final int retryBudget;
+    private final long budgetWindowMillis;
+
+    private final Random random = new Random();
+    private long windowStart = 0;
+    private int retriesInWindow = 0;
+
+    /**
+     * Retries up to 3 times, from 1 second up to 1 minute, with 20 retries per minute at most.
+     */
+    public ExponentialBackoffRetryPolicy() {
+        this(3, 1000, 60 * 1000, 20, 60 * 1000);
+    }
+
+    /**
+     * @param maxRetries         maximum number of retries of a request
+     * @param baseDelayMillis    maximum delay before the first retry
+     * @param maxDelayMillis     maximum delay before any retry
+     * @param retryBudget        maximum number of retries per window, across all requests
+     * @param budgetWindowMillis length of the retry budget window
+     */
+    public ExponentialBackoffRetryPolicy(int maxRetries, long baseDelayMillis, long maxDelayMillis
+            , int retryBudget, long budgetWindowMillis) {
+        if (baseDelayMillis <= 0 || maxDelayMillis < baseDelayMillis) {
+            throw new IllegalArgumentException("0 < baseDelayMillis <= maxDelayMillis is required");
+        }
+        this.maxRetries = maxRetries;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.retryBudget = retryBudget;
+        this.budgetWindowMillis = budgetWindowMillis;
+    }
+
+    @Override
+    public long getRetryDelayMillis(HttpRequest req, int retriedCount, TwitterException te) {
+        if (retriedCount >= maxRetries) {
+            return -1;
+        }
+        int statusCode = te.getStatusCode();
+        boolean rateLimited = statusCode == TOO_MANY_REQUESTS || statusCode == ENHANCE_YOUR_CLAIM;
+        boolean serverError = statusCode >= INTERNAL_SERVER_ERROR;
+        if (!rateLimited && !serverError && !te.isCausedByNetworkIssue()) {
+            return -1;
+        }
+        if (!isIdempotent(req.getMethod()) && !rateLimited && !isNotSent(te)) {
+            return -1;
+        }
+        long delay = getDelayToldByServer(te);
+        if (delay > maxDelayMillis) {
+            // not worth blocking the caller that long
+            return -1;
+        }
+        if (delay < 0) {
+            if (rateLimited) {
+                // the quota won't come back in a matter of seconds
+                return -1;
+            }
+            // full jitter
+            long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(retriedCount, 30));
+            delay = (long) (random.nextDouble() * cap);
+        }
+        return acquireBudget() ? delay : -1;
+    }
+
+    private static boolean isIdempotent(RequestMethod method) {
+        return method == RequestMethod.GET || method == RequestMethod.HEAD
+                || method == RequestMethod.PUT || method == RequestMethod.DELETE;
+    }
+
+    /**
+     * @return true if the request failed before reaching the server
+     */
+    private static boolean isNotSent(TwitterException te) {
+        return te.getCause() instanceof ConnectException || te.getCause() instanceof UnknownHostException;
+    }
+
+    /**
+     * @return delay told by the Retry-After or X-Rate-Limit-Reset header, or -1 if the response doesn't tell
+     */
+    private static long getDelayToldByServer(TwitterException te) {
+        String retryAfter = te.getResponseHeader("Retry-After");
+        if (retryAfter == null) {
+            retryAfter = te.getResponseHeader("retry-after");
+        }
+        if (retryAfter != null) {
+            try {
+                return Math.max(0, Long.parseLong(retryAfter.trim()) * 1000);
+            } catch (NumberFormatException ignore) {
+                // HTTP-date is not used by Twitter
+            }
+        }
+        if (te.getStatusCode() == TOO_MANY_REQUESTS) {
+            RateLimitStatus status = te.getRateLimitStatus();
+            if (status != null) {
+                return Math.max(0, status.getResetTimeInSeconds() * 1000L - System.currentTimeMillis());
+            }
+        }
+        return -1;
+    }
+
+    private synchronized boolean acquireBudget() {
+        long now = System.currentTimeMillis();
+        if (now - windowStart >= budgetWindowMillis) {
+            windowStart = now;
+            retriesInWindow = 0;
+        }
+        if (retriesInWindow >= retryBudget) {
+            return false;
+        }
+        retriesInWindow++;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ExponentialBackoffRetryPolicy{" +
+                "maxRetries=" + maxRetries +
+                ", baseDelayMillis=" + baseDelayMillis +
+                ", maxDelayMillis=" + maxDelayMillis +
+                ", retryBudget=" + retryBudget +
+                ", budgetWindowMillis=" + budgetWindowMillis +
+                '}';
+    }
+}
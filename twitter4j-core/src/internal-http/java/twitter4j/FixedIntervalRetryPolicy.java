@@ -0,0 +1,75 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import static twitter4j.HttpResponseCode.*;
+
+/**
+ * Retries network failures and server errors a fixed number of times at a fixed interval, regardless of the request method.<br>
+ * This is the policy used when no RetryPolicy is configured, built from http.retryCount and http.retryIntervalSecs.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public class FixedIntervalRetryPolicy implements RetryPolicy {
+    private static final long serialVersionUID = 2847369825416738202L;
+    private final int retryCount;
+    private final int retryIntervalSeconds;
+
+    /**
+     * @param retryCount           maximum number of retries
+     * @param retryIntervalSeconds interval between retries
+     */
+    public FixedIntervalRetryPolicy(int retryCount, int retryIntervalSeconds) {
+        this.retryCount = retryCount;
+        this.retryIntervalSeconds = retryIntervalSeconds;
+    }
+
+    @Override
+    public long getRetryDelayMillis(HttpRequest req, int retriedCount, TwitterException te) {
+        if (retriedCount >= retryCount) {
+            return -1;
+        }
+        // connection timeout or read timeout
+        if (!te.isCausedByNetworkIssue() && te.getStatusCode() < INTERNAL_SERVER_ERROR) {
+            return -1;
+        }
+        return retryIntervalSeconds * 1000L;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        FixedIntervalRetryPolicy that = (FixedIntervalRetryPolicy) o;
+
+        return retryCount == that.retryCount && retryIntervalSeconds == that.retryIntervalSeconds;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * retryCount + retryIntervalSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return "FixedIntervalRetryPolicy{" +
+                "retryCount=" + retryCount +
+                ", retryIntervalSeconds=" + retryIntervalSeconds +
+                '}';
+    }
+}
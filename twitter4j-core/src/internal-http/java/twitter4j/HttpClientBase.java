@@ -2,8 +2,11 @@ package twitter4j;
 
 import twitter4j.auth.Authorization;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
@@ -11,12 +14,19 @@ import java.util.Map;
 public abstract class HttpClientBase implements HttpClient, Serializable {
     private static final Logger logger = Logger.getLogger(HttpClientBase.class);
     private static final long serialVersionUID = -8016974810651763053L;
+    private static final int MULTIPART_BUFFER_SIZE = 64 * 1024;
     protected final HttpClientConfiguration CONF;
 
     private final Map<String, String> requestHeaders;
+    private final RetryPolicy retryPolicy;
+    private final RequestCoalescer coalescer;
+    private final ResponseCache cache;
 
     public HttpClientBase(HttpClientConfiguration conf) {
         this.CONF = conf;
+        this.retryPolicy = conf.getHttpRetryPolicy();
+        this.coalescer = conf.isHttpRequestCoalescingEnabled() ? new RequestCoalescer() : null;
+        this.cache = conf.isHttpResponseCacheEnabled() ? new ResponseCache(conf) : null;
         requestHeaders = new HashMap<String, String>();
         requestHeaders.put("X-Twitter-Client-Version", Version.getVersion());
         requestHeaders.put("X-Twitter-Client-URL", "http://twitter4j.org/en/twitter4j-" + Version.getVersion() + ".xml");
@@ -36,6 +46,78 @@ public abstract class HttpClientBase implements HttpClient, Serializable {
         logger.debug(outStr);
     }
 
+    /**
+     * writes multipart/form-data encoded parameters
+     *
+     * @param out      destination
+     * @param boundary boundary, including the leading "--"
+     * @param params   parameters
+     * @throws IOException when failed to write or read the file to be uploaded
+     */
+    void writeMultipartBody(DataOutputStream out, String boundary, HttpParameter[] params) throws IOException {
+        // one buffer per body, shared by all file parts
+        byte[] buff = null;
+        for (HttpParameter param : params) {
+            if (param.isFile()) {
+                write(out, boundary + "\r\n");
+                write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"; filename=\"" + param.getFile().getName() + "\"\r\n");
+                write(out, "Content-Type: " + param.getContentType() + "\r\n\r\n");
+                InputStream in = param.hasFileBody() ? param.getFileBody() : new FileInputStream(param.getFile());
+                if (buff == null) {
+                    buff = new byte[MULTIPART_BUFFER_SIZE];
+                }
+                int length;
+                while ((length = in.read(buff)) != -1) {
+                    out.write(buff, 0, length);
+                }
+                write(out, "\r\n");
+                in.close();
+            } else {
+                write(out, boundary + "\r\n");
+                write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"\r\n");
+                write(out, "Content-Type: text/plain; charset=UTF-8\r\n\r\n");
+                logger.debug(param.getValue());
+                out.write(param.getValue().getBytes("UTF-8"));
+                write(out, "\r\n");
+            }
+        }
+        write(out, boundary + "--\r\n");
+        write(out, "\r\n");
+    }
+
+    /**
+     * Computes the number of bytes {@link #writeMultipartBody(DataOutputStream, String, HttpParameter[])} will write,
+     * so that the body can be streamed with a Content-Length instead of being buffered.
+     *
+     * @param boundary boundary
+     * @param params   parameters
+     * @return length of the body, or -1 if a part is a stream of unknown length
+     */
+    long getMultipartBodyLength(String boundary, HttpParameter[] params) throws IOException {
+        long length = 0;
+        for (HttpParameter param : params) {
+            length += boundary.length() + 2;
+            if (param.isFile()) {
+                length += ("Content-Disposition: form-data; name=\"" + param.getName() + "\"; filename=\"" + param.getFile().getName() + "\"\r\n").length();
+                length += ("Content-Type: " + param.getContentType() + "\r\n\r\n").length();
+                if (!param.hasFileBody()) {
+                    length += param.getFile().length();
+                } else if (param.getFileBody() instanceof ByteArrayInputStream) {
+                    // available() is exact for in-memory streams only
+                    length += param.getFileBody().available();
+                } else {
+                    return -1;
+                }
+            } else {
+                length += ("Content-Disposition: form-data; name=\"" + param.getName() + "\"\r\n").length();
+                length += "Content-Type: text/plain; charset=UTF-8\r\n\r\n".length();
+                length += param.getValue().getBytes("UTF-8").length;
+            }
+            length += 2;
+        }
+        return length + boundary.length() + 4 + 2;
+    }
+
     @Override
     public Map<String, String> getRequestHeaders() {
         return requestHeaders;
@@ -48,27 +130,121 @@ public abstract class HttpClientBase implements HttpClient, Serializable {
 
     @Override
     public final HttpResponse request(HttpRequest req) throws TwitterException {
-        return handleRequest(req);
+        return cacheRequest(req);
     }
 
     @Override
     public final HttpResponse request(HttpRequest req, HttpResponseListener listener) throws TwitterException {
         try {
-            HttpResponse res = handleRequest(req);
+            HttpResponse res = cacheRequest(req);
             if (listener != null) {
                 listener.httpResponseReceived(new HttpResponseEvent(req, res, null));
             }
             return res;
         } catch (TwitterException te) {
-            if (listener != null) {
+            // a suspended request has not been answered yet, the resumed one will be reported
+            if (listener != null && !DeferredRetry.isSuspension(te)) {
                 listener.httpResponseReceived(new HttpResponseEvent(req, null, te));
             }
             throw te;
         }
     }
 
+    private HttpResponse cacheRequest(HttpRequest req) throws TwitterException {
+        if (cache != null) {
+            long timeToLive = cache.getTimeToLive(req);
+            if (timeToLive >= 0) {
+                return cache.request(this, req, timeToLive);
+            }
+        }
+        return coalesceRequest(req);
+    }
+
+    final HttpResponse coalesceRequest(HttpRequest req) throws TwitterException {
+        if (coalescer != null && RequestCoalescer.isCoalescable(req)) {
+            return coalescer.request(this, req);
+        }
+        return send(req);
+    }
+
+    /**
+     * Sends the request, retrying it as told by the retry policy.
+     *
+     * @param req request
+     * @return response
+     * @throws TwitterException when the last attempt failed
+     */
+    final HttpResponse send(HttpRequest req) throws TwitterException {
+        HttpResponse res;
+        try {
+            res = handleRequest(req);
+        } catch (TwitterException te) {
+            if (!DeferredRetry.isSuspension(te)) {
+                attemptCompleted(req, null, te);
+            }
+            throw te;
+        }
+        attemptCompleted(req, res, null);
+        return res;
+    }
+
+    /**
+     * Reports an attempt to the pool of credentials which signed it, so that the responses of retried attempts are attributed too.
+     * An attempt is reported once, by retry() if it failed, or when handleRequest() returns.
+     */
+    private static void attemptCompleted(HttpRequest req, HttpResponse res, TwitterException te) {
+        if (req.getAuthorization() instanceof PooledAuthorization) {
+            ((PooledAuthorization) req.getAuthorization()).attemptCompleted(req, res, te);
+        }
+    }
+
     abstract HttpResponse handleRequest(HttpRequest req) throws TwitterException;
 
+    /**
+     * @param req request
+     * @return false if the response goes through the cache or is shared by the callers of a coalesced request, which expect it right away. Such requests are neither suspended nor deferred.
+     */
+    final boolean canSuspend(HttpRequest req) {
+        return (cache == null || cache.getTimeToLive(req) < 0)
+                && (coalescer == null || !RequestCoalescer.isCoalescable(req));
+    }
+
+    /**
+     * @return number of times the request has already been retried before the first attempt of handleRequest()
+     */
+    final int getInitialRetriedCount() {
+        return DeferredRetry.startRequest();
+    }
+
+    /**
+     * Asks the retry policy whether a failed attempt is retried, and waits until the next attempt.<br>
+     * The wait is left to the caller when it has deferred retries to schedule them on a timer, unless the request is not the first one of the call,
+     * or its response is shared with other callers through the cache or the coalescer, which wait for it and would get the failure instead of a retried response.
+     *
+     * @param req          failed request
+     * @param retriedCount number of times the request has already been retried
+     * @param te           the failure
+     * @return true if the request is to be attempted again now, false if the failure is to be thrown
+     */
+    final boolean retry(HttpRequest req, int retriedCount, TwitterException te) {
+        attemptCompleted(req, null, te);
+        long delay = retryPolicy.getRetryDelayMillis(req, retriedCount, te);
+        if (canSuspend(req) && DeferredRetry.defer(te, retriedCount + 1, delay)) {
+            return false;
+        }
+        if (delay < 0) {
+            return false;
+        }
+        logger.debug("Sleeping " + delay + " milliseconds until the next retry.");
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
     @Override
     public HttpResponse get(String url, HttpParameter[] parameters
             , Authorization authorization, HttpResponseListener listener) throws TwitterException {
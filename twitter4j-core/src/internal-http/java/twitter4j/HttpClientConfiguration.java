@@ -42,4 +42,31 @@ public interface HttpClientConfiguration {
     boolean isPrettyDebugEnabled();
 
     boolean isGZIPEnabled();
+
+    int getHttpNIOSelectorThreads();
+
+    int getHttpNIOPipeliningDepth();
+
+    /**
+     * @return maximum number of connections kept per host by the NIO based client. The OkHttp based client applies it to the calls it enqueues,
+     * and keeps up to this many idle connections for each of the api, upload and stream hosts in a pool shared by all hosts. The HttpURLConnection
+     * based client leaves its connections to the JDK, whose pool is sized with the http.maxConnections system property.
+     */
+    int getHttpMaxConnectionsPerHost();
+
+    int getHttpKeepAliveMillis();
+
+    int getHttpConnectionEvictionIntervalMillis();
+
+    boolean isHttpRequestCoalescingEnabled();
+
+    boolean isHttpResponseCacheEnabled();
+
+    int getHttpResponseCacheMaxBytes();
+
+    String getHttpResponseCacheTTLs();
+
+    String getHttpResponseCacheDirectory();
+
+    RetryPolicy getHttpRetryPolicy();
 }
@@ -25,6 +25,11 @@ import java.util.List;
 import java.util.Map;
 
 /**
+ * HttpClient based on HttpURLConnection.<br>
+ * Keep-alive connections are pooled by the JDK, which keeps up to 5 idle connections per destination. The pool is shared by the whole JVM and
+ * is sized with the http.maxConnections system property, e.g. -Dhttp.maxConnections=16, which has to be set before the first connection is
+ * opened. http.maxConnectionsPerHost only applies to the NIO and the OkHttp based clients.
+ *
  * @author Yusuke Yamamoto - yusuke at mac.com
  * @since Twitter4J 2.1.2
  */
@@ -48,7 +53,7 @@ class HttpClientImpl extends HttpClientBase implements HttpResponseCode, java.io
     private static final long serialVersionUID = -403500272719330534L;
 
     public HttpClientImpl() {
-        super(ConfigurationContext.getInstance().getHttpClientConfiguration());
+        this(ConfigurationContext.getInstance().getHttpClientConfiguration());
     }
 
     public HttpClientImpl(HttpClientConfiguration conf) {
@@ -77,11 +82,10 @@ class HttpClientImpl extends HttpClientBase implements HttpResponseCode, java.io
 
     @Override
     public HttpResponse handleRequest(HttpRequest req) throws TwitterException {
-        int retriedCount;
-        int retry = CONF.getHttpRetryCount() + 1;
-        HttpResponse res = null;
-        for (retriedCount = 0; retriedCount < retry; retriedCount++) {
+        for (int retriedCount = getInitialRetriedCount(); ; retriedCount++) {
+            HttpResponse res;
             int responseCode = -1;
+            TwitterException te;
             try {
                 HttpURLConnection con;
                 OutputStream os = null;
@@ -95,46 +99,38 @@ class HttpClientImpl extends HttpClientBase implements HttpResponseCode, java.io
                             String boundary = "----Twitter4J-upload" + System.currentTimeMillis();
                             con.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + boundary);
                             boundary = "--" + boundary;
+                            long length = getMultipartBodyLength(boundary, req.getParameters());
+                            if (0 <= length && length <= Integer.MAX_VALUE) {
+                                // stream the body instead of letting HttpURLConnection buffer it to compute Content-Length
+                                con.setFixedLengthStreamingMode((int) length);
+                            }
                             con.setDoOutput(true);
                             os = con.getOutputStream();
                             DataOutputStream out = new DataOutputStream(os);
-                            for (HttpParameter param : req.getParameters()) {
-                                if (param.isFile()) {
-                                    write(out, boundary + "\r\n");
-                                    write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"; filename=\"" + param.getFile().getName() + "\"\r\n");
-                                    write(out, "Content-Type: " + param.getContentType() + "\r\n\r\n");
-                                    BufferedInputStream in = new BufferedInputStream(
-                                            param.hasFileBody() ? param.getFileBody() : new FileInputStream(param.getFile())
-                                    );
-                                    byte[] buff = new byte[1024];
-                                    int length;
-                                    while ((length = in.read(buff)) != -1) {
-                                        out.write(buff, 0, length);
-                                    }
-                                    write(out, "\r\n");
-                                    in.close();
-                                } else {
-                                    write(out, boundary + "\r\n");
-                                    write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"\r\n");
-                                    write(out, "Content-Type: text/plain; charset=UTF-8\r\n\r\n");
-                                    logger.debug(param.getValue());
-                                    out.write(param.getValue().getBytes("UTF-8"));
-                                    write(out, "\r\n");
+                            writeMultipartBody(out, boundary, req.getParameters());
+                        } else if (HttpParameter.containsJson(req.getParameters())) {
+                            con.setRequestProperty("Content-Type",
+                                    "application/json");
+                            // the body is written straight into a reusable buffer, without a JSONObject tree or String copies
+                            JSONBodyWriter writer = JSONBodyWriter.acquire();
+                            try {
+                                req.getParameters()[0].writeJSON(writer);
+                                if (logger.isDebugEnabled()) {
+                                    logger.debug("Post Params: ", writer.toString());
                                 }
+                                con.setFixedLengthStreamingMode(writer.length());
+                                con.setDoOutput(true);
+                                os = con.getOutputStream();
+                                os.write(writer.getBytes(), 0, writer.length());
+                            } catch (JSONException jsone) {
+                                throw new TwitterException(jsone.getMessage(), jsone);
+                            } finally {
+                                writer.release();
                             }
-                            write(out, boundary + "--\r\n");
-                            write(out, "\r\n");
                         } else {
-                            String postParam;
-                            if (HttpParameter.containsJson(req.getParameters())) {
-                                con.setRequestProperty("Content-Type",
-                                        "application/json");
-                                postParam = req.getParameters()[0].getJsonObject().toString();
-                            } else {
-                                con.setRequestProperty("Content-Type",
-                                        "application/x-www-form-urlencoded");
-                                postParam = HttpParameter.encodeParameters(req.getParameters());
-                            }
+                            con.setRequestProperty("Content-Type",
+                                    "application/x-www-form-urlencoded");
+                            String postParam = HttpParameter.encodeParameters(req.getParameters());
                             logger.debug("Post Params: ", postParam);
                             byte[] bytes = postParam.getBytes("UTF-8");
                             con.setRequestProperty("Content-Length",
@@ -162,17 +158,10 @@ class HttpClientImpl extends HttpClientBase implements HttpResponseCode, java.io
                             }
                         }
                     }
-                    if (responseCode < OK || (responseCode != FOUND && MULTIPLE_CHOICES <= responseCode)) {
-                        if (responseCode == ENHANCE_YOUR_CLAIM ||
-                                responseCode == BAD_REQUEST ||
-                                responseCode < INTERNAL_SERVER_ERROR ||
-                                retriedCount == CONF.getHttpRetryCount()) {
-                            throw new TwitterException(res.asString(), res);
-                        }
-                        // will retry if the status code is INTERNAL_SERVER_ERROR
-                    } else {
-                        break;
+                    if (OK <= responseCode && (responseCode == FOUND || responseCode < MULTIPLE_CHOICES)) {
+                        return res;
                     }
+                    te = new TwitterException(res.asString(), res);
                 } finally {
                     try {
                         os.close();
@@ -181,21 +170,12 @@ class HttpClientImpl extends HttpClientBase implements HttpResponseCode, java.io
                 }
             } catch (IOException ioe) {
                 // connection timeout or read timeout
-                if (retriedCount == CONF.getHttpRetryCount()) {
-                    throw new TwitterException(ioe.getMessage(), ioe, responseCode);
-                }
+                te = new TwitterException(ioe.getMessage(), ioe, responseCode);
             }
-            try {
-                if (logger.isDebugEnabled() && res != null) {
-                    res.asString();
-                }
-                logger.debug("Sleeping " + CONF.getHttpRetryIntervalSeconds() + " seconds until the next retry.");
-                Thread.sleep(CONF.getHttpRetryIntervalSeconds() * 1000);
-            } catch (InterruptedException ignore) {
-                //nothing to do
+            if (!retry(req, retriedCount, te)) {
+                throw te;
             }
         }
-        return res;
     }
 
     /**
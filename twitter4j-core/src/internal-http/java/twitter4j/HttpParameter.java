@@ -34,6 +34,7 @@ public final class HttpParameter implements Comparable<HttpParameter>, java.io.S
     private String name = null;
     private String value = null;
     private JSONObject jsonObject = null;
+    private JSONBodyWriter.Body jsonBody = null;
     private File file = null;
     private InputStream fileBody = null;
 
@@ -46,6 +47,14 @@ public final class HttpParameter implements Comparable<HttpParameter>, java.io.S
         this.jsonObject = jsonObject;
     }
 
+    /**
+     * @param jsonBody JSON request body, written straight into the request without building a JSONObject
+     * @since Twitter4J 4.0.8
+     */
+    HttpParameter(JSONBodyWriter.Body jsonBody) {
+        this.jsonBody = jsonBody;
+    }
+
     public HttpParameter(String name, File file) {
         this.name = name;
         this.file = file;
@@ -102,7 +111,22 @@ public final class HttpParameter implements Comparable<HttpParameter>, java.io.S
     }
 
     public boolean isJson() {
-        return jsonObject != null;
+        return jsonObject != null || jsonBody != null;
+    }
+
+    /**
+     * Writes the JSON request body of this parameter.
+     *
+     * @param writer writer to write the body to
+     * @throws JSONException when the body cannot be written
+     * @since Twitter4J 4.0.8
+     */
+    void writeJSON(JSONBodyWriter writer) throws JSONException {
+        if (jsonBody != null) {
+            jsonBody.writeTo(writer);
+        } else {
+            writer.value(jsonObject);
+        }
     }
 
     public boolean hasFileBody() {
@@ -162,6 +186,7 @@ public final class HttpParameter implements Comparable<HttpParameter>, java.io.S
         if (name != null ? !name.equals(that.name) : that.name != null) return false;
         if (value != null ? !value.equals(that.value) : that.value != null) return false;
         if (jsonObject != null ? !jsonObject.equals(that.jsonObject) : that.jsonObject != null) return false;
+        if (jsonBody != null ? !jsonBody.equals(that.jsonBody) : that.jsonBody != null) return false;
         if (file != null ? !file.equals(that.file) : that.file != null) return false;
         return fileBody != null ? fileBody.equals(that.fileBody) : that.fileBody == null;
 
@@ -221,6 +246,7 @@ public final class HttpParameter implements Comparable<HttpParameter>, java.io.S
         int result = name != null ? name.hashCode() : 0;
         result = 31 * result + (value != null ? value.hashCode() : 0);
         result = 31 * result + (jsonObject != null ? jsonObject.hashCode() : 0);
+        result = 31 * result + (jsonBody != null ? jsonBody.hashCode() : 0);
         result = 31 * result + (file != null ? file.hashCode() : 0);
         result = 31 * result + (fileBody != null ? fileBody.hashCode() : 0);
         return result;
@@ -232,6 +258,7 @@ public final class HttpParameter implements Comparable<HttpParameter>, java.io.S
                 "name='" + name + '\'' +
                 ", value='" + value + '\'' +
                 ", jsonObject=" + jsonObject +
+                ", jsonBody=" + jsonBody +
                 ", file=" + file +
                 ", fileBody=" + fileBody +
                 '}';
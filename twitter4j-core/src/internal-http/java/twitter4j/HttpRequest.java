@@ -39,6 +39,8 @@ public final class HttpRequest implements java.io.Serializable {
 
     private final Map<String, String> requestHeaders;
 
+    // credential of a PooledAuthorization which signed the attempt in flight, until the attempt is reported to the pool
+    private transient volatile Authorization signer;
 
     private static final HttpParameter[] NULL_PARAMETERS = new HttpParameter[0];
 
@@ -83,6 +85,19 @@ public final class HttpRequest implements java.io.Serializable {
         return requestHeaders;
     }
 
+    void setSigner(Authorization signer) {
+        this.signer = signer;
+    }
+
+    /**
+     * @return the credential which signed the attempt in flight, or null if the attempt has already been reported. Clears it.
+     */
+    Authorization takeSigner() {
+        Authorization signer = this.signer;
+        this.signer = null;
+        return signer;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
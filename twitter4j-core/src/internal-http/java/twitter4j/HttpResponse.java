@@ -77,6 +77,14 @@ public abstract class HttpResponse {
      * @throws TwitterException when there is any network issue upon response body consumption
      */
     public String asString() throws TwitterException {
+        if (null == responseAsString && streamConsumed) {
+            // the body has already been parsed in place by asJSONObject() or asJSONArray()
+            if (json != null) {
+                responseAsString = json.toString();
+            } else if (jsonArray != null) {
+                responseAsString = jsonArray.toString();
+            }
+        }
         if (null == responseAsString) {
             BufferedReader br = null;
             InputStream stream = null;
@@ -127,21 +135,36 @@ public abstract class HttpResponse {
      */
     public JSONObject asJSONObject() throws TwitterException {
         if (json == null) {
+            ResponseBodyBuffer buffer = null;
+            CharSequence body = null;
             try {
-                json = new JSONObject(asString());
+                if (canParseBodyInPlace()) {
+                    buffer = ResponseBodyBuffer.acquire();
+                    body = readBody(buffer);
+                    json = new JSONObject(new JSONTokener(body));
+                } else {
+                    json = new JSONObject(asString());
+                }
                 if (CONF.isPrettyDebugEnabled()) {
                     logger.debug(json.toString(1));
-                } else {
+                } else if (logger.isDebugEnabled()) {
                     logger.debug(responseAsString != null ? responseAsString :
                         json.toString());
                 }
             } catch (JSONException jsone) {
+                if (body != null) {
+                    // copy the body out of the pooled buffer so that it can be reported
+                    responseAsString = body.toString();
+                }
                 if (responseAsString == null) {
                     throw new TwitterException(jsone.getMessage(), jsone);
                 } else {
                     throw new TwitterException(jsone.getMessage() + ":" + this.responseAsString, jsone);
                 }
             } finally {
+                if (buffer != null) {
+                    buffer.release();
+                }
                 disconnectForcibly();
             }
         }
@@ -159,27 +182,145 @@ public abstract class HttpResponse {
      */
     public JSONArray asJSONArray() throws TwitterException {
         if (jsonArray == null) {
+            ResponseBodyBuffer buffer = null;
+            CharSequence body = null;
             try {
-                jsonArray = new JSONArray(asString());
+                if (canParseBodyInPlace()) {
+                    buffer = ResponseBodyBuffer.acquire();
+                    body = readBody(buffer);
+                    jsonArray = new JSONArray(new JSONTokener(body));
+                } else {
+                    jsonArray = new JSONArray(asString());
+                }
                 if (CONF.isPrettyDebugEnabled()) {
                     logger.debug(jsonArray.toString(1));
-                } else {
+                } else if (logger.isDebugEnabled()) {
                     logger.debug(responseAsString != null ? responseAsString :
                         jsonArray.toString());
                 }
             } catch (JSONException jsone) {
+                if (body != null) {
+                    // copy the body out of the pooled buffer so that it can be reported
+                    responseAsString = body.toString();
+                }
                 if (logger.isDebugEnabled()) {
                     throw new TwitterException(jsone.getMessage() + ":" + this.responseAsString, jsone);
                 } else {
                     throw new TwitterException(jsone.getMessage(), jsone);
                 }
             } finally {
+                if (buffer != null) {
+                    buffer.release();
+                }
                 disconnectForcibly();
             }
         }
         return jsonArray;
     }
 
+    /**
+     * Binds the response body with a {@link JSONPullParser} reading its UTF-8 bytes, without building an intermediate JSONObject tree.<br>
+     * Disconnects the internal HttpURLConnection silently.
+     *
+     * @param binder binder creating the result from the parser
+     * @param <T>    type of the result
+     * @return the bound result
+     * @throws TwitterException when the response body is not in the expected JSON format
+     */
+    <T> T bindJSON(JSONPullParser.Binder<T> binder) throws TwitterException {
+        ResponseBodyBuffer buffer = null;
+        byte[] body = null;
+        int length = 0;
+        try {
+            if (canParseBodyInPlace()) {
+                buffer = ResponseBodyBuffer.acquire();
+                length = readBodyBytes(buffer);
+                body = buffer.getBytes();
+            } else {
+                String str = asString();
+                if (str == null) {
+                    throw new TwitterException("response body is not available");
+                }
+                body = str.getBytes("UTF-8");
+                length = body.length;
+            }
+            return binder.bind(new JSONPullParser(body, 0, length));
+        } catch (UnsupportedEncodingException uee) {
+            throw new TwitterException(uee.getMessage(), uee);
+        } catch (JSONException jsone) {
+            if (responseAsString == null && body != null) {
+                // copy the body out of the pooled buffer so that it can be reported
+                try {
+                    responseAsString = new String(body, 0, length, "UTF-8");
+                } catch (UnsupportedEncodingException ignore) {
+                }
+            }
+            throw new TwitterException(jsone.getMessage() + ":" + this.responseAsString, jsone);
+        } finally {
+            if (buffer != null) {
+                buffer.release();
+            }
+            disconnectForcibly();
+        }
+    }
+
+    /**
+     * The body can be parsed straight from a pooled buffer unless it has already been read as a String.
+     */
+    private boolean canParseBodyInPlace() {
+        return responseAsString == null && is != null && !streamConsumed;
+    }
+
+    private CharSequence readBody(ResponseBodyBuffer buffer) throws TwitterException {
+        InputStream stream = asStream();
+        try {
+            CharSequence body = buffer.read(stream, getContentLengthHint());
+            if (logger.isDebugEnabled()) {
+                responseAsString = body.toString();
+            }
+            return body;
+        } catch (IOException ioe) {
+            throw new TwitterException(ioe.getMessage(), ioe);
+        } finally {
+            streamConsumed = true;
+            try {
+                stream.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private int readBodyBytes(ResponseBodyBuffer buffer) throws TwitterException {
+        InputStream stream = asStream();
+        try {
+            int length = buffer.readBytes(stream, getContentLengthHint());
+            if (logger.isDebugEnabled()) {
+                responseAsString = new String(buffer.getBytes(), 0, length, "UTF-8");
+                logger.debug(responseAsString);
+            }
+            return length;
+        } catch (IOException ioe) {
+            throw new TwitterException(ioe.getMessage(), ioe);
+        } finally {
+            streamConsumed = true;
+            try {
+                stream.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private int getContentLengthHint() {
+        String contentLength = getResponseHeader("Content-Length");
+        if (contentLength != null) {
+            try {
+                return Integer.parseInt(contentLength.trim());
+            } catch (NumberFormatException ignore) {
+            }
+        }
+        return -1;
+    }
+
     public Reader asReader() {
         try {
             return new BufferedReader(new InputStreamReader(is, "UTF-8"));
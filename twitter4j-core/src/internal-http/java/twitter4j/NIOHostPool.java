@@ -0,0 +1,257 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.management.ConnectionPoolStatistics;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keep-alive connections to a single scheme/host/port.<br>
+ * An exchange is assigned to an idle connection first, then pipelined onto a busy one (GET/HEAD only, up to the
+ * configured depth), then to a new connection while below the per-host limit. Otherwise it waits in a FIFO queue.<br>
+ * The host name is resolved by the thread submitting the exchange, outside the pool lock, so that a slow lookup doesn't stall the selector loops. Connections opened for queued or resubmitted exchanges use the address resolved last.<br>
+ * Pool sizes and connection reuse are reported to {@link ConnectionPoolMonitor}.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class NIOHostPool implements ConnectionPoolStatistics.Gauge {
+    private static final Logger logger = Logger.getLogger(NIOHostPool.class);
+    private static final AtomicInteger LOOP_INDEX = new AtomicInteger();
+
+    private final String host;
+    private final int port;
+    private final boolean secure;
+    private final NIOSelectorLoop[] loops;
+    private final int maxConnections;
+    private final int pipeliningDepth;
+    private final int connectTimeout;
+    private final int readTimeout;
+    private final long keepAliveMillis;
+    private final long evictionIntervalMillis;
+    private final ConnectionPoolStatistics statistics = ConnectionPoolMonitor.getInstance().getStatistics();
+
+    private final List<NIOHttpConnection> connections = new ArrayList<NIOHttpConnection>();
+    private final LinkedList<NIOHttpExchange> pending = new LinkedList<NIOHttpExchange>();
+    // address resolved by the last submitting thread
+    private volatile InetSocketAddress address;
+
+    NIOHostPool(String host, int port, boolean secure, NIOSelectorLoop[] loops, int maxConnections
+            , int pipeliningDepth, int connectTimeout, int readTimeout, long keepAliveMillis, long evictionIntervalMillis) {
+        this.host = host;
+        this.port = port;
+        this.secure = secure;
+        this.loops = loops;
+        this.maxConnections = Math.max(1, maxConnections);
+        this.pipeliningDepth = Math.max(1, pipeliningDepth);
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.keepAliveMillis = keepAliveMillis;
+        this.evictionIntervalMillis = evictionIntervalMillis;
+        statistics.addGauge(this);
+    }
+
+    /**
+     * Assigns the exchange to a connection, or queues it until one becomes available.
+     *
+     * @param exchange exchange to be sent
+     * @throws IOException when the host cannot be resolved, or a new connection cannot be created
+     */
+    void submit(NIOHttpExchange exchange) throws IOException {
+        // the lookup is cached by InetAddress for the DNS TTL
+        InetSocketAddress resolved = new InetSocketAddress(host, port);
+        if (resolved.isUnresolved()) {
+            throw new UnknownHostException(host);
+        }
+        address = resolved;
+        submit(exchange, resolved);
+    }
+
+    private void submit(NIOHttpExchange exchange, InetSocketAddress address) throws IOException {
+        NIOHttpConnection connection;
+        synchronized (this) {
+            connection = select(exchange);
+            if (connection == null) {
+                if (connections.size() < maxConnections) {
+                    connection = newConnection(address);
+                } else {
+                    pending.add(exchange);
+                    return;
+                }
+            }
+            assign(connection, exchange);
+        }
+    }
+
+    /**
+     * Hands an exchange back after its connection dropped before the response started. Called on the selector loop thread, so the host is not resolved again.
+     *
+     * @param exchange exchange to be sent again
+     */
+    void resubmit(NIOHttpExchange exchange) {
+        exchange.markResubmitted();
+        try {
+            submit(exchange, address);
+        } catch (IOException ioe) {
+            exchange.fail(ioe);
+        }
+    }
+
+    /**
+     * Removes a queued exchange the caller is no longer waiting for.
+     *
+     * @param exchange exchange
+     * @return true if the exchange was still queued
+     */
+    synchronized boolean cancel(NIOHttpExchange exchange) {
+        return pending.remove(exchange);
+    }
+
+    synchronized void exchangeFinished(NIOHttpConnection connection) {
+        connection.outstanding--;
+        if (connection.outstanding == 0) {
+            connection.exclusive = false;
+        }
+        dispatchPending();
+    }
+
+    synchronized void connectionClosed(NIOHttpConnection connection) {
+        connection.retired = true;
+        connections.remove(connection);
+        dispatchPending();
+    }
+
+    /**
+     * @param connection connection idle for longer than the keep-alive time
+     * @return true if the connection has been taken out of the pool and may be closed
+     */
+    synchronized boolean retireIfIdle(NIOHttpConnection connection) {
+        if (connection.outstanding != 0) {
+            return false;
+        }
+        connection.retired = true;
+        connections.remove(connection);
+        statistics.connectionEvicted();
+        return true;
+    }
+
+    private NIOHttpConnection select(NIOHttpExchange exchange) {
+        for (NIOHttpConnection connection : connections) {
+            if (!connection.retired && connection.outstanding == 0) {
+                statistics.connectionReused();
+                return connection;
+            }
+        }
+        if (exchange.isPipelinable() && pipeliningDepth > 1) {
+            for (NIOHttpConnection connection : connections) {
+                if (!connection.retired && !connection.exclusive && connection.outstanding < pipeliningDepth) {
+                    statistics.connectionReused();
+                    return connection;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized int getLeasedConnections() {
+        int count = 0;
+        for (NIOHttpConnection connection : connections) {
+            if (connection.outstanding > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized int getIdleConnections() {
+        return connections.size() - getLeasedConnections();
+    }
+
+    @Override
+    public synchronized int getPendingRequests() {
+        return pending.size();
+    }
+
+    private void assign(final NIOHttpConnection connection, final NIOHttpExchange exchange) {
+        connection.outstanding++;
+        if (!exchange.isPipelinable()) {
+            connection.exclusive = true;
+        }
+        connection.getLoop().execute(new Runnable() {
+            @Override
+            public void run() {
+                connection.send(exchange);
+            }
+        });
+    }
+
+    private void dispatchPending() {
+        while (!pending.isEmpty()) {
+            NIOHttpConnection connection = select(pending.peek());
+            if (connection == null) {
+                if (connections.size() >= maxConnections) {
+                    return;
+                }
+                try {
+                    connection = newConnection(address);
+                } catch (IOException ioe) {
+                    pending.poll().fail(ioe);
+                    continue;
+                }
+            }
+            assign(connection, pending.poll());
+        }
+    }
+
+    private NIOHttpConnection newConnection(InetSocketAddress address) throws IOException {
+        SSLEngine engine = null;
+        if (secure) {
+            try {
+                engine = SSLContext.getDefault().createSSLEngine(host, port);
+            } catch (NoSuchAlgorithmException nsae) {
+                throw new IOException(nsae.getMessage(), nsae);
+            }
+            engine.setUseClientMode(true);
+        }
+        NIOSelectorLoop loop = loops[(LOOP_INDEX.getAndIncrement() & Integer.MAX_VALUE) % loops.length];
+        final NIOHttpConnection connection = new NIOHttpConnection(this, loop, host, address, engine
+                , connectTimeout, readTimeout, keepAliveMillis, evictionIntervalMillis);
+        connections.add(connection);
+        statistics.connectionCreated();
+        if (logger.isDebugEnabled()) {
+            logger.debug("New connection to " + host + ":" + port + " (" + connections.size() + "/" + maxConnections + ")");
+        }
+        loop.execute(new Runnable() {
+            @Override
+            public void run() {
+                connection.open();
+            }
+        });
+        return connection;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.conf.ConfigurationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Non-blocking HttpClient implementation built on java.nio selectors.<br>
+ * Requests are multiplexed over a small number of shared selector threads and sent over persistent connections
+ * kept per scheme/host/port (api, upload, stream etc.), optionally pipelining GET requests on a single connection.
+ * The calling thread only waits for the response headers; the body is streamed by the selector thread. Asynchronous callers don't even wait for
+ * the headers: the first request of a FutureTwitter or AsyncTwitter call releases the calling thread, and the call is resumed when the headers arrive.<br>
+ * Enable with -Dtwitter4j.http.httpClient=twitter4j.NIOHttpClientImpl
+ *
+ * @since Twitter4J 4.0.8
+ */
+class NIOHttpClientImpl extends HttpClientBase implements HttpResponseCode, java.io.Serializable {
+    private static final Logger logger = Logger.getLogger(NIOHttpClientImpl.class);
+    private static final long serialVersionUID = -1876282213925380373L;
+
+    private transient ConcurrentHashMap<String, NIOHostPool> pools;
+    private transient HttpClientImpl blockingClient;
+
+    public NIOHttpClientImpl() {
+        super(ConfigurationContext.getInstance().getHttpClientConfiguration());
+    }
+
+    public NIOHttpClientImpl(HttpClientConfiguration conf) {
+        super(conf);
+    }
+
+    @Override
+    HttpResponse handleRequest(HttpRequest req) throws TwitterException {
+        if (isProxyConfigured()) {
+            // tunneling through proxies isn't supported by the selector based transport
+            return getBlockingClient().handleRequest(req);
+        }
+        for (int retriedCount = getInitialRetriedCount(); ; retriedCount++) {
+            int responseCode = -1;
+            TwitterException te;
+            try {
+                URL url = new URL(req.getURL());
+                NIOHostPool pool = getPool(url);
+                // sent by the suspended previous run of the call, resumed as the headers arrived
+                NIOHttpExchange exchange = DeferredRetry.takeResumedExchange(req);
+                if (exchange == null) {
+                    exchange = new NIOHttpExchange(req.getMethod(), serialize(req, url));
+                    pool.submit(exchange);
+                    if (canSuspend(req)) {
+                        TwitterException suspension = DeferredRetry.suspend(req, exchange, getResponseTimeout());
+                        if (suspension != null) {
+                            // the asynchronous caller releases its thread until the headers arrive
+                            throw suspension;
+                        }
+                    }
+                }
+                try {
+                    exchange.awaitHeaders(getResponseTimeout());
+                } catch (IOException ioe) {
+                    if (!pool.cancel(exchange)) {
+                        exchange.abandon();
+                    }
+                    throw ioe;
+                }
+                NIOHttpResponse res = new NIOHttpResponse(exchange, CONF);
+                responseCode = res.getStatusCode();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Response: ");
+                    Map<String, List<String>> responseHeaders = res.getResponseHeaderFields();
+                    for (String key : responseHeaders.keySet()) {
+                        List<String> values = responseHeaders.get(key);
+                        for (String value : values) {
+                            if (key != null) {
+                                logger.debug(key + ": " + value);
+                            } else {
+                                logger.debug(value);
+                            }
+                        }
+                    }
+                }
+                if (OK <= responseCode && (responseCode == FOUND || responseCode < MULTIPLE_CHOICES)) {
+                    return res;
+                }
+                // reading the body releases the connection
+                te = new TwitterException(res.asString(), res);
+            } catch (IOException ioe) {
+                // connection timeout or read timeout
+                te = new TwitterException(ioe.getMessage(), ioe, responseCode);
+            }
+            if (!retry(req, retriedCount, te)) {
+                throw te;
+            }
+        }
+    }
+
+    /**
+     * @return maximum time to wait for the response headers. connect and read timeouts are enforced by the selector loop, this is the last resort.
+     */
+    private long getResponseTimeout() {
+        if (CONF.getHttpConnectionTimeout() > 0 && CONF.getHttpReadTimeout() > 0) {
+            return 2L * (CONF.getHttpConnectionTimeout() + CONF.getHttpReadTimeout());
+        }
+        return 0;
+    }
+
+    private synchronized HttpClientImpl getBlockingClient() {
+        if (blockingClient == null) {
+            blockingClient = new HttpClientImpl(CONF);
+        }
+        return blockingClient;
+    }
+
+    private NIOHostPool getPool(URL url) {
+        synchronized (this) {
+            if (pools == null) {
+                pools = new ConcurrentHashMap<String, NIOHostPool>();
+            }
+        }
+        boolean secure = "https".equalsIgnoreCase(url.getProtocol());
+        int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+        String key = url.getProtocol() + "://" + url.getHost() + ":" + port;
+        NIOHostPool pool = pools.get(key);
+        if (pool == null) {
+            pool = new NIOHostPool(url.getHost(), port, secure
+                    , NIOSelectorLoop.getSharedLoops(CONF.getHttpNIOSelectorThreads())
+                    , CONF.getHttpMaxConnectionsPerHost(), CONF.getHttpNIOPipeliningDepth()
+                    , CONF.getHttpConnectionTimeout(), CONF.getHttpReadTimeout()
+                    , CONF.getHttpKeepAliveMillis(), CONF.getHttpConnectionEvictionIntervalMillis());
+            NIOHostPool existing = pools.putIfAbsent(key, pool);
+            if (existing != null) {
+                pool = existing;
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * @return request line, headers and body in wire format
+     */
+    private byte[] serialize(HttpRequest req, URL url) throws IOException {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request: ");
+            logger.debug(req.getMethod().name() + " ", req.getURL());
+        }
+        byte[] body = null;
+        String contentType = null;
+        if (req.getMethod() == RequestMethod.POST) {
+            if (HttpParameter.containsFile(req.getParameters())) {
+                String boundary = "----Twitter4J-upload" + System.currentTimeMillis();
+                contentType = "multipart/form-data; boundary=" + boundary;
+                ByteArrayOutputStream bodyOut = new ByteArrayOutputStream();
+                writeMultipartBody(new DataOutputStream(bodyOut), "--" + boundary, req.getParameters());
+                body = bodyOut.toByteArray();
+            } else if (HttpParameter.containsJson(req.getParameters())) {
+                contentType = "application/json";
+                JSONBodyWriter writer = JSONBodyWriter.acquire();
+                try {
+                    req.getParameters()[0].writeJSON(writer);
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Post Params: ", writer.toString());
+                    }
+                    body = writer.toByteArray();
+                } catch (JSONException jsone) {
+                    throw new IOException(jsone.getMessage());
+                } finally {
+                    writer.release();
+                }
+            } else {
+                contentType = "application/x-www-form-urlencoded";
+                String postParam = HttpParameter.encodeParameters(req.getParameters());
+                logger.debug("Post Params: ", postParam);
+                body = postParam.getBytes("UTF-8");
+            }
+        }
+
+        StringBuilder head = new StringBuilder(512);
+        String file = url.getFile();
+        head.append(req.getMethod().name()).append(' ').append(file.length() == 0 ? "/" : file).append(" HTTP/1.1\r\n");
+        head.append("Host: ").append(url.getHost());
+        if (url.getPort() != -1 && url.getPort() != url.getDefaultPort()) {
+            head.append(':').append(url.getPort());
+        }
+        head.append("\r\n");
+        String authorizationHeader;
+        if (req.getAuthorization() != null && (authorizationHeader = req.getAuthorization().getAuthorizationHeader(req)) != null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Authorization: ", authorizationHeader.replaceAll(".", "*"));
+            }
+            appendHeader(head, "Authorization", authorizationHeader);
+        }
+        if (req.getRequestHeaders() != null) {
+            for (Map.Entry<String, String> entry : req.getRequestHeaders().entrySet()) {
+                appendHeader(head, entry.getKey(), entry.getValue());
+                logger.debug(entry.getKey() + ": " + entry.getValue());
+            }
+        }
+        if (body != null) {
+            appendHeader(head, "Content-Type", contentType);
+            appendHeader(head, "Content-Length", Integer.toString(body.length));
+        }
+        head.append("\r\n");
+
+        byte[] headBytes = head.toString().getBytes("UTF-8");
+        if (body == null) {
+            return headBytes;
+        }
+        byte[] request = new byte[headBytes.length + body.length];
+        System.arraycopy(headBytes, 0, request, 0, headBytes.length);
+        System.arraycopy(body, 0, request, headBytes.length, body.length);
+        return request;
+    }
+
+    private static void appendHeader(StringBuilder head, String name, String value) throws IOException {
+        if (value.indexOf('\r') != -1 || value.indexOf('\n') != -1) {
+            throw new IOException("Illegal character in header value: " + name);
+        }
+        head.append(name).append(": ").append(value).append("\r\n");
+    }
+}
@@ -0,0 +1,775 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A persistent HTTP/1.1 connection driven by a {@link NIOSelectorLoop}.<br>
+ * All methods except {@link #resumeReading()} and {@link #abort()} must be called from the owning loop thread.
+ * Requests are written in the order they are assigned and responses are matched to them in the same order,
+ * which is what makes pipelining on a single connection possible.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class NIOHttpConnection {
+    private static final Logger logger = Logger.getLogger(NIOHttpConnection.class);
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private enum State {
+        STATUS_LINE, HEADERS, BODY_LENGTH, CHUNK_SIZE, CHUNK_DATA, CHUNK_CRLF, TRAILERS, BODY_UNTIL_CLOSE
+    }
+
+    private final NIOHostPool pool;
+    private final NIOSelectorLoop loop;
+    private final String host;
+    private final InetSocketAddress address;
+    private final SSLEngine engine;
+    private final int connectTimeout;
+    private final int readTimeout;
+    private final long keepAliveMillis;
+    private final long evictionIntervalMillis;
+
+    private SocketChannel channel;
+    private SelectionKey key;
+    // netIn and appIn are kept in write mode, netOut in read mode
+    private ByteBuffer netIn;
+    private ByteBuffer netOut;
+    private ByteBuffer appIn;
+    private final LinkedList<ByteBuffer> outbound = new LinkedList<ByteBuffer>();
+    private final LinkedList<NIOHttpExchange> inFlight = new LinkedList<NIOHttpExchange>();
+
+    private boolean connected = false;
+    private boolean handshakeDone = false;
+    private boolean closed = false;
+    private boolean readSuspended = false;
+    private boolean eofReceived = false;
+    private long connectStarted;
+    private long lastActivity;
+    private long lastEvictionCheck;
+
+    // response parser state
+    private State state = State.STATUS_LINE;
+    private final StringBuilder line = new StringBuilder();
+    private int statusCode;
+    private Map<String, List<String>> headers;
+    private boolean keepAlive;
+    private long remaining;
+    private NIOResponseBody body;
+
+    // guarded by the pool's lock
+    int outstanding = 0;
+    boolean exclusive = false;
+    boolean retired = false;
+
+    NIOHttpConnection(NIOHostPool pool, NIOSelectorLoop loop, String host, InetSocketAddress address, SSLEngine engine
+            , int connectTimeout, int readTimeout, long keepAliveMillis, long evictionIntervalMillis) {
+        this.pool = pool;
+        this.loop = loop;
+        this.host = host;
+        this.address = address;
+        this.engine = engine;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.keepAliveMillis = keepAliveMillis;
+        this.evictionIntervalMillis = evictionIntervalMillis;
+    }
+
+    NIOSelectorLoop getLoop() {
+        return loop;
+    }
+
+    /**
+     * opens the socket and starts connecting
+     */
+    void open() {
+        connectStarted = lastActivity = System.currentTimeMillis();
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            if (engine != null) {
+                SSLSession session = engine.getSession();
+                netIn = ByteBuffer.allocate(session.getPacketBufferSize());
+                netOut = ByteBuffer.allocate(session.getPacketBufferSize());
+                netOut.flip();
+                appIn = ByteBuffer.allocate(Math.max(READ_BUFFER_SIZE, session.getApplicationBufferSize()));
+            } else {
+                appIn = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Opening connection(" + address + ")");
+            }
+            if (channel.connect(address)) {
+                key = loop.register(channel, 0, this);
+                connected();
+            } else {
+                key = loop.register(channel, SelectionKey.OP_CONNECT, this);
+            }
+        } catch (IOException ioe) {
+            close(ioe);
+        }
+    }
+
+    /**
+     * queues the exchange for sending
+     *
+     * @param exchange exchange assigned by the pool
+     */
+    void send(NIOHttpExchange exchange) {
+        if (closed) {
+            // never written - safe to hand over to another connection
+            pool.resubmit(exchange);
+            return;
+        }
+        inFlight.add(exchange);
+        outbound.add(exchange.requestBuffer());
+        if (connected) {
+            try {
+                flush();
+            } catch (IOException ioe) {
+                close(ioe);
+            }
+        }
+    }
+
+    void handle(SelectionKey selectedKey) {
+        try {
+            if (selectedKey.isConnectable()) {
+                if (channel.finishConnect()) {
+                    connected();
+                }
+            }
+            if (!closed && selectedKey.isValid() && selectedKey.isReadable()) {
+                read();
+            }
+            if (!closed && selectedKey.isValid() && selectedKey.isWritable()) {
+                flush();
+            }
+        } catch (IOException ioe) {
+            close(ioe);
+        } catch (RuntimeException re) {
+            close(new IOException(re.getMessage(), re));
+        }
+    }
+
+    private void connected() throws IOException {
+        connected = true;
+        lastActivity = System.currentTimeMillis();
+        key.interestOps(SelectionKey.OP_READ);
+        if (engine != null) {
+            engine.beginHandshake();
+        }
+        flush();
+    }
+
+    private void read() throws IOException {
+        ByteBuffer target = engine != null ? netIn : appIn;
+        if (!target.hasRemaining()) {
+            target = engine != null ? (netIn = enlarge(netIn)) : (appIn = enlarge(appIn));
+        }
+        int read = channel.read(target);
+        if (read > 0) {
+            lastActivity = System.currentTimeMillis();
+        } else if (read == -1) {
+            eofReceived = true;
+        }
+        processInput();
+    }
+
+    private void processInput() throws IOException {
+        if (engine != null) {
+            unwrap();
+        }
+        parse();
+        if (eofReceived && !closed && !readSuspended) {
+            if (state == State.BODY_UNTIL_CLOSE) {
+                finishBody();
+            }
+            close(new IOException("Connection closed by peer"));
+        }
+    }
+
+    /**
+     * Stops reading from the socket until the consumer drains the response body. Must be called from the loop thread.
+     */
+    private void suspendReading() {
+        readSuspended = true;
+        if (key.isValid()) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Resumes reading after {@link NIOResponseBody} has been drained. Safe to call from any thread.
+     */
+    void resumeReading() {
+        loop.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (closed || !readSuspended) {
+                    return;
+                }
+                readSuspended = false;
+                lastActivity = System.currentTimeMillis();
+                try {
+                    processInput();
+                    if (!closed && !readSuspended && key.isValid()) {
+                        key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+                    }
+                } catch (IOException ioe) {
+                    close(ioe);
+                }
+            }
+        });
+    }
+
+    /**
+     * Closes the connection because the response body was abandoned before it was fully read. Safe to call from any thread.
+     */
+    void abort() {
+        loop.execute(new Runnable() {
+            @Override
+            public void run() {
+                close(new IOException("Response body closed before completion"));
+            }
+        });
+    }
+
+    /**
+     * Checks connect and read timeouts, and evicts the connection once idle for longer than the keep-alive time.
+     * Called periodically by the loop, idle connections are looked at every eviction interval.
+     *
+     * @param now current time in millis
+     */
+    void checkTimeouts(long now) {
+        if (closed) {
+            return;
+        }
+        if (!connected) {
+            if (connectTimeout > 0 && now - connectStarted > connectTimeout) {
+                close(new SocketTimeoutException("connect timed out"));
+            }
+        } else if (!inFlight.isEmpty()) {
+            if (!readSuspended && readTimeout > 0 && now - lastActivity > readTimeout) {
+                close(new SocketTimeoutException("Read timed out"));
+            }
+        } else if (evictionIntervalMillis > 0 && now - lastEvictionCheck >= evictionIntervalMillis) {
+            lastEvictionCheck = now;
+            if (now - lastActivity > keepAliveMillis && pool.retireIfIdle(this)) {
+                logger.debug("Closing idle connection(" + address + ")");
+                close(null);
+            }
+        }
+    }
+
+    /**
+     * Closes the connection. Exchanges that never received a response byte and are safe to repeat are handed back to the pool,
+     * the rest fail with the given cause.
+     *
+     * @param cause reason, or null when closing an idle connection
+     */
+    void close(IOException cause) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (cause != null && logger.isDebugEnabled()) {
+            logger.debug("Closing connection(" + address + "): " + cause);
+        }
+        if (key != null) {
+            key.cancel();
+        }
+        if (engine != null) {
+            engine.closeOutbound();
+        }
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException ignore) {
+        }
+        pool.connectionClosed(this);
+        IOException failure = cause != null ? cause : new IOException("Connection closed");
+        for (NIOHttpExchange exchange : inFlight) {
+            if (exchange.isResubmittable()) {
+                pool.resubmit(exchange);
+            } else {
+                exchange.fail(failure);
+            }
+        }
+        inFlight.clear();
+        outbound.clear();
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /* writing */
+
+    private void flush() throws IOException {
+        boolean pending;
+        if (engine != null) {
+            pending = wrap();
+        } else {
+            while (!outbound.isEmpty()) {
+                ByteBuffer head = outbound.peek();
+                channel.write(head);
+                if (head.hasRemaining()) {
+                    break;
+                }
+                outbound.poll();
+                lastActivity = System.currentTimeMillis();
+            }
+            pending = !outbound.isEmpty();
+        }
+        if (key.isValid()) {
+            if (pending) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            } else {
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            }
+        }
+    }
+
+    /**
+     * wraps handshake messages and request bytes into netOut and writes them to the socket
+     *
+     * @return true if some bytes are still waiting for the socket to become writable
+     */
+    private boolean wrap() throws IOException {
+        while (true) {
+            if (!writeNet()) {
+                return true;
+            }
+            ByteBuffer source;
+            SSLEngineResult.HandshakeStatus hs = engine.getHandshakeStatus();
+            if (hs == SSLEngineResult.HandshakeStatus.NEED_WRAP) {
+                source = EMPTY;
+            } else if (hs == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+                runDelegatedTasks();
+                continue;
+            } else if (handshakeDone && hs == SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING && !outbound.isEmpty()) {
+                source = outbound.peek();
+            } else {
+                return false;
+            }
+            netOut.compact();
+            SSLEngineResult result;
+            try {
+                result = engine.wrap(source, netOut);
+            } finally {
+                netOut.flip();
+            }
+            checkHandshake(result);
+            switch (result.getStatus()) {
+                case BUFFER_OVERFLOW:
+                    if (netOut.remaining() == 0) {
+                        netOut = enlargeForWrite(netOut, engine.getSession().getPacketBufferSize());
+                    }
+                    break;
+                case CLOSED:
+                    throw new IOException("SSLEngine closed");
+                default:
+                    if (source != EMPTY && !source.hasRemaining()) {
+                        outbound.poll();
+                    }
+            }
+        }
+    }
+
+    /**
+     * @return true if netOut has been fully written
+     */
+    private boolean writeNet() throws IOException {
+        if (netOut.hasRemaining()) {
+            channel.write(netOut);
+            lastActivity = System.currentTimeMillis();
+        }
+        return !netOut.hasRemaining();
+    }
+
+    /* reading */
+
+    private void unwrap() throws IOException {
+        netIn.flip();
+        try {
+            while (netIn.hasRemaining() && !readSuspended && !closed) {
+                SSLEngineResult result = engine.unwrap(netIn, appIn);
+                checkHandshake(result);
+                SSLEngineResult.Status status = result.getStatus();
+                if (status == SSLEngineResult.Status.BUFFER_UNDERFLOW) {
+                    if (netIn.limit() == netIn.capacity() && netIn.capacity() < engine.getSession().getPacketBufferSize()) {
+                        netIn.compact();
+                        netIn = enlarge(netIn, engine.getSession().getPacketBufferSize());
+                        netIn.flip();
+                    }
+                    break;
+                } else if (status == SSLEngineResult.Status.BUFFER_OVERFLOW) {
+                    parse();
+                    if (readSuspended || closed) {
+                        break;
+                    }
+                    if (appIn.remaining() < engine.getSession().getApplicationBufferSize()) {
+                        appIn = enlarge(appIn, engine.getSession().getApplicationBufferSize());
+                    }
+                } else if (status == SSLEngineResult.Status.CLOSED) {
+                    eofReceived = true;
+                    break;
+                }
+                SSLEngineResult.HandshakeStatus hs = engine.getHandshakeStatus();
+                if (hs == SSLEngineResult.HandshakeStatus.NEED_WRAP || hs == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+                    flush();
+                }
+                if (result.bytesConsumed() == 0 && result.bytesProduced() == 0
+                        && status == SSLEngineResult.Status.OK && hs != SSLEngineResult.HandshakeStatus.NEED_UNWRAP) {
+                    break;
+                }
+            }
+        } finally {
+            netIn.compact();
+        }
+    }
+
+    private void checkHandshake(SSLEngineResult result) throws IOException {
+        if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+            runDelegatedTasks();
+        }
+        if (!handshakeDone && (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.FINISHED
+                || engine.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING)) {
+            verifyHostname(host, engine.getSession());
+            handshakeDone = true;
+            // release requests queued while handshaking
+            flush();
+        }
+    }
+
+    private void runDelegatedTasks() {
+        Runnable task;
+        while ((task = engine.getDelegatedTask()) != null) {
+            task.run();
+        }
+    }
+
+    private void parse() throws IOException {
+        appIn.flip();
+        try {
+            while (!readSuspended && !closed) {
+                if (state == State.STATUS_LINE) {
+                    if (!appIn.hasRemaining()) {
+                        break;
+                    }
+                    NIOHttpExchange exchange = inFlight.peek();
+                    if (exchange == null) {
+                        throw new IOException("Unexpected response data on idle connection");
+                    }
+                    exchange.responseStarted();
+                    String statusLine = readLine();
+                    if (statusLine == null) {
+                        break;
+                    }
+                    if (statusLine.length() == 0) {
+                        continue;
+                    }
+                    parseStatusLine(statusLine);
+                    state = State.HEADERS;
+                } else if (state == State.HEADERS) {
+                    String header = readLine();
+                    if (header == null) {
+                        break;
+                    }
+                    if (header.length() != 0) {
+                        int colon = header.indexOf(':');
+                        if (colon > 0) {
+                            addHeader(header.substring(0, colon).trim(), header.substring(colon + 1).trim());
+                        }
+                    } else if (statusCode / 100 == 1) {
+                        // interim response (e.g. 100 Continue). the actual response follows
+                        state = State.STATUS_LINE;
+                    } else {
+                        beginBody();
+                    }
+                } else if (state == State.BODY_LENGTH || state == State.CHUNK_DATA) {
+                    int length = (int) Math.min(appIn.remaining(), remaining);
+                    if (length == 0) {
+                        break;
+                    }
+                    deliver(length);
+                    remaining -= length;
+                    if (remaining == 0) {
+                        if (state == State.BODY_LENGTH) {
+                            finishBody();
+                        } else {
+                            state = State.CHUNK_CRLF;
+                        }
+                    }
+                } else if (state == State.CHUNK_SIZE) {
+                    String chunkSize = readLine();
+                    if (chunkSize == null) {
+                        break;
+                    }
+                    int extension = chunkSize.indexOf(';');
+                    if (extension != -1) {
+                        chunkSize = chunkSize.substring(0, extension);
+                    }
+                    try {
+                        remaining = Long.parseLong(chunkSize.trim(), 16);
+                    } catch (NumberFormatException nfe) {
+                        throw new IOException("Malformed chunk size: " + chunkSize);
+                    }
+                    state = remaining == 0 ? State.TRAILERS : State.CHUNK_DATA;
+                } else if (state == State.CHUNK_CRLF) {
+                    if (readLine() == null) {
+                        break;
+                    }
+                    state = State.CHUNK_SIZE;
+                } else if (state == State.TRAILERS) {
+                    String trailer = readLine();
+                    if (trailer == null) {
+                        break;
+                    }
+                    if (trailer.length() == 0) {
+                        finishBody();
+                    }
+                } else if (state == State.BODY_UNTIL_CLOSE) {
+                    if (!appIn.hasRemaining()) {
+                        break;
+                    }
+                    deliver(appIn.remaining());
+                }
+            }
+        } finally {
+            appIn.compact();
+        }
+    }
+
+    private void parseStatusLine(String statusLine) throws IOException {
+        // HTTP/1.1 200 OK
+        int firstSpace = statusLine.indexOf(' ');
+        if (!statusLine.startsWith("HTTP/") || firstSpace == -1) {
+            throw new IOException("Malformed status line: " + statusLine);
+        }
+        int secondSpace = statusLine.indexOf(' ', firstSpace + 1);
+        try {
+            statusCode = Integer.parseInt(statusLine.substring(firstSpace + 1
+                    , secondSpace == -1 ? statusLine.length() : secondSpace));
+        } catch (NumberFormatException nfe) {
+            throw new IOException("Malformed status line: " + statusLine);
+        }
+        keepAlive = !statusLine.startsWith("HTTP/1.0");
+        headers = new LinkedHashMap<String, List<String>>();
+        // same as HttpURLConnection.getHeaderFields(): the status line is mapped to the null key
+        List<String> status = new ArrayList<String>(1);
+        status.add(statusLine);
+        headers.put(null, status);
+    }
+
+    private void addHeader(String name, String value) {
+        List<String> values = headers.get(name);
+        if (values == null) {
+            values = new ArrayList<String>(1);
+            headers.put(name, values);
+        }
+        values.add(value);
+        if ("Connection".equalsIgnoreCase(name)) {
+            String lower = value.toLowerCase(Locale.ENGLISH);
+            if (lower.contains("close")) {
+                keepAlive = false;
+            } else if (lower.contains("keep-alive")) {
+                keepAlive = true;
+            }
+        }
+    }
+
+    private void beginBody() throws IOException {
+        NIOHttpExchange exchange = inFlight.peek();
+        body = new NIOResponseBody(this);
+        String transferEncoding = NIOHttpResponse.getHeader(headers, "Transfer-Encoding");
+        String contentLength = NIOHttpResponse.getHeader(headers, "Content-Length");
+        boolean noBody = exchange.getMethod() == RequestMethod.HEAD
+                || statusCode == HttpResponseCode.NOT_MODIFIED || statusCode == 204;
+        if (noBody) {
+            remaining = 0;
+            state = State.BODY_LENGTH;
+        } else if (transferEncoding != null && transferEncoding.toLowerCase(Locale.ENGLISH).contains("chunked")) {
+            state = State.CHUNK_SIZE;
+        } else if (contentLength != null) {
+            try {
+                remaining = Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException nfe) {
+                throw new IOException("Malformed Content-Length: " + contentLength);
+            }
+            state = State.BODY_LENGTH;
+        } else {
+            state = State.BODY_UNTIL_CLOSE;
+            keepAlive = false;
+        }
+        exchange.headersReceived(statusCode, headers, body);
+        if (exchange.isAbandoned()) {
+            // nobody is waiting for this response anymore
+            body.close();
+        }
+        if (state == State.BODY_LENGTH && remaining == 0) {
+            finishBody();
+        }
+    }
+
+    private void deliver(int length) {
+        byte[] chunk = new byte[length];
+        appIn.get(chunk);
+        if (!body.offer(chunk)) {
+            suspendReading();
+        }
+    }
+
+    private void finishBody() {
+        NIOResponseBody finished = body;
+        body = null;
+        headers = null;
+        inFlight.poll();
+        state = State.STATUS_LINE;
+        // hand the connection back before waking up the consumer, so that its next request can reuse it
+        if (keepAlive) {
+            pool.exchangeFinished(this);
+        } else {
+            close(new IOException("Connection closed by peer"));
+        }
+        finished.complete();
+    }
+
+    /**
+     * @return next line (without CRLF) in ISO-8859-1, or null if the line is not complete yet
+     */
+    private String readLine() throws IOException {
+        while (appIn.hasRemaining()) {
+            char c = (char) (appIn.get() & 0xff);
+            if (c == '\n') {
+                int length = line.length();
+                if (length > 0 && line.charAt(length - 1) == '\r') {
+                    line.setLength(length - 1);
+                }
+                String result = line.toString();
+                line.setLength(0);
+                return result;
+            }
+            if (line.length() == MAX_LINE_LENGTH) {
+                throw new IOException("Response line too long");
+            }
+            line.append(c);
+        }
+        return null;
+    }
+
+    private static ByteBuffer enlarge(ByteBuffer buffer) {
+        return enlarge(buffer, buffer.capacity());
+    }
+
+    /**
+     * @param buffer buffer in write mode
+     * @param extra  minimum number of bytes to add
+     * @return a larger buffer with the same content, in write mode
+     */
+    private static ByteBuffer enlarge(ByteBuffer buffer, int extra) {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() + extra);
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+
+    /**
+     * @param buffer buffer in read mode
+     * @param extra  minimum number of bytes to add
+     * @return a larger buffer with the same content, in read mode
+     */
+    private static ByteBuffer enlargeForWrite(ByteBuffer buffer, int extra) {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() + extra);
+        larger.put(buffer);
+        larger.flip();
+        return larger;
+    }
+
+    /**
+     * SSLEngine doesn't check the server identity by itself. Match the host name against the certificate's DNS
+     * subjectAltNames (or the CN if there are none) as HttpsURLConnection does, following RFC 2818.
+     */
+    static void verifyHostname(String host, SSLSession session) throws SSLPeerUnverifiedException {
+        Certificate[] certificates = session.getPeerCertificates();
+        if (certificates.length == 0 || !(certificates[0] instanceof X509Certificate)) {
+            throw new SSLPeerUnverifiedException("No X.509 certificate presented by " + host);
+        }
+        X509Certificate certificate = (X509Certificate) certificates[0];
+        List<String> names = new ArrayList<String>();
+        try {
+            Collection<List<?>> altNames = certificate.getSubjectAlternativeNames();
+            if (altNames != null) {
+                for (List<?> altName : altNames) {
+                    // 2: dNSName
+                    if (altName.size() >= 2 && Integer.valueOf(2).equals(altName.get(0))) {
+                        names.add((String) altName.get(1));
+                    }
+                }
+            }
+        } catch (CertificateParsingException ignore) {
+        }
+        if (names.isEmpty()) {
+            String dn = certificate.getSubjectX500Principal().getName();
+            for (String rdn : dn.split(",")) {
+                if (rdn.trim().startsWith("CN=")) {
+                    names.add(rdn.trim().substring(3));
+                }
+            }
+        }
+        String lowerHost = host.toLowerCase(Locale.ENGLISH);
+        for (String name : names) {
+            if (matchesHostname(lowerHost, name.toLowerCase(Locale.ENGLISH))) {
+                return;
+            }
+        }
+        throw new SSLPeerUnverifiedException("Certificate for " + host + " doesn't match any of " + names);
+    }
+
+    static boolean matchesHostname(String host, String pattern) {
+        if (!pattern.startsWith("*.")) {
+            return host.equals(pattern);
+        }
+        // a wildcard matches exactly one label
+        int firstDot = host.indexOf('.');
+        return firstDot > 0 && host.substring(firstDot).equals(pattern.substring(1));
+    }
+}
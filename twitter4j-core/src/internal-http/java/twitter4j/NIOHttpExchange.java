@@ -0,0 +1,201 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single request / response pair travelling over a {@link NIOHttpConnection}.<br>
+ * The calling thread blocks in {@link #awaitHeaders(long)} until the status line and headers arrive, or is called back with {@link #onHeaders(Runnable)}.
+ * The body is delivered asynchronously through {@link NIOResponseBody}.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class NIOHttpExchange {
+    private final RequestMethod method;
+    private final byte[] request;
+    private final CountDownLatch headersLatch = new CountDownLatch(1);
+
+    private volatile int statusCode = -1;
+    private volatile Map<String, List<String>> headers;
+    private volatile NIOResponseBody body;
+    private volatile IOException failure;
+    private volatile boolean abandoned = false;
+    // run once the headers or a failure arrived, guarded by this
+    private Runnable headersCallback;
+    // accessed only from the selector loop thread
+    private boolean responseStarted = false;
+    private int resubmitCount = 0;
+
+    NIOHttpExchange(RequestMethod method, byte[] request) {
+        this.method = method;
+        this.request = request;
+    }
+
+    RequestMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * @return a fresh view over the serialized request, suitable for (re)sending
+     */
+    ByteBuffer requestBuffer() {
+        return ByteBuffer.wrap(request);
+    }
+
+    /**
+     * @return true if the request may be sent on a connection that already has requests in flight
+     */
+    boolean isPipelinable() {
+        return method == RequestMethod.GET || method == RequestMethod.HEAD;
+    }
+
+    /**
+     * @return true if the request can be transparently sent again after the connection dropped before any response byte arrived
+     */
+    boolean isResubmittable() {
+        return isPipelinable() && !responseStarted && resubmitCount == 0;
+    }
+
+    void markResubmitted() {
+        resubmitCount++;
+    }
+
+    void responseStarted() {
+        responseStarted = true;
+    }
+
+    void headersReceived(int statusCode, Map<String, List<String>> headers, NIOResponseBody body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        headersDone();
+    }
+
+    void fail(IOException ioe) {
+        if (headersLatch.getCount() != 0) {
+            this.failure = ioe;
+            headersDone();
+        } else if (body != null) {
+            body.fail(ioe);
+        }
+    }
+
+    /**
+     * Fails the exchange if the response headers have not arrived yet. The response is discarded if it arrives later.
+     */
+    void timeOut() {
+        if (headersLatch.getCount() != 0) {
+            abandon();
+            fail(new SocketTimeoutException("Timed out waiting for the response"));
+        }
+    }
+
+    private void headersDone() {
+        headersLatch.countDown();
+        Runnable callback;
+        synchronized (this) {
+            callback = headersCallback;
+            headersCallback = null;
+        }
+        if (callback != null) {
+            callback.run();
+        }
+    }
+
+    /**
+     * Runs the callback once the response headers or a failure arrived, on the selector loop thread, or right away if they already did.<br>
+     * The callback is not to block, the selector loop serves other connections.
+     *
+     * @param callback callback
+     */
+    void onHeaders(Runnable callback) {
+        synchronized (this) {
+            if (headersLatch.getCount() != 0) {
+                headersCallback = callback;
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    /**
+     * Marks the exchange as given up by the caller, so that the response body gets discarded as soon as it arrives.
+     */
+    void abandon() {
+        abandoned = true;
+    }
+
+    /**
+     * Gives the exchange up, discarding the response body whether it has started to arrive or not.
+     */
+    void discard() {
+        abandon();
+        NIOResponseBody body = this.body;
+        if (body != null) {
+            body.close();
+        }
+    }
+
+    boolean isAbandoned() {
+        return abandoned;
+    }
+
+    /**
+     * Blocks until the response headers are available.
+     *
+     * @param timeoutMillis maximum time to wait, 0 or less to wait indefinitely
+     * @throws IOException when the exchange failed, timed out or the thread was interrupted
+     */
+    void awaitHeaders(long timeoutMillis) throws IOException {
+        try {
+            if (timeoutMillis > 0) {
+                if (!headersLatch.await(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    throw new SocketTimeoutException("Timed out waiting for the response");
+                }
+            } else {
+                headersLatch.await();
+            }
+        } catch (InterruptedException ie) {
+            InterruptedIOException iioe = new InterruptedIOException(ie.getMessage());
+            iioe.initCause(ie);
+            throw iioe;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    NIOResponseBody getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @since Twitter4J 4.0.8
+ */
+final class NIOHttpResponse extends HttpResponse {
+    private final Map<String, List<String>> headerFields;
+    private final NIOResponseBody body;
+
+    NIOHttpResponse(NIOHttpExchange exchange, HttpClientConfiguration conf) throws IOException {
+        super(conf);
+        this.statusCode = exchange.getStatusCode();
+        this.headerFields = exchange.getHeaders();
+        this.body = exchange.getBody();
+        this.is = body;
+        if ("gzip".equalsIgnoreCase(getResponseHeader("Content-Encoding"))
+                && (!body.isComplete() || body.available() > 0)) {
+            // the response is gzipped
+            is = new StreamingGZIPInputStream(is);
+        }
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        return getHeader(headerFields, name);
+    }
+
+    @Override
+    public Map<String, List<String>> getResponseHeaderFields() {
+        return headerFields;
+    }
+
+    /**
+     * Closes the response body. The connection goes back to the pool if the body has been fully read.
+     */
+    @Override
+    public void disconnect() {
+        body.close();
+    }
+
+    /**
+     * Looks up a header case-insensitively, returning the last value as HttpURLConnection.getHeaderField() does.
+     */
+    static String getHeader(Map<String, List<String>> headers, String name) {
+        String value = null;
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (entry.getKey() != null && entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                value = entry.getValue().get(entry.getValue().size() - 1);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.LinkedList;
+
+/**
+ * Response body stream fed by the selector loop.<br>
+ * Once more than {@link #HIGH_WATER_MARK} bytes are buffered the owning connection stops reading from the socket,
+ * so a slow consumer (e.g. a streaming API listener) applies TCP back pressure instead of growing the heap.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class NIOResponseBody extends InputStream {
+    static final int HIGH_WATER_MARK = 256 * 1024;
+    private static final int LOW_WATER_MARK = 64 * 1024;
+
+    private final NIOHttpConnection connection;
+    private final LinkedList<byte[]> chunks = new LinkedList<byte[]>();
+    private byte[] current = null;
+    private int position = 0;
+    private int buffered = 0;
+    private boolean eof = false;
+    private boolean closed = false;
+    private boolean suspended = false;
+    private IOException failure = null;
+
+    NIOResponseBody(NIOHttpConnection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Called from the selector loop with a chunk of body bytes.
+     *
+     * @return false if the connection should stop reading until the consumer catches up
+     */
+    synchronized boolean offer(byte[] chunk) {
+        if (closed) {
+            return true;
+        }
+        chunks.add(chunk);
+        buffered += chunk.length;
+        notifyAll();
+        if (buffered >= HIGH_WATER_MARK) {
+            suspended = true;
+            return false;
+        }
+        return true;
+    }
+
+    synchronized void complete() {
+        eof = true;
+        notifyAll();
+    }
+
+    synchronized void fail(IOException ioe) {
+        if (!eof) {
+            failure = ioe;
+            notifyAll();
+        }
+    }
+
+    synchronized boolean isComplete() {
+        return eof;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int read = read(one, 0, 1);
+        return read == -1 ? -1 : one[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        boolean resume = false;
+        int read;
+        synchronized (this) {
+            while (true) {
+                if (closed) {
+                    throw new IOException("Stream closed");
+                }
+                if (current == null || position == current.length) {
+                    current = chunks.poll();
+                    position = 0;
+                }
+                if (current != null) {
+                    break;
+                }
+                if (eof) {
+                    return -1;
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException ie) {
+                    throw new InterruptedIOException(ie.getMessage());
+                }
+            }
+            read = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, read);
+            position += read;
+            buffered -= read;
+            if (suspended && buffered <= LOW_WATER_MARK) {
+                suspended = false;
+                resume = true;
+            }
+        }
+        if (resume) {
+            connection.resumeReading();
+        }
+        return read;
+    }
+
+    @Override
+    public synchronized int available() {
+        return buffered;
+    }
+
+    /**
+     * Closes the stream. If the body has not been fully received, the underlying connection cannot be reused and is closed as well.
+     */
+    @Override
+    public void close() {
+        boolean abort;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            abort = !eof;
+            chunks.clear();
+            current = null;
+            buffered = 0;
+            notifyAll();
+        }
+        if (abort) {
+            connection.abort();
+        }
+    }
+}
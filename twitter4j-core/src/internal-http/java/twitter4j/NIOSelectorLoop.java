@@ -0,0 +1,114 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A selector thread multiplexing any number of {@link NIOHttpConnection}s.<br>
+ * Loops are shared by all NIO based HttpClient instances in the JVM and started on demand.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class NIOSelectorLoop implements Runnable {
+    private static final Logger logger = Logger.getLogger(NIOSelectorLoop.class);
+    private static final long TICK_MILLIS = 250;
+    private static final List<NIOSelectorLoop> SHARED_LOOPS = new ArrayList<NIOSelectorLoop>();
+
+    private final Selector selector;
+    private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+
+    /**
+     * @param count minimum number of loops required
+     * @return shared loops, at least count of them
+     */
+    static synchronized NIOSelectorLoop[] getSharedLoops(int count) {
+        while (SHARED_LOOPS.size() < Math.max(1, count)) {
+            try {
+                NIOSelectorLoop loop = new NIOSelectorLoop();
+                Thread thread = new Thread(loop, "Twitter4J NIO Selector[" + SHARED_LOOPS.size() + "]");
+                thread.setDaemon(true);
+                thread.start();
+                SHARED_LOOPS.add(loop);
+            } catch (IOException ioe) {
+                throw new IllegalStateException("Failed to open selector", ioe);
+            }
+        }
+        return SHARED_LOOPS.toArray(new NIOSelectorLoop[SHARED_LOOPS.size()]);
+    }
+
+    private NIOSelectorLoop() throws IOException {
+        this.selector = Selector.open();
+    }
+
+    /**
+     * Runs the task on the loop thread.
+     *
+     * @param task task
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    SelectionKey register(SocketChannel channel, int ops, NIOHttpConnection connection) throws ClosedChannelException {
+        return channel.register(selector, ops, connection);
+    }
+
+    @Override
+    public void run() {
+        long lastCheck = System.currentTimeMillis();
+        while (true) {
+            try {
+                selector.select(TICK_MILLIS);
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException re) {
+                        logger.warn("Unexpected exception in selector task", re);
+                    }
+                }
+                Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+                while (selected.hasNext()) {
+                    SelectionKey key = selected.next();
+                    selected.remove();
+                    ((NIOHttpConnection) key.attachment()).handle(key);
+                }
+                long now = System.currentTimeMillis();
+                if (now - lastCheck >= TICK_MILLIS) {
+                    lastCheck = now;
+                    for (SelectionKey key : new ArrayList<SelectionKey>(selector.keys())) {
+                        ((NIOHttpConnection) key.attachment()).checkTimeouts(now);
+                    }
+                }
+            } catch (IOException ioe) {
+                logger.warn("Selector failure", ioe);
+            } catch (RuntimeException re) {
+                logger.warn("Unexpected exception in selector loop", re);
+            }
+        }
+    }
+}
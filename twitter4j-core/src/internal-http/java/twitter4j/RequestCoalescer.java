@@ -0,0 +1,271 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.management.RequestCoalescingStatistics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Single-flight layer collapsing concurrent identical GET requests into one network call.<br>
+ * The first request is sent, and requests equal to it arriving while it is in flight wait for its response instead of being sent.
+ * The response is shared by all of them, and is parsed only once.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class RequestCoalescer {
+    private static final RequestCoalescingStatistics statistics = new RequestCoalescingStatistics();
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ConcurrentMap<HttpRequest, Call> inFlight = new ConcurrentHashMap<HttpRequest, Call>();
+
+    /**
+     * @return coalescing statistics of all HttpClient instances
+     */
+    static RequestCoalescingStatistics getStatistics() {
+        return statistics;
+    }
+
+    static boolean isCoalescable(HttpRequest req) {
+        return req.getMethod() == RequestMethod.GET;
+    }
+
+    /**
+     * Sends the request with the given client, or waits for the response of an identical request in flight.
+     *
+     * @param client client sending the request
+     * @param req    request
+     * @return response, shared with the identical requests
+     * @throws TwitterException when the request failed. The exception is shared with the identical requests.
+     */
+    HttpResponse request(HttpClientBase client, HttpRequest req) throws TwitterException {
+        Call call = new Call();
+        Call leader = inFlight.putIfAbsent(req, call);
+        if (leader != null) {
+            statistics.requested(true);
+            return leader.await();
+        }
+        statistics.requested(false);
+        statistics.sent();
+        try {
+            HttpResponse res = new SharedHttpResponse(client.send(req));
+            complete(req, call, res, null);
+            return res;
+        } catch (TwitterException te) {
+            complete(req, call, null, te);
+            throw te;
+        } catch (RuntimeException re) {
+            complete(req, call, null, new TwitterException(re));
+            throw re;
+        } catch (Error e) {
+            complete(req, call, null, new TwitterException(e.getMessage(), e));
+            throw e;
+        }
+    }
+
+    private void complete(HttpRequest req, Call call, HttpResponse res, TwitterException te) {
+        // requests arriving from now on are sent again
+        inFlight.remove(req, call);
+        statistics.completed(call.complete(res, te));
+    }
+
+    private static final class Call {
+        private boolean done = false;
+        private int waiters = 0;
+        private HttpResponse response;
+        private TwitterException exception;
+
+        /**
+         * @return true if the result has been shared with waiting requests
+         */
+        synchronized boolean complete(HttpResponse response, TwitterException exception) {
+            this.response = response;
+            this.exception = exception;
+            done = true;
+            notifyAll();
+            return waiters > 0;
+        }
+
+        synchronized HttpResponse await() throws TwitterException {
+            waiters++;
+            while (!done) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TwitterException("interrupted while waiting for an identical request", e);
+                }
+            }
+            if (exception != null) {
+                throw exception;
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Response safe to be consumed by several threads. The body is parsed by the first consumer and cached for the others.<br>
+     * Once bound with the streaming parser, the body bytes are kept and every consumer is served from them.
+     */
+    private static final class SharedHttpResponse extends HttpResponse {
+        private final HttpResponse res;
+        // body read by the first bindJSON(), guarded by this
+        private byte[] body;
+        private String bodyAsString;
+        private JSONObject bodyAsJSONObject;
+        private JSONArray bodyAsJSONArray;
+
+        SharedHttpResponse(HttpResponse res) {
+            super(res.CONF);
+            this.res = res;
+            this.statusCode = res.getStatusCode();
+        }
+
+        @Override
+        public String getResponseHeader(String name) {
+            return res.getResponseHeader(name);
+        }
+
+        @Override
+        public Map<String, List<String>> getResponseHeaderFields() {
+            return res.getResponseHeaderFields();
+        }
+
+        @Override
+        public synchronized InputStream asStream() {
+            if (body != null) {
+                return new ByteArrayInputStream(body);
+            }
+            return res.asStream();
+        }
+
+        @Override
+        public synchronized String asString() throws TwitterException {
+            if (body != null) {
+                if (bodyAsString == null) {
+                    bodyAsString = new String(body, UTF_8);
+                }
+                return bodyAsString;
+            }
+            return res.asString();
+        }
+
+        @Override
+        public synchronized JSONObject asJSONObject() throws TwitterException {
+            if (body != null) {
+                if (bodyAsJSONObject == null) {
+                    try {
+                        bodyAsJSONObject = new JSONObject(asString());
+                    } catch (JSONException jsone) {
+                        throw new TwitterException(jsone.getMessage() + ":" + asString(), jsone);
+                    }
+                }
+                return bodyAsJSONObject;
+            }
+            return res.asJSONObject();
+        }
+
+        @Override
+        public synchronized JSONArray asJSONArray() throws TwitterException {
+            if (body != null) {
+                if (bodyAsJSONArray == null) {
+                    try {
+                        bodyAsJSONArray = new JSONArray(asString());
+                    } catch (JSONException jsone) {
+                        throw new TwitterException(jsone.getMessage() + ":" + asString(), jsone);
+                    }
+                }
+                return bodyAsJSONArray;
+            }
+            return res.asJSONArray();
+        }
+
+        @Override
+        public synchronized Reader asReader() {
+            if (body != null) {
+                return new InputStreamReader(new ByteArrayInputStream(body), UTF_8);
+            }
+            return res.asReader();
+        }
+
+        /**
+         * Binds every consumer from the same body bytes, read once.
+         */
+        @Override
+        <T> T bindJSON(JSONPullParser.Binder<T> binder) throws TwitterException {
+            byte[] body = getBody();
+            try {
+                return binder.bind(new JSONPullParser(body, 0, body.length));
+            } catch (JSONException jsone) {
+                throw new TwitterException(jsone.getMessage() + ":" + new String(body, UTF_8), jsone);
+            }
+        }
+
+        private synchronized byte[] getBody() throws TwitterException {
+            if (body == null) {
+                InputStream stream;
+                try {
+                    stream = res.asStream();
+                } catch (IllegalStateException alreadyConsumed) {
+                    // read as a String by another consumer
+                    String str = res.asString();
+                    body = str != null ? str.getBytes(UTF_8) : new byte[0];
+                    return body;
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                try {
+                    if (stream != null) {
+                        byte[] buf = new byte[8192];
+                        int read;
+                        while ((read = stream.read(buf)) != -1) {
+                            out.write(buf, 0, read);
+                        }
+                    }
+                } catch (IOException ioe) {
+                    throw new TwitterException(ioe.getMessage(), ioe);
+                } finally {
+                    try {
+                        res.disconnect();
+                    } catch (IOException ignore) {
+                    }
+                }
+                body = out.toByteArray();
+            }
+            return body;
+        }
+
+        @Override
+        public synchronized void disconnect() throws IOException {
+            res.disconnect();
+        }
+
+        @Override
+        public String toString() {
+            return res.toString();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Per-thread reusable buffers decoding a response body into a character view, which the JSON parser reads without making a String copy of the whole body.<br>
+ * The view returned by {@link #read(InputStream, int)} is valid until {@link #release()} is called.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class ResponseBodyBuffer {
+    private static final int INITIAL_SIZE = 8 * 1024;
+    // buffers grown beyond this size are dropped on release instead of being kept by the thread
+    private static final int MAX_RETAINED_SIZE = 1024 * 1024;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final ThreadLocal<ResponseBodyBuffer> buffers = new ThreadLocal<ResponseBodyBuffer>() {
+        @Override
+        protected ResponseBodyBuffer initialValue() {
+            return new ResponseBodyBuffer();
+        }
+    };
+
+    private final CharsetDecoder decoder = UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private byte[] bytes = new byte[INITIAL_SIZE];
+    private char[] chars = new char[INITIAL_SIZE];
+    private boolean inUse = false;
+
+    private ResponseBodyBuffer() {
+    }
+
+    /**
+     * @return the buffer of the calling thread, or a new one if the thread's buffer is already in use
+     */
+    static ResponseBodyBuffer acquire() {
+        ResponseBodyBuffer buffer = buffers.get();
+        if (buffer.inUse) {
+            return new ResponseBodyBuffer();
+        }
+        buffer.inUse = true;
+        return buffer;
+    }
+
+    /**
+     * Reads the stream to the end and decodes it as UTF-8.
+     *
+     * @param is       stream to read
+     * @param sizeHint expected body length in bytes, or -1 if unknown
+     * @return the decoded body, backed by this buffer
+     * @throws IOException when reading the stream fails
+     */
+    CharSequence read(InputStream is, int sizeHint) throws IOException {
+        int length = readBytes(is, sizeHint);
+        // UTF-8 never decodes to more chars than it has bytes
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        CharBuffer out = CharBuffer.wrap(chars);
+        decoder.reset();
+        decoder.decode(ByteBuffer.wrap(bytes, 0, length), out, true);
+        decoder.flush(out);
+        out.flip();
+        return out;
+    }
+
+    /**
+     * Reads the stream to the end without decoding it. The bytes are available from {@link #getBytes()}.
+     *
+     * @param is       stream to read
+     * @param sizeHint expected body length in bytes, or -1 if unknown
+     * @return number of bytes read
+     * @throws IOException when reading the stream fails
+     */
+    int readBytes(InputStream is, int sizeHint) throws IOException {
+        if (sizeHint > bytes.length) {
+            bytes = new byte[Math.min(sizeHint, MAX_RETAINED_SIZE)];
+        }
+        int length = 0;
+        int n;
+        while ((n = is.read(bytes, length, bytes.length - length)) != -1) {
+            length += n;
+            if (length == bytes.length) {
+                // a body filling the size hint exactly is not copied, unless more data follows
+                int next = is.read();
+                if (next == -1) {
+                    break;
+                }
+                byte[] grown = new byte[bytes.length * 2];
+                System.arraycopy(bytes, 0, grown, 0, length);
+                bytes = grown;
+                bytes[length++] = (byte) next;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * @return the bytes read by the last call to {@link #readBytes(InputStream, int)}
+     */
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    void release() {
+        if (bytes.length > MAX_RETAINED_SIZE) {
+            bytes = new byte[INITIAL_SIZE];
+        }
+        if (chars.length > MAX_RETAINED_SIZE) {
+            chars = new char[INITIAL_SIZE];
+        }
+        inUse = false;
+    }
+}
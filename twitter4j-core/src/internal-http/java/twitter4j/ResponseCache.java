@@ -0,0 +1,428 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.auth.Authorization;
+import twitter4j.management.ResponseCacheStatistics;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cache of the responses of read-mostly endpoints, in front of the network.<br>
+ * Only GET requests to endpoints having a time to live configured with http.responseCache.ttls are cached. The setting is a comma separated list of
+ * "endpoint=seconds" pairs, where the endpoint is the path following the API version, without the .json suffix. An endpoint matches the paths it is a
+ * prefix of, e.g. "geo/id" matches "geo/id/df51dec6f4ee2b2c". Responses are cached per authorization.<br>
+ * Fresh entries are served without contacting the server. Expired entries carrying an ETag or Last-Modified header are revalidated with a conditional
+ * request and served again if the server answers 304 Not Modified.<br>
+ * Entries are held in memory up to http.responseCache.maxBytes, the least recently used ones being evicted first. When http.responseCache.directory
+ * is set, entries are also written to that directory and read back after they have been evicted or after a restart.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class ResponseCache {
+    private static final Logger logger = Logger.getLogger(ResponseCache.class);
+    private static final ResponseCacheStatistics statistics = new ResponseCacheStatistics();
+    // https://api.twitter.com/1.1/geo/id/df51dec6f4ee2b2c.json?... -> geo/id/df51dec6f4ee2b2c
+    private static final Pattern pathPattern = Pattern.compile("https?://[^/]+/[0-9.]+/([^?]*?)(?:\\.json)?(?:\\?.*)?");
+    private static final int DISK_FORMAT_VERSION = 1;
+    // rough per entry overhead of the map, the entry and its headers
+    private static final int ENTRY_OVERHEAD = 512;
+
+    private final HttpClientConfiguration conf;
+    // endpoint -> time to live in milliseconds, longest endpoints first so that the most specific one matches
+    private final SortedMap<String, Long> timeToLives = new TreeMap<String, Long>(new Comparator<String>() {
+        @Override
+        public int compare(String o1, String o2) {
+            return o1.length() != o2.length() ? o2.length() - o1.length() : o1.compareTo(o2);
+        }
+    });
+    private final long maxBytes;
+    private final File directory;
+    private final LinkedHashMap<HttpRequest, Entry> entries = new LinkedHashMap<HttpRequest, Entry>(16, 0.75f, true);
+    private long size = 0;
+
+    ResponseCache(HttpClientConfiguration conf) {
+        this.conf = conf;
+        this.maxBytes = conf.getHttpResponseCacheMaxBytes();
+        if (conf.getHttpResponseCacheTTLs() != null) {
+            for (String rule : conf.getHttpResponseCacheTTLs().split(",")) {
+                int index = rule.indexOf('=');
+                if (index == -1) {
+                    throw new IllegalArgumentException("endpoint=seconds expected: " + rule);
+                }
+                timeToLives.put(rule.substring(0, index).trim(), Long.parseLong(rule.substring(index + 1).trim()) * 1000);
+            }
+        }
+        if (conf.getHttpResponseCacheDirectory() != null) {
+            directory = new File(conf.getHttpResponseCacheDirectory());
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                logger.warn("Failed to create the response cache directory: " + directory);
+            }
+        } else {
+            directory = null;
+        }
+    }
+
+    /**
+     * @return cache statistics of all HttpClient instances
+     */
+    static ResponseCacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @param req request
+     * @return time to live of the response in milliseconds, or -1 if the response is not to be cached
+     */
+    long getTimeToLive(HttpRequest req) {
+        if (req.getMethod() != RequestMethod.GET) {
+            return -1;
+        }
+        Matcher matcher = pathPattern.matcher(req.getURL());
+        if (!matcher.matches()) {
+            return -1;
+        }
+        String path = matcher.group(1);
+        for (Map.Entry<String, Long> rule : timeToLives.entrySet()) {
+            String endpoint = rule.getKey();
+            if (path.startsWith(endpoint) && (path.length() == endpoint.length() || path.charAt(endpoint.length()) == '/')) {
+                return rule.getValue();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Serves the request from the cache, or sends it with the given client and caches the response.
+     *
+     * @param client     client sending the request
+     * @param req        cacheable request
+     * @param timeToLive time to live of the response in milliseconds
+     * @return response
+     * @throws TwitterException when the request failed
+     */
+    HttpResponse request(HttpClientBase client, HttpRequest req, long timeToLive) throws TwitterException {
+        boolean fromDisk = false;
+        Entry entry = get(req);
+        if (entry == null && directory != null) {
+            entry = read(req);
+            fromDisk = entry != null;
+        }
+        long now = System.currentTimeMillis();
+        if (entry != null && now < entry.expires) {
+            statistics.hit(fromDisk);
+            if (fromDisk) {
+                put(req, entry);
+            }
+            return entry.toResponse(conf);
+        }
+        HttpRequest sent = req;
+        if (entry != null && entry.isRevalidatable()) {
+            Map<String, String> headers = new HashMap<String, String>(req.getRequestHeaders() != null ? req.getRequestHeaders()
+                    : Collections.<String, String>emptyMap());
+            if (entry.etag != null) {
+                headers.put("If-None-Match", entry.etag);
+            }
+            if (entry.lastModified != null) {
+                headers.put("If-Modified-Since", entry.lastModified);
+            }
+            sent = new HttpRequest(req.getMethod(), req.getURL(), req.getParameters(), req.getAuthorization(), headers);
+        }
+        HttpResponse res;
+        try {
+            res = client.coalesceRequest(sent);
+        } catch (TwitterException te) {
+            if (sent != req && te.getStatusCode() == HttpResponseCode.NOT_MODIFIED) {
+                statistics.missed(true);
+                Entry renewed = entry.renew(now + timeToLive);
+                put(req, renewed);
+                write(req, renewed);
+                return renewed.toResponse(conf);
+            }
+            statistics.missed(false);
+            throw te;
+        }
+        statistics.missed(false);
+        if (res.getStatusCode() == HttpResponseCode.OK) {
+            Entry newEntry = new Entry(res.getStatusCode(), res.getResponseHeaderFields(), res.asString(), now + timeToLive);
+            put(req, newEntry);
+            write(req, newEntry);
+        }
+        return res;
+    }
+
+    private synchronized Entry get(HttpRequest req) {
+        Entry entry = entries.get(req);
+        if (entry != null && System.currentTimeMillis() >= entry.expires && !entry.isRevalidatable()) {
+            remove(req, false);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void put(HttpRequest req, Entry entry) {
+        remove(req, false);
+        if (entry.size > maxBytes) {
+            return;
+        }
+        entries.put(req, entry);
+        size += entry.size;
+        statistics.added(entry.size);
+        Iterator<Map.Entry<HttpRequest, Entry>> eldest = entries.entrySet().iterator();
+        while (size > maxBytes && eldest.hasNext()) {
+            Entry evicted = eldest.next().getValue();
+            eldest.remove();
+            size -= evicted.size;
+            statistics.removed(evicted.size, true);
+        }
+    }
+
+    private void remove(HttpRequest req, boolean evicted) {
+        Entry removed = entries.remove(req);
+        if (removed != null) {
+            size -= removed.size;
+            statistics.removed(removed.size, evicted);
+        }
+    }
+
+    /**
+     * @param req request
+     * @return key of the response on disk, made of what tells requests apart in memory: the method, the URL, the parameters and the authorization
+     */
+    static String getKey(HttpRequest req) {
+        StringBuilder key = new StringBuilder(req.getMethod().name()).append(' ').append(req.getURL());
+        HttpParameter[] parameters = req.getParameters();
+        if (parameters != null && parameters.length != 0) {
+            parameters = parameters.clone();
+            Arrays.sort(parameters);
+            key.append('\n').append(HttpParameter.encodeParameters(parameters));
+        }
+        Authorization auth = req.getAuthorization();
+        if (auth != null) {
+            // responses are per authorization, which is told apart by both its hash code and its (masked) string representation
+            key.append('\n').append(auth.getClass().getName()).append('\n').append(auth.hashCode()).append('\n').append(auth);
+        }
+        return key.toString();
+    }
+
+    private File getFile(HttpRequest req) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(getKey(req).getBytes("UTF-8"));
+            StringBuilder name = new StringBuilder(digest.length * 2 + 6);
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return new File(directory, name.append(".cache").toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private Entry read(HttpRequest req) {
+        File file = getFile(req);
+        if (!file.exists()) {
+            return null;
+        }
+        DataInputStream in = null;
+        Entry entry = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            entry = Entry.read(in);
+        } catch (IOException ioe) {
+            logger.debug("Failed to read the cached response: " + file, ioe.getMessage());
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }
+        if (entry == null || (System.currentTimeMillis() >= entry.expires && !entry.isRevalidatable())) {
+            file.delete();
+            return null;
+        }
+        return entry;
+    }
+
+    private void write(HttpRequest req, Entry entry) {
+        if (directory == null) {
+            return;
+        }
+        File file = getFile(req);
+        File tmp = new File(directory, file.getName() + "." + Thread.currentThread().getId() + ".tmp");
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+            entry.write(out);
+            out.close();
+            out = null;
+            // replace atomically so that concurrent readers never see a partial entry
+            if (!tmp.renameTo(file)) {
+                file.delete();
+                if (!tmp.renameTo(file)) {
+                    tmp.delete();
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warn("Failed to write the cached response: " + file, ioe.getMessage());
+            tmp.delete();
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException ignore) {
+                }
+                tmp.delete();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final int statusCode;
+        // rate limit headers are dropped as they are meaningless once the response is served again
+        private final Map<String, List<String>> headers;
+        private final String body;
+        private final long expires;
+        private final String etag;
+        private final String lastModified;
+        private final long size;
+
+        Entry(int statusCode, Map<String, List<String>> responseHeaders, String body, long expires) {
+            this.statusCode = statusCode;
+            this.headers = new HashMap<String, List<String>>();
+            if (responseHeaders != null) {
+                for (Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+                    String name = header.getKey();
+                    if (name != null && !name.toLowerCase(Locale.ENGLISH).startsWith("x-rate-limit")) {
+                        headers.put(name, new ArrayList<String>(header.getValue()));
+                    }
+                }
+            }
+            this.body = body;
+            this.expires = expires;
+            this.etag = getHeader(headers, "ETag");
+            this.lastModified = getHeader(headers, "Last-Modified");
+            this.size = ENTRY_OVERHEAD + (body != null ? body.length() * 2L : 0);
+        }
+
+        private Entry(Entry entry, long expires) {
+            this.statusCode = entry.statusCode;
+            this.headers = entry.headers;
+            this.body = entry.body;
+            this.expires = expires;
+            this.etag = entry.etag;
+            this.lastModified = entry.lastModified;
+            this.size = entry.size;
+        }
+
+        Entry renew(long expires) {
+            return new Entry(this, expires);
+        }
+
+        boolean isRevalidatable() {
+            return etag != null || lastModified != null;
+        }
+
+        HttpResponse toResponse(HttpClientConfiguration conf) {
+            return new CachedHttpResponse(conf, this);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(DISK_FORMAT_VERSION);
+            out.writeLong(expires);
+            out.writeInt(statusCode);
+            out.writeInt(headers.size());
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeInt(header.getValue().size());
+                for (String value : header.getValue()) {
+                    out.writeUTF(value);
+                }
+            }
+            byte[] bytes = body.getBytes("UTF-8");
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        /**
+         * @return the entry, or null if it has been written in another format
+         */
+        static Entry read(DataInputStream in) throws IOException {
+            if (in.readInt() != DISK_FORMAT_VERSION) {
+                return null;
+            }
+            long expires = in.readLong();
+            int statusCode = in.readInt();
+            int headerCount = in.readInt();
+            Map<String, List<String>> headers = new HashMap<String, List<String>>(headerCount * 2);
+            for (int i = 0; i < headerCount; i++) {
+                String name = in.readUTF();
+                int valueCount = in.readInt();
+                List<String> values = new ArrayList<String>(valueCount);
+                for (int j = 0; j < valueCount; j++) {
+                    values.add(in.readUTF());
+                }
+                headers.put(name, values);
+            }
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new Entry(statusCode, headers, new String(bytes, "UTF-8"), expires);
+        }
+
+        static String getHeader(Map<String, List<String>> headers, String name) {
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (name.equalsIgnoreCase(header.getKey()) && header.getValue().size() > 0) {
+                    return header.getValue().get(0);
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class CachedHttpResponse extends HttpResponse {
+        private final Entry entry;
+
+        CachedHttpResponse(HttpClientConfiguration conf, Entry entry) {
+            super(conf);
+            this.entry = entry;
+            this.statusCode = entry.statusCode;
+            this.responseAsString = entry.body;
+        }
+
+        @Override
+        public String getResponseHeader(String name) {
+            return Entry.getHeader(entry.headers, name);
+        }
+
+        @Override
+        public Map<String, List<String>> getResponseHeaderFields() {
+            return Collections.unmodifiableMap(entry.headers);
+        }
+
+        @Override
+        public void disconnect() {
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+/**
+ * Decides whether, and when, a failed HTTP request is retried.<br>
+ * Implementations must be thread safe, as a policy is shared by all requests of the HttpClient instances using the same configuration.
+ *
+ * @see FixedIntervalRetryPolicy
+ * @see ExponentialBackoffRetryPolicy
+ * @since Twitter4J 4.0.8
+ */
+public interface RetryPolicy extends java.io.Serializable {
+    /**
+     * Returns the delay before retrying a failed request.
+     *
+     * @param req          failed request
+     * @param retriedCount number of times the request has already been retried
+     * @param te           the failure. The status code is -1 and the cause is an IOException if no response has been received
+     * @return delay in milliseconds, or -1 to give up and throw the failure
+     */
+    long getRetryDelayMillis(HttpRequest req, int retriedCount, TwitterException te);
+}
@@ -72,7 +72,6 @@ class AccountSettingsJSONImpl extends TwitterResponseImpl implements AccountSett
     /*package*/ AccountSettingsJSONImpl(HttpResponse res, Configuration conf) throws TwitterException {
         this(res, res.asJSONObject());
         if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, res.asJSONObject());
         }
     }
@@ -41,7 +41,6 @@ class AccountTotalsJSONImpl extends TwitterResponseImpl implements AccountTotals
     /*package*/ AccountTotalsJSONImpl(HttpResponse res, Configuration conf) throws TwitterException {
         this(res, res.asJSONObject());
         if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, res.asJSONObject());
         }
     }
@@ -45,9 +45,6 @@ final class CategoryJSONImpl implements Category, java.io.Serializable {
 
     static ResponseList<Category> createCategoriesList(JSONArray array, HttpResponse res, Configuration conf) throws TwitterException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             ResponseList<Category> categories =
                     new ResponseListImpl<Category>(array.length(), res);
             for (int i = 0; i < array.length(); i++) {
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+/**
+ * Parses the fixed date formats returned by the API straight into epoch millis, without locking and without allocating
+ * on a cache hit.<br>
+ * Supported formats are created_at of statuses, users and lists ("EEE MMM d HH:mm:ss z yyyy" and its "dd" variant),
+ * ISO 8601 ("yyyy-MM-dd'T'HH:mm:ss'Z'") and RFC 1123 ("EEE, d MMM yyyy HH:mm:ss z") in UTC, GMT or numeric offsets.
+ * Anything else, including field values SimpleDateFormat would leniently roll over, is reported as {@link #UNPARSEABLE}
+ * so that the caller can fall back to SimpleDateFormat.<br>
+ * Statuses delivered in a burst share the same second, so recently parsed strings are kept in a small direct-mapped cache.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class DateParser {
+    static final long UNPARSEABLE = Long.MIN_VALUE;
+
+    private static final int CACHE_SIZE = 64;
+    private static final String MONTHS = "JanFebMarAprMayJunJulAugSepOctNovDec";
+    // entries are immutable and replaced as a whole, so racy reads see either a complete entry or none
+    private static final Entry[] cache = new Entry[CACHE_SIZE];
+
+    private DateParser() {
+        throw new AssertionError();
+    }
+
+    private static final class Entry {
+        final String text;
+        final long time;
+
+        Entry(String text, long time) {
+            this.text = text;
+            this.time = time;
+        }
+    }
+
+    /**
+     * @param text   date string
+     * @param format SimpleDateFormat pattern the string is expected to be in
+     * @return milliseconds since the epoch, or {@link #UNPARSEABLE} if the format or the string is not supported
+     */
+    static long parse(String text, String format) {
+        int kind = kindOf(format);
+        if (kind == 0) {
+            return UNPARSEABLE;
+        }
+        int hash = 0;
+        for (int i = 0; i < text.length(); i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+        Entry entry = cache[slot];
+        if (entry != null && entry.text.equals(text)) {
+            return entry.time;
+        }
+        long time;
+        switch (kind) {
+            case CREATED_AT:
+                time = parseCreatedAt(text);
+                break;
+            case ISO_8601:
+                time = parseISO8601(text);
+                break;
+            default:
+                time = parseRFC1123(text);
+        }
+        if (time != UNPARSEABLE) {
+            cache[slot] = new Entry(text, time);
+        }
+        return time;
+    }
+
+    private static final int CREATED_AT = 1;
+    private static final int ISO_8601 = 2;
+    private static final int RFC_1123 = 3;
+
+    private static int kindOf(String format) {
+        if ("EEE MMM d HH:mm:ss z yyyy".equals(format) || "EEE MMM dd HH:mm:ss z yyyy".equals(format)) {
+            return CREATED_AT;
+        } else if ("yyyy-MM-dd'T'HH:mm:ss'Z'".equals(format)) {
+            return ISO_8601;
+        } else if ("EEE, d MMM yyyy HH:mm:ss z".equals(format)) {
+            return RFC_1123;
+        }
+        return 0;
+    }
+
+    // Wed Oct 10 20:19:24 +0000 2018
+    private static long parseCreatedAt(String s) {
+        int len = s.length();
+        if (len < 26 || !isDayOfWeek(s, 0) || s.charAt(3) != ' ') {
+            return UNPARSEABLE;
+        }
+        int month = month(s, 4);
+        if (month == 0 || s.charAt(7) != ' ') {
+            return UNPARSEABLE;
+        }
+        int i = 8;
+        int dayEnd = i + 1 < len && isDigit(s.charAt(i + 1)) ? i + 2 : i + 1;
+        int day = digits(s, i, dayEnd);
+        i = dayEnd;
+        if (day < 0 || len < i + 18 || s.charAt(i) != ' ' || s.charAt(i + 9) != ' ' || s.charAt(len - 5) != ' ') {
+            return UNPARSEABLE;
+        }
+        int secondOfDay = time(s, i + 1);
+        long offset = offset(s, i + 10, len - 5);
+        int year = digits(s, len - 4, len);
+        return toMillis(year, month, day, secondOfDay, offset);
+    }
+
+    // 2018-10-10T20:19:24Z
+    private static long parseISO8601(String s) {
+        if (s.length() != 20 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T' || s.charAt(19) != 'Z') {
+            return UNPARSEABLE;
+        }
+        return toMillis(digits(s, 0, 4), digits(s, 5, 7), digits(s, 8, 10), time(s, 11), 0);
+    }
+
+    // Wed, 10 Oct 2018 20:19:24 +0000
+    private static long parseRFC1123(String s) {
+        int len = s.length();
+        if (len < 28 || !isDayOfWeek(s, 0) || s.charAt(3) != ',' || s.charAt(4) != ' ') {
+            return UNPARSEABLE;
+        }
+        int i = 5;
+        int dayEnd = i + 1 < len && isDigit(s.charAt(i + 1)) ? i + 2 : i + 1;
+        int day = digits(s, i, dayEnd);
+        i = dayEnd;
+        if (day < 0 || s.charAt(i) != ' ') {
+            return UNPARSEABLE;
+        }
+        int month = month(s, i + 1);
+        if (month == 0 || s.charAt(i + 4) != ' ' || s.charAt(i + 9) != ' ' || s.charAt(i + 18) != ' ') {
+            return UNPARSEABLE;
+        }
+        int year = digits(s, i + 5, i + 9);
+        int secondOfDay = time(s, i + 10);
+        long offset = offset(s, i + 19, len);
+        return toMillis(year, month, day, secondOfDay, offset);
+    }
+
+    private static boolean isDayOfWeek(String s, int i) {
+        return Character.isLetter(s.charAt(i)) && Character.isLetter(s.charAt(i + 1)) && Character.isLetter(s.charAt(i + 2));
+    }
+
+    /**
+     * @return 1 to 12, or 0 if the three letters at i are not an English month abbreviation
+     */
+    private static int month(String s, int i) {
+        for (int m = 0; m < 12; m++) {
+            if (MONTHS.regionMatches(m * 3, s, i, 3)) {
+                return m + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return '0' <= c && c <= '9';
+    }
+
+    /**
+     * @return the decimal value of s[start, end), or -1 if it contains something other than ASCII digits
+     */
+    private static int digits(String s, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * @return seconds of the day in HH:mm:ss at i, or -1 if malformed or out of range
+     */
+    private static int time(String s, int i) {
+        if (s.charAt(i + 2) != ':' || s.charAt(i + 5) != ':') {
+            return -1;
+        }
+        int hour = digits(s, i, i + 2);
+        int minute = digits(s, i + 3, i + 5);
+        int second = digits(s, i + 6, i + 8);
+        if (hour < 0 || 23 < hour || minute < 0 || 59 < minute || second < 0 || 59 < second) {
+            return -1;
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * @return offset from UTC in seconds of the zone in s[start, end), or {@link #UNPARSEABLE}
+     */
+    private static long offset(String s, int start, int end) {
+        int len = end - start;
+        if (len == 3 && (s.regionMatches(start, "UTC", 0, 3) || s.regionMatches(start, "GMT", 0, 3))) {
+            return 0;
+        }
+        if (len != 5) {
+            return UNPARSEABLE;
+        }
+        char sign = s.charAt(start);
+        int hours = digits(s, start + 1, start + 3);
+        int minutes = digits(s, start + 3, start + 5);
+        if ((sign != '+' && sign != '-') || hours < 0 || 23 < hours || minutes < 0 || 59 < minutes) {
+            return UNPARSEABLE;
+        }
+        int offset = hours * 3600 + minutes * 60;
+        return sign == '-' ? -offset : offset;
+    }
+
+    private static long toMillis(int year, int month, int day, int secondOfDay, long offset) {
+        if (year < 1583 || month < 1 || 12 < month || day < 1 || daysInMonth(year, month) < day
+                || secondOfDay < 0 || offset == UNPARSEABLE) {
+            return UNPARSEABLE;
+        }
+        return (daysSinceEpoch(year, month, day) * 86400L + secondOfDay - offset) * 1000L;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        }
+        return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+    }
+
+    // years before the Gregorian cutover are left to SimpleDateFormat, which switches to the Julian calendar
+    private static long daysSinceEpoch(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468L;
+    }
+}
@@ -51,7 +51,6 @@ import java.util.List;
             JSONObject event = json.getJSONObject("event");
             init(event);
             if (conf.isJSONStoreEnabled()) {
-                TwitterObjectFactory.clearThreadLocalMap();
                 TwitterObjectFactory.registerJSONObject(this, event);
             }
         } catch (JSONException jsone) {
@@ -129,9 +128,6 @@ import java.util.List;
 
     static DirectMessageList createDirectMessageList(HttpResponse res, Configuration conf) throws TwitterException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONArray list;
             DirectMessageList directMessages;
             try {
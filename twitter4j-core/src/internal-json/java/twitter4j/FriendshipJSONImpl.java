@@ -53,9 +53,6 @@ class FriendshipJSONImpl implements Friendship {
     /*package*/
     static ResponseList<Friendship> createFriendshipList(HttpResponse res, Configuration conf) throws TwitterException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONArray list = res.asJSONArray();
             int size = list.length();
             ResponseList<Friendship> friendshipList = new ResponseListImpl<Friendship>(size, res);
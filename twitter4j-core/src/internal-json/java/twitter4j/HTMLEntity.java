@@ -43,47 +43,97 @@ final class HTMLEntity {
     }
 
     static String unescape(String original) {
-        String returnValue = null;
-        if (original != null) {
-            StringBuilder buf = new StringBuilder(original);
-            unescape(buf);
-            returnValue = buf.toString();
+        if (original == null || original.indexOf('&') == -1) {
+            return original;
         }
-        return returnValue;
+        char[] src = original.toCharArray();
+        // an entity reference is never shorter than the character it stands for
+        char[] dst = new char[src.length];
+        int length = 0;
+        for (int index = 0; index < src.length; ) {
+            int consumed = src[index] == '&' ? unescape(src, index, dst, length) : 0;
+            if (consumed > 0) {
+                length++;
+                index += consumed;
+            } else {
+                dst[length++] = src[index++];
+            }
+        }
+        return new String(dst, 0, length);
     }
 
     static void unescape(StringBuilder original) {
-        int index = 0;
-        int semicolonIndex;
-        String escaped;
-        String entity;
-        while (index < original.length()) {
-            index = original.indexOf("&", index);
-            if (-1 == index) {
-                break;
-            }
-            semicolonIndex = original.indexOf(";", index);
-            if (-1 != semicolonIndex) {
-                escaped = original.substring(index, semicolonIndex + 1);
-                entity = escapeEntityMap.get(escaped);
-                if (entity != null) {
-                    original.replace(index, semicolonIndex + 1, entity);
+        if (original.indexOf("&") != -1) {
+            String unescaped = unescape(original.toString());
+            original.setLength(0);
+            original.append(unescaped);
+        }
+    }
+
+    /**
+     * Unescapes the entity reference starting at src[index], which must be '&amp;'.
+     *
+     * @param src   source characters
+     * @param index index of '&amp;'
+     * @param dst   destination to write the unescaped character to
+     * @param out   index in dst
+     * @return number of source characters consumed, or 0 if there is no known entity reference at index
+     */
+    private static int unescape(char[] src, int index, char[] dst, int out) {
+        int limit = Math.min(src.length, index + MAX_REFERENCE_LENGTH);
+        int hash = '&';
+        for (int i = index + 1; i < limit; i++) {
+            char c = src[i];
+            hash = 31 * hash + c;
+            if (c == ';') {
+                int length = i - index + 1;
+                for (int slot = hash & (REFERENCES.length - 1); REFERENCES[slot] != null; slot = (slot + 1) & (REFERENCES.length - 1)) {
+                    if (matches(REFERENCES[slot], src, index, length)) {
+                        dst[out] = CHARACTERS[slot];
+                        return length;
+                    }
                 }
-                index++;
-            } else {
-                break;
+                return 0;
+            } else if (c == '&') {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean matches(String reference, char[] src, int index, int length) {
+        if (reference.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (reference.charAt(i) != src[index + i]) {
+                return false;
             }
         }
+        return true;
     }
 
     /**
-	 * @author Yusuke Yamamoto - yusuke at mac.com
-	 * @author Philip Hachey - philip dot hachey at gmail dot com
-	 */	
+     * @author Yusuke Yamamoto - yusuke at mac.com
+     * @author Philip Hachey - philip dot hachey at gmail dot com
+     */
     static String unescapeAndSlideEntityIncdices(String text, UserMentionEntity[] userMentionEntities,
                                                  URLEntity[] urlEntities, HashtagEntity[] hashtagEntities,
                                                  MediaEntity[] mediaEntities) {
-        
+        int length = text.length();
+        int firstSpecial = 0;
+        while (firstSpecial < length) {
+            char c = text.charAt(firstSpecial);
+            if (c == '&' || Character.isHighSurrogate(c)) {
+                break;
+            }
+            firstSpecial++;
+        }
+        if (firstSpecial == length) {
+            // nothing to unescape and code point indices are char indices
+            return text;
+        }
+
         int entityIndexesLength = 0;
         entityIndexesLength += userMentionEntities == null ? 0 : userMentionEntities.length;
         entityIndexesLength += urlEntities == null ? 0 : urlEntities.length;
@@ -96,17 +146,17 @@ final class HTMLEntity {
             System.arraycopy(userMentionEntities, 0, entityIndexes, copyStartIndex, userMentionEntities.length);
             copyStartIndex += userMentionEntities.length;
         }
-        
+
         if (urlEntities != null) {
             System.arraycopy(urlEntities, 0, entityIndexes, copyStartIndex, urlEntities.length);
             copyStartIndex += urlEntities.length;
         }
-        
+
         if (hashtagEntities != null) {
             System.arraycopy(hashtagEntities, 0, entityIndexes, copyStartIndex, hashtagEntities.length);
             copyStartIndex += hashtagEntities.length;
         }
-        
+
         if (mediaEntities != null) {
             System.arraycopy(mediaEntities, 0, entityIndexes, copyStartIndex, mediaEntities.length);
         }
@@ -115,69 +165,65 @@ final class HTMLEntity {
         boolean handlingStart = true;
         int entityIndex = 0;
 
-        int delta = 0;
-        int semicolonIndex;
-        String escaped;
-        String entity;
-        StringBuilder unescaped = new StringBuilder(text.length());
-        
-		/*
-		 * Slide indices of twitter entities not only when replacing character
-		 * entity references but also adjust the twitter code point based
-		 * indexes with Java standard character indexes. See: HTMLEntityTest.
-		 * testUnescapeAndSlideEntityIncdicesWithSurrogateCodePoints
-		 */
-		int textCodePointLength = text.codePointCount(0, text.length());
-		int codePoint;
-		for (int index = 0, twitterIndex = 0; index < text.length(); index +=
-				Character.charCount(codePoint), twitterIndex++) {
-			codePoint = text.codePointAt(index);
-			if (codePoint == '&') {
-				semicolonIndex = text.indexOf(";", index);
-				if (-1 != semicolonIndex) {
-					escaped = text.substring(index, semicolonIndex + 1);
-					entity = escapeEntityMap.get(escaped);
-					if (entity != null) {
-						unescaped.append(entity);
-						index = semicolonIndex;
-						twitterIndex = text.codePointCount(0, semicolonIndex);
-						delta = 1 - escaped.length();
-					} else {
-						unescaped.appendCodePoint(codePoint);
-					}
-				} else {
-					unescaped.appendCodePoint(codePoint);
-				}
-			} else {
-				unescaped.appendCodePoint(codePoint);
-			}
-			if (entityIndex < entityIndexes.length) {
-				if (handlingStart) {
-					if (entityIndexes[entityIndex].getStart() == (delta + twitterIndex)) {
-						entityIndexes[entityIndex]
-								.setStart(unescaped.length() - Character.charCount(text.codePointAt(index)));
-						handlingStart = false;
-					}
-				} else if (entityIndexes[entityIndex].getEnd() == (delta + twitterIndex)) {
-					entityIndexes[entityIndex]
-							.setEnd(unescaped.length() - Character.charCount(text.codePointAt(index)));
-					entityIndex++;
-					handlingStart = true;
-				}
-			}
-			delta = 0;
-		}
-		if (entityIndex < entityIndexes.length) {
-			if (entityIndexes[entityIndex].getEnd() == textCodePointLength) {
-				entityIndexes[entityIndex].setEnd(unescaped.length());
-			}
-		}
-
-        return unescaped.toString();
+        /*
+         * Slide indices of twitter entities not only when replacing character
+         * entity references but also adjust the twitter code point based
+         * indexes with Java standard character indexes. See: HTMLEntityTest.
+         * testUnescapeAndSlideEntityIncdicesWithSurrogateCodePoints
+         */
+        char[] src = text.toCharArray();
+        char[] dst = new char[length];
+        // the prefix has neither references nor surrogates, so its code point indices equal its char indices
+        System.arraycopy(src, 0, dst, 0, firstSpecial);
+        int out = firstSpecial;
+        int twitterIndex = firstSpecial;
+        for (int index = firstSpecial; ; ) {
+            while (entityIndex < entityIndexes.length) {
+                EntityIndex entity = entityIndexes[entityIndex];
+                if (handlingStart && entity.getStart() <= twitterIndex) {
+                    if (entity.getStart() == twitterIndex) {
+                        entity.setStart(out);
+                    }
+                    handlingStart = false;
+                } else if (!handlingStart && entity.getEnd() <= twitterIndex) {
+                    if (entity.getEnd() == twitterIndex) {
+                        entity.setEnd(out);
+                    }
+                    entityIndex++;
+                    handlingStart = true;
+                } else {
+                    break;
+                }
+            }
+            if (index == length) {
+                break;
+            }
+            char c = src[index];
+            int consumed;
+            if (c == '&' && (consumed = unescape(src, index, dst, out)) > 0) {
+                out++;
+                index += consumed;
+                // references are ASCII, one code point per char
+                twitterIndex += consumed;
+            } else if (Character.isHighSurrogate(c) && index + 1 < length && Character.isLowSurrogate(src[index + 1])) {
+                dst[out++] = c;
+                dst[out++] = src[index + 1];
+                index += 2;
+                twitterIndex++;
+            } else {
+                dst[out++] = c;
+                index++;
+                twitterIndex++;
+            }
+        }
+        return new String(dst, 0, out);
     }
 
     private static final Map<String, String> entityEscapeMap = new HashMap<String, String>();
-    private static final Map<String, String> escapeEntityMap = new HashMap<String, String>();
+    // open addressing table of entity references, named and numeric, hashed as String.hashCode() does
+    private static final String[] REFERENCES = new String[1024];
+    private static final char[] CHARACTERS = new char[REFERENCES.length];
+    private static final int MAX_REFERENCE_LENGTH;
 
     static {
         String[][] entities =
@@ -460,10 +506,19 @@ final class HTMLEntity {
                         , {"&rsaquo;", "&#8250;"/* single right-pointing angle quotation mark */, "\u203A"}
 /* rsaquo is proposed but not yet ISO standardized */
                         , {"&euro;", "&#8364;" /* euro sign */, "\u20AC"}};
+        int maxReferenceLength = 0;
         for (String[] entity : entities) {
             entityEscapeMap.put(entity[2], entity[0]);
-            escapeEntityMap.put(entity[0], entity[2]);
-            escapeEntityMap.put(entity[1], entity[2]);
+            for (int i = 0; i < 2; i++) {
+                int slot = entity[i].hashCode() & (REFERENCES.length - 1);
+                while (REFERENCES[slot] != null) {
+                    slot = (slot + 1) & (REFERENCES.length - 1);
+                }
+                REFERENCES[slot] = entity[i];
+                CHARACTERS[slot] = entity[2].charAt(0);
+                maxReferenceLength = Math.max(maxReferenceLength, entity[i].length());
+            }
         }
+        MAX_REFERENCE_LENGTH = maxReferenceLength;
     }
 }
@@ -37,7 +37,6 @@ import java.util.Arrays;
         String json = res.asString();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, json);
         }
     }
@@ -46,38 +45,84 @@ import java.util.Arrays;
         init(json);
     }
 
+    /*package*/ IDsJSONImpl(HttpResponse res, JSONPullParser parser) throws TwitterException {
+        super(res);
+        try {
+            if (parser.peek() == JSONPullParser.BEGIN_OBJECT) {
+                parser.beginObject();
+                while (parser.hasNext()) {
+                    String name = parser.nextName();
+                    if ("ids".equals(name)) {
+                        ids = readIDs(parser);
+                    } else if ("previous_cursor".equals(name)) {
+                        previousCursor = parser.nextLong();
+                    } else if ("next_cursor".equals(name)) {
+                        nextCursor = parser.nextLong();
+                    } else {
+                        parser.skipValue();
+                    }
+                }
+                parser.endObject();
+            } else {
+                ids = readIDs(parser);
+            }
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
     private void init(String jsonStr) throws TwitterException {
-        JSONArray idList;
         try {
             if (jsonStr.startsWith("{")) {
                 JSONObject json = new JSONObject(jsonStr);
-                idList = json.getJSONArray("ids");
-                ids = new long[idList.length()];
-                for (int i = 0; i < idList.length(); i++) {
-                    try {
-                        ids[i] = Long.parseLong(idList.getString(i));
-                    } catch (NumberFormatException nfe) {
-                        throw new TwitterException("Twitter API returned malformed response: " + json, nfe);
-                    }
-                }
+                ids = toLongArray(json.getJSONArray("ids"), json);
                 previousCursor = ParseUtil.getLong("previous_cursor", json);
                 nextCursor = ParseUtil.getLong("next_cursor", json);
             } else {
-                idList = new JSONArray(jsonStr);
-                ids = new long[idList.length()];
-                for (int i = 0; i < idList.length(); i++) {
-                    try {
-                        ids[i] = Long.parseLong(idList.getString(i));
-                    } catch (NumberFormatException nfe) {
-                        throw new TwitterException("Twitter API returned malformed response: " + idList, nfe);
-                    }
-                }
+                JSONArray idList = new JSONArray(jsonStr);
+                ids = toLongArray(idList, idList);
             }
         } catch (JSONException jsone) {
             throw new TwitterException(jsone);
         }
     }
 
+    private static long[] toLongArray(JSONArray idList, Object response) throws TwitterException {
+        long[] ids = new long[idList.length()];
+        for (int i = 0; i < ids.length; i++) {
+            try {
+                ids[i] = idList.getLong(i);
+            } catch (JSONException jsone) {
+                throw new TwitterException("Twitter API returned malformed response: " + response, jsone);
+            }
+        }
+        return ids;
+    }
+
+    private static long[] readIDs(JSONPullParser parser) throws JSONException {
+        long[] ids = new long[256];
+        int size = 0;
+        parser.beginArray();
+        while (parser.hasNext()) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = parser.nextLong();
+        }
+        parser.endArray();
+        return size == ids.length ? ids : Arrays.copyOf(ids, size);
+    }
+
+    /*package*/
+    static IDs createIDs(final HttpResponse res) throws TwitterException {
+        return res.bindJSON(new JSONPullParser.Binder<IDs>() {
+            @Override
+            public IDs bind(JSONPullParser parser) throws TwitterException {
+                return new IDsJSONImpl(res, parser);
+            }
+        });
+    }
+
     @Override
     public long[] getIDs() {
         return ids;
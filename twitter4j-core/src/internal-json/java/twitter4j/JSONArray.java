@@ -402,6 +402,9 @@ public class JSONArray {
      */
     public double getDouble(int index) throws JSONException {
         Object object = get(index);
+        if (object instanceof Number) {
+            return ((Number) object).doubleValue();
+        }
         Double result = JSON.toDouble(object);
         if (result == null) {
             throw JSON.typeMismatch(index, object, "double");
@@ -430,6 +433,9 @@ public class JSONArray {
      */
     public double optDouble(int index, double fallback) {
         Object object = opt(index);
+        if (object instanceof Number) {
+            return ((Number) object).doubleValue();
+        }
         Double result = JSON.toDouble(object);
         return result != null ? result : fallback;
     }
@@ -445,6 +451,9 @@ public class JSONArray {
      */
     public int getInt(int index) throws JSONException {
         Object object = get(index);
+        if (object instanceof Number) {
+            return ((Number) object).intValue();
+        }
         Integer result = JSON.toInteger(object);
         if (result == null) {
             throw JSON.typeMismatch(index, object, "int");
@@ -473,6 +482,9 @@ public class JSONArray {
      */
     public int optInt(int index, int fallback) {
         Object object = opt(index);
+        if (object instanceof Number) {
+            return ((Number) object).intValue();
+        }
         Integer result = JSON.toInteger(object);
         return result != null ? result : fallback;
     }
@@ -488,6 +500,9 @@ public class JSONArray {
      */
     public long getLong(int index) throws JSONException {
         Object object = get(index);
+        if (object instanceof Number) {
+            return ((Number) object).longValue();
+        }
         Long result = JSON.toLong(object);
         if (result == null) {
             throw JSON.typeMismatch(index, object, "long");
@@ -516,6 +531,9 @@ public class JSONArray {
      */
     public long optLong(int index, long fallback) {
         Object object = opt(index);
+        if (object instanceof Number) {
+            return ((Number) object).longValue();
+        }
         Long result = JSON.toLong(object);
         return result != null ? result : fallback;
     }
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Iterator;
+
+/**
+ * Writes a JSON request body straight into a reusable UTF-8 byte buffer, without building a JSONObject tree and without String copies of the body.<br>
+ * The API mirrors {@link JSONStringer}: exactly one top-level value, balanced scopes, and alternating keys and values in objects. Calls that
+ * would result in malformed JSON fail with a {@link JSONException}.<br>
+ * Writers are reused per thread; the body returned by {@link #getBytes()} is valid until {@link #release()} is called.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class JSONBodyWriter {
+    private static final int INITIAL_SIZE = 1024;
+    // buffers grown beyond this size are dropped on release instead of being kept by the thread
+    private static final int MAX_RETAINED_SIZE = 256 * 1024;
+    private static final int MAX_DEPTH = 32;
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_KEY = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+
+    private static final ThreadLocal<JSONBodyWriter> writers = new ThreadLocal<JSONBodyWriter>() {
+        @Override
+        protected JSONBodyWriter initialValue() {
+            return new JSONBodyWriter();
+        }
+    };
+
+    private byte[] bytes = new byte[INITIAL_SIZE];
+    private int length = 0;
+    private final int[] stack = new int[MAX_DEPTH];
+    private int depth = 0;
+    private boolean written = false;
+    private boolean inUse = false;
+
+    JSONBodyWriter() {
+    }
+
+    /**
+     * @return the writer of the calling thread, or a new one if the thread's writer is already in use
+     */
+    static JSONBodyWriter acquire() {
+        JSONBodyWriter writer = writers.get();
+        if (writer.inUse) {
+            return new JSONBodyWriter();
+        }
+        writer.inUse = true;
+        return writer;
+    }
+
+    /**
+     * Makes the writer available for the next body written by the thread.
+     */
+    void release() {
+        length = 0;
+        depth = 0;
+        written = false;
+        inUse = false;
+        if (bytes.length > MAX_RETAINED_SIZE) {
+            bytes = new byte[INITIAL_SIZE];
+        }
+    }
+
+    JSONBodyWriter object() throws JSONException {
+        return open(EMPTY_OBJECT, '{');
+    }
+
+    JSONBodyWriter endObject() throws JSONException {
+        return close(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    JSONBodyWriter array() throws JSONException {
+        return open(EMPTY_ARRAY, '[');
+    }
+
+    JSONBodyWriter endArray() throws JSONException {
+        return close(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    JSONBodyWriter key(String name) throws JSONException {
+        if (name == null) {
+            throw new JSONException("Names must be non-null");
+        }
+        int scope = peek();
+        if (scope == NONEMPTY_OBJECT) {
+            write(',');
+        } else if (scope != EMPTY_OBJECT) {
+            throw new JSONException("Nesting problem");
+        }
+        stack[depth - 1] = DANGLING_KEY;
+        string(name);
+        return this;
+    }
+
+    /**
+     * @param value a {@link JSONObject}, {@link JSONArray}, String, Boolean, Number or null
+     * @return this writer
+     * @throws JSONException on nesting problems
+     */
+    JSONBodyWriter value(Object value) throws JSONException {
+        if (value instanceof JSONObject) {
+            JSONObject json = (JSONObject) value;
+            object();
+            Iterator<String> keys = json.keys();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                key(key).value(json.opt(key));
+            }
+            return endObject();
+        } else if (value instanceof JSONArray) {
+            JSONArray json = (JSONArray) value;
+            array();
+            for (int i = 0; i < json.length(); i++) {
+                value(json.opt(i));
+            }
+            return endArray();
+        }
+        beforeValue();
+        if (value == null || value == JSONObject.NULL) {
+            ascii("null");
+        } else if (value instanceof Boolean) {
+            ascii(value.toString());
+        } else if (value instanceof Number) {
+            ascii(JSONObject.numberToString((Number) value));
+        } else {
+            string(value.toString());
+        }
+        return this;
+    }
+
+    JSONBodyWriter value(String value) throws JSONException {
+        beforeValue();
+        if (value == null) {
+            ascii("null");
+        } else {
+            string(value);
+        }
+        return this;
+    }
+
+    JSONBodyWriter value(long value) throws JSONException {
+        beforeValue();
+        if (value == Long.MIN_VALUE) {
+            ascii(Long.toString(value));
+            return this;
+        }
+        if (value < 0) {
+            write('-');
+            value = -value;
+        }
+        int start = length;
+        do {
+            write((char) ('0' + value % 10));
+            value /= 10;
+        } while (value != 0);
+        // digits have been written least significant first
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            byte b = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = b;
+        }
+        return this;
+    }
+
+    JSONBodyWriter value(boolean value) throws JSONException {
+        beforeValue();
+        ascii(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * @return the buffer holding the body in its first {@link #length()} bytes
+     */
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return length of the body in bytes
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * @return a copy of the body
+     */
+    byte[] toByteArray() {
+        byte[] copy = new byte[length];
+        System.arraycopy(bytes, 0, copy, 0, length);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return new String(bytes, 0, length, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private JSONBodyWriter open(int empty, char openBracket) throws JSONException {
+        if (depth == MAX_DEPTH) {
+            throw new JSONException("Nesting too deep");
+        }
+        beforeValue();
+        stack[depth++] = empty;
+        write(openBracket);
+        return this;
+    }
+
+    private JSONBodyWriter close(int empty, int nonempty, char closeBracket) throws JSONException {
+        int scope = peek();
+        if (scope != nonempty && scope != empty) {
+            throw new JSONException("Nesting problem");
+        }
+        depth--;
+        write(closeBracket);
+        return this;
+    }
+
+    private int peek() throws JSONException {
+        if (depth == 0) {
+            throw new JSONException("Nesting problem");
+        }
+        return stack[depth - 1];
+    }
+
+    private void beforeValue() throws JSONException {
+        if (depth == 0) {
+            if (written) {
+                throw new JSONException("Nesting problem: multiple top-level roots");
+            }
+            written = true;
+            return;
+        }
+        int scope = stack[depth - 1];
+        if (scope == EMPTY_ARRAY) {
+            stack[depth - 1] = NONEMPTY_ARRAY;
+        } else if (scope == NONEMPTY_ARRAY) {
+            write(',');
+        } else if (scope == DANGLING_KEY) {
+            write(':');
+            stack[depth - 1] = NONEMPTY_OBJECT;
+        } else {
+            throw new JSONException("Nesting problem");
+        }
+    }
+
+    /**
+     * Writes a quoted string, escaped the way {@link JSONStringer} does and encoded as UTF-8.
+     */
+    private void string(String value) {
+        int valueLength = value.length();
+        // worst case: every char escaped as \\uXXXX, which is longer than any UTF-8 sequence
+        ensureCapacity(valueLength * 6 + 2);
+        byte[] bytes = this.bytes;
+        int length = this.length;
+        bytes[length++] = '"';
+        for (int i = 0; i < valueLength; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                switch (c) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        bytes[length++] = '\\';
+                        bytes[length++] = (byte) c;
+                        break;
+                    case '\t':
+                        bytes[length++] = '\\';
+                        bytes[length++] = 't';
+                        break;
+                    case '\b':
+                        bytes[length++] = '\\';
+                        bytes[length++] = 'b';
+                        break;
+                    case '\n':
+                        bytes[length++] = '\\';
+                        bytes[length++] = 'n';
+                        break;
+                    case '\r':
+                        bytes[length++] = '\\';
+                        bytes[length++] = 'r';
+                        break;
+                    case '\f':
+                        bytes[length++] = '\\';
+                        bytes[length++] = 'f';
+                        break;
+                    default:
+                        if (c <= 0x1F) {
+                            bytes[length++] = '\\';
+                            bytes[length++] = 'u';
+                            bytes[length++] = '0';
+                            bytes[length++] = '0';
+                            bytes[length++] = HEX[c >> 4];
+                            bytes[length++] = HEX[c & 0xF];
+                        } else {
+                            bytes[length++] = (byte) c;
+                        }
+                        break;
+                }
+            } else if (c < 0x800) {
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < valueLength && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                // unpaired surrogate, replaced as String.getBytes("UTF-8") does
+                bytes[length++] = '?';
+            } else {
+                bytes[length++] = (byte) (0xE0 | (c >> 12));
+                bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        bytes[length++] = '"';
+        this.length = length;
+    }
+
+    private void ascii(String value) {
+        int valueLength = value.length();
+        ensureCapacity(valueLength);
+        for (int i = 0; i < valueLength; i++) {
+            bytes[length++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void write(char c) {
+        ensureCapacity(1);
+        bytes[length++] = (byte) c;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (length + additional > bytes.length) {
+            byte[] grown = new byte[Math.max(length + additional, bytes.length * 2)];
+            System.arraycopy(bytes, 0, grown, 0, length);
+            bytes = grown;
+        }
+    }
+
+    /**
+     * Request body written on demand, each time the request is sent.
+     */
+    interface Body {
+        void writeTo(JSONBodyWriter writer) throws JSONException;
+    }
+}
@@ -31,16 +31,25 @@ class JSONImplFactory implements ObjectFactory {
 
     public JSONImplFactory(Configuration conf) {
         this.conf = conf;
+        StringDedupPool.configure(conf);
+    }
+
+    /**
+     * Statuses and users are bound straight from the response bytes when the streaming parser is enabled.
+     * The JSON store and lazy binding need the JSONObject tree, so they take precedence.
+     */
+    private boolean isStreamingParserApplicable() {
+        return conf.isJSONStreamingParserEnabled() && !conf.isJSONStoreEnabled() && !conf.isJSONLazyBindingEnabled();
     }
 
     @Override
     public Status createStatus(JSONObject json) throws TwitterException {
-        return new StatusJSONImpl(json);
+        return new StatusJSONImpl(json, conf.isJSONLazyBindingEnabled());
     }
 
     @Override
     public User createUser(JSONObject json) throws TwitterException {
-        return new UserJSONImpl(json);
+        return new UserJSONImpl(json, conf.isJSONLazyBindingEnabled());
     }
 
     @Override
@@ -56,11 +65,17 @@ class JSONImplFactory implements ObjectFactory {
 
     @Override
     public Status createStatus(HttpResponse res) throws TwitterException {
+        if (isStreamingParserApplicable()) {
+            return StatusJSONImpl.createStatus(res);
+        }
         return new StatusJSONImpl(res, conf);
     }
 
     @Override
     public ResponseList<Status> createStatusList(HttpResponse res) throws TwitterException {
+        if (isStreamingParserApplicable()) {
+            return StatusJSONImpl.createStatusList(res);
+        }
         return StatusJSONImpl.createStatusList(res, conf);
     }
 
@@ -88,6 +103,48 @@ class JSONImplFactory implements ObjectFactory {
         return null;
     }
 
+    /**
+     * returns a GeoLocation instance from the "coordinates" element the parser is positioned at.
+     *
+     * @param parser parser positioned at the value of the "coordinates" element
+     * @return GeoLocation instance
+     * @throws TwitterException when coordinates is not included in the element (should be an API side issue)
+     */
+    /*package*/
+    static GeoLocation createGeoLocation(JSONPullParser parser) throws TwitterException {
+        try {
+            GeoLocation geoLocation = null;
+            parser.beginObject();
+            while (parser.hasNext()) {
+                String name = parser.nextName();
+                if (parser.nextNull()) {
+                    continue;
+                }
+                if ("coordinates".equals(name)) {
+                    // the point is expressed as [longitude, latitude]
+                    parser.beginArray();
+                    double longitude = Double.parseDouble(parser.nextString());
+                    parser.hasNext();
+                    double latitude = Double.parseDouble(parser.nextString());
+                    while (parser.hasNext()) {
+                        parser.skipValue();
+                    }
+                    parser.endArray();
+                    geoLocation = new GeoLocation(latitude, longitude);
+                } else {
+                    parser.skipValue();
+                }
+            }
+            parser.endObject();
+            if (geoLocation == null) {
+                throw new JSONException("No value for coordinates");
+            }
+            return geoLocation;
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+    }
+
     /*package*/
     static GeoLocation[][] coordinatesAsGeoLocationArray(JSONArray coordinates) throws TwitterException {
         try {
@@ -117,11 +174,17 @@ class JSONImplFactory implements ObjectFactory {
 
     @Override
     public User createUser(HttpResponse res) throws TwitterException {
+        if (isStreamingParserApplicable()) {
+            return UserJSONImpl.createUser(res);
+        }
         return new UserJSONImpl(res, conf);
     }
 
     @Override
     public ResponseList<User> createUserList(HttpResponse res) throws TwitterException {
+        if (isStreamingParserApplicable()) {
+            return UserJSONImpl.createUserList(res);
+        }
         return UserJSONImpl.createUserList(res, conf);
     }
 
@@ -154,11 +217,17 @@ class JSONImplFactory implements ObjectFactory {
 
     @Override
     public IDs createIDs(HttpResponse res) throws TwitterException {
+        if (isStreamingParserApplicable()) {
+            return IDsJSONImpl.createIDs(res);
+        }
         return new IDsJSONImpl(res, conf);
     }
 
     @Override
     public PagableResponseList<User> createPagableUserList(HttpResponse res) throws TwitterException {
+        if (isStreamingParserApplicable()) {
+            return UserJSONImpl.createPagableUserList(res);
+        }
         return UserJSONImpl.createPagableUserList(res, conf);
     }
 
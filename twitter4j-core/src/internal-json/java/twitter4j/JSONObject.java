@@ -504,6 +504,9 @@ public class JSONObject {
      */
     public double getDouble(String name) throws JSONException {
         Object object = get(name);
+        if (object instanceof Number) {
+            return ((Number) object).doubleValue();
+        }
         Double result = JSON.toDouble(object);
         if (result == null) {
             throw JSON.typeMismatch(name, object, "double");
@@ -532,6 +535,9 @@ public class JSONObject {
      */
     public double optDouble(String name, double fallback) {
         Object object = opt(name);
+        if (object instanceof Number) {
+            return ((Number) object).doubleValue();
+        }
         Double result = JSON.toDouble(object);
         return result != null ? result : fallback;
     }
@@ -547,6 +553,9 @@ public class JSONObject {
      */
     public int getInt(String name) throws JSONException {
         Object object = get(name);
+        if (object instanceof Number) {
+            return ((Number) object).intValue();
+        }
         Integer result = JSON.toInteger(object);
         if (result == null) {
             throw JSON.typeMismatch(name, object, "int");
@@ -575,6 +584,9 @@ public class JSONObject {
      */
     public int optInt(String name, int fallback) {
         Object object = opt(name);
+        if (object instanceof Number) {
+            return ((Number) object).intValue();
+        }
         Integer result = JSON.toInteger(object);
         return result != null ? result : fallback;
     }
@@ -594,6 +606,9 @@ public class JSONObject {
      */
     public long getLong(String name) throws JSONException {
         Object object = get(name);
+        if (object instanceof Number) {
+            return ((Number) object).longValue();
+        }
         Long result = JSON.toLong(object);
         if (result == null) {
             throw JSON.typeMismatch(name, object, "long");
@@ -625,6 +640,9 @@ public class JSONObject {
      */
     public long optLong(String name, long fallback) {
         Object object = opt(name);
+        if (object instanceof Number) {
+            return ((Number) object).longValue();
+        }
         Long result = JSON.toLong(object);
         return result != null ? result : fallback;
     }
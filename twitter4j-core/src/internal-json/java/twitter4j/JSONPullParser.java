@@ -0,0 +1,623 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+/**
+ * A forward-only JSON parser reading UTF-8 bytes in place, used to bind entities without building a {@link JSONObject} tree.<br>
+ * Binders walk objects with {@link #beginObject()}, {@link #hasNext()}, {@link #nextName()} and {@link #endObject()}, read the values they bind and {@link #skipValue()} the others.
+ * Values are converted with the same rules as {@link ParseUtil}, so that both paths bind identical entities.<br>
+ * Names are interned, which makes comparing them against literals with equals() cheap.
+ * Instances of this class are not thread safe.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class JSONPullParser {
+    static final int BEGIN_OBJECT = 1;
+    static final int END_OBJECT = 2;
+    static final int BEGIN_ARRAY = 3;
+    static final int END_ARRAY = 4;
+    static final int STRING = 5;
+    static final int NUMBER = 6;
+    static final int BOOLEAN = 7;
+    static final int NULL = 8;
+    static final int END_DOCUMENT = 9;
+
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+    private static final int NAME_CACHE_SIZE = 1024;
+    // shared by all parsers. entries are immutable Strings, so a racy read costs nothing more than a cache miss
+    private static final String[] NAME_CACHE = new String[NAME_CACHE_SIZE];
+
+    /**
+     * Creates a result from the parser.
+     *
+     * @param <T> type of the result
+     */
+    interface Binder<T> {
+        T bind(JSONPullParser parser) throws TwitterException;
+    }
+
+    private final byte[] in;
+    private final int limit;
+    private int pos;
+    private char[] chars = new char[64];
+
+    /**
+     * @param in     UTF-8 encoded JSON
+     * @param offset position of the first byte to parse
+     * @param length number of bytes to parse
+     */
+    JSONPullParser(byte[] in, int offset, int length) {
+        this.in = in;
+        this.pos = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * @return type of the next token, without consuming it
+     * @throws JSONException when the next token is not valid JSON
+     */
+    int peek() throws JSONException {
+        int c = skipWhitespace();
+        switch (c) {
+            case -1:
+                return END_DOCUMENT;
+            case '{':
+                return BEGIN_OBJECT;
+            case '}':
+                return END_OBJECT;
+            case '[':
+                return BEGIN_ARRAY;
+            case ']':
+                return END_ARRAY;
+            case '"':
+                return STRING;
+            case 't':
+            case 'f':
+                return BOOLEAN;
+            case 'n':
+                return NULL;
+            default:
+                if (c == '-' || ('0' <= c && c <= '9')) {
+                    return NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    void beginObject() throws JSONException {
+        expect('{');
+    }
+
+    void endObject() throws JSONException {
+        expect('}');
+    }
+
+    void beginArray() throws JSONException {
+        expect('[');
+    }
+
+    void endArray() throws JSONException {
+        expect(']');
+    }
+
+    /**
+     * Consumes the separator before the next member or element, if any.
+     *
+     * @return true if the current object or array has another member or element
+     */
+    boolean hasNext() {
+        int c = skipWhitespace();
+        if (c == ',') {
+            pos++;
+            c = skipWhitespace();
+        }
+        return c != '}' && c != ']' && c != -1;
+    }
+
+    /**
+     * @return name of the next member, positioning the parser at its value
+     * @throws JSONException when the next token is not a name
+     */
+    String nextName() throws JSONException {
+        expect('"');
+        String name = readName();
+        expect(':');
+        return name;
+    }
+
+    /**
+     * Reads the next value as {@link ParseUtil#getRawString(String, JSONObject)} does.
+     *
+     * @return the string value, the literal of a number or boolean, the JSON text of an object or array, or null for JSON null
+     * @throws JSONException when the next value is not valid JSON
+     */
+    String nextString() throws JSONException {
+        switch (peek()) {
+            case STRING:
+                pos++;
+                return readString();
+            case NUMBER:
+                int start = pos;
+                skipNumber();
+                return ascii(start, pos - start);
+            case BOOLEAN:
+                return String.valueOf(readBooleanLiteral());
+            case NULL:
+                readNullLiteral();
+                return null;
+            case BEGIN_OBJECT:
+            case BEGIN_ARRAY:
+                return nextValue().toString();
+            default:
+                throw syntaxError("Expected a value");
+        }
+    }
+
+    /**
+     * Reads the next value as {@link ParseUtil#getLong(String)} does.
+     *
+     * @return the value, or -1 for JSON null
+     * @throws JSONException when the next value is not valid JSON
+     */
+    long nextLong() throws JSONException {
+        if (peek() == NUMBER) {
+            int start = pos;
+            skipNumber();
+            long value = parseLong(start, pos);
+            if (value != Long.MIN_VALUE) {
+                return value;
+            }
+            return ParseUtil.getLong(ascii(start, pos - start));
+        }
+        return ParseUtil.getLong(nextString());
+    }
+
+    /**
+     * Reads the next value as {@link ParseUtil#getInt(String)} does.
+     *
+     * @return the value, or -1 for JSON null or a value out of the int range
+     * @throws JSONException when the next value is not valid JSON
+     */
+    int nextInt() throws JSONException {
+        if (peek() == NUMBER) {
+            int start = pos;
+            skipNumber();
+            long value = parseLong(start, pos);
+            if (Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return ParseUtil.getInt(ascii(start, pos - start));
+        }
+        return ParseUtil.getInt(nextString());
+    }
+
+    /**
+     * Reads the next value as {@link ParseUtil#getDouble(String, JSONObject)} does.
+     *
+     * @return the value, or -1 for JSON null
+     * @throws JSONException when the next value is not valid JSON
+     */
+    double nextDouble() throws JSONException {
+        String str = nextString();
+        if (null == str || "".equals(str) || "null".equals(str)) {
+            return -1;
+        }
+        return Double.valueOf(str);
+    }
+
+    /**
+     * Reads the next value as {@link ParseUtil#getBoolean(String, JSONObject)} does.
+     *
+     * @return the value, or false for JSON null
+     * @throws JSONException when the next value is not valid JSON
+     */
+    boolean nextBoolean() throws JSONException {
+        if (peek() == BOOLEAN) {
+            return readBooleanLiteral();
+        }
+        String str = nextString();
+        return str != null && Boolean.valueOf(str);
+    }
+
+    /**
+     * Consumes the next value if it is JSON null.
+     *
+     * @return true if the value was null
+     * @throws JSONException when the next token is not valid JSON
+     */
+    boolean nextNull() throws JSONException {
+        if (peek() == NULL) {
+            readNullLiteral();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips the next value, including nested objects and arrays, without decoding it.
+     *
+     * @throws JSONException when the next value is not valid JSON
+     */
+    void skipValue() throws JSONException {
+        int depth = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT:
+                case BEGIN_ARRAY:
+                    pos++;
+                    depth++;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    pos++;
+                    depth--;
+                    break;
+                case STRING:
+                    pos++;
+                    skipString();
+                    break;
+                case NUMBER:
+                    skipNumber();
+                    break;
+                case BOOLEAN:
+                    readBooleanLiteral();
+                    break;
+                case NULL:
+                    readNullLiteral();
+                    break;
+                default:
+                    throw syntaxError("Expected a value");
+            }
+            if (depth > 0) {
+                // member names are skipped as strings, separators along with them
+                int c = skipWhitespace();
+                if (c == ',' || c == ':') {
+                    pos++;
+                }
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Reads the next value into a tree, for parts of a document that are bound by the {@link JSONObject} based constructors.
+     *
+     * @return the next object
+     * @throws JSONException when the next value is not an object
+     */
+    JSONObject nextJSONObject() throws JSONException {
+        if (peek() != BEGIN_OBJECT) {
+            throw syntaxError("Expected an object");
+        }
+        return (JSONObject) nextValue();
+    }
+
+    /**
+     * @return the next array as a tree
+     * @throws JSONException when the next value is not an array
+     * @see #nextJSONObject()
+     */
+    JSONArray nextJSONArray() throws JSONException {
+        if (peek() != BEGIN_ARRAY) {
+            throw syntaxError("Expected an array");
+        }
+        return (JSONArray) nextValue();
+    }
+
+    private Object nextValue() throws JSONException {
+        switch (peek()) {
+            case BEGIN_OBJECT:
+                beginObject();
+                JSONObject object = new JSONObject();
+                while (hasNext()) {
+                    String name = nextName();
+                    object.put(name, nextValue());
+                }
+                endObject();
+                return object;
+            case BEGIN_ARRAY:
+                beginArray();
+                JSONArray array = new JSONArray();
+                while (hasNext()) {
+                    array.put(nextValue());
+                }
+                endArray();
+                return array;
+            case STRING:
+                pos++;
+                return readString();
+            case NUMBER:
+                int start = pos;
+                skipNumber();
+                return toNumber(ascii(start, pos - start));
+            case BOOLEAN:
+                return readBooleanLiteral();
+            case NULL:
+                readNullLiteral();
+                return JSONObject.NULL;
+            default:
+                throw syntaxError("Expected a value");
+        }
+    }
+
+    // same conversion as JSONTokener
+    private static Object toNumber(String literal) {
+        if (literal.indexOf('.') == -1) {
+            try {
+                long longValue = Long.parseLong(literal);
+                if (longValue <= Integer.MAX_VALUE && longValue >= Integer.MIN_VALUE) {
+                    return (int) longValue;
+                } else {
+                    return longValue;
+                }
+            } catch (NumberFormatException ignore) {
+            }
+        }
+        try {
+            return Double.valueOf(literal);
+        } catch (NumberFormatException ignored) {
+            return literal;
+        }
+    }
+
+    private int skipWhitespace() {
+        while (pos < limit) {
+            int c = in[pos];
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                pos++;
+            } else {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private void expect(char c) throws JSONException {
+        if (skipWhitespace() != c) {
+            throw syntaxError("Expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    /**
+     * Reads a member name, looking plain ASCII names up in the name cache to avoid decoding them again.
+     */
+    private String readName() throws JSONException {
+        int start = pos;
+        int hash = 0;
+        for (int i = start; i < limit; i++) {
+            int c = in[i];
+            if (c == '"') {
+                pos = i + 1;
+                int length = i - start;
+                int index = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+                String cached = NAME_CACHE[index];
+                if (cached != null && matches(cached, start, length)) {
+                    return cached;
+                }
+                String name = ascii(start, length).intern();
+                NAME_CACHE[index] = name;
+                return name;
+            }
+            if (c == '\\' || c < 0) {
+                // escaped or non-ASCII names are rare and not worth caching
+                break;
+            }
+            hash = 31 * hash + c;
+        }
+        return readString().intern();
+    }
+
+    private boolean matches(String name, int start, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != in[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String ascii(int start, int length) {
+        char[] buf = chars(length);
+        for (int i = 0; i < length; i++) {
+            buf[i] = (char) in[start + i];
+        }
+        return new String(buf, 0, length);
+    }
+
+    private char[] chars(int length) {
+        if (chars.length < length) {
+            char[] grown = new char[Math.max(length, chars.length * 2)];
+            System.arraycopy(chars, 0, grown, 0, chars.length);
+            chars = grown;
+        }
+        return chars;
+    }
+
+    /**
+     * Decodes a string whose opening quote has been consumed.
+     */
+    private String readString() throws JSONException {
+        char[] buf = chars;
+        int length = 0;
+        while (pos < limit) {
+            if (length + 2 > buf.length) {
+                // room for a surrogate pair
+                buf = chars(length + 2);
+            }
+            int c = in[pos++];
+            if (c == '"') {
+                return new String(buf, 0, length);
+            } else if (c == '\\') {
+                buf[length++] = readEscapeCharacter();
+            } else if (c >= 0) {
+                buf[length++] = (char) c;
+            } else {
+                int codePoint = readCodePoint(c);
+                if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                    buf[length++] = (char) codePoint;
+                } else {
+                    codePoint -= Character.MIN_SUPPLEMENTARY_CODE_POINT;
+                    buf[length++] = (char) (Character.MIN_HIGH_SURROGATE + (codePoint >>> 10));
+                    buf[length++] = (char) (Character.MIN_LOW_SURROGATE + (codePoint & 0x3ff));
+                }
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private char readEscapeCharacter() throws JSONException {
+        if (pos == limit) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        int escaped = in[pos++];
+        switch (escaped) {
+            case 'u':
+                if (pos + 4 > limit) {
+                    throw syntaxError("Unterminated escape sequence");
+                }
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(in[pos++], 16);
+                    if (digit == -1) {
+                        throw syntaxError("Invalid escape sequence");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            default:
+                return (char) escaped;
+        }
+    }
+
+    /**
+     * Decodes a multi-byte UTF-8 sequence. Malformed sequences decode to U+FFFD, as with the CharsetDecoder used for the tree path.
+     */
+    private int readCodePoint(int lead) {
+        int codePoint;
+        int trailing;
+        if ((lead & 0xe0) == 0xc0) {
+            codePoint = lead & 0x1f;
+            trailing = 1;
+        } else if ((lead & 0xf0) == 0xe0) {
+            codePoint = lead & 0x0f;
+            trailing = 2;
+        } else if ((lead & 0xf8) == 0xf0) {
+            codePoint = lead & 0x07;
+            trailing = 3;
+        } else {
+            return REPLACEMENT_CHARACTER;
+        }
+        for (int i = 0; i < trailing; i++) {
+            if (pos == limit || (in[pos] & 0xc0) != 0x80) {
+                return REPLACEMENT_CHARACTER;
+            }
+            codePoint = (codePoint << 6) | (in[pos++] & 0x3f);
+        }
+        return codePoint <= Character.MAX_CODE_POINT ? codePoint : REPLACEMENT_CHARACTER;
+    }
+
+    private void skipString() throws JSONException {
+        while (pos < limit) {
+            int c = in[pos++];
+            if (c == '"') {
+                return;
+            } else if (c == '\\') {
+                // the escaped character can't be a quote ending the string
+                pos++;
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private void skipNumber() {
+        while (pos < limit) {
+            int c = in[pos];
+            if (('0' <= c && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                pos++;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the integer in the given range, or Long.MIN_VALUE if it is not a plain integer that fits in 18 digits
+     */
+    private long parseLong(int start, int end) {
+        boolean negative = in[start] == '-';
+        int i = negative ? start + 1 : start;
+        if (i == end || end - i > 18) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int c = in[i];
+            if (c < '0' || '9' < c) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private boolean readBooleanLiteral() throws JSONException {
+        if (literal("true")) {
+            return true;
+        }
+        if (literal("false")) {
+            return false;
+        }
+        throw syntaxError("Expected a boolean");
+    }
+
+    private void readNullLiteral() throws JSONException {
+        if (!literal("null")) {
+            throw syntaxError("Expected null");
+        }
+    }
+
+    private boolean literal(String expected) {
+        int length = expected.length();
+        if (pos + length > limit) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (in[pos + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        pos += length;
+        return true;
+    }
+
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at " + pos);
+    }
+}
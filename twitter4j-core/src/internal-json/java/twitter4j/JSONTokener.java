@@ -72,7 +72,7 @@ public class JSONTokener {
     /**
      * The input JSON.
      */
-    private final String in;
+    private final CharSequence in;
 
     /**
      * The index of the next character to be returned by {@link #next}. When
@@ -93,6 +93,21 @@ public class JSONTokener {
         this.in = in;
     }
 
+    /**
+     * Creates a tokener reading from the given character sequence without copying it.<br>
+     * The sequence must not be modified until parsing completes. Parsed values never share the backing storage of the sequence, so the sequence can be reused afterwards.
+     *
+     * @param in JSON encoded characters
+     * @since Twitter4J 4.0.8
+     */
+    public JSONTokener(CharSequence in) {
+        this.in = in;
+        // consume an optional byte order mark (BOM) if it exists
+        if (in != null && in.length() > 0 && in.charAt(0) == '\ufeff') {
+            pos = 1;
+        }
+    }
+
     public JSONTokener(Reader input) {
         try {
             StringBuilder s = new StringBuilder();
@@ -162,7 +177,7 @@ public class JSONTokener {
                         case '*':
                             // skip a /* c-style comment */
                             pos++;
-                            int commentEnd = in.indexOf("*/", pos);
+                            int commentEnd = indexOf("*/", pos);
                             if (commentEnd == -1) {
                                 throw syntaxError("Unterminated comment");
                             }
@@ -236,9 +251,7 @@ public class JSONTokener {
             int c = in.charAt(pos++);
             if (c == quote) {
                 if (builder == null) {
-                    // a new string avoids leaking memory
-                    //noinspection RedundantStringConstructorCall
-                    return new String(in.substring(start, pos - 1));
+                    return substring(start, pos - 1);
                 } else {
                     builder.append(in, start, pos - 1);
                     return builder.toString();
@@ -274,7 +287,7 @@ public class JSONTokener {
                 if (pos + 4 > in.length()) {
                     throw syntaxError("Unterminated escape sequence");
                 }
-                String hex = in.substring(pos, pos + 4);
+                String hex = substring(pos, pos + 4);
                 pos += 4;
                 try {
                     return (char) Integer.parseInt(hex, 16);
@@ -311,7 +324,11 @@ public class JSONTokener {
      * preference.
      */
     private Object readLiteral() throws JSONException {
-        String literal = nextToInternal("{}[]/\\:,=;# \t\f");
+        Object integer = readDecimalInteger();
+        if (integer != null) {
+            return integer;
+        }
+        String literal = nextToInternal(LITERAL_TERMINATORS);
 
         if (literal.length() == 0) {
             throw syntaxError("Expected literal value");
@@ -361,6 +378,51 @@ public class JSONTokener {
         return new String(literal); // a new string avoids leaking memory
     }
 
+    private static final String LITERAL_TERMINATORS = "{}[]/\\:,=;# \t\f";
+
+    /**
+     * Reads a decimal integer literal such as an id or a count straight from the input, without creating a String for
+     * the literal. Returns null and leaves the position unchanged for anything else, including integers too long to be
+     * sure they fit in a long, which are left to {@link #readLiteral()}.
+     */
+    private Object readDecimalInteger() {
+        int i = pos;
+        int length = in.length();
+        boolean negative = i < length && in.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        int start = i;
+        long value = 0;
+        for (; i < length; i++) {
+            char c = in.charAt(i);
+            if (c < '0' || '9' < c) {
+                break;
+            }
+            value = value * 10 + (c - '0');
+        }
+        int digits = i - start;
+        if (digits == 0 || 18 < digits || (digits > 1 && in.charAt(start) == '0')) {
+            // nothing, possibly overflowing, or octal
+            return null;
+        }
+        if (i < length) {
+            char c = in.charAt(i);
+            if (c != '\r' && c != '\n' && LITERAL_TERMINATORS.indexOf(c) == -1) {
+                // a fraction, an exponent or an unquoted string
+                return null;
+            }
+        }
+        pos = i;
+        if (negative) {
+            value = -value;
+        }
+        if (Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        return value;
+    }
+
     /**
      * Returns the string up to but not including any of the given characters or
      * a newline character. This does not consume the excluded character.
@@ -370,10 +432,10 @@ public class JSONTokener {
         for (; pos < in.length(); pos++) {
             char c = in.charAt(pos);
             if (c == '\r' || c == '\n' || excluded.indexOf(c) != -1) {
-                return in.substring(start, pos);
+                return substring(start, pos);
             }
         }
-        return in.substring(start);
+        return substring(start, in.length());
     }
 
     /**
@@ -570,7 +632,7 @@ public class JSONTokener {
         if (pos + length > in.length()) {
             throw syntaxError(length + " is out of bounds");
         }
-        String result = in.substring(pos, pos + length);
+        String result = substring(pos, pos + length);
         pos += length;
         return result;
     }
@@ -617,7 +679,7 @@ public class JSONTokener {
      * @param thru The string to skip over.
      */
     public void skipPast(String thru) {
-        int thruStart = in.indexOf(thru, pos);
+        int thruStart = indexOf(thru, pos);
         pos = thruStart == -1 ? in.length() : (thruStart + thru.length());
     }
 
@@ -630,7 +692,7 @@ public class JSONTokener {
      * @return The value of {@code to} or null.
      */
     public char skipTo(char to) {
-        int index = in.indexOf(to, pos);
+        int index = indexOf(String.valueOf(to), pos);
         if (index != -1) {
             pos = index;
             return to;
@@ -639,6 +701,35 @@ public class JSONTokener {
         }
     }
 
+    /**
+     * Returns a copy of the given range of the input, which never shares the storage of the input.
+     */
+    private String substring(int start, int end) {
+        if (in instanceof String) {
+            // a new string avoids leaking memory
+            //noinspection RedundantStringConstructorCall
+            return new String(((String) in).substring(start, end));
+        }
+        return in.subSequence(start, end).toString();
+    }
+
+    private int indexOf(String str, int fromIndex) {
+        if (in instanceof String) {
+            return ((String) in).indexOf(str, fromIndex);
+        }
+        int last = in.length() - str.length();
+        outer:
+        for (int i = fromIndex; i <= last; i++) {
+            for (int j = 0; j < str.length(); j++) {
+                if (in.charAt(i + j) != str.charAt(j)) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
     /**
      * Unreads the most recent character of input. If no input characters have
      * been read, the input is unchanged.
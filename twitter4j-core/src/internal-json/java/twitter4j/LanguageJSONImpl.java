@@ -66,9 +66,6 @@ public class LanguageJSONImpl implements HelpResources.Language {
     /*package*/
     static ResponseList<HelpResources.Language> createLanguageList(JSONArray list, HttpResponse res
             , Configuration conf) throws TwitterException {
-        if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
         try {
             int size = list.length();
             ResponseList<HelpResources.Language> languages =
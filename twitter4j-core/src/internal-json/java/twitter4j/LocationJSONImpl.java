@@ -53,9 +53,6 @@ import twitter4j.conf.Configuration;
 
     /*package*/
     static ResponseList<Location> createLocationList(HttpResponse res, Configuration conf) throws TwitterException {
-        if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
         return createLocationList(res.asJSONArray(), conf.isJSONStoreEnabled());
     }
 
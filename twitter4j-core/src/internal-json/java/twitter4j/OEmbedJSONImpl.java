@@ -36,7 +36,6 @@ public class OEmbedJSONImpl extends TwitterResponseImpl implements OEmbed, java.
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, json);
         }
     }
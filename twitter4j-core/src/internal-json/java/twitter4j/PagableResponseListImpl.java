@@ -37,6 +37,12 @@ class PagableResponseListImpl<T extends TwitterResponse> extends ResponseListImp
         this.nextCursor = ParseUtil.getLong("next_cursor", json);
     }
 
+    PagableResponseListImpl(int size, long previousCursor, long nextCursor, HttpResponse res) {
+        super(size, res);
+        this.previousCursor = previousCursor;
+        this.nextCursor = nextCursor;
+    }
+
     @Override
     public boolean hasPrevious() {
         return 0 != previousCursor;
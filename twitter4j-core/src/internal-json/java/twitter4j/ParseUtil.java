@@ -21,10 +21,11 @@ import java.net.URLDecoder;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A tiny parse utility class.
@@ -38,10 +39,14 @@ final class ParseUtil {
     }
 
     static String getUnescapedString(String str, JSONObject json) {
-        return HTMLEntity.unescape(getRawString(str, json));
+        return StringDedupPool.dedup(str, HTMLEntity.unescape(getString(str, json)));
     }
 
     public static String getRawString(String name, JSONObject json) {
+        return StringDedupPool.dedup(name, getString(name, json));
+    }
+
+    private static String getString(String name, JSONObject json) {
         try {
             if (json.isNull(name)) {
                 return null;
@@ -95,14 +100,43 @@ final class ParseUtil {
         }
     }
 
-    private final static Map<String, LinkedBlockingQueue<SimpleDateFormat>> formatMapQueue = new HashMap<String,
-            LinkedBlockingQueue<SimpleDateFormat>>();
+    /*package*/ static Date getDate(JSONPullParser parser, String format) throws TwitterException {
+        String dateStr = HTMLEntity.unescape(parser.nextString());
+        if ("null".equals(dateStr) || null == dateStr) {
+            return null;
+        } else {
+            return getDate(dateStr, format);
+        }
+    }
+
+    private final static ConcurrentMap<String, Queue<SimpleDateFormat>> formatMapQueue = new ConcurrentHashMap<String,
+            Queue<SimpleDateFormat>>();
 
     public static Date getDate(String dateString, String format) throws TwitterException {
-        LinkedBlockingQueue<SimpleDateFormat> simpleDateFormats = formatMapQueue.get(format);
+        return new Date(getTime(dateString, format));
+    }
+
+    /**
+     * Parses a date returned by the API into milliseconds since the epoch.<br>
+     * The formats the API uses are parsed by {@link DateParser}, anything else by a pooled SimpleDateFormat.
+     *
+     * @param dateString date string
+     * @param format     SimpleDateFormat pattern of dateString
+     * @return milliseconds since the epoch
+     * @throws TwitterException when dateString is not in the format
+     */
+    static long getTime(String dateString, String format) throws TwitterException {
+        long time = DateParser.parse(dateString, format);
+        if (time != DateParser.UNPARSEABLE) {
+            return time;
+        }
+        Queue<SimpleDateFormat> simpleDateFormats = formatMapQueue.get(format);
         if (simpleDateFormats == null) {
-            simpleDateFormats = new LinkedBlockingQueue<SimpleDateFormat>();
-            formatMapQueue.put(format, simpleDateFormats);
+            simpleDateFormats = new ConcurrentLinkedQueue<SimpleDateFormat>();
+            Queue<SimpleDateFormat> existing = formatMapQueue.putIfAbsent(format, simpleDateFormats);
+            if (existing != null) {
+                simpleDateFormats = existing;
+            }
         }
         SimpleDateFormat sdf = simpleDateFormats.poll();
         if (null == sdf) {
@@ -110,20 +144,27 @@ final class ParseUtil {
             sdf.setTimeZone(java.util.TimeZone.getTimeZone("UTC"));
         }
         try {
-            return sdf.parse(dateString);
+            return sdf.parse(dateString).getTime();
         } catch (ParseException pe) {
             throw new TwitterException("Unexpected date format(" + dateString + ") returned from twitter.com", pe);
         } finally {
-            try {
-                simpleDateFormats.put(sdf);
-            } catch (InterruptedException ignore) {
-                // the size of LinkedBlockingQueue is Integer.MAX by default.
-                // there is no need to concern about this situation
-            }
+            simpleDateFormats.offer(sdf);
         }
     }
 
+    /**
+     * Numbers and booleans are read the way JSONTokener stored them, instead of being formatted to a String by
+     * {@link #getRawString(String, JSONObject)} and parsed back.
+     */
+    private static Object opt(String name, JSONObject json) {
+        return json != null ? json.opt(name) : null;
+    }
+
     public static int getInt(String name, JSONObject json) {
+        Object value = opt(name, json);
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
         return getInt(getRawString(name, json));
     }
 
@@ -141,6 +182,10 @@ final class ParseUtil {
     }
 
     public static long getLong(String name, JSONObject json) {
+        Object value = opt(name, json);
+        if (value instanceof Long || value instanceof Integer) {
+            return ((Number) value).longValue();
+        }
         return getLong(getRawString(name, json));
     }
 
@@ -158,6 +203,10 @@ final class ParseUtil {
     }
 
     public static double getDouble(String name, JSONObject json) {
+        Object value = opt(name, json);
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
         String str2 = getRawString(name, json);
         if (null == str2 || "".equals(str2) || "null".equals(str2)) {
             return -1;
@@ -167,6 +216,10 @@ final class ParseUtil {
     }
 
     public static boolean getBoolean(String name, JSONObject json) {
+        Object value = opt(name, json);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
         String str = getRawString(name, json);
         if (null == str || "null".equals(str)) {
             return false;
@@ -45,7 +45,6 @@ final class PlaceJSONImpl extends TwitterResponseImpl implements Place, java.io.
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, json);
         }
     }
@@ -136,9 +135,6 @@ final class PlaceJSONImpl extends TwitterResponseImpl implements Place, java.io.
     /*package*/
     static ResponseList<Place> createPlaceList(JSONArray list, HttpResponse res
             , Configuration conf) throws TwitterException {
-        if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
         try {
             int size = list.length();
             ResponseList<Place> places =
@@ -53,9 +53,6 @@ import java.util.List;
 
             JSONArray array = json.getJSONArray("statuses");
             tweets = new ArrayList<Status>(array.length());
-            if (conf.isJSONStoreEnabled()) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             for (int i = 0; i < array.length(); i++) {
                 JSONObject tweet = array.getJSONObject(i);
                 tweets.add(new StatusJSONImpl(tweet, conf));
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+/**
+ * Raw JSON form attached to the object bound from it, encoded on first access.
+ *
+ * @since Twitter4J 4.0.8
+ */
+/*package*/ final class RawJSON {
+    // JSONObject, JSONArray or String until encoded
+    private Object json;
+    private String encoded;
+
+    RawJSON(Object json) {
+        this.json = json;
+    }
+
+    /**
+     * Returns the raw JSON form, releasing the parsed tree once it has been encoded.
+     *
+     * @return raw JSON
+     */
+    synchronized String get() {
+        if (encoded == null) {
+            encoded = json instanceof String ? (String) json : json.toString();
+            json = null;
+        }
+        return encoded;
+    }
+
+    /**
+     * Implemented by objects that carry their own raw JSON form.
+     */
+    interface Holder {
+        RawJSON getRawJSON();
+
+        void setRawJSON(RawJSON rawJSON);
+    }
+}
@@ -43,7 +43,6 @@ import twitter4j.conf.Configuration;
     /*package*/ RelationshipJSONImpl(HttpResponse res, Configuration conf) throws TwitterException {
         this(res, res.asJSONObject());
         if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, res.asJSONObject());
         }
     }
@@ -77,9 +76,6 @@ import twitter4j.conf.Configuration;
     /*package*/
     static ResponseList<Relationship> createRelationshipList(HttpResponse res, Configuration conf) throws TwitterException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONArray list = res.asJSONArray();
             int size = list.length();
             ResponseList<Relationship> relationships = new ResponseListImpl<Relationship>(size, res);
@@ -37,9 +37,6 @@ import java.util.Date;
 
     /*package*/ SavedSearchJSONImpl(HttpResponse res, Configuration conf) throws TwitterException {
         super(res);
-        if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
@@ -53,9 +50,6 @@ import java.util.Date;
 
     /*package*/
     static ResponseList<SavedSearch> createSavedSearchList(HttpResponse res, Configuration conf) throws TwitterException {
-        if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
         JSONArray json = res.asJSONArray();
         ResponseList<SavedSearch> savedSearches;
         try {
@@ -18,8 +18,12 @@ package twitter4j;
 
 import twitter4j.conf.Configuration;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 
 import static twitter4j.ParseUtil.getDate;
 
@@ -67,20 +71,22 @@ import static twitter4j.ParseUtil.getDate;
     private Status quotedStatus;
     private long quotedStatusId = -1L;
     private URLEntity quotedStatusPermalink;
+    // the tree and the parts not bound yet in lazy binding mode
+    private transient JSONObject lazyJSON;
+    private transient volatile int unbound;
 
     /*package*/StatusJSONImpl(HttpResponse res, Configuration conf) throws TwitterException {
         super(res);
         JSONObject json = res.asJSONObject();
-        init(json);
+        init(json, conf.isJSONLazyBindingEnabled());
         if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, json);
         }
     }
 
     /*package*/StatusJSONImpl(JSONObject json, Configuration conf) throws TwitterException {
         super();
-        init(json);
+        init(json, conf.isJSONLazyBindingEnabled());
         if (conf.isJSONStoreEnabled()) {
             TwitterObjectFactory.registerJSONObject(this, json);
         }
@@ -91,12 +97,35 @@ import static twitter4j.ParseUtil.getDate;
         init(json);
     }
 
+    /*package*/ StatusJSONImpl(JSONObject json, boolean lazy) throws TwitterException {
+        super();
+        init(json, lazy);
+    }
+
+    /*package*/StatusJSONImpl(HttpResponse res, JSONPullParser parser) throws TwitterException {
+        super(res);
+        init(parser);
+    }
+
+    /*package*/ StatusJSONImpl(JSONPullParser parser) throws TwitterException {
+        super();
+        init(parser);
+    }
+
     /* Only for serialization purposes. */
     /*package*/ StatusJSONImpl() {
 
     }
 
     private void init(JSONObject json) throws TwitterException {
+        init(json, false);
+    }
+
+    /**
+     * @param lazy true to keep the tree and bind the user, the place, the retweeted and quoted statuses and
+     *             the text with its entities on first access
+     */
+    private void init(JSONObject json, boolean lazy) throws TwitterException {
         id = ParseUtil.getLong("id", json);
         source = ParseUtil.getUnescapedString("source", json);
         createdAt = getDate("created_at", json);
@@ -110,17 +139,6 @@ import static twitter4j.ParseUtil.getDate;
         favoriteCount = ParseUtil.getInt("favorite_count", json);
         isPossiblySensitive = ParseUtil.getBoolean("possibly_sensitive", json);
         try {
-            if (!json.isNull("user")) {
-                user = new UserJSONImpl(json.getJSONObject("user"));
-            }
-            geoLocation = JSONImplFactory.createGeoLocation(json);
-            if (!json.isNull("place")) {
-                place = new PlaceJSONImpl(json.getJSONObject("place"));
-            }
-
-            if (!json.isNull("retweeted_status")) {
-                retweetedStatus = new StatusJSONImpl(json.getJSONObject("retweeted_status"));
-            }
             if (!json.isNull("contributors")) {
                 JSONArray contributorsArray = json.getJSONArray("contributors");
                 contributorsIDs = new long[contributorsArray.length()];
@@ -130,39 +148,9 @@ import static twitter4j.ParseUtil.getDate;
             } else {
                 contributorsIDs = new long[0];
             }
-
-            collectEntities(json);
-            mergeExtendedEntities(json);
-            if (!json.isNull("quoted_status")) {
-                quotedStatus = new StatusJSONImpl(json.getJSONObject("quoted_status"));
-            }
             if (!json.isNull("quoted_status_id")) {
                 quotedStatusId = ParseUtil.getLong("quoted_status_id", json);
             }
-            if (!json.isNull("display_text_range")) {
-                JSONArray indicesArray = json.getJSONArray("display_text_range");
-                displayTextRangeStart = indicesArray.getInt(0);
-                displayTextRangeEnd = indicesArray.getInt(1);
-            }
-
-            userMentionEntities = userMentionEntities == null ? new UserMentionEntity[0] : userMentionEntities;
-            urlEntities = urlEntities == null ? new URLEntity[0] : urlEntities;
-            hashtagEntities = hashtagEntities == null ? new HashtagEntity[0] : hashtagEntities;
-            symbolEntities = symbolEntities == null ? new SymbolEntity[0] : symbolEntities;
-            mediaEntities = mediaEntities == null ? new MediaEntity[0] : mediaEntities;
-            if (!json.isNull("text")) {
-                text = HTMLEntity.unescapeAndSlideEntityIncdices(json.getString("text"), userMentionEntities,
-                        urlEntities, hashtagEntities, mediaEntities);
-            }
-            if (!json.isNull("full_text")) {
-                text = HTMLEntity.unescapeAndSlideEntityIncdices(json.getString("full_text"), userMentionEntities,
-                        urlEntities, hashtagEntities, mediaEntities);
-            }
-
-            if (!json.isNull("extended_tweet")) {
-                mergeExtendedTweet(json.getJSONObject("extended_tweet"));
-            }
-
             if (!json.isNull("current_user_retweet")) {
                 currentUserRetweetId = json.getJSONObject("current_user_retweet").getLong("id");
             }
@@ -190,11 +178,108 @@ import static twitter4j.ParseUtil.getDate;
                     withheldInCountries[i] = withheld_in_countries.getString(i);
                 }
             }
+            if (lazy) {
+                lazyJSON = json;
+                unbound = USER | PLACE | RETWEETED_STATUS | QUOTED_STATUS | TEXT_AND_ENTITIES;
+            } else {
+                bind(json, USER | PLACE | RETWEETED_STATUS | QUOTED_STATUS | TEXT_AND_ENTITIES, false);
+            }
         } catch (JSONException jsone) {
             throw new TwitterException(jsone);
         }
     }
 
+    // parts of the status bound on first access in lazy binding mode
+    private static final int USER = 1;
+    private static final int PLACE = 1 << 1;
+    private static final int RETWEETED_STATUS = 1 << 2;
+    private static final int QUOTED_STATUS = 1 << 3;
+    private static final int TEXT_AND_ENTITIES = 1 << 4;
+
+    private void bind(JSONObject json, int parts, boolean lazy) throws JSONException, TwitterException {
+        if ((parts & USER) != 0 && !json.isNull("user")) {
+            user = new UserJSONImpl(json.getJSONObject("user"), lazy);
+        }
+        if ((parts & PLACE) != 0) {
+            geoLocation = JSONImplFactory.createGeoLocation(json);
+            if (!json.isNull("place")) {
+                place = new PlaceJSONImpl(json.getJSONObject("place"));
+            }
+        }
+        if ((parts & RETWEETED_STATUS) != 0 && !json.isNull("retweeted_status")) {
+            retweetedStatus = new StatusJSONImpl(json.getJSONObject("retweeted_status"), lazy);
+        }
+        if ((parts & QUOTED_STATUS) != 0) {
+            if (!json.isNull("quoted_status")) {
+                quotedStatus = new StatusJSONImpl(json.getJSONObject("quoted_status"), lazy);
+            }
+            if (!json.isNull("quoted_status_permalink")) {
+                quotedStatusPermalink = new QuotedStatusPermalinkJSONImpl(json.getJSONObject("quoted_status_permalink"));
+            }
+        }
+        if ((parts & TEXT_AND_ENTITIES) != 0) {
+            collectEntities(json);
+            mergeExtendedEntities(json);
+            if (!json.isNull("display_text_range")) {
+                JSONArray indicesArray = json.getJSONArray("display_text_range");
+                displayTextRangeStart = indicesArray.getInt(0);
+                displayTextRangeEnd = indicesArray.getInt(1);
+            }
+
+            userMentionEntities = userMentionEntities == null ? new UserMentionEntity[0] : userMentionEntities;
+            urlEntities = urlEntities == null ? new URLEntity[0] : urlEntities;
+            hashtagEntities = hashtagEntities == null ? new HashtagEntity[0] : hashtagEntities;
+            symbolEntities = symbolEntities == null ? new SymbolEntity[0] : symbolEntities;
+            mediaEntities = mediaEntities == null ? new MediaEntity[0] : mediaEntities;
+            if (!json.isNull("text")) {
+                text = HTMLEntity.unescapeAndSlideEntityIncdices(json.getString("text"), userMentionEntities,
+                        urlEntities, hashtagEntities, mediaEntities);
+            }
+            if (!json.isNull("full_text")) {
+                text = HTMLEntity.unescapeAndSlideEntityIncdices(json.getString("full_text"), userMentionEntities,
+                        urlEntities, hashtagEntities, mediaEntities);
+            }
+
+            if (!json.isNull("extended_tweet")) {
+                mergeExtendedTweet(json.getJSONObject("extended_tweet"));
+            }
+        }
+    }
+
+    /**
+     * Binds the parts not bound yet in lazy binding mode.
+     */
+    private void bindLazily(int parts) {
+        if ((unbound & parts) != 0) {
+            bindNow(parts);
+        }
+    }
+
+    private synchronized void bindNow(int parts) {
+        int remaining = unbound;
+        if ((remaining & parts) == 0) {
+            return;
+        }
+        try {
+            bind(lazyJSON, remaining & parts, true);
+        } catch (JSONException jsone) {
+            throw new IllegalStateException("failed to bind status " + id, jsone);
+        } catch (TwitterException te) {
+            throw new IllegalStateException("failed to bind status " + id, te);
+        }
+        if ((remaining & ~parts) == 0) {
+            // everything is bound, the tree is no longer needed
+            lazyJSON = null;
+        }
+        // the volatile write publishes the fields bound above
+        unbound = remaining & ~parts;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        bindLazily(USER | PLACE | RETWEETED_STATUS | QUOTED_STATUS | TEXT_AND_ENTITIES);
+        out.defaultWriteObject();
+    }
+
     private void collectEntities(JSONObject json) throws JSONException, TwitterException {
         if (!json.isNull("entities")) {
             JSONObject entities = json.getJSONObject("entities");
@@ -204,15 +289,6 @@ import static twitter4j.ParseUtil.getDate;
             symbolEntities = EntitiesParseUtil.getSymbols(entities);
             mediaEntities = EntitiesParseUtil.getMedia(entities);
         }
-        if (!json.isNull("quoted_status")) {
-            quotedStatus = new StatusJSONImpl(json.getJSONObject("quoted_status"));
-        }
-        if (!json.isNull("quoted_status_id")) {
-            quotedStatusId = ParseUtil.getLong("quoted_status_id", json);
-        }
-        if (!json.isNull("quoted_status_permalink")) {
-            quotedStatusPermalink = new QuotedStatusPermalinkJSONImpl(json.getJSONObject("quoted_status_permalink"));
-        }
     }
 
     private void mergeExtendedEntities(JSONObject json) throws JSONException, TwitterException {
@@ -249,6 +325,228 @@ import static twitter4j.ParseUtil.getDate;
         }
     }
 
+    /**
+     * Binds the status in a single pass over the parser, with the same results as {@link #init(JSONObject)}.
+     * Text is unescaped once the entities it refers to are known.
+     */
+    private void init(JSONPullParser parser) throws TwitterException {
+        // defaults of ParseUtil for missing values
+        id = -1;
+        inReplyToStatusId = -1;
+        inReplyToUserId = -1;
+        retweetCount = -1;
+        favoriteCount = -1;
+        contributorsIDs = new long[0];
+        String rawText = null;
+        String fullText = null;
+        MediaEntity[] extendedMediaEntities = null;
+        JSONObject extendedTweet = null;
+        try {
+            parser.beginObject();
+            while (parser.hasNext()) {
+                String name = parser.nextName();
+                if ("id".equals(name)) {
+                    id = parser.nextLong();
+                } else if ("text".equals(name)) {
+                    rawText = parser.nextString();
+                } else if ("full_text".equals(name)) {
+                    fullText = parser.nextString();
+                } else if ("created_at".equals(name)) {
+                    createdAt = ParseUtil.getDate(parser, "EEE MMM d HH:mm:ss z yyyy");
+                } else if ("source".equals(name)) {
+                    source = StringDedupPool.dedup("source", HTMLEntity.unescape(parser.nextString()));
+                } else if ("truncated".equals(name)) {
+                    isTruncated = parser.nextBoolean();
+                } else if ("in_reply_to_status_id".equals(name)) {
+                    inReplyToStatusId = parser.nextLong();
+                } else if ("in_reply_to_user_id".equals(name)) {
+                    inReplyToUserId = parser.nextLong();
+                } else if ("in_reply_to_screen_name".equals(name)) {
+                    inReplyToScreenName = StringDedupPool.dedup("in_reply_to_screen_name", HTMLEntity.unescape(parser.nextString()));
+                } else if ("favorited".equals(name)) {
+                    isFavorited = parser.nextBoolean();
+                } else if ("retweeted".equals(name)) {
+                    isRetweeted = parser.nextBoolean();
+                } else if ("retweet_count".equals(name)) {
+                    retweetCount = parser.nextLong();
+                } else if ("favorite_count".equals(name)) {
+                    favoriteCount = parser.nextInt();
+                } else if ("possibly_sensitive".equals(name)) {
+                    isPossiblySensitive = parser.nextBoolean();
+                } else if ("lang".equals(name)) {
+                    lang = StringDedupPool.dedup("lang", HTMLEntity.unescape(parser.nextString()));
+                } else if (parser.nextNull()) {
+                    // the members below are objects or arrays, left unset when null
+                } else if ("user".equals(name)) {
+                    user = new UserJSONImpl(parser);
+                } else if ("entities".equals(name)) {
+                    readEntities(parser);
+                } else if ("extended_entities".equals(name)) {
+                    extendedMediaEntities = readExtendedMediaEntities(parser);
+                } else if ("retweeted_status".equals(name)) {
+                    retweetedStatus = new StatusJSONImpl(parser);
+                } else if ("quoted_status".equals(name)) {
+                    quotedStatus = new StatusJSONImpl(parser);
+                } else if ("quoted_status_id".equals(name)) {
+                    quotedStatusId = parser.nextLong();
+                } else if ("quoted_status_permalink".equals(name)) {
+                    quotedStatusPermalink = new QuotedStatusPermalinkJSONImpl(parser.nextJSONObject());
+                } else if ("coordinates".equals(name)) {
+                    geoLocation = JSONImplFactory.createGeoLocation(parser);
+                } else if ("place".equals(name)) {
+                    place = new PlaceJSONImpl(parser.nextJSONObject());
+                } else if ("contributors".equals(name)) {
+                    contributorsIDs = readContributors(parser);
+                } else if ("display_text_range".equals(name)) {
+                    parser.beginArray();
+                    displayTextRangeStart = parser.nextInt();
+                    parser.hasNext();
+                    displayTextRangeEnd = parser.nextInt();
+                    while (parser.hasNext()) {
+                        parser.skipValue();
+                    }
+                    parser.endArray();
+                } else if ("extended_tweet".equals(name)) {
+                    // only found in statuses delivered by the streaming API
+                    extendedTweet = parser.nextJSONObject();
+                } else if ("current_user_retweet".equals(name)) {
+                    currentUserRetweetId = readCurrentUserRetweetId(parser);
+                } else if ("scopes".equals(name)) {
+                    scopes = readScopes(parser);
+                } else if ("withheld_in_countries".equals(name)) {
+                    withheldInCountries = readStrings(parser);
+                } else {
+                    parser.skipValue();
+                }
+            }
+            parser.endObject();
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+        if (extendedMediaEntities != null) {
+            mediaEntities = extendedMediaEntities;
+        }
+        userMentionEntities = userMentionEntities == null ? new UserMentionEntity[0] : userMentionEntities;
+        urlEntities = urlEntities == null ? new URLEntity[0] : urlEntities;
+        hashtagEntities = hashtagEntities == null ? new HashtagEntity[0] : hashtagEntities;
+        symbolEntities = symbolEntities == null ? new SymbolEntity[0] : symbolEntities;
+        mediaEntities = mediaEntities == null ? new MediaEntity[0] : mediaEntities;
+        if (rawText != null) {
+            text = HTMLEntity.unescapeAndSlideEntityIncdices(rawText, userMentionEntities,
+                    urlEntities, hashtagEntities, mediaEntities);
+        }
+        if (fullText != null) {
+            text = HTMLEntity.unescapeAndSlideEntityIncdices(fullText, userMentionEntities,
+                    urlEntities, hashtagEntities, mediaEntities);
+        }
+        if (extendedTweet != null) {
+            mergeExtendedTweet(extendedTweet);
+        }
+    }
+
+    private void readEntities(JSONPullParser parser) throws JSONException, TwitterException {
+        // the tree path replaces all the entities whenever the "entities" member is present
+        userMentionEntities = null;
+        urlEntities = null;
+        hashtagEntities = null;
+        symbolEntities = null;
+        MediaEntity[] media = null;
+        parser.beginObject();
+        while (parser.hasNext()) {
+            String name = parser.nextName();
+            if ("user_mentions".equals(name)) {
+                userMentionEntities = EntitiesParseUtil.getUserMentions(parser);
+            } else if ("urls".equals(name)) {
+                urlEntities = EntitiesParseUtil.getUrls(parser);
+            } else if ("hashtags".equals(name)) {
+                hashtagEntities = EntitiesParseUtil.getHashtags(parser);
+            } else if ("symbols".equals(name)) {
+                symbolEntities = EntitiesParseUtil.getSymbols(parser);
+            } else if ("media".equals(name)) {
+                media = EntitiesParseUtil.getMedia(parser);
+            } else {
+                parser.skipValue();
+            }
+        }
+        parser.endObject();
+        mediaEntities = media;
+    }
+
+    private static MediaEntity[] readExtendedMediaEntities(JSONPullParser parser) throws JSONException, TwitterException {
+        MediaEntity[] media = null;
+        parser.beginObject();
+        while (parser.hasNext()) {
+            if ("media".equals(parser.nextName())) {
+                media = EntitiesParseUtil.getMedia(parser);
+            } else {
+                parser.skipValue();
+            }
+        }
+        parser.endObject();
+        return media;
+    }
+
+    private static long[] readContributors(JSONPullParser parser) throws JSONException {
+        long[] ids = new long[8];
+        int size = 0;
+        parser.beginArray();
+        while (parser.hasNext()) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = Long.parseLong(parser.nextString());
+        }
+        parser.endArray();
+        return Arrays.copyOf(ids, size);
+    }
+
+    private static long readCurrentUserRetweetId(JSONPullParser parser) throws JSONException {
+        long currentUserRetweetId = -1L;
+        boolean found = false;
+        parser.beginObject();
+        while (parser.hasNext()) {
+            if ("id".equals(parser.nextName())) {
+                currentUserRetweetId = parser.nextLong();
+                found = true;
+            } else {
+                parser.skipValue();
+            }
+        }
+        parser.endObject();
+        if (!found) {
+            throw new JSONException("No value for id");
+        }
+        return currentUserRetweetId;
+    }
+
+    private static Scopes readScopes(JSONPullParser parser) throws JSONException {
+        Scopes scopes = null;
+        parser.beginObject();
+        while (parser.hasNext()) {
+            String name = parser.nextName();
+            if (parser.nextNull()) {
+                continue;
+            }
+            if ("place_ids".equals(name)) {
+                scopes = new ScopesImpl(readStrings(parser));
+            } else {
+                parser.skipValue();
+            }
+        }
+        parser.endObject();
+        return scopes;
+    }
+
+    /*package*/ static String[] readStrings(JSONPullParser parser) throws JSONException {
+        List<String> strings = new ArrayList<String>();
+        parser.beginArray();
+        while (parser.hasNext()) {
+            strings.add(parser.nextString());
+        }
+        parser.endArray();
+        return strings.toArray(new String[strings.size()]);
+    }
+
     @Override
     public int compareTo(Status that) {
         long delta = this.id - that.getId();
@@ -265,6 +563,11 @@ import static twitter4j.ParseUtil.getDate;
         return this.createdAt;
     }
 
+    @Override
+    public long getCreatedAtMillis() {
+        return createdAt != null ? createdAt.getTime() : -1L;
+    }
+
     @Override
     public long getId() {
         return this.id;
@@ -272,16 +575,19 @@ import static twitter4j.ParseUtil.getDate;
 
     @Override
     public String getText() {
+        bindLazily(TEXT_AND_ENTITIES);
         return this.text;
     }
 
     @Override
     public int getDisplayTextRangeStart() {
+        bindLazily(TEXT_AND_ENTITIES);
         return displayTextRangeStart;
     }
 
     @Override
     public int getDisplayTextRangeEnd() {
+        bindLazily(TEXT_AND_ENTITIES);
         return displayTextRangeEnd;
     }
 
@@ -313,11 +619,13 @@ import static twitter4j.ParseUtil.getDate;
 
     @Override
     public GeoLocation getGeoLocation() {
+        bindLazily(PLACE);
         return geoLocation;
     }
 
     @Override
     public Place getPlace() {
+        bindLazily(PLACE);
         return place;
     }
 
@@ -343,16 +651,19 @@ import static twitter4j.ParseUtil.getDate;
 
     @Override
     public User getUser() {
+        bindLazily(USER);
         return user;
     }
 
     @Override
     public boolean isRetweet() {
+        bindLazily(RETWEETED_STATUS);
         return retweetedStatus != null;
     }
 
     @Override
     public Status getRetweetedStatus() {
+        bindLazily(RETWEETED_STATUS);
         return retweetedStatus;
     }
 
@@ -378,26 +689,31 @@ import static twitter4j.ParseUtil.getDate;
 
     @Override
     public UserMentionEntity[] getUserMentionEntities() {
+        bindLazily(TEXT_AND_ENTITIES);
         return userMentionEntities;
     }
 
     @Override
     public URLEntity[] getURLEntities() {
+        bindLazily(TEXT_AND_ENTITIES);
         return urlEntities;
     }
 
     @Override
     public HashtagEntity[] getHashtagEntities() {
+        bindLazily(TEXT_AND_ENTITIES);
         return hashtagEntities;
     }
 
     @Override
     public MediaEntity[] getMediaEntities() {
+        bindLazily(TEXT_AND_ENTITIES);
         return mediaEntities;
     }
 
     @Override
     public SymbolEntity[] getSymbolEntities() {
+        bindLazily(TEXT_AND_ENTITIES);
         return symbolEntities;
     }
 
@@ -418,12 +734,13 @@ import static twitter4j.ParseUtil.getDate;
 
     @Override
     public Status getQuotedStatus() {
+        bindLazily(QUOTED_STATUS);
         return quotedStatus;
     }
 
     @Override
     public URLEntity getQuotedStatusPermalink() {
-
+        bindLazily(QUOTED_STATUS);
         return quotedStatusPermalink;
     }
 
@@ -435,15 +752,12 @@ import static twitter4j.ParseUtil.getDate;
     /*package*/
     static ResponseList<Status> createStatusList(HttpResponse res, Configuration conf) throws TwitterException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONArray list = res.asJSONArray();
             int size = list.length();
             ResponseList<Status> statuses = new ResponseListImpl<Status>(size, res);
             for (int i = 0; i < size; i++) {
                 JSONObject json = list.getJSONObject(i);
-                Status status = new StatusJSONImpl(json);
+                Status status = new StatusJSONImpl(json, conf.isJSONLazyBindingEnabled());
                 if (conf.isJSONStoreEnabled()) {
                     TwitterObjectFactory.registerJSONObject(status, json);
                 }
@@ -458,6 +772,32 @@ import static twitter4j.ParseUtil.getDate;
         }
     }
 
+    /*package*/
+    static Status createStatus(final HttpResponse res) throws TwitterException {
+        return res.bindJSON(new JSONPullParser.Binder<Status>() {
+            @Override
+            public Status bind(JSONPullParser parser) throws TwitterException {
+                return new StatusJSONImpl(res, parser);
+            }
+        });
+    }
+
+    /*package*/
+    static ResponseList<Status> createStatusList(final HttpResponse res) throws TwitterException {
+        return res.bindJSON(new JSONPullParser.Binder<ResponseList<Status>>() {
+            @Override
+            public ResponseList<Status> bind(JSONPullParser parser) throws TwitterException {
+                ResponseList<Status> statuses = new ResponseListImpl<Status>(res);
+                parser.beginArray();
+                while (parser.hasNext()) {
+                    statuses.add(new StatusJSONImpl(parser));
+                }
+                parser.endArray();
+                return statuses;
+            }
+        });
+    }
+
     @Override
     public int hashCode() {
         return (int) id;
@@ -476,6 +816,7 @@ import static twitter4j.ParseUtil.getDate;
 
     @Override
     public String toString() {
+        bindLazily(USER | PLACE | RETWEETED_STATUS | QUOTED_STATUS | TEXT_AND_ENTITIES);
         return "StatusJSONImpl{" +
                 "createdAt=" + createdAt +
                 ", id=" + id +
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.conf.Configuration;
+import twitter4j.management.StringDedupStatistics;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Pool replacing the values of low-cardinality fields, such as lang, source or profile colors, with a shared instance so that
+ * statuses and users kept in memory don't each hold their own copy.<br>
+ * The pool is a direct-mapped table of strings: a lookup costs one hash and one comparison and takes no lock, and a
+ * string that collides with a pooled one replaces it. Strings are immutable, so racy reads see either a complete string
+ * or none.<br>
+ * ParseUtil is static, so the pool is shared by all instances and is installed by the first configuration enabling jsonStringDedupEnabled.
+ * A later configuration enabling it with different fields or size is rejected with an IllegalStateException rather than
+ * silently running with the settings of another configuration. Configurations disabling it still get pooled values while
+ * the pool is installed, which are equal to the parsed ones.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class StringDedupPool {
+    private static final StringDedupStatistics statistics = new StringDedupStatistics();
+    private static volatile StringDedupPool instance = null;
+
+    private final Set<String> fields;
+    private final String[] strings;
+
+    StringDedupPool(Set<String> fields, int maxEntries) {
+        this.fields = fields;
+        this.strings = new String[getCapacity(maxEntries)];
+    }
+
+    private static int getCapacity(int maxEntries) {
+        int capacity = 1;
+        while (capacity < maxEntries && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Installs the pool if the configuration enables it and no pool has been installed yet.
+     *
+     * @param conf configuration
+     * @throws IllegalStateException if the configuration enables the pool with settings different from the installed one
+     */
+    static void configure(Configuration conf) {
+        if (!conf.isJSONStringDedupEnabled()) {
+            return;
+        }
+        Set<String> fields = new HashSet<String>();
+        if (conf.getJSONStringDedupFields() != null) {
+            for (String field : conf.getJSONStringDedupFields().split(",")) {
+                if (field.trim().length() > 0) {
+                    fields.add(field.trim());
+                }
+            }
+        }
+        int capacity = getCapacity(conf.getJSONStringDedupMaxEntries());
+        synchronized (StringDedupPool.class) {
+            if (instance == null) {
+                StringDedupPool pool = new StringDedupPool(fields, capacity);
+                statistics.setCapacity(pool.strings.length);
+                instance = pool;
+            } else if (!instance.fields.equals(fields) || instance.strings.length != capacity) {
+                throw new IllegalStateException("jsonStringDedupFields=" + conf.getJSONStringDedupFields()
+                        + ", jsonStringDedupMaxEntries=" + conf.getJSONStringDedupMaxEntries()
+                        + " conflict with the process wide string pool already installed with fields " + instance.fields
+                        + " and " + instance.strings.length + " entries");
+            }
+        }
+    }
+
+    /**
+     * @param name  name of the field
+     * @param value value of the field
+     * @return a pooled string equal to value, or value itself if the field is not pooled
+     */
+    static String dedup(String name, String value) {
+        StringDedupPool pool = instance;
+        if (pool == null || value == null || !pool.fields.contains(name)) {
+            return value;
+        }
+        return pool.dedup(value);
+    }
+
+    String dedup(String value) {
+        int hash = value.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (strings.length - 1);
+        String pooled = strings[slot];
+        if (pooled != null && pooled.equals(value)) {
+            statistics.hit();
+            return pooled;
+        }
+        strings[slot] = value;
+        statistics.missed(pooled == null);
+        return value;
+    }
+
+    /**
+     * @return statistics of the pool
+     */
+    static StringDedupStatistics getStatistics() {
+        return statistics;
+    }
+}
@@ -45,7 +45,6 @@ import java.util.Iterator;
         super(res);
         init(res.asString(), conf.isJSONStoreEnabled());
         if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
             TwitterObjectFactory.registerJSONObject(this, res.asString());
         }
     }
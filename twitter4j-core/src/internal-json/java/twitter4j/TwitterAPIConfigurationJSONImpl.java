@@ -62,7 +62,6 @@ class TwitterAPIConfigurationJSONImpl extends TwitterResponseImpl implements Twi
             photoSizes.put(MediaEntity.Size.SMALL, new MediaEntityJSONImpl.Size(sizes.getJSONObject("small")));
             photoSizes.put(MediaEntity.Size.THUMB, new MediaEntityJSONImpl.Size(sizes.getJSONObject("thumb")));
             if (conf.isJSONStoreEnabled()) {
-                TwitterObjectFactory.clearThreadLocalMap();
                 TwitterObjectFactory.registerJSONObject(this, res.asJSONObject());
             }
             JSONArray nonUsernamePathsJSONArray = json.getJSONArray("non_username_paths");
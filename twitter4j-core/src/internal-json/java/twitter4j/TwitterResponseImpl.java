@@ -25,11 +25,12 @@ package twitter4j;
  * @see twitter4j.Status
  * @see twitter4j.User
  */
-/*package*/ abstract class TwitterResponseImpl implements TwitterResponse, java.io.Serializable {
+/*package*/ abstract class TwitterResponseImpl implements TwitterResponse, RawJSON.Holder, java.io.Serializable {
 
     private static final long serialVersionUID = 7422171124869859808L;
     private transient RateLimitStatus rateLimitStatus = null;
     private final transient int accessLevel;
+    private transient volatile RawJSON rawJSON = null;
 
     public TwitterResponseImpl() {
         accessLevel = NONE;
@@ -49,4 +50,14 @@ package twitter4j;
     public int getAccessLevel() {
         return accessLevel;
     }
+
+    @Override
+    public RawJSON getRawJSON() {
+        return rawJSON;
+    }
+
+    @Override
+    public void setRawJSON(RawJSON rawJSON) {
+        this.rawJSON = rawJSON;
+    }
 }
@@ -18,8 +18,12 @@ package twitter4j;
 
 import twitter4j.conf.Configuration;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 
 /**
  * A data class representing Basic user information element
@@ -72,14 +76,14 @@ import java.util.Date;
     private int listedCount;
     private boolean isFollowRequestSent;
     private String[] withheldInCountries;
+    // the tree and the parts not bound yet in lazy binding mode
+    private transient JSONObject lazyJSON;
+    private transient volatile int unbound;
 
     /*package*/UserJSONImpl(HttpResponse res, Configuration conf) throws TwitterException {
         super(res);
-        if (conf.isJSONStoreEnabled()) {
-            TwitterObjectFactory.clearThreadLocalMap();
-        }
         JSONObject json = res.asJSONObject();
-        init(json);
+        init(json, conf.isJSONLazyBindingEnabled());
         if (conf.isJSONStoreEnabled()) {
             TwitterObjectFactory.registerJSONObject(this, json);
         }
@@ -90,12 +94,34 @@ import java.util.Date;
         init(json);
     }
 
+    /*package*/UserJSONImpl(JSONObject json, boolean lazy) throws TwitterException {
+        super();
+        init(json, lazy);
+    }
+
+    /*package*/UserJSONImpl(HttpResponse res, JSONPullParser parser) throws TwitterException {
+        super(res);
+        init(parser);
+    }
+
+    /*package*/UserJSONImpl(JSONPullParser parser) throws TwitterException {
+        super();
+        init(parser);
+    }
+
     /* Only for serialization purposes. */
     /*package*/UserJSONImpl() {
 
     }
 
     private void init(JSONObject json) throws TwitterException {
+        init(json, false);
+    }
+
+    /**
+     * @param lazy true to keep the tree and bind the description with its entities and the status on first access
+     */
+    private void init(JSONObject json, boolean lazy) throws TwitterException {
         try {
             id = ParseUtil.getLong("id", json);
             name = ParseUtil.getRawString("name", json);
@@ -103,21 +129,6 @@ import java.util.Date;
             screenName = ParseUtil.getRawString("screen_name", json);
             location = ParseUtil.getRawString("location", json);
 
-            // descriptionUrlEntities <=> entities/descriptions/urls[]
-            descriptionURLEntities = getURLEntitiesFromJSON(json, "description");
-
-            // urlEntity <=> entities/url/urls[]
-            URLEntity[] urlEntities = getURLEntitiesFromJSON(json, "url");
-            if (urlEntities.length > 0) {
-                urlEntity = urlEntities[0];
-            }
-
-            description = ParseUtil.getRawString("description", json);
-            if (description != null) {
-                description = HTMLEntity.unescapeAndSlideEntityIncdices(description,
-                        null, descriptionURLEntities, null, null);
-            }
-
             isContributorsEnabled = ParseUtil.getBoolean("contributors_enabled", json);
             profileImageUrl = ParseUtil.getRawString("profile_image_url", json);
             profileImageUrlHttps = ParseUtil.getRawString("profile_image_url_https", json);
@@ -150,10 +161,6 @@ import java.util.Date;
             statusesCount = ParseUtil.getInt("statuses_count", json);
             listedCount = ParseUtil.getInt("listed_count", json);
             isFollowRequestSent = ParseUtil.getBoolean("follow_request_sent", json);
-            if (!json.isNull("status")) {
-                JSONObject statusJSON = json.getJSONObject("status");
-                status = new StatusJSONImpl(statusJSON);
-            }
             if (!json.isNull("withheld_in_countries")) {
                 JSONArray withheld_in_countries = json.getJSONArray("withheld_in_countries");
                 int length = withheld_in_countries.length();
@@ -162,11 +169,226 @@ import java.util.Date;
                     withheldInCountries[i] = withheld_in_countries.getString(i);
                 }
             }
+            if (lazy) {
+                lazyJSON = json;
+                unbound = DESCRIPTION | STATUS;
+            } else {
+                bind(json, DESCRIPTION | STATUS, false);
+            }
         } catch (JSONException jsone) {
             throw new TwitterException(jsone.getMessage() + ":" + json.toString(), jsone);
         }
     }
 
+    // parts of the user bound on first access in lazy binding mode
+    private static final int DESCRIPTION = 1;
+    private static final int STATUS = 1 << 1;
+
+    private void bind(JSONObject json, int parts, boolean lazy) throws JSONException, TwitterException {
+        if ((parts & DESCRIPTION) != 0) {
+            // descriptionUrlEntities <=> entities/descriptions/urls[]
+            descriptionURLEntities = getURLEntitiesFromJSON(json, "description");
+
+            // urlEntity <=> entities/url/urls[]
+            URLEntity[] urlEntities = getURLEntitiesFromJSON(json, "url");
+            if (urlEntities.length > 0) {
+                urlEntity = urlEntities[0];
+            }
+
+            description = ParseUtil.getRawString("description", json);
+            if (description != null) {
+                description = HTMLEntity.unescapeAndSlideEntityIncdices(description,
+                        null, descriptionURLEntities, null, null);
+            }
+        }
+        if ((parts & STATUS) != 0 && !json.isNull("status")) {
+            JSONObject statusJSON = json.getJSONObject("status");
+            status = new StatusJSONImpl(statusJSON, lazy);
+        }
+    }
+
+    /**
+     * Binds the parts not bound yet in lazy binding mode.
+     */
+    private void bindLazily(int parts) {
+        if ((unbound & parts) != 0) {
+            bindNow(parts);
+        }
+    }
+
+    private synchronized void bindNow(int parts) {
+        int remaining = unbound;
+        if ((remaining & parts) == 0) {
+            return;
+        }
+        try {
+            bind(lazyJSON, remaining & parts, true);
+        } catch (JSONException jsone) {
+            throw new IllegalStateException("failed to bind user " + id, jsone);
+        } catch (TwitterException te) {
+            throw new IllegalStateException("failed to bind user " + id, te);
+        }
+        if ((remaining & ~parts) == 0) {
+            lazyJSON = null;
+        }
+        // the volatile write publishes the fields bound above
+        unbound = remaining & ~parts;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        bindLazily(DESCRIPTION | STATUS);
+        out.defaultWriteObject();
+    }
+
+    /**
+     * Binds the user in a single pass over the parser, with the same results as {@link #init(JSONObject)}.
+     */
+    private void init(JSONPullParser parser) throws TwitterException {
+        // defaults of ParseUtil for missing values
+        id = -1;
+        followersCount = -1;
+        friendsCount = -1;
+        favouritesCount = -1;
+        utcOffset = -1;
+        statusesCount = -1;
+        listedCount = -1;
+        descriptionURLEntities = new URLEntity[0];
+        try {
+            parser.beginObject();
+            while (parser.hasNext()) {
+                String key = parser.nextName();
+                if ("id".equals(key)) {
+                    id = parser.nextLong();
+                } else if ("name".equals(key)) {
+                    name = parser.nextString();
+                } else if ("screen_name".equals(key)) {
+                    screenName = StringDedupPool.dedup("screen_name", parser.nextString());
+                } else if ("email".equals(key)) {
+                    email = parser.nextString();
+                } else if ("location".equals(key)) {
+                    location = StringDedupPool.dedup("location", parser.nextString());
+                } else if ("description".equals(key)) {
+                    description = parser.nextString();
+                } else if ("contributors_enabled".equals(key)) {
+                    isContributorsEnabled = parser.nextBoolean();
+                } else if ("profile_image_url".equals(key)) {
+                    profileImageUrl = parser.nextString();
+                } else if ("profile_image_url_https".equals(key)) {
+                    profileImageUrlHttps = parser.nextString();
+                } else if ("default_profile_image".equals(key)) {
+                    isDefaultProfileImage = parser.nextBoolean();
+                } else if ("url".equals(key)) {
+                    url = parser.nextString();
+                } else if ("protected".equals(key)) {
+                    isProtected = parser.nextBoolean();
+                } else if ("geo_enabled".equals(key)) {
+                    isGeoEnabled = parser.nextBoolean();
+                } else if ("verified".equals(key)) {
+                    isVerified = parser.nextBoolean();
+                } else if ("is_translator".equals(key)) {
+                    translator = parser.nextBoolean();
+                } else if ("followers_count".equals(key)) {
+                    followersCount = parser.nextInt();
+                } else if ("profile_background_color".equals(key)) {
+                    profileBackgroundColor = StringDedupPool.dedup("profile_background_color", parser.nextString());
+                } else if ("profile_text_color".equals(key)) {
+                    profileTextColor = StringDedupPool.dedup("profile_text_color", parser.nextString());
+                } else if ("profile_link_color".equals(key)) {
+                    profileLinkColor = StringDedupPool.dedup("profile_link_color", parser.nextString());
+                } else if ("profile_sidebar_fill_color".equals(key)) {
+                    profileSidebarFillColor = StringDedupPool.dedup("profile_sidebar_fill_color", parser.nextString());
+                } else if ("profile_sidebar_border_color".equals(key)) {
+                    profileSidebarBorderColor = StringDedupPool.dedup("profile_sidebar_border_color", parser.nextString());
+                } else if ("profile_use_background_image".equals(key)) {
+                    profileUseBackgroundImage = parser.nextBoolean();
+                } else if ("default_profile".equals(key)) {
+                    isDefaultProfile = parser.nextBoolean();
+                } else if ("show_all_inline_media".equals(key)) {
+                    showAllInlineMedia = parser.nextBoolean();
+                } else if ("friends_count".equals(key)) {
+                    friendsCount = parser.nextInt();
+                } else if ("created_at".equals(key)) {
+                    createdAt = ParseUtil.getDate(parser, "EEE MMM dd HH:mm:ss z yyyy");
+                } else if ("favourites_count".equals(key)) {
+                    favouritesCount = parser.nextInt();
+                } else if ("utc_offset".equals(key)) {
+                    utcOffset = parser.nextInt();
+                } else if ("time_zone".equals(key)) {
+                    timeZone = StringDedupPool.dedup("time_zone", parser.nextString());
+                } else if ("profile_background_image_url".equals(key)) {
+                    profileBackgroundImageUrl = StringDedupPool.dedup("profile_background_image_url", parser.nextString());
+                } else if ("profile_background_image_url_https".equals(key)) {
+                    profileBackgroundImageUrlHttps = StringDedupPool.dedup("profile_background_image_url_https", parser.nextString());
+                } else if ("profile_banner_url".equals(key)) {
+                    profileBannerImageUrl = parser.nextString();
+                } else if ("profile_background_tile".equals(key)) {
+                    profileBackgroundTiled = parser.nextBoolean();
+                } else if ("lang".equals(key)) {
+                    lang = StringDedupPool.dedup("lang", parser.nextString());
+                } else if ("statuses_count".equals(key)) {
+                    statusesCount = parser.nextInt();
+                } else if ("listed_count".equals(key)) {
+                    listedCount = parser.nextInt();
+                } else if ("follow_request_sent".equals(key)) {
+                    isFollowRequestSent = parser.nextBoolean();
+                } else if (parser.nextNull()) {
+                    // the members below are objects or arrays, left unset when null
+                } else if ("entities".equals(key)) {
+                    readEntities(parser);
+                } else if ("status".equals(key)) {
+                    status = new StatusJSONImpl(parser);
+                } else if ("withheld_in_countries".equals(key)) {
+                    withheldInCountries = StatusJSONImpl.readStrings(parser);
+                } else {
+                    parser.skipValue();
+                }
+            }
+            parser.endObject();
+        } catch (JSONException jsone) {
+            throw new TwitterException(jsone);
+        }
+        if (description != null) {
+            description = HTMLEntity.unescapeAndSlideEntityIncdices(description,
+                    null, descriptionURLEntities, null, null);
+        }
+    }
+
+    /**
+     * reads entities/description/urls[] and entities/url/urls[]
+     */
+    private void readEntities(JSONPullParser parser) throws JSONException {
+        parser.beginObject();
+        while (parser.hasNext()) {
+            String category = parser.nextName();
+            if (parser.nextNull()) {
+                continue;
+            }
+            if ("description".equals(category)) {
+                descriptionURLEntities = readURLEntities(parser);
+            } else if ("url".equals(category)) {
+                URLEntity[] urlEntities = readURLEntities(parser);
+                urlEntity = urlEntities.length > 0 ? urlEntities[0] : null;
+            } else {
+                parser.skipValue();
+            }
+        }
+        parser.endObject();
+    }
+
+    private static URLEntity[] readURLEntities(JSONPullParser parser) throws JSONException {
+        URLEntity[] urlEntities = null;
+        parser.beginObject();
+        while (parser.hasNext()) {
+            if ("urls".equals(parser.nextName())) {
+                urlEntities = EntitiesParseUtil.getUrls(parser);
+            } else {
+                parser.skipValue();
+            }
+        }
+        parser.endObject();
+        return urlEntities != null ? urlEntities : new URLEntity[0];
+    }
+
     /**
      * Get URL Entities from JSON Object.
      * returns URLEntity array by entities/[category]/urls/url[]
@@ -228,6 +450,7 @@ import java.util.Date;
 
     @Override
     public String getDescription() {
+        bindLazily(DESCRIPTION);
         return description;
     }
 
@@ -373,6 +596,7 @@ import java.util.Date;
 
     @Override
     public Status getStatus() {
+        bindLazily(STATUS);
         return status;
     }
 
@@ -382,6 +606,11 @@ import java.util.Date;
         return createdAt;
     }
 
+    @Override
+    public long getCreatedAtMillis() {
+        return createdAt != null ? createdAt.getTime() : -1L;
+    }
+
     @Override
     public int getFavouritesCount() {
         return favouritesCount;
@@ -494,11 +723,13 @@ import java.util.Date;
 
     @Override
     public URLEntity[] getDescriptionURLEntities() {
+        bindLazily(DESCRIPTION);
         return descriptionURLEntities;
     }
 
     @Override
     public URLEntity getURLEntity() {
+        bindLazily(DESCRIPTION);
         if (urlEntity == null) {
             String plainURL = url == null ? "" : url;
             urlEntity = new URLEntityJSONImpl(0, plainURL.length(), plainURL, plainURL, plainURL);
@@ -514,9 +745,6 @@ import java.util.Date;
     /*package*/
     static PagableResponseList<User> createPagableUserList(HttpResponse res, Configuration conf) throws TwitterException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("users");
             int size = list.length();
@@ -524,7 +752,7 @@ import java.util.Date;
                     new PagableResponseListImpl<User>(size, json, res);
             for (int i = 0; i < size; i++) {
                 JSONObject userJson = list.getJSONObject(i);
-                User user = new UserJSONImpl(userJson);
+                User user = new UserJSONImpl(userJson, conf.isJSONLazyBindingEnabled());
                 if (conf.isJSONStoreEnabled()) {
                     TwitterObjectFactory.registerJSONObject(user, userJson);
                 }
@@ -540,6 +768,65 @@ import java.util.Date;
     }
 
     /*package*/
+    /*package*/
+    static User createUser(final HttpResponse res) throws TwitterException {
+        return res.bindJSON(new JSONPullParser.Binder<User>() {
+            @Override
+            public User bind(JSONPullParser parser) throws TwitterException {
+                return new UserJSONImpl(res, parser);
+            }
+        });
+    }
+
+    /*package*/
+    static ResponseList<User> createUserList(final HttpResponse res) throws TwitterException {
+        return res.bindJSON(new JSONPullParser.Binder<ResponseList<User>>() {
+            @Override
+            public ResponseList<User> bind(JSONPullParser parser) throws TwitterException {
+                ResponseList<User> users = new ResponseListImpl<User>(res);
+                parser.beginArray();
+                while (parser.hasNext()) {
+                    users.add(new UserJSONImpl(parser));
+                }
+                parser.endArray();
+                return users;
+            }
+        });
+    }
+
+    /*package*/
+    static PagableResponseList<User> createPagableUserList(final HttpResponse res) throws TwitterException {
+        return res.bindJSON(new JSONPullParser.Binder<PagableResponseList<User>>() {
+            @Override
+            public PagableResponseList<User> bind(JSONPullParser parser) throws TwitterException {
+                List<User> list = new ArrayList<User>();
+                long previousCursor = -1;
+                long nextCursor = -1;
+                parser.beginObject();
+                while (parser.hasNext()) {
+                    String name = parser.nextName();
+                    if ("users".equals(name)) {
+                        parser.beginArray();
+                        while (parser.hasNext()) {
+                            list.add(new UserJSONImpl(parser));
+                        }
+                        parser.endArray();
+                    } else if ("previous_cursor".equals(name)) {
+                        previousCursor = parser.nextLong();
+                    } else if ("next_cursor".equals(name)) {
+                        nextCursor = parser.nextLong();
+                    } else {
+                        parser.skipValue();
+                    }
+                }
+                parser.endObject();
+                PagableResponseList<User> users = new PagableResponseListImpl<User>(list.size(), previousCursor, nextCursor, res);
+                users.addAll(list);
+                return users;
+            }
+        });
+    }
+
     static ResponseList<User> createUserList(HttpResponse res, Configuration conf) throws TwitterException {
         return createUserList(res.asJSONArray(), res, conf);
     }
@@ -547,15 +834,12 @@ import java.util.Date;
     /*package*/
     static ResponseList<User> createUserList(JSONArray list, HttpResponse res, Configuration conf) throws TwitterException {
         try {
-            if (conf.isJSONStoreEnabled()) {
-                TwitterObjectFactory.clearThreadLocalMap();
-            }
             int size = list.length();
             ResponseList<User> users =
                     new ResponseListImpl<User>(size, res);
             for (int i = 0; i < size; i++) {
                 JSONObject json = list.getJSONObject(i);
-                User user = new UserJSONImpl(json);
+                User user = new UserJSONImpl(json, conf.isJSONLazyBindingEnabled());
                 users.add(user);
                 if (conf.isJSONStoreEnabled()) {
                     TwitterObjectFactory.registerJSONObject(user, json);
@@ -588,6 +872,7 @@ import java.util.Date;
 
     @Override
     public String toString() {
+        bindLazily(DESCRIPTION | STATUS);
         return "UserJSONImpl{" +
                 "id=" + id +
                 ", name='" + name + '\'' +
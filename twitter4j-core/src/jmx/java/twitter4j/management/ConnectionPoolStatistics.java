@@ -0,0 +1,132 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connection pool usage of the HttpClient implementations.<br>
+ * Pools register a {@link Gauge} reporting their current size and count connection lifecycle events.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public class ConnectionPoolStatistics implements ConnectionPoolStatisticsMBean {
+    private final CopyOnWriteArrayList<Gauge> gauges = new CopyOnWriteArrayList<Gauge>();
+    private final AtomicLong createdConnections = new AtomicLong();
+    private final AtomicLong reusedConnections = new AtomicLong();
+    private final AtomicLong evictedConnections = new AtomicLong();
+
+    /**
+     * Current size of a connection pool
+     */
+    public interface Gauge {
+        int getLeasedConnections();
+
+        int getIdleConnections();
+
+        int getPendingRequests();
+    }
+
+    public void addGauge(Gauge gauge) {
+        gauges.addIfAbsent(gauge);
+    }
+
+    public void removeGauge(Gauge gauge) {
+        gauges.remove(gauge);
+    }
+
+    public void connectionCreated() {
+        createdConnections.incrementAndGet();
+    }
+
+    public void connectionReused() {
+        reusedConnections.incrementAndGet();
+    }
+
+    public void connectionEvicted() {
+        evictedConnections.incrementAndGet();
+    }
+
+    @Override
+    public int getLeasedConnections() {
+        int count = 0;
+        for (Gauge gauge : gauges) {
+            count += gauge.getLeasedConnections();
+        }
+        return count;
+    }
+
+    @Override
+    public int getIdleConnections() {
+        int count = 0;
+        for (Gauge gauge : gauges) {
+            count += gauge.getIdleConnections();
+        }
+        return count;
+    }
+
+    @Override
+    public int getPendingRequests() {
+        int count = 0;
+        for (Gauge gauge : gauges) {
+            count += gauge.getPendingRequests();
+        }
+        return count;
+    }
+
+    @Override
+    public long getCreatedConnections() {
+        return createdConnections.get();
+    }
+
+    @Override
+    public long getReusedConnections() {
+        return reusedConnections.get();
+    }
+
+    @Override
+    public long getEvictedConnections() {
+        return evictedConnections.get();
+    }
+
+    @Override
+    public double getReuseRate() {
+        long reused = reusedConnections.get();
+        long total = reused + createdConnections.get();
+        return total == 0 ? 0 : (double) reused / total;
+    }
+
+    @Override
+    public void reset() {
+        createdConnections.set(0);
+        reusedConnections.set(0);
+        evictedConnections.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStatistics{" +
+                "leased=" + getLeasedConnections() +
+                ", idle=" + getIdleConnections() +
+                ", pending=" + getPendingRequests() +
+                ", created=" + createdConnections +
+                ", reused=" + reusedConnections +
+                ", evicted=" + evictedConnections +
+                '}';
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+/**
+ * Simple MBean interface for ConnectionPoolStatistics. Gauges are summed across all pools of all HttpClient instances.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface ConnectionPoolStatisticsMBean {
+    /**
+     * @return number of connections currently carrying a request
+     */
+    public int getLeasedConnections();
+
+    /**
+     * @return number of open connections waiting to be reused
+     */
+    public int getIdleConnections();
+
+    /**
+     * @return number of requests waiting for a connection
+     */
+    public int getPendingRequests();
+
+    /**
+     * @return number of connections opened
+     */
+    public long getCreatedConnections();
+
+    /**
+     * @return number of requests sent over an already open connection
+     */
+    public long getReusedConnections();
+
+    /**
+     * @return number of idle connections closed after the keep-alive time
+     */
+    public long getEvictedConnections();
+
+    /**
+     * @return ratio of requests sent over an already open connection, between 0 and 1
+     */
+    public double getReuseRate();
+
+    public void reset();
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queueing of calls delayed by the rate limit aware scheduler.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public class RateLimitSchedulerStatistics implements RateLimitSchedulerStatisticsMBean {
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong scheduledCalls = new AtomicLong();
+    private final AtomicLong delayedCalls = new AtomicLong();
+    private final AtomicLong totalWaitTime = new AtomicLong();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    public void callQueued() {
+        int depth = queueDepth.incrementAndGet();
+        int max;
+        while (depth > (max = maxQueueDepth.get())) {
+            if (maxQueueDepth.compareAndSet(max, depth)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @param waitTime time the call spent in the queue, in milliseconds
+     */
+    public void callDequeued(long waitTime) {
+        queueDepth.decrementAndGet();
+        scheduledCalls.incrementAndGet();
+        if (waitTime > 0) {
+            delayedCalls.incrementAndGet();
+            totalWaitTime.addAndGet(waitTime);
+            long max;
+            while (waitTime > (max = maxWaitTime.get())) {
+                if (maxWaitTime.compareAndSet(max, waitTime)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    @Override
+    public long getScheduledCalls() {
+        return scheduledCalls.get();
+    }
+
+    @Override
+    public long getDelayedCalls() {
+        return delayedCalls.get();
+    }
+
+    @Override
+    public long getTotalWaitTime() {
+        return totalWaitTime.get();
+    }
+
+    @Override
+    public long getAverageWaitTime() {
+        long calls = scheduledCalls.get();
+        return calls == 0 ? 0 : totalWaitTime.get() / calls;
+    }
+
+    @Override
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+
+    @Override
+    public void reset() {
+        // queueDepth reflects calls currently waiting and is not reset
+        maxQueueDepth.set(queueDepth.get());
+        scheduledCalls.set(0);
+        delayedCalls.set(0);
+        totalWaitTime.set(0);
+        maxWaitTime.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitSchedulerStatistics{" +
+                "queueDepth=" + queueDepth +
+                ", maxQueueDepth=" + maxQueueDepth +
+                ", scheduledCalls=" + scheduledCalls +
+                ", delayedCalls=" + delayedCalls +
+                ", totalWaitTime=" + totalWaitTime +
+                ", maxWaitTime=" + maxWaitTime +
+                '}';
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+/**
+ * Simple MBean interface for RateLimitSchedulerStatistics. Values are summed across all endpoint families and tokens.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface RateLimitSchedulerStatisticsMBean {
+    /**
+     * @return number of calls currently waiting for rate limit quota
+     */
+    public int getQueueDepth();
+
+    /**
+     * @return highest number of calls waiting at the same time
+     */
+    public int getMaxQueueDepth();
+
+    /**
+     * @return number of calls passed through the scheduler
+     */
+    public long getScheduledCalls();
+
+    /**
+     * @return number of calls which had to wait before being sent
+     */
+    public long getDelayedCalls();
+
+    /**
+     * @return total time calls spent waiting, in milliseconds
+     */
+    public long getTotalWaitTime();
+
+    /**
+     * @return average time a call spent waiting, in milliseconds
+     */
+    public long getAverageWaitTime();
+
+    /**
+     * @return longest time a call spent waiting, in milliseconds
+     */
+    public long getMaxWaitTime();
+
+    public void reset();
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalescing of identical GET requests in flight at the same time.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public class RequestCoalescingStatistics implements RequestCoalescingStatisticsMBean {
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong collapses = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * @param hit true if the request joined an identical request in flight
+     */
+    public void requested(boolean hit) {
+        requests.incrementAndGet();
+        if (hit) {
+            hits.incrementAndGet();
+        }
+    }
+
+    public void sent() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * @param collapsed true if the response has been shared with other requests
+     */
+    public void completed(boolean collapsed) {
+        inFlight.decrementAndGet();
+        if (collapsed) {
+            collapses.incrementAndGet();
+        }
+    }
+
+    @Override
+    public long getRequests() {
+        return requests.get();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getCollapses() {
+        return collapses.get();
+    }
+
+    @Override
+    public int getHitRatio() {
+        long requests = this.requests.get();
+        return requests == 0 ? 0 : (int) (hits.get() * 100 / requests);
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void reset() {
+        // inFlight reflects requests currently sent and is not reset
+        requests.set(0);
+        hits.set(0);
+        collapses.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "RequestCoalescingStatistics{" +
+                "requests=" + requests +
+                ", hits=" + hits +
+                ", collapses=" + collapses +
+                ", inFlight=" + inFlight +
+                '}';
+    }
+}
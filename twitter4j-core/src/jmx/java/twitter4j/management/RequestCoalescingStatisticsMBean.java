@@ -0,0 +1,51 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+/**
+ * Simple MBean interface for RequestCoalescingStatistics. Values are summed across all HttpClient instances.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface RequestCoalescingStatisticsMBean {
+    /**
+     * @return number of GET requests eligible for coalescing
+     */
+    public long getRequests();
+
+    /**
+     * @return number of requests served by the response of an identical request already in flight
+     */
+    public long getHits();
+
+    /**
+     * @return number of network calls whose response has been shared with at least one other request
+     */
+    public long getCollapses();
+
+    /**
+     * @return number of requests which didn't have to be sent, in percent
+     */
+    public int getHitRatio();
+
+    /**
+     * @return number of distinct requests currently in flight
+     */
+    public int getInFlight();
+
+    public void reset();
+}
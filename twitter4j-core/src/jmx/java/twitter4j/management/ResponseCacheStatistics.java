@@ -0,0 +1,144 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hits and misses of the HTTP response cache.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public class ResponseCacheStatistics implements ResponseCacheStatisticsMBean {
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicInteger entries = new AtomicInteger();
+    private final AtomicLong size = new AtomicLong();
+
+    /**
+     * @param disk true if the entry has been read from the disk tier
+     */
+    public void hit(boolean disk) {
+        hits.incrementAndGet();
+        if (disk) {
+            diskHits.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param revalidated true if the server answered 304 Not Modified
+     */
+    public void missed(boolean revalidated) {
+        misses.incrementAndGet();
+        if (revalidated) {
+            revalidations.incrementAndGet();
+        }
+    }
+
+    public void added(long entrySize) {
+        entries.incrementAndGet();
+        size.addAndGet(entrySize);
+    }
+
+    /**
+     * @param entrySize size of the entry
+     * @param evicted   true if the entry has been removed to make room for others
+     */
+    public void removed(long entrySize, boolean evicted) {
+        entries.decrementAndGet();
+        size.addAndGet(-entrySize);
+        if (evicted) {
+            evictions.incrementAndGet();
+        }
+    }
+
+    @Override
+    public long getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getDiskHits() {
+        return diskHits.get();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    @Override
+    public int getHitRatio() {
+        long hits = this.hits.get();
+        long requests = hits + misses.get();
+        return requests == 0 ? 0 : (int) (hits * 100 / requests);
+    }
+
+    @Override
+    public int getMissRatio() {
+        long misses = this.misses.get();
+        long requests = hits.get() + misses;
+        return requests == 0 ? 0 : (int) (misses * 100 / requests);
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public int getEntries() {
+        return entries.get();
+    }
+
+    @Override
+    public long getSize() {
+        return size.get();
+    }
+
+    @Override
+    public void reset() {
+        // entries and size reflect the current content of the caches and are not reset
+        hits.set(0);
+        diskHits.set(0);
+        misses.set(0);
+        revalidations.set(0);
+        evictions.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCacheStatistics{" +
+                "hits=" + hits +
+                ", diskHits=" + diskHits +
+                ", misses=" + misses +
+                ", revalidations=" + revalidations +
+                ", evictions=" + evictions +
+                ", entries=" + entries +
+                ", size=" + size +
+                '}';
+    }
+}
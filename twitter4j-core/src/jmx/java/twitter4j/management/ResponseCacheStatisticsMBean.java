@@ -0,0 +1,71 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+/**
+ * Simple MBean interface for ResponseCacheStatistics. Values are summed across all HttpClient instances.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface ResponseCacheStatisticsMBean {
+    /**
+     * @return number of requests served from the cache without contacting the server
+     */
+    public long getHits();
+
+    /**
+     * @return number of requests served from the disk tier
+     */
+    public long getDiskHits();
+
+    /**
+     * @return number of cacheable requests sent to the server
+     */
+    public long getMisses();
+
+    /**
+     * @return number of misses answered by 304 Not Modified, served from the cache
+     */
+    public long getRevalidations();
+
+    /**
+     * @return number of requests served from the cache, in percent
+     */
+    public int getHitRatio();
+
+    /**
+     * @return number of requests sent to the server, in percent
+     */
+    public int getMissRatio();
+
+    /**
+     * @return number of entries evicted from memory to make room for newer ones
+     */
+    public long getEvictions();
+
+    /**
+     * @return number of entries held in memory
+     */
+    public int getEntries();
+
+    /**
+     * @return estimated memory used by the entries, in bytes
+     */
+    public long getSize();
+
+    public void reset();
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue depth, lag and overflow of the bounded dispatchers handing streaming API messages to listeners.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public class StreamDispatchStatistics implements StreamDispatchStatisticsMBean {
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicInteger capacity = new AtomicInteger();
+    private final AtomicLong spillDepth = new AtomicLong();
+    private final AtomicLong dispatchedEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong spilledEvents = new AtomicLong();
+    private final AtomicLong blockedReads = new AtomicLong();
+    private final AtomicLong totalBlockedTime = new AtomicLong();
+    private final AtomicLong totalLag = new AtomicLong();
+    private final AtomicLong maxLag = new AtomicLong();
+    private volatile long lag;
+
+    /**
+     * @param capacity number of events the dispatcher can hold in memory. Negative when a dispatcher shuts down.
+     */
+    public void addCapacity(int capacity) {
+        this.capacity.addAndGet(capacity);
+    }
+
+    public void eventQueued() {
+        int depth = queueDepth.incrementAndGet();
+        int max;
+        while (depth > (max = maxQueueDepth.get())) {
+            if (maxQueueDepth.compareAndSet(max, depth)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @param lag time the event spent queued, in milliseconds
+     */
+    public void eventDispatched(long lag) {
+        queueDepth.decrementAndGet();
+        dispatchedEvents.incrementAndGet();
+        this.lag = lag;
+        totalLag.addAndGet(lag);
+        long max;
+        while (lag > (max = maxLag.get())) {
+            if (maxLag.compareAndSet(max, lag)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @param queued true if the event was dropped from the queue rather than before being queued
+     */
+    public void eventDropped(boolean queued) {
+        if (queued) {
+            queueDepth.decrementAndGet();
+        }
+        droppedEvents.incrementAndGet();
+    }
+
+    public void eventSpilled() {
+        spillDepth.incrementAndGet();
+        spilledEvents.incrementAndGet();
+    }
+
+    /**
+     * @param count number of events read back from a spill file into the queue
+     */
+    public void eventsUnspilled(int count) {
+        spillDepth.addAndGet(-count);
+    }
+
+    /**
+     * @param blockedTime time the reader waited for room in the queue, in milliseconds
+     */
+    public void readBlocked(long blockedTime) {
+        blockedReads.incrementAndGet();
+        totalBlockedTime.addAndGet(blockedTime);
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity.get();
+    }
+
+    @Override
+    public long getSpillDepth() {
+        return spillDepth.get();
+    }
+
+    @Override
+    public long getDispatchedEvents() {
+        return dispatchedEvents.get();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public long getSpilledEvents() {
+        return spilledEvents.get();
+    }
+
+    @Override
+    public long getBlockedReads() {
+        return blockedReads.get();
+    }
+
+    @Override
+    public long getTotalBlockedTime() {
+        return totalBlockedTime.get();
+    }
+
+    @Override
+    public long getLag() {
+        return lag;
+    }
+
+    @Override
+    public long getAverageLag() {
+        long events = dispatchedEvents.get();
+        return events == 0 ? 0 : totalLag.get() / events;
+    }
+
+    @Override
+    public long getMaxLag() {
+        return maxLag.get();
+    }
+
+    @Override
+    public void reset() {
+        // queueDepth, capacity and spillDepth reflect the current content of the queues and are not reset
+        maxQueueDepth.set(queueDepth.get());
+        dispatchedEvents.set(0);
+        droppedEvents.set(0);
+        spilledEvents.set(0);
+        blockedReads.set(0);
+        totalBlockedTime.set(0);
+        totalLag.set(0);
+        maxLag.set(0);
+        lag = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamDispatchStatistics{" +
+                "queueDepth=" + queueDepth +
+                ", maxQueueDepth=" + maxQueueDepth +
+                ", capacity=" + capacity +
+                ", spillDepth=" + spillDepth +
+                ", dispatchedEvents=" + dispatchedEvents +
+                ", droppedEvents=" + droppedEvents +
+                ", spilledEvents=" + spilledEvents +
+                ", blockedReads=" + blockedReads +
+                ", totalBlockedTime=" + totalBlockedTime +
+                ", lag=" + lag +
+                ", maxLag=" + maxLag +
+                '}';
+    }
+}
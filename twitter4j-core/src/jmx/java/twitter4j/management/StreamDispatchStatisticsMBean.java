@@ -0,0 +1,86 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+/**
+ * Simple MBean interface for StreamDispatchStatistics. Values are summed across all bounded stream dispatchers.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface StreamDispatchStatisticsMBean {
+    /**
+     * @return number of events waiting in memory to be dispatched to listeners
+     */
+    public int getQueueDepth();
+
+    /**
+     * @return highest number of events waiting in memory at the same time
+     */
+    public int getMaxQueueDepth();
+
+    /**
+     * @return number of events the dispatch queues can hold in memory
+     */
+    public int getCapacity();
+
+    /**
+     * @return number of events waiting in spill files
+     */
+    public long getSpillDepth();
+
+    /**
+     * @return number of events dispatched to listeners
+     */
+    public long getDispatchedEvents();
+
+    /**
+     * @return number of events discarded because a queue was full
+     */
+    public long getDroppedEvents();
+
+    /**
+     * @return number of events written to spill files because a queue was full
+     */
+    public long getSpilledEvents();
+
+    /**
+     * @return number of times a stream reader had to wait for room in a queue
+     */
+    public long getBlockedReads();
+
+    /**
+     * @return total time stream readers spent waiting for room in a queue, in milliseconds
+     */
+    public long getTotalBlockedTime();
+
+    /**
+     * @return time the last dispatched event spent queued, in milliseconds
+     */
+    public long getLag();
+
+    /**
+     * @return average time an event spent queued, in milliseconds
+     */
+    public long getAverageLag();
+
+    /**
+     * @return longest time an event spent queued, in milliseconds
+     */
+    public long getMaxLag();
+
+    public void reset();
+}
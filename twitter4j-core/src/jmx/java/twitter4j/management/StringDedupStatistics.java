@@ -0,0 +1,98 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hits and misses of the pool deduplicating repeated strings of parsed responses.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public class StringDedupStatistics implements StringDedupStatisticsMBean {
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicInteger entries = new AtomicInteger();
+    private volatile int capacity;
+
+    public void hit() {
+        hits.incrementAndGet();
+    }
+
+    /**
+     * @param added true if the string took an empty slot rather than replacing another one
+     */
+    public void missed(boolean added) {
+        misses.incrementAndGet();
+        if (added) {
+            entries.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param capacity maximum number of strings held by the pool
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+        entries.set(0);
+    }
+
+    @Override
+    public long getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public int getHitRatio() {
+        long hits = this.hits.get();
+        long lookups = hits + misses.get();
+        return lookups == 0 ? 0 : (int) (hits * 100 / lookups);
+    }
+
+    @Override
+    public int getEntries() {
+        return entries.get();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void reset() {
+        // entries reflect the current content of the pool and are not reset
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "StringDedupStatistics{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", entries=" + entries +
+                ", capacity=" + capacity +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.management;
+
+/**
+ * Simple MBean interface for StringDedupStatistics.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface StringDedupStatisticsMBean {
+    /**
+     * @return number of parsed strings replaced with an equal pooled instance
+     */
+    public long getHits();
+
+    /**
+     * @return number of parsed strings that were not pooled yet
+     */
+    public long getMisses();
+
+    /**
+     * @return number of parsed strings replaced with a pooled instance, in percent
+     */
+    public int getHitRatio();
+
+    /**
+     * @return number of strings held by the pool
+     */
+    public int getEntries();
+
+    /**
+     * @return maximum number of strings held by the pool
+     */
+    public int getCapacity();
+
+    public void reset();
+}
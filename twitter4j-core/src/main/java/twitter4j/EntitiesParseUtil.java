@@ -1,5 +1,8 @@
 package twitter4j;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /*package*/ class EntitiesParseUtil {
 
     /*package*/ static UserMentionEntity[] getUserMentions(JSONObject entities) throws JSONException, TwitterException {
@@ -72,4 +75,156 @@ package twitter4j;
             return null;
         }
     }
+
+    /*package*/ static UserMentionEntity[] getUserMentions(JSONPullParser parser) throws JSONException {
+        if (parser.nextNull()) {
+            return null;
+        }
+        List<UserMentionEntity> userMentionEntities = new ArrayList<UserMentionEntity>();
+        parser.beginArray();
+        while (parser.hasNext()) {
+            int[] indices = null;
+            String name = null;
+            String screenName = null;
+            long id = -1;
+            parser.beginObject();
+            while (parser.hasNext()) {
+                String key = parser.nextName();
+                if ("indices".equals(key)) {
+                    indices = getIndices(parser);
+                } else if ("name".equals(key)) {
+                    name = parser.nextString();
+                } else if ("screen_name".equals(key)) {
+                    screenName = parser.nextString();
+                } else if ("id".equals(key)) {
+                    id = parser.nextLong();
+                } else {
+                    parser.skipValue();
+                }
+            }
+            parser.endObject();
+            indices = requireIndices(indices);
+            userMentionEntities.add(new UserMentionEntityJSONImpl(indices[0], indices[1], name, screenName, id));
+        }
+        parser.endArray();
+        return userMentionEntities.toArray(new UserMentionEntity[userMentionEntities.size()]);
+    }
+
+    /*package*/ static URLEntity[] getUrls(JSONPullParser parser) throws JSONException {
+        if (parser.nextNull()) {
+            return null;
+        }
+        List<URLEntity> urlEntities = new ArrayList<URLEntity>();
+        parser.beginArray();
+        while (parser.hasNext()) {
+            int[] indices = null;
+            String url = null;
+            String expandedURL = null;
+            String displayURL = null;
+            parser.beginObject();
+            while (parser.hasNext()) {
+                String key = parser.nextName();
+                if ("indices".equals(key)) {
+                    indices = getIndices(parser);
+                } else if ("url".equals(key)) {
+                    url = parser.nextString();
+                } else if ("expanded_url".equals(key)) {
+                    expandedURL = parser.nextString();
+                } else if ("display_url".equals(key)) {
+                    displayURL = parser.nextString();
+                } else {
+                    parser.skipValue();
+                }
+            }
+            parser.endObject();
+            indices = requireIndices(indices);
+            // expanded_url and display_url fall back to url, as in URLEntityJSONImpl(JSONObject) - TFJ-704
+            urlEntities.add(new URLEntityJSONImpl(indices[0], indices[1], url,
+                    expandedURL != null ? expandedURL : url, displayURL != null ? displayURL : url));
+        }
+        parser.endArray();
+        return urlEntities.toArray(new URLEntity[urlEntities.size()]);
+    }
+
+    /*package*/ static HashtagEntity[] getHashtags(JSONPullParser parser) throws JSONException {
+        if (parser.nextNull()) {
+            return null;
+        }
+        List<HashtagEntityJSONImpl> hashtagEntities = getHashtagEntities(parser);
+        return hashtagEntities.toArray(new HashtagEntity[hashtagEntities.size()]);
+    }
+
+    /*package*/ static SymbolEntity[] getSymbols(JSONPullParser parser) throws JSONException {
+        if (parser.nextNull()) {
+            return null;
+        }
+        // HashtagEntityJSONImpl also implements SymbolEntities
+        List<HashtagEntityJSONImpl> symbolEntities = getHashtagEntities(parser);
+        return symbolEntities.toArray(new SymbolEntity[symbolEntities.size()]);
+    }
+
+    private static List<HashtagEntityJSONImpl> getHashtagEntities(JSONPullParser parser) throws JSONException {
+        List<HashtagEntityJSONImpl> hashtagEntities = new ArrayList<HashtagEntityJSONImpl>();
+        parser.beginArray();
+        while (parser.hasNext()) {
+            int[] indices = null;
+            String text = null;
+            parser.beginObject();
+            while (parser.hasNext()) {
+                String key = parser.nextName();
+                if ("indices".equals(key)) {
+                    indices = getIndices(parser);
+                } else if ("text".equals(key)) {
+                    text = parser.nextString();
+                } else {
+                    parser.skipValue();
+                }
+            }
+            parser.endObject();
+            indices = requireIndices(indices);
+            hashtagEntities.add(new HashtagEntityJSONImpl(indices[0], indices[1], text));
+        }
+        parser.endArray();
+        return hashtagEntities;
+    }
+
+    /*package*/ static MediaEntity[] getMedia(JSONPullParser parser) throws JSONException, TwitterException {
+        if (parser.nextNull()) {
+            return null;
+        }
+        // media entities are rare and have deeply nested sizes and video info, so they are bound from small trees
+        List<MediaEntity> mediaEntities = new ArrayList<MediaEntity>();
+        parser.beginArray();
+        while (parser.hasNext()) {
+            mediaEntities.add(new MediaEntityJSONImpl(parser.nextJSONObject()));
+        }
+        parser.endArray();
+        return mediaEntities.toArray(new MediaEntity[mediaEntities.size()]);
+    }
+
+    private static int[] getIndices(JSONPullParser parser) throws JSONException {
+        if (parser.nextNull()) {
+            return null;
+        }
+        int[] indices = new int[2];
+        int i = 0;
+        parser.beginArray();
+        while (parser.hasNext()) {
+            if (i < indices.length) {
+                indices[i++] = parser.nextInt();
+            } else {
+                parser.skipValue();
+            }
+        }
+        parser.endArray();
+        return i == indices.length ? indices : null;
+    }
+
+    private static int[] requireIndices(int[] indices) throws JSONException {
+        if (indices == null) {
+            // same as JSONObject.getJSONArray("indices") in the tree based constructors
+            throw new JSONException("No value for indices");
+        }
+        return indices;
+    }
 }
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.auth.Authorization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static twitter4j.HttpResponseCode.*;
+
+/**
+ * An Authorization balancing calls across a pool of credentials, typically app-only OAuth2 tokens and user access tokens of a crawler.<br>
+ * Each call is signed with the credential having the most remaining quota for the endpoint family of the call, as told by the X-Rate-Limit-* headers of the previous responses. Credentials whose quota is unknown yet are used first, in turn.<br>
+ * A credential receiving 429 (or 420) is not used for the endpoint family until the rate limit window resets. A credential receiving 401 is not used at all for 15 minutes. If every credential is quarantined, the one becoming available first is used.<br>
+ * Every attempt of a call is attributed to the credential which signed it, including the attempts retried by the HttpClient.<br>
+ * Only GET calls are balanced. Writes act on behalf of a user, and the requests of a chunked media upload have to be signed by the credential which got the media_id, so non-GET calls and media uploads are always signed by the first credential of the pool.<br>
+ * The rate limit aware scheduler passes calls signed by a pool through, as the pool does the balancing itself.
+ * <pre>
+ * Twitter twitter = new TwitterFactory().getInstance(new PooledAuthorization(auth1, auth2, auth3));
+ * </pre>
+ *
+ * @since Twitter4J 4.0.8
+ */
+public class PooledAuthorization implements Authorization {
+    private static final long serialVersionUID = 8915273043785219632L;
+    // a credential rejected with 401 may have been revoked, or the clock may be off
+    private static final long UNAUTHORIZED_QUARANTINE_MILLIS = 15 * 60 * 1000;
+    // length of the rate limit window, used when a 429 response doesn't tell the reset time
+    private static final long WINDOW_MILLIS = 15 * 60 * 1000;
+    // endpoint family of the media upload endpoints, e.g. https://upload.twitter.com/1.1/media/upload.json
+    private static final String MEDIA_FAMILY = "media";
+
+    private final Member[] members;
+    private int next = 0;
+
+    public PooledAuthorization(Authorization... authorizations) {
+        this(Arrays.asList(authorizations));
+    }
+
+    public PooledAuthorization(List<? extends Authorization> authorizations) {
+        if (authorizations.isEmpty()) {
+            throw new IllegalArgumentException("at least one authorization is required");
+        }
+        members = new Member[authorizations.size()];
+        for (int i = 0; i < members.length; i++) {
+            if (authorizations.get(i) == null) {
+                throw new NullPointerException("authorization must not be null");
+            }
+            members[i] = new Member(authorizations.get(i));
+        }
+    }
+
+    /**
+     * @return credentials in the pool
+     */
+    public List<Authorization> getAuthorizations() {
+        List<Authorization> authorizations = new ArrayList<Authorization>(members.length);
+        for (Member member : members) {
+            authorizations.add(member.authorization);
+        }
+        return Collections.unmodifiableList(authorizations);
+    }
+
+    @Override
+    public String getAuthorizationHeader(HttpRequest req) {
+        String family = RateLimitScheduler.getEndpointFamily(req.getURL());
+        Member member = isBalanced(req, family) ? select(family) : pin(family);
+        // the response to the attempt is attributed to the credential carried by the request
+        req.setSigner(member.authorization);
+        return member.authorization.getAuthorizationHeader(req);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        for (Member member : members) {
+            if (member.authorization.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the request can be signed by any credential of the pool
+     */
+    private static boolean isBalanced(HttpRequest req, String family) {
+        return req.getMethod() == RequestMethod.GET && !MEDIA_FAMILY.equals(family);
+    }
+
+    /**
+     * @return the first credential, even if it is quarantined
+     */
+    private synchronized Member pin(String family) {
+        members[0].reserve(family);
+        return members[0];
+    }
+
+    private synchronized Member select(String family) {
+        long now = System.currentTimeMillis();
+        Member best = null;
+        long bestAvailable = 0;
+        Member earliest = null;
+        long earliestAvailableTime = Long.MAX_VALUE;
+        for (int i = 0; i < members.length; i++) {
+            // start from the next member in turn, so that ties are broken round robin
+            Member member = members[(next + i) % members.length];
+            long available = member.getAvailableCalls(family, now);
+            if (available > bestAvailable) {
+                best = member;
+                bestAvailable = available;
+            }
+            long availableTime = member.getAvailableTime(family);
+            if (availableTime < earliestAvailableTime) {
+                earliest = member;
+                earliestAvailableTime = availableTime;
+            }
+        }
+        next = (next + 1) % members.length;
+        if (best == null) {
+            best = earliest;
+        }
+        best.reserve(family);
+        return best;
+    }
+
+    /**
+     * Updates the quota of the credential which signed an attempt. Called by the HttpClient once per attempt.
+     *
+     * @param req request of the attempt
+     * @param res response, or null if the attempt failed
+     * @param te  failure of the attempt, or null
+     */
+    void attemptCompleted(HttpRequest req, HttpResponse res, TwitterException te) {
+        Member member = getMember(req.takeSigner());
+        if (member == null) {
+            return;
+        }
+        RateLimitStatus status;
+        int statusCode;
+        if (te != null) {
+            status = te.getRateLimitStatus();
+            statusCode = te.getStatusCode();
+        } else {
+            status = JSONImplFactory.createRateLimitStatusFromResponseHeader(res);
+            statusCode = res.getStatusCode();
+        }
+        String family = RateLimitScheduler.getEndpointFamily(req.getURL());
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            if (statusCode == UNAUTHORIZED) {
+                member.quarantinedUntil = now + UNAUTHORIZED_QUARANTINE_MILLIS;
+            }
+            if (status != null) {
+                member.update(family, status);
+            }
+            if (statusCode == TOO_MANY_REQUESTS || statusCode == ENHANCE_YOUR_CLAIM) {
+                member.exhaust(family, now);
+            }
+        }
+    }
+
+    private Member getMember(Authorization signer) {
+        for (Member member : members) {
+            if (member.authorization == signer) {
+                return member;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "PooledAuthorization{" +
+                "authorizations=" + getAuthorizations() +
+                '}';
+    }
+
+    private static final class Member implements java.io.Serializable {
+        private static final long serialVersionUID = -2465081853297467416L;
+        private final Authorization authorization;
+        private final Map<String, Quota> quotas = new HashMap<String, Quota>();
+        private long quarantinedUntil = 0;
+
+        Member(Authorization authorization) {
+            this.authorization = authorization;
+        }
+
+        /**
+         * @return number of calls the credential can make now, Long.MAX_VALUE if unknown, or 0 if quarantined
+         */
+        long getAvailableCalls(String family, long now) {
+            if (quarantinedUntil > now) {
+                return 0;
+            }
+            Quota quota = quotas.get(family);
+            if (quota == null) {
+                return Long.MAX_VALUE;
+            }
+            if (quota.resetTimeMillis <= now) {
+                // the window has been reset. the quota is unknown until the next response
+                quotas.remove(family);
+                return Long.MAX_VALUE;
+            }
+            return quota.remaining;
+        }
+
+        long getAvailableTime(String family) {
+            Quota quota = quotas.get(family);
+            if (quota != null && quota.remaining == 0) {
+                return Math.max(quarantinedUntil, quota.resetTimeMillis);
+            }
+            return quarantinedUntil;
+        }
+
+        void reserve(String family) {
+            Quota quota = quotas.get(family);
+            if (quota != null && quota.remaining > 0) {
+                quota.remaining--;
+            }
+        }
+
+        void update(String family, RateLimitStatus status) {
+            Quota quota = quotas.get(family);
+            if (quota == null) {
+                quota = new Quota();
+                quotas.put(family, quota);
+            }
+            long reset = status.getResetTimeInSeconds() * 1000L;
+            if (reset != quota.resetTimeMillis) {
+                quota.remaining = status.getRemaining();
+                quota.resetTimeMillis = reset;
+            } else {
+                // calls reserved after this one was sent are not counted by the response
+                quota.remaining = Math.min(quota.remaining, status.getRemaining());
+            }
+        }
+
+        void exhaust(String family, long now) {
+            Quota quota = quotas.get(family);
+            if (quota == null) {
+                quota = new Quota();
+                quotas.put(family, quota);
+            }
+            if (quota.resetTimeMillis <= now) {
+                quota.resetTimeMillis = now + WINDOW_MILLIS;
+            }
+            quota.remaining = 0;
+        }
+    }
+
+    private static final class Quota implements java.io.Serializable {
+        private static final long serialVersionUID = 5290734716830524853L;
+        private int remaining;
+        private long resetTimeMillis;
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.auth.Authorization;
+import twitter4j.management.RateLimitSchedulerStatistics;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Delays calls so that the remaining rate limit quota of each endpoint family and token is spread evenly over the rest of the rate limit window, instead of bursting into 429 responses.<br>
+ * The quota is learned from the X-Rate-Limit-* headers of the responses. Calls are sent immediately until the first response of an endpoint family has been received.<br>
+ * Waiting calls are served by descending priority, then in arrival order.<br>
+ * The quota of a token is dropped once its window has reset and no call is waiting for it, so that the scheduler doesn't hold the tokens of discarded Twitter instances.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class RateLimitScheduler {
+    // https?:\/\/[^\/]+\/[0-9.]*\/([a-zA-Z_\.]*).*
+    // finds the "method" part a Twitter REST API url, ignoring member-specific resource names
+    private static final Pattern pattern =
+            Pattern.compile("https?://[^/]+/[0-9.]*/([a-zA-Z_.]*).*");
+    // length of the rate limit window, used to estimate the next window until a response tells the actual reset time
+    private static final long WINDOW_MILLIS = 15 * 60 * 1000;
+    // interval between sweeps of idle buckets
+    private static final long EVICTION_INTERVAL_MILLIS = 60 * 1000;
+
+    private static final RateLimitScheduler SINGLETON = new RateLimitScheduler();
+
+    private final ConcurrentMap<Key, Bucket> buckets = new ConcurrentHashMap<Key, Bucket>();
+    private final RateLimitSchedulerStatistics statistics = new RateLimitSchedulerStatistics();
+    private final AtomicLong nextEvictionMillis = new AtomicLong(System.currentTimeMillis() + EVICTION_INTERVAL_MILLIS);
+
+    private RateLimitScheduler() {
+    }
+
+    static RateLimitScheduler getInstance() {
+        return SINGLETON;
+    }
+
+    RateLimitSchedulerStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @param url Twitter REST API url
+     * @return the endpoint family of the url, like "statuses" or "friends", or null if the url is not a REST API url
+     */
+    static String getEndpointFamily(String url) {
+        Matcher matcher = pattern.matcher(url);
+        if (matcher.matches() && matcher.groupCount() > 0) {
+            return matcher.group(1);
+        }
+        return null;
+    }
+
+    /**
+     * Blocks until the call can be sent without exhausting the quota ahead of the window reset.
+     *
+     * @param url      url of the call
+     * @param auth     authorization the call will be sent with
+     * @param priority priority of the call. Higher priority calls are sent first
+     * @throws TwitterException when the calling thread is interrupted while waiting
+     */
+    void acquire(String url, Authorization auth, int priority) throws TwitterException {
+        Bucket bucket;
+        // the bucket may have been evicted in the meantime
+        while ((bucket = getBucket(url, auth)) != null && !bucket.acquire(priority)) {
+        }
+    }
+
+    /**
+     * Updates the quota with the rate limit status of a response.
+     *
+     * @param url          url of the call
+     * @param auth         authorization the call was sent with
+     * @param status       rate limit status of the response
+     * @param limitReached true if the response tells that the rate limit has been exceeded
+     */
+    void update(String url, Authorization auth, RateLimitStatus status, boolean limitReached) {
+        Bucket bucket;
+        while ((bucket = getBucket(url, auth)) != null && !bucket.update(status, limitReached)) {
+        }
+    }
+
+    /**
+     * Drops the buckets whose window has reset and which have no waiting call.
+     *
+     * @param now current time
+     */
+    void evictIdleBuckets(long now) {
+        Iterator<Map.Entry<Key, Bucket>> iterator = buckets.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().evictIfIdle(now)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @param url  url of the call
+     * @param auth authorization the call is sent with
+     * @return true if the scheduler currently keeps a quota for the endpoint family and token
+     */
+    boolean hasBucket(String url, Authorization auth) {
+        String family = getEndpointFamily(url);
+        return family != null && buckets.containsKey(new Key(family, auth));
+    }
+
+    private Bucket getBucket(String url, Authorization auth) {
+        if (auth instanceof PooledAuthorization) {
+            // the pool balances calls across its credentials by itself
+            return null;
+        }
+        String family = getEndpointFamily(url);
+        if (family == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        long nextEviction = nextEvictionMillis.get();
+        if (now >= nextEviction && nextEvictionMillis.compareAndSet(nextEviction, now + EVICTION_INTERVAL_MILLIS)) {
+            evictIdleBuckets(now);
+        }
+        Key key = new Key(family, auth);
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            Bucket newBucket = new Bucket();
+            bucket = buckets.putIfAbsent(key, newBucket);
+            if (bucket == null) {
+                bucket = newBucket;
+            }
+        }
+        return bucket;
+    }
+
+    private static final class Key {
+        private final String family;
+        private final Authorization auth;
+        // Authorization is mutable. Keeping the hash code as of the first call keeps the entry reachable.
+        private final int hashCode;
+
+        Key(String family, Authorization auth) {
+            this.family = family;
+            this.auth = auth;
+            this.hashCode = 31 * family.hashCode() + (auth != null ? auth.hashCode() : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return hashCode == that.hashCode && family.equals(that.family)
+                    && (auth != null ? auth.equals(that.auth) : that.auth == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Ticket implements Comparable<Ticket> {
+        private final int priority;
+        private final long sequence;
+
+        Ticket(int priority, long sequence) {
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Ticket that) {
+            if (priority != that.priority) {
+                return priority > that.priority ? -1 : 1;
+            }
+            return sequence < that.sequence ? -1 : (sequence == that.sequence ? 0 : 1);
+        }
+    }
+
+    /**
+     * Quota of an endpoint family for a token.
+     */
+    private final class Bucket {
+        private final PriorityQueue<Ticket> queue = new PriorityQueue<Ticket>();
+        private long sequence = 0;
+        // -1 until the quota is known
+        private int limit = -1;
+        private int remaining = -1;
+        private long resetTimeMillis = 0;
+        private long nextSendTimeMillis = 0;
+        // set once removed from the map, callers holding the bucket look it up again
+        private boolean evicted = false;
+
+        /**
+         * @return false if the bucket has been evicted
+         */
+        synchronized boolean acquire(int priority) throws TwitterException {
+            if (evicted) {
+                return false;
+            }
+            long start = System.currentTimeMillis();
+            Ticket ticket = new Ticket(priority, sequence++);
+            queue.add(ticket);
+            statistics.callQueued();
+            try {
+                long now = start;
+                while (true) {
+                    if (queue.peek() == ticket) {
+                        long delay = getDelay(now);
+                        if (delay == 0) {
+                            break;
+                        }
+                        wait(delay);
+                    } else {
+                        // calls behind the head of the queue wait until notified
+                        wait();
+                    }
+                    now = System.currentTimeMillis();
+                }
+                queue.poll();
+                sent(now);
+            } catch (InterruptedException e) {
+                queue.remove(ticket);
+                Thread.currentThread().interrupt();
+                throw new TwitterException("interrupted while waiting for rate limit quota", e);
+            } finally {
+                statistics.callDequeued(System.currentTimeMillis() - start);
+                notifyAll();
+            }
+            return true;
+        }
+
+        /**
+         * @return true if the bucket has been evicted: its window has reset and no call is waiting
+         */
+        synchronized boolean evictIfIdle(long now) {
+            if (queue.isEmpty() && resetTimeMillis <= now) {
+                evicted = true;
+            }
+            return evicted;
+        }
+
+        /**
+         * @return milliseconds to wait before the next call can be sent
+         */
+        private long getDelay(long now) {
+            if (remaining < 0) {
+                return 0;
+            }
+            if (resetTimeMillis <= now) {
+                // the window has been reset. assume the full quota until a response tells otherwise
+                remaining = limit;
+                resetTimeMillis = now + WINDOW_MILLIS;
+                nextSendTimeMillis = now;
+            }
+            if (remaining == 0) {
+                return resetTimeMillis - now;
+            }
+            return Math.max(0, nextSendTimeMillis - now);
+        }
+
+        private void sent(long now) {
+            if (remaining > 0) {
+                // spread the remaining calls evenly over the rest of the window
+                nextSendTimeMillis = now + (resetTimeMillis - now) / remaining;
+                remaining--;
+            }
+        }
+
+        /**
+         * @return false if the bucket has been evicted
+         */
+        synchronized boolean update(RateLimitStatus status, boolean limitReached) {
+            if (evicted) {
+                return false;
+            }
+            long reset = status.getResetTimeInSeconds() * 1000L;
+            if (reset != resetTimeMillis || remaining < 0) {
+                // a new window
+                remaining = status.getRemaining();
+                resetTimeMillis = reset;
+            } else {
+                // responses of calls sent before the latest ones may arrive late
+                remaining = Math.min(remaining, status.getRemaining());
+            }
+            limit = status.getLimit();
+            if (limitReached) {
+                remaining = 0;
+            }
+            notifyAll();
+            return true;
+        }
+    }
+}
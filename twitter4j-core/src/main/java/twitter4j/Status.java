@@ -34,6 +34,14 @@ public interface Status extends Comparable<Status>, TwitterResponse,
      */
     Date getCreatedAt();
 
+    /**
+     * Returns created_at as a primitive, for callers that only compare or store the timestamp.
+     *
+     * @return created_at in milliseconds since the epoch, or -1 if not available
+     * @since Twitter4J 4.0.8
+     */
+    long getCreatedAtMillis();
+
     /**
      * Returns the id of the status
      *
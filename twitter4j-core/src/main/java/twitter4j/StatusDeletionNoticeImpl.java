@@ -33,6 +33,11 @@ class StatusDeletionNoticeImpl implements StatusDeletionNotice, java.io.Serializ
         this.userId = ParseUtil.getLong("user_id", status);
     }
 
+    /*package*/ StatusDeletionNoticeImpl(long statusId, long userId) {
+        this.statusId = statusId;
+        this.userId = userId;
+    }
+
     @Override
     public long getStatusId() {
         return statusId;
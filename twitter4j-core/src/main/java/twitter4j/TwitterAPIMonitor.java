@@ -18,11 +18,15 @@ package twitter4j;
 import twitter4j.management.APIStatistics;
 import twitter4j.management.APIStatisticsMBean;
 import twitter4j.management.APIStatisticsOpenMBean;
+import twitter4j.management.ConnectionPoolStatisticsMBean;
+import twitter4j.management.RateLimitSchedulerStatisticsMBean;
+import twitter4j.management.RequestCoalescingStatisticsMBean;
+import twitter4j.management.ResponseCacheStatisticsMBean;
+import twitter4j.management.StreamDispatchStatisticsMBean;
+import twitter4j.management.StringDedupStatisticsMBean;
 
 import javax.management.*;
 import java.lang.management.ManagementFactory;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Singleton instance of all Twitter API monitoring. Handles URL parsing and "wire off" logic.
@@ -34,11 +38,6 @@ import java.util.regex.Pattern;
  */
 public class TwitterAPIMonitor {
     private static final Logger logger = Logger.getLogger(TwitterAPIMonitor.class);
-    // https?:\/\/[^\/]+\/[0-9.]*\/([a-zA-Z_\.]*).*
-    // finds the "method" part a Twitter REST API url, ignoring member-specific resource names
-    private static final Pattern pattern =
-            Pattern.compile("https?://[^/]+/[0-9.]*/([a-zA-Z_.]*).*");
-
     private static final TwitterAPIMonitor SINGLETON = new TwitterAPIMonitor();
 
     private static final APIStatistics STATISTICS = new APIStatistics(100);
@@ -51,6 +50,18 @@ public class TwitterAPIMonitor {
             ObjectName oName = new ObjectName("twitter4j.mbean:type=APIStatisticsOpenMBean");
             APIStatisticsOpenMBean openMBean = new APIStatisticsOpenMBean(STATISTICS);
             mbs.registerMBean(openMBean, oName);
+            mbs.registerMBean(ConnectionPoolMonitor.getInstance().getStatistics()
+                    , new ObjectName("twitter4j.mbean:type=ConnectionPoolStatistics"));
+            mbs.registerMBean(RateLimitScheduler.getInstance().getStatistics()
+                    , new ObjectName("twitter4j.mbean:type=RateLimitSchedulerStatistics"));
+            mbs.registerMBean(RequestCoalescer.getStatistics()
+                    , new ObjectName("twitter4j.mbean:type=RequestCoalescingStatistics"));
+            mbs.registerMBean(ResponseCache.getStatistics()
+                    , new ObjectName("twitter4j.mbean:type=ResponseCacheStatistics"));
+            mbs.registerMBean(StringDedupPool.getStatistics()
+                    , new ObjectName("twitter4j.mbean:type=StringDedupStatistics"));
+            mbs.registerMBean(BoundedDispatcher.getStatistics()
+                    , new ObjectName("twitter4j.mbean:type=StreamDispatchStatistics"));
         } catch (InstanceAlreadyExistsException e) {
             e.printStackTrace();
             logger.error(e.getMessage());
@@ -80,10 +91,57 @@ public class TwitterAPIMonitor {
         return STATISTICS;
     }
 
+    /**
+     * @return connection pool statistics of the HttpClient instances
+     * @since Twitter4J 4.0.8
+     */
+    public ConnectionPoolStatisticsMBean getConnectionPoolStatistics() {
+        return ConnectionPoolMonitor.getInstance().getStatistics();
+    }
+
+    /**
+     * @return queueing statistics of the rate limit aware scheduler
+     * @since Twitter4J 4.0.8
+     */
+    public RateLimitSchedulerStatisticsMBean getRateLimitSchedulerStatistics() {
+        return RateLimitScheduler.getInstance().getStatistics();
+    }
+
+    /**
+     * @return statistics of the identical GET requests coalesced into one network call
+     * @since Twitter4J 4.0.8
+     */
+    public RequestCoalescingStatisticsMBean getRequestCoalescingStatistics() {
+        return RequestCoalescer.getStatistics();
+    }
+
+    /**
+     * @return hits and misses of the HTTP response cache
+     * @since Twitter4J 4.0.8
+     */
+    public ResponseCacheStatisticsMBean getResponseCacheStatistics() {
+        return ResponseCache.getStatistics();
+    }
+
+    /**
+     * @return hits and misses of the pool deduplicating repeated strings of parsed responses
+     * @since Twitter4J 4.0.8
+     */
+    public StringDedupStatisticsMBean getStringDedupStatistics() {
+        return StringDedupPool.getStatistics();
+    }
+
+    /**
+     * @return queue depth, lag and overflow of the bounded dispatchers handing streaming API messages to listeners
+     * @since Twitter4J 4.0.8
+     */
+    public StreamDispatchStatisticsMBean getStreamDispatchStatistics() {
+        return BoundedDispatcher.getStatistics();
+    }
+
     void methodCalled(String twitterUrl, long elapsedTime, boolean success) {
-        Matcher matcher = pattern.matcher(twitterUrl);
-        if (matcher.matches() && matcher.groupCount() > 0) {
-            String method = matcher.group(1);
+        String method = RateLimitScheduler.getEndpointFamily(twitterUrl);
+        if (method != null) {
             STATISTICS.methodCalled(method, elapsedTime, success);
         }
     }
@@ -130,7 +130,9 @@ abstract class TwitterBaseImpl implements TwitterBase, java.io.Serializable, OAu
     
     User fillInIDAndScreenName(HttpParameter[] parameters) throws TwitterException {
         ensureAuthorizationEnabled();
-        User user = new UserJSONImpl(http.get(conf.getRestBaseURL() + "account/verify_credentials.json", parameters, auth, this), conf);
+        String url = conf.getRestBaseURL() + "account/verify_credentials.json";
+        awaitRateLimitQuota(url);
+        User user = new UserJSONImpl(http.get(url, parameters, auth, this), conf);
         this.screenName = user.getScreenName();
         this.id = user.getId();
         return user;
@@ -169,9 +171,23 @@ abstract class TwitterBaseImpl implements TwitterBase, java.io.Serializable, OAu
         });
     }
 
+    /**
+     * Blocks until the rate limit aware scheduler allows the call, if enabled.
+     *
+     * @param url url of the call
+     * @throws TwitterException when interrupted while waiting
+     */
+    final void awaitRateLimitQuota(String url) throws TwitterException {
+        // a resumed call picks up the response to the request it already sent
+        if (conf.isRateLimitSchedulingEnabled() && !DeferredRetry.isResuming()) {
+            RateLimitScheduler.getInstance().acquire(url, auth, conf.getRateLimitSchedulingPriority());
+        }
+    }
+
     @Override
     public void httpResponseReceived(HttpResponseEvent event) {
-        if (rateLimitStatusListeners.size() != 0) {
+        boolean schedulingEnabled = conf.isRateLimitSchedulingEnabled();
+        if (rateLimitStatusListeners.size() != 0 || schedulingEnabled) {
             HttpResponse res = event.getResponse();
             TwitterException te = event.getTwitterException();
             RateLimitStatus rateLimitStatus;
@@ -184,11 +200,16 @@ abstract class TwitterBaseImpl implements TwitterBase, java.io.Serializable, OAu
                 statusCode = res.getStatusCode();
             }
             if (rateLimitStatus != null) {
+                boolean limitReached = statusCode == ENHANCE_YOUR_CLAIM
+                        || statusCode == SERVICE_UNAVAILABLE
+                        || statusCode == TOO_MANY_REQUESTS;
+                if (schedulingEnabled) {
+                    HttpRequest req = event.getRequest();
+                    RateLimitScheduler.getInstance().update(req.getURL(), req.getAuthorization(), rateLimitStatus, limitReached);
+                }
                 RateLimitStatusEvent statusEvent
                         = new RateLimitStatusEvent(this, rateLimitStatus, event.isAuthenticated());
-                if (statusCode == ENHANCE_YOUR_CLAIM
-                        || statusCode == SERVICE_UNAVAILABLE
-                        || statusCode == TOO_MANY_REQUESTS) {
+                if (limitReached) {
                     // EXCEEDED_RATE_LIMIT_QUOTA is returned by Rest API
                     // SERVICE_UNAVAILABLE is returned by Search API
                     for (RateLimitStatusListener listener : rateLimitStatusListeners) {
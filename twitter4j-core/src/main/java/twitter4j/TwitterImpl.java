@@ -23,8 +23,14 @@ import twitter4j.conf.Configuration;
 
 import java.io.*;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static twitter4j.HttpParameter.getParameterArray;
 
@@ -270,53 +276,135 @@ class TwitterImpl extends TwitterBaseImpl implements Twitter {
                 , new HttpParameter("media", fileName, image)).asJSONObject());
     }
 
+    @Override
+    public UploadedMedia uploadMediaChunked(File mediaFile) throws TwitterException {
+        checkFileValidity(mediaFile);
+        FileInputStream media = null;
+        try {
+            media = new FileInputStream(mediaFile);
+            return uploadMediaChunked(mediaFile.getName(), media.getChannel(), 0, mediaFile.length());
+        } catch (IOException ioe) {
+            throw new TwitterException("Failed to read the file.", ioe);
+        } finally {
+            if (media != null) {
+                try {
+                    media.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }
+    }
+
 	@Override
 	public UploadedMedia uploadMediaChunked(String fileName, InputStream media) throws TwitterException {
-		//If the InputStream is remote, this is will download it into memory speeding up the chunked upload process 
-		byte[] dataBytes = null;
-		try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream(256 * 1024);
-            byte[] buffer = new byte[32768];
-            int n;
-            while((n = media.read(buffer)) != -1) {
-                baos.write(buffer, 0, n);
+        if (media instanceof FileInputStream) {
+            try {
+                FileChannel channel = ((FileInputStream) media).getChannel();
+                long position = channel.position();
+                return uploadMediaChunked(fileName, channel, position, channel.size() - position);
+            } catch (IOException ioe) {
+                throw new TwitterException("Failed to read the file.", ioe);
             }
-            dataBytes = baos.toByteArray();
-            if (dataBytes.length > MAX_VIDEO_SIZE) {
-				throw new TwitterException(String.format(Locale.US,
-						"video file can't be longer than: %d MBytes",
-						MAX_VIDEO_SIZE / MB));
-			}
-		} catch (IOException ioe) {
-			throw new TwitterException("Failed to download the file.", ioe);
-		}
-		
-		try {
-
-			UploadedMedia uploadedMedia = uploadMediaChunkedInit(dataBytes.length);
-			//no need to close ByteArrayInputStream
-			ByteArrayInputStream dataInputStream = new ByteArrayInputStream(dataBytes);
-			
-			byte[] segmentData = new byte[CHUNK_SIZE];
-			int segmentIndex = 0;
-			int totalRead = 0;
-			int bytesRead = 0;
-			
-			while ((bytesRead = dataInputStream.read(segmentData)) > 0) {
-				totalRead = totalRead + bytesRead;
-				logger.debug("Chunked appened, segment index:" + segmentIndex + " bytes:" + totalRead + "/" + dataBytes.length );
-				//no need to close ByteArrayInputStream
-				ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(segmentData, 0 ,bytesRead);
-				uploadMediaChunkedAppend(fileName, byteArrayInputStream, segmentIndex, uploadedMedia.getMediaId());
-				segmentData = new byte[CHUNK_SIZE];
-				segmentIndex++;
-			}
-			return uploadMediaChunkedFinalize(uploadedMedia.getMediaId());
-		} catch (Exception e) {
-			 throw new TwitterException(e);
-		}
-	}
-    
+        }
+        // INIT requires the total size, streams of unknown length are spooled to a temporary file instead of the heap
+        File spool = null;
+        RandomAccessFile spoolFile = null;
+        try {
+            spool = File.createTempFile("twitter4j-upload", ".tmp");
+            spoolFile = new RandomAccessFile(spool, "rw");
+            FileChannel channel = spoolFile.getChannel();
+            ReadableByteChannel source = Channels.newChannel(media);
+            long size = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, size, CHUNK_SIZE)) > 0) {
+                size += transferred;
+                if (size > MAX_VIDEO_SIZE) {
+                    break;
+                }
+            }
+            return uploadMediaChunked(fileName, channel, 0, size);
+        } catch (IOException ioe) {
+            throw new TwitterException("Failed to download the file.", ioe);
+        } finally {
+            if (spoolFile != null) {
+                try {
+                    spoolFile.close();
+                } catch (IOException ignore) {
+                }
+            }
+            if (spool != null && !spool.delete()) {
+                spool.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Uploads size bytes of the channel starting at offset. APPEND segments are read with positional reads
+     * and sent by up to media.uploadConcurrency threads, each reusing a single segment buffer.
+     */
+    private UploadedMedia uploadMediaChunked(final String fileName, final FileChannel channel, final long offset
+            , final long size) throws TwitterException {
+        if (size > MAX_VIDEO_SIZE) {
+            throw new TwitterException(String.format(Locale.US,
+                    "video file can't be longer than: %d MBytes",
+                    MAX_VIDEO_SIZE / MB));
+        }
+        final long mediaId = uploadMediaChunkedInit(size).getMediaId();
+        final int segments = (int) ((size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        final AtomicInteger nextSegment = new AtomicInteger();
+        final AtomicReference<TwitterException> failure = new AtomicReference<TwitterException>();
+        Runnable appender = new Runnable() {
+            @Override
+            public void run() {
+                byte[] segmentData = new byte[(int) Math.min(CHUNK_SIZE, size)];
+                int segmentIndex;
+                while (failure.get() == null && (segmentIndex = nextSegment.getAndIncrement()) < segments) {
+                    try {
+                        long position = (long) segmentIndex * CHUNK_SIZE;
+                        int length = (int) Math.min(CHUNK_SIZE, size - position);
+                        ByteBuffer buffer = ByteBuffer.wrap(segmentData, 0, length);
+                        while (buffer.hasRemaining()) {
+                            if (channel.read(buffer, offset + position + buffer.position()) < 0) {
+                                throw new EOFException("Unexpected end of file at " + (position + buffer.position()));
+                            }
+                        }
+                        logger.debug("Chunked append, segment index:" + segmentIndex + " bytes:" + (position + length) + "/" + size);
+                        //no need to close ByteArrayInputStream
+                        uploadMediaChunkedAppend(fileName, new ByteArrayInputStream(segmentData, 0, length), segmentIndex, mediaId);
+                    } catch (IOException ioe) {
+                        failure.compareAndSet(null, new TwitterException("Failed to read the file.", ioe));
+                    } catch (TwitterException te) {
+                        failure.compareAndSet(null, te);
+                    } catch (RuntimeException re) {
+                        // FINALIZE is not to be sent with a missing segment
+                        failure.compareAndSet(null, new TwitterException(re));
+                    }
+                }
+            }
+        };
+        int concurrency = Math.max(1, Math.min(conf.getMediaUploadConcurrency(), segments));
+        Thread[] threads = new Thread[concurrency - 1];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(appender, "Twitter4J Media Upload[" + mediaId + "-" + i + "]");
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+        appender.run();
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException ie) {
+                failure.compareAndSet(null, new TwitterException("Interrupted while uploading media.", ie));
+                // let the remaining appenders stop after their current segment
+                nextSegment.set(segments);
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return uploadMediaChunkedFinalize(mediaId);
+    }
+
 	// twurl -H upload.twitter.com "/1.1/media/upload.json" -d
 	// "command=INIT&media_type=video/mp4&total_bytes=4430752"
     
@@ -442,90 +530,85 @@ class TwitterImpl extends TwitterBaseImpl implements Twitter {
     @Override
     public DirectMessage sendDirectMessage(long recipientId, String text, QuickReply... quickReplies)
             throws TwitterException {
-        try {
-            return factory.createDirectMessage(post(conf.getRestBaseURL() + "direct_messages/events/new.json",
-                    createMessageCreateJsonObject(recipientId, text, -1L,  null, quickReplies)));
-        } catch (JSONException e) {
-            throw new TwitterException(e);
-        }
+        return factory.createDirectMessage(post(conf.getRestBaseURL() + "direct_messages/events/new.json",
+                new MessageCreateBody(recipientId, text, -1L, null, quickReplies)));
     }
     @Override
     public DirectMessage sendDirectMessage(long recipientId, String text, String quickReplyResponse)
             throws TwitterException {
-        try {
-            return factory.createDirectMessage(post(conf.getRestBaseURL() + "direct_messages/events/new.json",
-                    createMessageCreateJsonObject(recipientId, text, -1L,  quickReplyResponse)));
-        } catch (JSONException e) {
-            throw new TwitterException(e);
-        }
+        return factory.createDirectMessage(post(conf.getRestBaseURL() + "direct_messages/events/new.json",
+                new MessageCreateBody(recipientId, text, -1L, quickReplyResponse)));
     }
 
-    private static JSONObject createMessageCreateJsonObject(long recipientId, String text, long mediaId, String quickReplyResponse, QuickReply... quickReplies) throws JSONException {
-        String type = mediaId == -1 ? null : "media";
-
-        final JSONObject messageDataJSON = new JSONObject();
-
-        final JSONObject target = new JSONObject();
-        target.put("recipient_id", recipientId);
-        messageDataJSON.put("target", target);
+    /**
+     * message_create event, written straight to the request body
+     */
+    private static final class MessageCreateBody implements JSONBodyWriter.Body {
+        private final long recipientId;
+        private final String text;
+        private final long mediaId;
+        private final String quickReplyResponse;
+        private final QuickReply[] quickReplies;
+
+        MessageCreateBody(long recipientId, String text, long mediaId, String quickReplyResponse, QuickReply... quickReplies) {
+            this.recipientId = recipientId;
+            this.text = text;
+            this.mediaId = mediaId;
+            this.quickReplyResponse = quickReplyResponse;
+            this.quickReplies = quickReplies;
+        }
 
-        final JSONObject messageData = new JSONObject();
-        messageData.put("text", text);
-        if (type != null && mediaId != -1) {
-            final JSONObject attachment = new JSONObject();
-            attachment.put("type", type);
-            if (type.equals("media")) {
-                final JSONObject media = new JSONObject();
-                media.put("id", mediaId);
-                attachment.put("media", media);
+        @Override
+        public void writeTo(JSONBodyWriter writer) throws JSONException {
+            writer.object().key("event").object();
+            writer.key("type").value("message_create");
+            writer.key("message_create").object();
+            writer.key("target").object().key("recipient_id").value(recipientId).endObject();
+
+            writer.key("message_data").object();
+            writer.key("text").value(text);
+            if (mediaId != -1) {
+                writer.key("attachment").object()
+                        .key("type").value("media")
+                        .key("media").object().key("id").value(mediaId).endObject()
+                        .endObject();
             }
-            messageData.put("attachment", attachment);
-        }
-        // https://developer.twitter.com/en/docs/direct-messages/quick-replies/api-reference/options
-        if (quickReplies.length > 0) {
-            JSONObject quickReplyJSON = new JSONObject();
-            quickReplyJSON.put("type", "options");
-            JSONArray jsonArray = new JSONArray();
-            for (QuickReply quickReply : quickReplies) {
-                JSONObject option = new JSONObject();
-                option.put("label", quickReply.getLabel());
-                if (quickReply.getDescription() != null) {
-                    option.put("description", quickReply.getDescription());
-                }
-                if (quickReply.getMetadata() != null) {
-                    option.put("metadata", quickReply.getMetadata());
+            // https://developer.twitter.com/en/docs/direct-messages/quick-replies/api-reference/options
+            if (quickReplies.length > 0) {
+                writer.key("quick_reply").object();
+                writer.key("type").value("options");
+                writer.key("options").array();
+                for (QuickReply quickReply : quickReplies) {
+                    writer.object().key("label").value(quickReply.getLabel());
+                    if (quickReply.getDescription() != null) {
+                        writer.key("description").value(quickReply.getDescription());
+                    }
+                    if (quickReply.getMetadata() != null) {
+                        writer.key("metadata").value(quickReply.getMetadata());
+                    }
+                    writer.endObject();
                 }
-                jsonArray.put(option);
+                writer.endArray().endObject();
             }
-            quickReplyJSON.put("options",jsonArray);
-            messageData.put("quick_reply", quickReplyJSON);
-        }
-        if (quickReplyResponse != null) {
-            JSONObject quickReplyResponseJSON = new JSONObject();
-            quickReplyResponseJSON.put("type","options");
-            quickReplyResponseJSON.put("metadata", quickReplyResponse);
-            messageData.put("quick_reply_response", quickReplyResponseJSON);
-        }
-        messageDataJSON.put("message_data", messageData);
-
-        final JSONObject json = new JSONObject();
-        final JSONObject event = new JSONObject();
-        event.put("type", "message_create");
-        event.put("message_create", messageDataJSON);
-        json.put("event", event);
+            if (quickReplyResponse != null) {
+                writer.key("quick_reply_response").object()
+                        .key("type").value("options")
+                        .key("metadata").value(quickReplyResponse)
+                        .endObject();
+            }
+            writer.endObject(); // message_data
 
-        return json;
+            writer.endObject(); // message_create
+            writer.endObject(); // event
+            writer.endObject();
+        }
     }
 
     @Override
     public DirectMessage sendDirectMessage(long recipientId, String text, long mediaId)
             throws TwitterException {
-        try {
-            return factory.createDirectMessage(post(conf.getRestBaseURL() + "direct_messages/events/new.json",
-                    createMessageCreateJsonObject(recipientId, text, mediaId, null)));
-        } catch (JSONException e) {
-            throw new TwitterException(e);
-        }
+        return factory.createDirectMessage(post(conf.getRestBaseURL() + "direct_messages/events/new.json",
+                new MessageCreateBody(recipientId, text, mediaId, null)));
     }
 
     @Override
@@ -1953,6 +2036,7 @@ class TwitterImpl extends TwitterBaseImpl implements Twitter {
 
     private HttpResponse get(String url) throws TwitterException {
         ensureAuthorizationEnabled();
+        awaitRateLimitQuota(url);
         if (IMPLICIT_PARAMS_STR.length() > 0) {
             if (url.contains("?")) {
                 url = url + "&" + IMPLICIT_PARAMS_STR;
@@ -1965,12 +2049,19 @@ class TwitterImpl extends TwitterBaseImpl implements Twitter {
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
+            boolean suspended = false;
             long start = System.currentTimeMillis();
             try {
                 response = http.get(url, null, auth, this);
+            } catch (TwitterException te) {
+                // a suspended call is recorded once it is resumed
+                suspended = DeferredRetry.isSuspension(te);
+                throw te;
             } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                if (!suspended) {
+                    long elapsedTime = System.currentTimeMillis() - start;
+                    TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                }
             }
             return response;
         }
@@ -1978,17 +2069,25 @@ class TwitterImpl extends TwitterBaseImpl implements Twitter {
 
     private HttpResponse get(String url, HttpParameter... params) throws TwitterException {
         ensureAuthorizationEnabled();
+        awaitRateLimitQuota(url);
         if (!conf.isMBeanEnabled()) {
             return http.get(url, mergeImplicitParams(params), auth, this);
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
+            boolean suspended = false;
             long start = System.currentTimeMillis();
             try {
                 response = http.get(url, mergeImplicitParams(params), auth, this);
+            } catch (TwitterException te) {
+                // a suspended call is recorded once it is resumed
+                suspended = DeferredRetry.isSuspension(te);
+                throw te;
             } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                if (!suspended) {
+                    long elapsedTime = System.currentTimeMillis() - start;
+                    TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                }
             }
             return response;
         }
@@ -1996,17 +2095,25 @@ class TwitterImpl extends TwitterBaseImpl implements Twitter {
 
     private HttpResponse post(String url) throws TwitterException {
         ensureAuthorizationEnabled();
+        awaitRateLimitQuota(url);
         if (!conf.isMBeanEnabled()) {
             return http.post(url, IMPLICIT_PARAMS, auth, this);
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
+            boolean suspended = false;
             long start = System.currentTimeMillis();
             try {
                 response = http.post(url, IMPLICIT_PARAMS, auth, this);
+            } catch (TwitterException te) {
+                // a suspended call is recorded once it is resumed
+                suspended = DeferredRetry.isSuspension(te);
+                throw te;
             } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                if (!suspended) {
+                    long elapsedTime = System.currentTimeMillis() - start;
+                    TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                }
             }
             return response;
         }
@@ -2014,35 +2121,51 @@ class TwitterImpl extends TwitterBaseImpl implements Twitter {
 
     private HttpResponse post(String url, HttpParameter... params) throws TwitterException {
         ensureAuthorizationEnabled();
+        awaitRateLimitQuota(url);
         if (!conf.isMBeanEnabled()) {
             return http.post(url, mergeImplicitParams(params), auth, this);
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
+            boolean suspended = false;
             long start = System.currentTimeMillis();
             try {
                 response = http.post(url, mergeImplicitParams(params), auth, this);
+            } catch (TwitterException te) {
+                // a suspended call is recorded once it is resumed
+                suspended = DeferredRetry.isSuspension(te);
+                throw te;
             } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                if (!suspended) {
+                    long elapsedTime = System.currentTimeMillis() - start;
+                    TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                }
             }
             return response;
         }
     }
 
-    private HttpResponse post(String url, JSONObject json) throws TwitterException {
+    private HttpResponse post(String url, JSONBodyWriter.Body json) throws TwitterException {
         ensureAuthorizationEnabled();
+        awaitRateLimitQuota(url);
         if (!conf.isMBeanEnabled()) {
             return http.post(url, new HttpParameter[]{new HttpParameter(json)}, auth, this);
         } else {
             // intercept HTTP call for monitoring purposes
             HttpResponse response = null;
+            boolean suspended = false;
             long start = System.currentTimeMillis();
             try {
                 response = http.post(url, new HttpParameter[]{new HttpParameter(json)}, auth, this);
+            } catch (TwitterException te) {
+                // a suspended call is recorded once it is resumed
+                suspended = DeferredRetry.isSuspension(te);
+                throw te;
             } finally {
-                long elapsedTime = System.currentTimeMillis() - start;
-                TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                if (!suspended) {
+                    long elapsedTime = System.currentTimeMillis() - start;
+                    TwitterAPIMonitor.getInstance().methodCalled(url, elapsedTime, isOk(response));
+                }
             }
             return response;
         }
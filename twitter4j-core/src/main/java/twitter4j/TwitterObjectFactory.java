@@ -1,7 +1,8 @@
 package twitter4j;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -12,16 +13,12 @@ public final class TwitterObjectFactory {
         throw new AssertionError("not intended to be instantiated.");
     }
 
-    private static final ThreadLocal<Map> rawJsonMap = new ThreadLocal<Map>() {
-        @Override
-        protected Map initialValue() {
-            return new HashMap();
-        }
-    };
+    // raw JSON forms of objects that cannot carry their own, released together with the objects
+    private static final Map<Object, RawJSON> rawJsonMap = Collections.synchronizedMap(new WeakHashMap<Object, RawJSON>());
 
     /**
      * Returns a raw JSON form of the provided object.<br>
-     * Note that raw JSON forms can be retrieved only from the same thread invoked the last method call and will become inaccessible once another method call
+     * Raw JSON forms are attached to the objects themselves, so they can be retrieved from any thread for as long as the objects are reachable.
      *
      * @param obj target object to retrieve JSON
      * @return raw JSON
@@ -31,15 +28,8 @@ public final class TwitterObjectFactory {
         if (!registeredAtleastOnce) {
             throw new IllegalStateException("Apparently jsonStoreEnabled is not set to true.");
         }
-        Object json = rawJsonMap.get().get(obj);
-        if (json instanceof String) {
-            return (String) json;
-        } else if (json != null) {
-            // object must be instance of JSONObject
-            return json.toString();
-        } else {
-            return null;
-        }
+        RawJSON json = obj instanceof RawJSON.Holder ? ((RawJSON.Holder) obj).getRawJSON() : rawJsonMap.get(obj);
+        return json != null ? json.get() : null;
     }
 
     /**
@@ -321,25 +311,21 @@ public final class TwitterObjectFactory {
         }
     }
 
-    /**
-     * clear raw JSON forms associated with the current thread.<br>
-     *
-     * @since Twitter4J 2.1.7
-     */
-    static void clearThreadLocalMap() {
-        rawJsonMap.get().clear();
-    }
-
-    private static boolean registeredAtleastOnce = false;
+    private static volatile boolean registeredAtleastOnce = false;
 
     /**
-     * associate a raw JSON form to the current thread<br>
+     * associate a raw JSON form to the object bound from it<br>
      *
      * @since Twitter4J 2.1.7
      */
     static <T> T registerJSONObject(T key, Object json) {
         registeredAtleastOnce = true;
-        rawJsonMap.get().put(key, json);
+        RawJSON rawJSON = new RawJSON(json);
+        if (key instanceof RawJSON.Holder) {
+            ((RawJSON.Holder) key).setRawJSON(rawJSON);
+        } else {
+            rawJsonMap.put(key, rawJSON);
+        }
         return key;
     }
 }
\ No newline at end of file
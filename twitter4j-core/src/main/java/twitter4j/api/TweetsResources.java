@@ -209,4 +209,18 @@ public interface TweetsResources {
      * @since Twitter4J 4.0.7
      */
     UploadedMedia uploadMediaChunked(String fileName, InputStream media) throws TwitterException;
+
+    /**
+     * Uploads media using chunked approach to be attached via {@link #updateStatus(twitter4j.StatusUpdate)}.
+     * This should be used for videos.<br>
+     * The file is read segment by segment, segments are sent by up to media.uploadConcurrency threads.
+     * <br>This method calls https://api.twitter.com/1.1/media/upload.json
+     *
+     * @param mediaFile media file
+     * @return upload result
+     * @throws TwitterException when Twitter service or network is unavailable
+     * @see <a href="https://dev.twitter.com/rest/public/uploading-media#chunkedupload">Uploading Media | Twitter Developers</a>
+     * @since Twitter4J 4.0.8
+     */
+    UploadedMedia uploadMediaChunked(File mediaFile) throws TwitterException;
 }
@@ -105,6 +105,40 @@ public interface Configuration extends AuthorizationConfiguration, java.io.Seria
 
     int getAsyncNumThreads();
 
+    int getMediaUploadConcurrency();
+
+    boolean isRateLimitSchedulingEnabled();
+
+    int getRateLimitSchedulingPriority();
+
+    boolean isJSONStreamingParserEnabled();
+
+    boolean isJSONLazyBindingEnabled();
+
+    boolean isJSONStringDedupEnabled();
+
+    String getJSONStringDedupFields();
+
+    int getJSONStringDedupMaxEntries();
+
+    int getStreamDispatchQueueSize();
+
+    String getStreamDispatchOverflowPolicy();
+
+    String getStreamDispatchDroppableTypes();
+
+    String getStreamDispatchSpillDirectory();
+
+    String getStreamDispatchPartitionKey();
+
+    boolean isStreamDelimitedLengthEnabled();
+
+    int getStreamShardMaxTrack();
+
+    int getStreamShardMaxFollow();
+
+    int getStreamShardDedupCapacity();
+
     long getContributingTo();
 
     String getDispatcherImpl();
@@ -16,8 +16,10 @@
 
 package twitter4j.conf;
 
+import twitter4j.FixedIntervalRetryPolicy;
 import twitter4j.HttpClientConfiguration;
 import twitter4j.Logger;
+import twitter4j.RetryPolicy;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
@@ -34,6 +36,9 @@ import java.util.Properties;
  */
 class ConfigurationBase implements Configuration, java.io.Serializable {
     private static final long serialVersionUID = 6175546394599249696L;
+    // time to live in seconds of the responses of read-mostly endpoints
+    private static final String DEFAULT_RESPONSE_CACHE_TTLS = "help/configuration=86400,help/languages=86400"
+            + ",help/privacy=86400,help/tos=86400,trends/available=3600,trends/closest=3600,geo/id=86400,users/show=300";
     private boolean debug = false;
     private String user = null;
     private String password = null;
@@ -42,6 +47,17 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
     private int httpStreamingReadTimeout = 40 * 1000;
     private int httpRetryCount = 0;
     private int httpRetryIntervalSeconds = 5;
+    private int httpNIOSelectorThreads = 2;
+    private int httpNIOPipeliningDepth = 1;
+    private int httpMaxConnectionsPerHost = 16;
+    private int httpKeepAliveMillis = 30 * 1000;
+    private int httpConnectionEvictionIntervalMillis = 1000;
+    private boolean httpRequestCoalescingEnabled = false;
+    private boolean httpResponseCacheEnabled = false;
+    private int httpResponseCacheMaxBytes = 8 * 1024 * 1024;
+    private String httpResponseCacheTTLs = DEFAULT_RESPONSE_CACHE_TTLS;
+    private String httpResponseCacheDirectory = null;
+    private RetryPolicy httpRetryPolicy = null;
 
     private String oAuthConsumerKey = null;
     private String oAuthConsumerSecret = null;
@@ -65,6 +81,23 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
 
     private String dispatcherImpl = "twitter4j.DispatcherImpl";
     private int asyncNumThreads = 1;
+    private int mediaUploadConcurrency = 1;
+    private boolean rateLimitSchedulingEnabled = false;
+    private int rateLimitSchedulingPriority = 0;
+    private boolean jsonStreamingParserEnabled = false;
+    private boolean jsonLazyBindingEnabled = false;
+    private boolean jsonStringDedupEnabled = false;
+    private String jsonStringDedupFields = "lang,source,time_zone,profile_background_color,profile_text_color,profile_link_color,profile_sidebar_fill_color,profile_sidebar_border_color,profile_background_image_url,profile_background_image_url_https,country,country_code,place_type,full_name,type";
+    private int jsonStringDedupMaxEntries = 4096;
+    private int streamDispatchQueueSize = 10000;
+    private String streamDispatchOverflowPolicy = "BLOCK";
+    private String streamDispatchDroppableTypes = "status";
+    private String streamDispatchSpillDirectory = null;
+    private String streamDispatchPartitionKey = null;
+    private boolean streamDelimitedLengthEnabled = false;
+    private int streamShardMaxTrack = 400;
+    private int streamShardMaxFollow = 5000;
+    private int streamShardDedupCapacity = 100000;
 
     private String loggerFactory = null;
 
@@ -181,6 +214,64 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
             return prettyDebug;
         }
 
+        @Override
+        public int getHttpNIOSelectorThreads() {
+            return httpNIOSelectorThreads;
+        }
+
+        @Override
+        public int getHttpNIOPipeliningDepth() {
+            return httpNIOPipeliningDepth;
+        }
+
+        @Override
+        public int getHttpMaxConnectionsPerHost() {
+            return httpMaxConnectionsPerHost;
+        }
+
+        @Override
+        public int getHttpKeepAliveMillis() {
+            return httpKeepAliveMillis;
+        }
+
+        @Override
+        public int getHttpConnectionEvictionIntervalMillis() {
+            return httpConnectionEvictionIntervalMillis;
+        }
+
+        @Override
+        public boolean isHttpRequestCoalescingEnabled() {
+            return httpRequestCoalescingEnabled;
+        }
+
+        @Override
+        public boolean isHttpResponseCacheEnabled() {
+            return httpResponseCacheEnabled;
+        }
+
+        @Override
+        public int getHttpResponseCacheMaxBytes() {
+            return httpResponseCacheMaxBytes;
+        }
+
+        @Override
+        public String getHttpResponseCacheTTLs() {
+            return httpResponseCacheTTLs;
+        }
+
+        @Override
+        public String getHttpResponseCacheDirectory() {
+            return httpResponseCacheDirectory;
+        }
+
+        @Override
+        public RetryPolicy getHttpRetryPolicy() {
+            if (httpRetryPolicy == null) {
+                return new FixedIntervalRetryPolicy(httpRetryCount, httpRetryIntervalSeconds);
+            }
+            return httpRetryPolicy;
+        }
+
         @Override
         public boolean isGZIPEnabled() {
             return gzipEnabled;
@@ -206,6 +297,17 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
                 return false;
             if (httpProxyUser != null ? !httpProxyUser.equals(that.httpProxyUser) : that.httpProxyUser != null)
                 return false;
+            // HttpClient instances are shared by equal configurations, and retry with the policy of the configuration
+            if (!getHttpRetryPolicy().equals(that.getHttpRetryPolicy()))
+                return false;
+            // as well as coalesce and cache requests
+            if (isHttpRequestCoalescingEnabled() != that.isHttpRequestCoalescingEnabled()) return false;
+            if (isHttpResponseCacheEnabled() != that.isHttpResponseCacheEnabled()) return false;
+            if (getHttpResponseCacheMaxBytes() != that.getHttpResponseCacheMaxBytes()) return false;
+            if (getHttpResponseCacheTTLs() != null ? !getHttpResponseCacheTTLs().equals(that.getHttpResponseCacheTTLs()) : that.getHttpResponseCacheTTLs() != null)
+                return false;
+            if (getHttpResponseCacheDirectory() != null ? !getHttpResponseCacheDirectory().equals(that.getHttpResponseCacheDirectory()) : that.getHttpResponseCacheDirectory() != null)
+                return false;
 
             return true;
         }
@@ -221,6 +323,12 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
             result = 31 * result + httpReadTimeout;
             result = 31 * result + (prettyDebug ? 1 : 0);
             result = 31 * result + (gzipEnabled ? 1 : 0);
+            result = 31 * result + getHttpRetryPolicy().hashCode();
+            result = 31 * result + (isHttpRequestCoalescingEnabled() ? 1 : 0);
+            result = 31 * result + (isHttpResponseCacheEnabled() ? 1 : 0);
+            result = 31 * result + getHttpResponseCacheMaxBytes();
+            result = 31 * result + (getHttpResponseCacheTTLs() != null ? getHttpResponseCacheTTLs().hashCode() : 0);
+            result = 31 * result + (getHttpResponseCacheDirectory() != null ? getHttpResponseCacheDirectory().hashCode() : 0);
             return result;
         }
 
@@ -236,6 +344,12 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
                     ", httpReadTimeout=" + httpReadTimeout +
                     ", prettyDebug=" + prettyDebug +
                     ", gzipEnabled=" + gzipEnabled +
+                    ", httpRetryPolicy=" + getHttpRetryPolicy() +
+                    ", httpRequestCoalescingEnabled=" + isHttpRequestCoalescingEnabled() +
+                    ", httpResponseCacheEnabled=" + isHttpResponseCacheEnabled() +
+                    ", httpResponseCacheMaxBytes=" + getHttpResponseCacheMaxBytes() +
+                    ", httpResponseCacheTTLs='" + getHttpResponseCacheTTLs() + '\'' +
+                    ", httpResponseCacheDirectory='" + getHttpResponseCacheDirectory() + '\'' +
                     '}';
         }
     }
@@ -418,6 +532,50 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         this.httpRetryIntervalSeconds = retryIntervalSeconds;
     }
 
+    protected final void setHttpNIOSelectorThreads(int selectorThreads) {
+        this.httpNIOSelectorThreads = selectorThreads;
+    }
+
+    protected final void setHttpNIOPipeliningDepth(int pipeliningDepth) {
+        this.httpNIOPipeliningDepth = pipeliningDepth;
+    }
+
+    protected final void setHttpMaxConnectionsPerHost(int httpMaxConnectionsPerHost) {
+        this.httpMaxConnectionsPerHost = httpMaxConnectionsPerHost;
+    }
+
+    protected final void setHttpKeepAliveMillis(int httpKeepAliveMillis) {
+        this.httpKeepAliveMillis = httpKeepAliveMillis;
+    }
+
+    protected final void setHttpConnectionEvictionIntervalMillis(int httpConnectionEvictionIntervalMillis) {
+        this.httpConnectionEvictionIntervalMillis = httpConnectionEvictionIntervalMillis;
+    }
+
+    protected final void setHttpRequestCoalescingEnabled(boolean httpRequestCoalescingEnabled) {
+        this.httpRequestCoalescingEnabled = httpRequestCoalescingEnabled;
+    }
+
+    protected final void setHttpResponseCacheEnabled(boolean httpResponseCacheEnabled) {
+        this.httpResponseCacheEnabled = httpResponseCacheEnabled;
+    }
+
+    protected final void setHttpResponseCacheMaxBytes(int httpResponseCacheMaxBytes) {
+        this.httpResponseCacheMaxBytes = httpResponseCacheMaxBytes;
+    }
+
+    protected final void setHttpResponseCacheTTLs(String httpResponseCacheTTLs) {
+        this.httpResponseCacheTTLs = httpResponseCacheTTLs;
+    }
+
+    protected final void setHttpResponseCacheDirectory(String httpResponseCacheDirectory) {
+        this.httpResponseCacheDirectory = httpResponseCacheDirectory;
+    }
+
+    protected final void setHttpRetryPolicy(RetryPolicy httpRetryPolicy) {
+        this.httpRetryPolicy = httpRetryPolicy;
+    }
+
     // oauth related setter/getters
 
     @Override
@@ -492,6 +650,159 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         this.asyncNumThreads = asyncNumThreads;
     }
 
+    @Override
+    public int getMediaUploadConcurrency() {
+        return mediaUploadConcurrency;
+    }
+
+    protected final void setMediaUploadConcurrency(int mediaUploadConcurrency) {
+        this.mediaUploadConcurrency = mediaUploadConcurrency;
+    }
+
+    @Override
+    public boolean isRateLimitSchedulingEnabled() {
+        return rateLimitSchedulingEnabled;
+    }
+
+    protected final void setRateLimitSchedulingEnabled(boolean rateLimitSchedulingEnabled) {
+        this.rateLimitSchedulingEnabled = rateLimitSchedulingEnabled;
+    }
+
+    @Override
+    public int getRateLimitSchedulingPriority() {
+        return rateLimitSchedulingPriority;
+    }
+
+    protected final void setRateLimitSchedulingPriority(int rateLimitSchedulingPriority) {
+        this.rateLimitSchedulingPriority = rateLimitSchedulingPriority;
+    }
+
+    @Override
+    public boolean isJSONStreamingParserEnabled() {
+        return jsonStreamingParserEnabled;
+    }
+
+    protected final void setJSONStreamingParserEnabled(boolean jsonStreamingParserEnabled) {
+        this.jsonStreamingParserEnabled = jsonStreamingParserEnabled;
+    }
+
+    @Override
+    public boolean isJSONLazyBindingEnabled() {
+        return jsonLazyBindingEnabled;
+    }
+
+    protected final void setJSONLazyBindingEnabled(boolean jsonLazyBindingEnabled) {
+        this.jsonLazyBindingEnabled = jsonLazyBindingEnabled;
+    }
+
+    @Override
+    public boolean isJSONStringDedupEnabled() {
+        return jsonStringDedupEnabled;
+    }
+
+    protected final void setJSONStringDedupEnabled(boolean jsonStringDedupEnabled) {
+        this.jsonStringDedupEnabled = jsonStringDedupEnabled;
+    }
+
+    @Override
+    public String getJSONStringDedupFields() {
+        return jsonStringDedupFields;
+    }
+
+    protected final void setJSONStringDedupFields(String jsonStringDedupFields) {
+        this.jsonStringDedupFields = jsonStringDedupFields;
+    }
+
+    @Override
+    public int getJSONStringDedupMaxEntries() {
+        return jsonStringDedupMaxEntries;
+    }
+
+    protected final void setJSONStringDedupMaxEntries(int jsonStringDedupMaxEntries) {
+        this.jsonStringDedupMaxEntries = jsonStringDedupMaxEntries;
+    }
+
+    @Override
+    public int getStreamDispatchQueueSize() {
+        return streamDispatchQueueSize;
+    }
+
+    protected final void setStreamDispatchQueueSize(int streamDispatchQueueSize) {
+        this.streamDispatchQueueSize = streamDispatchQueueSize;
+    }
+
+    @Override
+    public String getStreamDispatchOverflowPolicy() {
+        return streamDispatchOverflowPolicy;
+    }
+
+    protected final void setStreamDispatchOverflowPolicy(String streamDispatchOverflowPolicy) {
+        this.streamDispatchOverflowPolicy = streamDispatchOverflowPolicy;
+    }
+
+    @Override
+    public String getStreamDispatchDroppableTypes() {
+        return streamDispatchDroppableTypes;
+    }
+
+    protected final void setStreamDispatchDroppableTypes(String streamDispatchDroppableTypes) {
+        this.streamDispatchDroppableTypes = streamDispatchDroppableTypes;
+    }
+
+    @Override
+    public String getStreamDispatchSpillDirectory() {
+        return streamDispatchSpillDirectory;
+    }
+
+    protected final void setStreamDispatchSpillDirectory(String streamDispatchSpillDirectory) {
+        this.streamDispatchSpillDirectory = streamDispatchSpillDirectory;
+    }
+
+    @Override
+    public String getStreamDispatchPartitionKey() {
+        return streamDispatchPartitionKey;
+    }
+
+    protected final void setStreamDispatchPartitionKey(String streamDispatchPartitionKey) {
+        this.streamDispatchPartitionKey = streamDispatchPartitionKey;
+    }
+
+    @Override
+    public boolean isStreamDelimitedLengthEnabled() {
+        return streamDelimitedLengthEnabled;
+    }
+
+    protected final void setStreamDelimitedLengthEnabled(boolean streamDelimitedLengthEnabled) {
+        this.streamDelimitedLengthEnabled = streamDelimitedLengthEnabled;
+    }
+
+    @Override
+    public int getStreamShardMaxTrack() {
+        return streamShardMaxTrack;
+    }
+
+    protected final void setStreamShardMaxTrack(int streamShardMaxTrack) {
+        this.streamShardMaxTrack = streamShardMaxTrack;
+    }
+
+    @Override
+    public int getStreamShardMaxFollow() {
+        return streamShardMaxFollow;
+    }
+
+    protected final void setStreamShardMaxFollow(int streamShardMaxFollow) {
+        this.streamShardMaxFollow = streamShardMaxFollow;
+    }
+
+    @Override
+    public int getStreamShardDedupCapacity() {
+        return streamShardDedupCapacity;
+    }
+
+    protected final void setStreamShardDedupCapacity(int streamShardDedupCapacity) {
+        this.streamShardDedupCapacity = streamShardDedupCapacity;
+    }
+
     @Override
     public final long getContributingTo() {
         return contributingTo;
@@ -798,7 +1109,36 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         if (httpStreamingReadTimeout != that.httpStreamingReadTimeout) return false;
         if (httpRetryCount != that.httpRetryCount) return false;
         if (httpRetryIntervalSeconds != that.httpRetryIntervalSeconds) return false;
+        if (httpNIOSelectorThreads != that.httpNIOSelectorThreads) return false;
+        if (httpNIOPipeliningDepth != that.httpNIOPipeliningDepth) return false;
+        if (httpMaxConnectionsPerHost != that.httpMaxConnectionsPerHost) return false;
+        if (httpKeepAliveMillis != that.httpKeepAliveMillis) return false;
+        if (httpConnectionEvictionIntervalMillis != that.httpConnectionEvictionIntervalMillis) return false;
+        if (httpRequestCoalescingEnabled != that.httpRequestCoalescingEnabled) return false;
+        if (httpResponseCacheEnabled != that.httpResponseCacheEnabled) return false;
+        if (httpResponseCacheMaxBytes != that.httpResponseCacheMaxBytes) return false;
+        if (httpResponseCacheTTLs != null ? !httpResponseCacheTTLs.equals(that.httpResponseCacheTTLs) : that.httpResponseCacheTTLs != null) return false;
+        if (httpResponseCacheDirectory != null ? !httpResponseCacheDirectory.equals(that.httpResponseCacheDirectory) : that.httpResponseCacheDirectory != null) return false;
+        if (httpRetryPolicy != null ? !httpRetryPolicy.equals(that.httpRetryPolicy) : that.httpRetryPolicy != null)
+            return false;
         if (asyncNumThreads != that.asyncNumThreads) return false;
+        if (mediaUploadConcurrency != that.mediaUploadConcurrency) return false;
+        if (rateLimitSchedulingEnabled != that.rateLimitSchedulingEnabled) return false;
+        if (rateLimitSchedulingPriority != that.rateLimitSchedulingPriority) return false;
+        if (jsonStreamingParserEnabled != that.jsonStreamingParserEnabled) return false;
+        if (jsonLazyBindingEnabled != that.jsonLazyBindingEnabled) return false;
+        if (jsonStringDedupEnabled != that.jsonStringDedupEnabled) return false;
+        if (jsonStringDedupFields != null ? !jsonStringDedupFields.equals(that.jsonStringDedupFields) : that.jsonStringDedupFields != null) return false;
+        if (jsonStringDedupMaxEntries != that.jsonStringDedupMaxEntries) return false;
+        if (streamDispatchQueueSize != that.streamDispatchQueueSize) return false;
+        if (streamDispatchOverflowPolicy != null ? !streamDispatchOverflowPolicy.equals(that.streamDispatchOverflowPolicy) : that.streamDispatchOverflowPolicy != null) return false;
+        if (streamDispatchDroppableTypes != null ? !streamDispatchDroppableTypes.equals(that.streamDispatchDroppableTypes) : that.streamDispatchDroppableTypes != null) return false;
+        if (streamDispatchSpillDirectory != null ? !streamDispatchSpillDirectory.equals(that.streamDispatchSpillDirectory) : that.streamDispatchSpillDirectory != null) return false;
+        if (streamDispatchPartitionKey != null ? !streamDispatchPartitionKey.equals(that.streamDispatchPartitionKey) : that.streamDispatchPartitionKey != null) return false;
+        if (streamDelimitedLengthEnabled != that.streamDelimitedLengthEnabled) return false;
+        if (streamShardMaxTrack != that.streamShardMaxTrack) return false;
+        if (streamShardMaxFollow != that.streamShardMaxFollow) return false;
+        if (streamShardDedupCapacity != that.streamShardDedupCapacity) return false;
         if (contributingTo != that.contributingTo) return false;
         if (includeMyRetweetEnabled != that.includeMyRetweetEnabled) return false;
         if (includeEntitiesEnabled != that.includeEntitiesEnabled) return false;
@@ -873,6 +1213,17 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         result = 31 * result + httpStreamingReadTimeout;
         result = 31 * result + httpRetryCount;
         result = 31 * result + httpRetryIntervalSeconds;
+        result = 31 * result + httpNIOSelectorThreads;
+        result = 31 * result + httpNIOPipeliningDepth;
+        result = 31 * result + httpMaxConnectionsPerHost;
+        result = 31 * result + httpKeepAliveMillis;
+        result = 31 * result + httpConnectionEvictionIntervalMillis;
+        result = 31 * result + (httpRequestCoalescingEnabled ? 1 : 0);
+        result = 31 * result + (httpResponseCacheEnabled ? 1 : 0);
+        result = 31 * result + httpResponseCacheMaxBytes;
+        result = 31 * result + (httpResponseCacheTTLs != null ? httpResponseCacheTTLs.hashCode() : 0);
+        result = 31 * result + (httpResponseCacheDirectory != null ? httpResponseCacheDirectory.hashCode() : 0);
+        result = 31 * result + (httpRetryPolicy != null ? httpRetryPolicy.hashCode() : 0);
         result = 31 * result + (oAuthConsumerKey != null ? oAuthConsumerKey.hashCode() : 0);
         result = 31 * result + (oAuthConsumerSecret != null ? oAuthConsumerSecret.hashCode() : 0);
         result = 31 * result + (oAuthAccessToken != null ? oAuthAccessToken.hashCode() : 0);
@@ -893,6 +1244,23 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
         result = 31 * result + (uploadBaseURL != null ? uploadBaseURL.hashCode() : 0);
         result = 31 * result + (dispatcherImpl != null ? dispatcherImpl.hashCode() : 0);
         result = 31 * result + asyncNumThreads;
+        result = 31 * result + mediaUploadConcurrency;
+        result = 31 * result + (rateLimitSchedulingEnabled ? 1 : 0);
+        result = 31 * result + rateLimitSchedulingPriority;
+        result = 31 * result + (jsonStreamingParserEnabled ? 1 : 0);
+        result = 31 * result + (jsonLazyBindingEnabled ? 1 : 0);
+        result = 31 * result + (jsonStringDedupEnabled ? 1 : 0);
+        result = 31 * result + (jsonStringDedupFields != null ? jsonStringDedupFields.hashCode() : 0);
+        result = 31 * result + jsonStringDedupMaxEntries;
+        result = 31 * result + streamDispatchQueueSize;
+        result = 31 * result + (streamDispatchOverflowPolicy != null ? streamDispatchOverflowPolicy.hashCode() : 0);
+        result = 31 * result + (streamDispatchDroppableTypes != null ? streamDispatchDroppableTypes.hashCode() : 0);
+        result = 31 * result + (streamDispatchSpillDirectory != null ? streamDispatchSpillDirectory.hashCode() : 0);
+        result = 31 * result + (streamDispatchPartitionKey != null ? streamDispatchPartitionKey.hashCode() : 0);
+        result = 31 * result + (streamDelimitedLengthEnabled ? 1 : 0);
+        result = 31 * result + streamShardMaxTrack;
+        result = 31 * result + streamShardMaxFollow;
+        result = 31 * result + streamShardDedupCapacity;
         result = 31 * result + (loggerFactory != null ? loggerFactory.hashCode() : 0);
         result = 31 * result + (int) (contributingTo ^ (contributingTo >>> 32));
         result = 31 * result + (includeMyRetweetEnabled ? 1 : 0);
@@ -925,6 +1293,17 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
                 ", httpStreamingReadTimeout=" + httpStreamingReadTimeout +
                 ", httpRetryCount=" + httpRetryCount +
                 ", httpRetryIntervalSeconds=" + httpRetryIntervalSeconds +
+                ", httpNIOSelectorThreads=" + httpNIOSelectorThreads +
+                ", httpNIOPipeliningDepth=" + httpNIOPipeliningDepth +
+                ", httpMaxConnectionsPerHost=" + httpMaxConnectionsPerHost +
+                ", httpKeepAliveMillis=" + httpKeepAliveMillis +
+                ", httpConnectionEvictionIntervalMillis=" + httpConnectionEvictionIntervalMillis +
+                ", httpRequestCoalescingEnabled=" + httpRequestCoalescingEnabled +
+                ", httpResponseCacheEnabled=" + httpResponseCacheEnabled +
+                ", httpResponseCacheMaxBytes=" + httpResponseCacheMaxBytes +
+                ", httpResponseCacheTTLs='" + httpResponseCacheTTLs + '\'' +
+                ", httpResponseCacheDirectory='" + httpResponseCacheDirectory + '\'' +
+                ", httpRetryPolicy=" + httpRetryPolicy +
                 ", oAuthConsumerKey='" + oAuthConsumerKey + '\'' +
                 ", oAuthConsumerSecret='" + oAuthConsumerSecret + '\'' +
                 ", oAuthAccessToken='" + oAuthAccessToken + '\'' +
@@ -945,6 +1324,23 @@ class ConfigurationBase implements Configuration, java.io.Serializable {
                 ", uploadBaseURL='" + uploadBaseURL + '\'' +
                 ", dispatcherImpl='" + dispatcherImpl + '\'' +
                 ", asyncNumThreads=" + asyncNumThreads +
+                ", mediaUploadConcurrency=" + mediaUploadConcurrency +
+                ", rateLimitSchedulingEnabled=" + rateLimitSchedulingEnabled +
+                ", rateLimitSchedulingPriority=" + rateLimitSchedulingPriority +
+                ", jsonStreamingParserEnabled=" + jsonStreamingParserEnabled +
+                ", jsonLazyBindingEnabled=" + jsonLazyBindingEnabled +
+                ", jsonStringDedupEnabled=" + jsonStringDedupEnabled +
+                ", jsonStringDedupFields=" + jsonStringDedupFields +
+                ", jsonStringDedupMaxEntries=" + jsonStringDedupMaxEntries +
+                ", streamDispatchQueueSize=" + streamDispatchQueueSize +
+                ", streamDispatchOverflowPolicy=" + streamDispatchOverflowPolicy +
+                ", streamDispatchDroppableTypes=" + streamDispatchDroppableTypes +
+                ", streamDispatchSpillDirectory=" + streamDispatchSpillDirectory +
+                ", streamDispatchPartitionKey=" + streamDispatchPartitionKey +
+                ", streamDelimitedLengthEnabled=" + streamDelimitedLengthEnabled +
+                ", streamShardMaxTrack=" + streamShardMaxTrack +
+                ", streamShardMaxFollow=" + streamShardMaxFollow +
+                ", streamShardDedupCapacity=" + streamShardDedupCapacity +
                 ", loggerFactory='" + loggerFactory + '\'' +
                 ", contributingTo=" + contributingTo +
                 ", includeMyRetweetEnabled=" + includeMyRetweetEnabled +
@@ -16,6 +16,8 @@
 
 package twitter4j.conf;
 
+import twitter4j.RetryPolicy;
+
 import java.util.Properties;
 
 /**
@@ -126,6 +128,72 @@ public final class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setHttpNIOSelectorThreads(int httpNIOSelectorThreads) {
+        checkNotBuilt();
+        configurationBean.setHttpNIOSelectorThreads(httpNIOSelectorThreads);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpNIOPipeliningDepth(int httpNIOPipeliningDepth) {
+        checkNotBuilt();
+        configurationBean.setHttpNIOPipeliningDepth(httpNIOPipeliningDepth);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpMaxConnectionsPerHost(int httpMaxConnectionsPerHost) {
+        checkNotBuilt();
+        configurationBean.setHttpMaxConnectionsPerHost(httpMaxConnectionsPerHost);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpKeepAliveMillis(int httpKeepAliveMillis) {
+        checkNotBuilt();
+        configurationBean.setHttpKeepAliveMillis(httpKeepAliveMillis);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpConnectionEvictionIntervalMillis(int httpConnectionEvictionIntervalMillis) {
+        checkNotBuilt();
+        configurationBean.setHttpConnectionEvictionIntervalMillis(httpConnectionEvictionIntervalMillis);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpRequestCoalescingEnabled(boolean httpRequestCoalescingEnabled) {
+        checkNotBuilt();
+        configurationBean.setHttpRequestCoalescingEnabled(httpRequestCoalescingEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseCacheEnabled(boolean httpResponseCacheEnabled) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseCacheEnabled(httpResponseCacheEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseCacheMaxBytes(int httpResponseCacheMaxBytes) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseCacheMaxBytes(httpResponseCacheMaxBytes);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseCacheTTLs(String httpResponseCacheTTLs) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseCacheTTLs(httpResponseCacheTTLs);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpResponseCacheDirectory(String httpResponseCacheDirectory) {
+        checkNotBuilt();
+        configurationBean.setHttpResponseCacheDirectory(httpResponseCacheDirectory);
+        return this;
+    }
+
+    public ConfigurationBuilder setHttpRetryPolicy(RetryPolicy httpRetryPolicy) {
+        checkNotBuilt();
+        configurationBean.setHttpRetryPolicy(httpRetryPolicy);
+        return this;
+    }
+
     public ConfigurationBuilder setOAuthConsumerKey(String oAuthConsumerKey) {
         checkNotBuilt();
         configurationBean.setOAuthConsumerKey(oAuthConsumerKey);
@@ -240,6 +308,108 @@ public final class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setMediaUploadConcurrency(int mediaUploadConcurrency) {
+        checkNotBuilt();
+        configurationBean.setMediaUploadConcurrency(mediaUploadConcurrency);
+        return this;
+    }
+
+    public ConfigurationBuilder setRateLimitSchedulingEnabled(boolean rateLimitSchedulingEnabled) {
+        checkNotBuilt();
+        configurationBean.setRateLimitSchedulingEnabled(rateLimitSchedulingEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setRateLimitSchedulingPriority(int rateLimitSchedulingPriority) {
+        checkNotBuilt();
+        configurationBean.setRateLimitSchedulingPriority(rateLimitSchedulingPriority);
+        return this;
+    }
+
+    public ConfigurationBuilder setJSONStreamingParserEnabled(boolean jsonStreamingParserEnabled) {
+        checkNotBuilt();
+        configurationBean.setJSONStreamingParserEnabled(jsonStreamingParserEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setJSONLazyBindingEnabled(boolean jsonLazyBindingEnabled) {
+        checkNotBuilt();
+        configurationBean.setJSONLazyBindingEnabled(jsonLazyBindingEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setJSONStringDedupEnabled(boolean jsonStringDedupEnabled) {
+        checkNotBuilt();
+        configurationBean.setJSONStringDedupEnabled(jsonStringDedupEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setJSONStringDedupFields(String jsonStringDedupFields) {
+        checkNotBuilt();
+        configurationBean.setJSONStringDedupFields(jsonStringDedupFields);
+        return this;
+    }
+
+    public ConfigurationBuilder setJSONStringDedupMaxEntries(int jsonStringDedupMaxEntries) {
+        checkNotBuilt();
+        configurationBean.setJSONStringDedupMaxEntries(jsonStringDedupMaxEntries);
+        return this;
+    }
+
+    public ConfigurationBuilder setStreamDispatchQueueSize(int streamDispatchQueueSize) {
+        checkNotBuilt();
+        configurationBean.setStreamDispatchQueueSize(streamDispatchQueueSize);
+        return this;
+    }
+
+    public ConfigurationBuilder setStreamDispatchOverflowPolicy(String streamDispatchOverflowPolicy) {
+        checkNotBuilt();
+        configurationBean.setStreamDispatchOverflowPolicy(streamDispatchOverflowPolicy);
+        return this;
+    }
+
+    public ConfigurationBuilder setStreamDispatchDroppableTypes(String streamDispatchDroppableTypes) {
+        checkNotBuilt();
+        configurationBean.setStreamDispatchDroppableTypes(streamDispatchDroppableTypes);
+        return this;
+    }
+
+    public ConfigurationBuilder setStreamDispatchSpillDirectory(String streamDispatchSpillDirectory) {
+        checkNotBuilt();
+        configurationBean.setStreamDispatchSpillDirectory(streamDispatchSpillDirectory);
+        return this;
+    }
+
+    public ConfigurationBuilder setStreamDispatchPartitionKey(String streamDispatchPartitionKey) {
+        checkNotBuilt();
+        configurationBean.setStreamDispatchPartitionKey(streamDispatchPartitionKey);
+        return this;
+    }
+
+    public ConfigurationBuilder setStreamDelimitedLengthEnabled(boolean streamDelimitedLengthEnabled) {
+        checkNotBuilt();
+        configurationBean.setStreamDelimitedLengthEnabled(streamDelimitedLengthEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setStreamShardMaxTrack(int streamShardMaxTrack) {
+        checkNotBuilt();
+        configurationBean.setStreamShardMaxTrack(streamShardMaxTrack);
+        return this;
+    }
+
+    public ConfigurationBuilder setStreamShardMaxFollow(int streamShardMaxFollow) {
+        checkNotBuilt();
+        configurationBean.setStreamShardMaxFollow(streamShardMaxFollow);
+        return this;
+    }
+
+    public ConfigurationBuilder setStreamShardDedupCapacity(int streamShardDedupCapacity) {
+        checkNotBuilt();
+        configurationBean.setStreamShardDedupCapacity(streamShardDedupCapacity);
+        return this;
+    }
+
     public ConfigurationBuilder setDaemonEnabled(boolean daemonEnabled) {
         checkNotBuilt();
         configurationBean.setDaemonEnabled(daemonEnabled);
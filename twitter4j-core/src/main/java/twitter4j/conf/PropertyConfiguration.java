@@ -16,7 +16,10 @@
 
 package twitter4j.conf;
 
+import twitter4j.RetryPolicy;
+
 import java.io.*;
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Properties;
@@ -45,6 +48,17 @@ public final class PropertyConfiguration extends ConfigurationBase implements ja
 
     private static final String HTTP_RETRY_COUNT = "http.retryCount";
     private static final String HTTP_RETRY_INTERVAL_SECS = "http.retryIntervalSecs";
+    private static final String HTTP_NIO_SELECTOR_THREADS = "http.nio.selectorThreads";
+    private static final String HTTP_NIO_PIPELINING_DEPTH = "http.nio.pipeliningDepth";
+    private static final String HTTP_MAX_CONNECTIONS_PER_HOST = "http.maxConnectionsPerHost";
+    private static final String HTTP_KEEP_ALIVE_MILLIS = "http.keepAliveMillis";
+    private static final String HTTP_CONNECTION_EVICTION_INTERVAL_MILLIS = "http.connectionEvictionIntervalMillis";
+    private static final String HTTP_REQUEST_COALESCING = "http.requestCoalescing";
+    private static final String HTTP_RESPONSE_CACHE_ENABLED = "http.responseCache.enabled";
+    private static final String HTTP_RESPONSE_CACHE_MAX_BYTES = "http.responseCache.maxBytes";
+    private static final String HTTP_RESPONSE_CACHE_TTLS = "http.responseCache.ttls";
+    private static final String HTTP_RESPONSE_CACHE_DIRECTORY = "http.responseCache.directory";
+    private static final String HTTP_RETRY_POLICY = "http.retryPolicy";
 
     private static final String OAUTH_CONSUMER_KEY = "oauth.consumerKey";
     private static final String OAUTH_CONSUMER_SECRET = "oauth.consumerSecret";
@@ -67,6 +81,23 @@ public final class PropertyConfiguration extends ConfigurationBase implements ja
     private static final String SITE_STREAM_BASE_URL = "siteStreamBaseURL";
 
     private static final String ASYNC_NUM_THREADS = "async.numThreads";
+    private static final String MEDIA_UPLOAD_CONCURRENCY = "media.uploadConcurrency";
+    private static final String RATE_LIMIT_SCHEDULING_ENABLED = "rateLimitScheduling.enabled";
+    private static final String RATE_LIMIT_SCHEDULING_PRIORITY = "rateLimitScheduling.priority";
+    private static final String JSON_STREAMING_PARSER_ENABLED = "jsonStreamingParserEnabled";
+    private static final String JSON_LAZY_BINDING_ENABLED = "jsonLazyBindingEnabled";
+    private static final String JSON_STRING_DEDUP_ENABLED = "jsonStringDedupEnabled";
+    private static final String JSON_STRING_DEDUP_FIELDS = "jsonStringDedupFields";
+    private static final String JSON_STRING_DEDUP_MAX_ENTRIES = "jsonStringDedupMaxEntries";
+    private static final String STREAM_DISPATCH_QUEUE_SIZE = "stream.dispatch.queueSize";
+    private static final String STREAM_DISPATCH_OVERFLOW_POLICY = "stream.dispatch.overflowPolicy";
+    private static final String STREAM_DISPATCH_DROPPABLE_TYPES = "stream.dispatch.droppableTypes";
+    private static final String STREAM_DISPATCH_SPILL_DIRECTORY = "stream.dispatch.spillDirectory";
+    private static final String STREAM_DISPATCH_PARTITION_KEY = "stream.dispatch.partitionKey";
+    private static final String STREAM_DELIMITED_LENGTH = "stream.delimitedLength";
+    private static final String STREAM_SHARD_MAX_TRACK = "stream.shard.maxTrack";
+    private static final String STREAM_SHARD_MAX_FOLLOW = "stream.shard.maxFollow";
+    private static final String STREAM_SHARD_DEDUP_CAPACITY = "stream.shard.dedupCapacity";
     private static final String ASYNC_DAEMON_ENABLED = "async.daemonEnabled";
     private static final String STREAM_THREAD_NAME = "streamThreadName";
 
@@ -276,6 +307,55 @@ public final class PropertyConfiguration extends ConfigurationBase implements ja
         if (notNull(props, prefix, HTTP_RETRY_INTERVAL_SECS)) {
             setHttpRetryIntervalSeconds(getIntProperty(props, prefix, HTTP_RETRY_INTERVAL_SECS));
         }
+        if (notNull(props, prefix, HTTP_NIO_SELECTOR_THREADS)) {
+            setHttpNIOSelectorThreads(getIntProperty(props, prefix, HTTP_NIO_SELECTOR_THREADS));
+        }
+        if (notNull(props, prefix, HTTP_NIO_PIPELINING_DEPTH)) {
+            setHttpNIOPipeliningDepth(getIntProperty(props, prefix, HTTP_NIO_PIPELINING_DEPTH));
+        }
+        if (notNull(props, prefix, HTTP_MAX_CONNECTIONS_PER_HOST)) {
+            setHttpMaxConnectionsPerHost(getIntProperty(props, prefix, HTTP_MAX_CONNECTIONS_PER_HOST));
+        }
+        if (notNull(props, prefix, HTTP_KEEP_ALIVE_MILLIS)) {
+            setHttpKeepAliveMillis(getIntProperty(props, prefix, HTTP_KEEP_ALIVE_MILLIS));
+        }
+        if (notNull(props, prefix, HTTP_CONNECTION_EVICTION_INTERVAL_MILLIS)) {
+            setHttpConnectionEvictionIntervalMillis(getIntProperty(props, prefix, HTTP_CONNECTION_EVICTION_INTERVAL_MILLIS));
+        }
+        if (notNull(props, prefix, HTTP_REQUEST_COALESCING)) {
+            setHttpRequestCoalescingEnabled(getBoolean(props, prefix, HTTP_REQUEST_COALESCING));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_CACHE_ENABLED)) {
+            setHttpResponseCacheEnabled(getBoolean(props, prefix, HTTP_RESPONSE_CACHE_ENABLED));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_CACHE_MAX_BYTES)) {
+            setHttpResponseCacheMaxBytes(getIntProperty(props, prefix, HTTP_RESPONSE_CACHE_MAX_BYTES));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_CACHE_TTLS)) {
+            setHttpResponseCacheTTLs(getString(props, prefix, HTTP_RESPONSE_CACHE_TTLS));
+        }
+        if (notNull(props, prefix, HTTP_RESPONSE_CACHE_DIRECTORY)) {
+            setHttpResponseCacheDirectory(getString(props, prefix, HTTP_RESPONSE_CACHE_DIRECTORY));
+        }
+        if (notNull(props, prefix, HTTP_RETRY_POLICY)) {
+            // class name of a RetryPolicy implementation having a no-argument constructor
+            try {
+                setHttpRetryPolicy((RetryPolicy) Class.forName(getString(props, prefix, HTTP_RETRY_POLICY))
+                        .getDeclaredConstructor().newInstance());
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError(e);
+            } catch (InvocationTargetException e) {
+                throw new AssertionError(e);
+            } catch (InstantiationException e) {
+                throw new AssertionError(e);
+            } catch (IllegalAccessException e) {
+                throw new AssertionError(e);
+            } catch (ClassNotFoundException e) {
+                throw new AssertionError(e);
+            } catch (ClassCastException e) {
+                throw new AssertionError(e);
+            }
+        }
         if (notNull(props, prefix, OAUTH_CONSUMER_KEY)) {
             setOAuthConsumerKey(getString(props, prefix, OAUTH_CONSUMER_KEY));
         }
@@ -300,6 +380,57 @@ public final class PropertyConfiguration extends ConfigurationBase implements ja
         if (notNull(props, prefix, ASYNC_NUM_THREADS)) {
             setAsyncNumThreads(getIntProperty(props, prefix, ASYNC_NUM_THREADS));
         }
+        if (notNull(props, prefix, MEDIA_UPLOAD_CONCURRENCY)) {
+            setMediaUploadConcurrency(getIntProperty(props, prefix, MEDIA_UPLOAD_CONCURRENCY));
+        }
+        if (notNull(props, prefix, RATE_LIMIT_SCHEDULING_ENABLED)) {
+            setRateLimitSchedulingEnabled(getBoolean(props, prefix, RATE_LIMIT_SCHEDULING_ENABLED));
+        }
+        if (notNull(props, prefix, RATE_LIMIT_SCHEDULING_PRIORITY)) {
+            setRateLimitSchedulingPriority(getIntProperty(props, prefix, RATE_LIMIT_SCHEDULING_PRIORITY));
+        }
+        if (notNull(props, prefix, JSON_STREAMING_PARSER_ENABLED)) {
+            setJSONStreamingParserEnabled(getBoolean(props, prefix, JSON_STREAMING_PARSER_ENABLED));
+        }
+        if (notNull(props, prefix, JSON_LAZY_BINDING_ENABLED)) {
+            setJSONLazyBindingEnabled(getBoolean(props, prefix, JSON_LAZY_BINDING_ENABLED));
+        }
+        if (notNull(props, prefix, JSON_STRING_DEDUP_ENABLED)) {
+            setJSONStringDedupEnabled(getBoolean(props, prefix, JSON_STRING_DEDUP_ENABLED));
+        }
+        if (notNull(props, prefix, JSON_STRING_DEDUP_FIELDS)) {
+            setJSONStringDedupFields(getString(props, prefix, JSON_STRING_DEDUP_FIELDS));
+        }
+        if (notNull(props, prefix, JSON_STRING_DEDUP_MAX_ENTRIES)) {
+            setJSONStringDedupMaxEntries(getIntProperty(props, prefix, JSON_STRING_DEDUP_MAX_ENTRIES));
+        }
+        if (notNull(props, prefix, STREAM_DISPATCH_QUEUE_SIZE)) {
+            setStreamDispatchQueueSize(getIntProperty(props, prefix, STREAM_DISPATCH_QUEUE_SIZE));
+        }
+        if (notNull(props, prefix, STREAM_DISPATCH_OVERFLOW_POLICY)) {
+            setStreamDispatchOverflowPolicy(getString(props, prefix, STREAM_DISPATCH_OVERFLOW_POLICY));
+        }
+        if (notNull(props, prefix, STREAM_DISPATCH_DROPPABLE_TYPES)) {
+            setStreamDispatchDroppableTypes(getString(props, prefix, STREAM_DISPATCH_DROPPABLE_TYPES));
+        }
+        if (notNull(props, prefix, STREAM_DISPATCH_SPILL_DIRECTORY)) {
+            setStreamDispatchSpillDirectory(getString(props, prefix, STREAM_DISPATCH_SPILL_DIRECTORY));
+        }
+        if (notNull(props, prefix, STREAM_DISPATCH_PARTITION_KEY)) {
+            setStreamDispatchPartitionKey(getString(props, prefix, STREAM_DISPATCH_PARTITION_KEY));
+        }
+        if (notNull(props, prefix, STREAM_DELIMITED_LENGTH)) {
+            setStreamDelimitedLengthEnabled(getBoolean(props, prefix, STREAM_DELIMITED_LENGTH));
+        }
+        if (notNull(props, prefix, STREAM_SHARD_MAX_TRACK)) {
+            setStreamShardMaxTrack(getIntProperty(props, prefix, STREAM_SHARD_MAX_TRACK));
+        }
+        if (notNull(props, prefix, STREAM_SHARD_MAX_FOLLOW)) {
+            setStreamShardMaxFollow(getIntProperty(props, prefix, STREAM_SHARD_MAX_FOLLOW));
+        }
+        if (notNull(props, prefix, STREAM_SHARD_DEDUP_CAPACITY)) {
+            setStreamShardDedupCapacity(getIntProperty(props, prefix, STREAM_SHARD_DEDUP_CAPACITY));
+        }
         if (notNull(props, prefix, ASYNC_DAEMON_ENABLED)) {
             setDaemonEnabled(getBoolean(props, prefix, ASYNC_DAEMON_ENABLED));
         }
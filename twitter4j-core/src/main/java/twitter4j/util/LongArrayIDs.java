@@ -0,0 +1,513 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.util;
+
+import twitter4j.IDs;
+import twitter4j.TwitterException;
+import twitter4j.api.FriendsFollowersResources;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * A growable store of numeric IDs kept as primitives, for collecting follower and friend IDs of large accounts.<br>
+ * IDs are kept in chunks of 1M longs (8MB), on the Java heap or in direct memory, so growing never copies more than
+ * one chunk and 50M IDs take 400MB. {@link #sort()} turns the store into a sorted set, on which
+ * {@link #intersect(LongArrayIDs)}, {@link #difference(LongArrayIDs)} and a binary search in {@link #contains(long)}
+ * are linear or logarithmic. {@link #toCompressedBytes()} delta and varint encodes the IDs, which takes a fraction
+ * of the space once the store is sorted and the deltas are small.<br>
+ * Pages are collected with {@link #addAllPages(Pager)}, which remembers the cursor so that a crawl interrupted by an
+ * exception can be resumed by calling it again.<br>
+ * Instances of this class are not thread safe.
+ * <pre>
+ * LongArrayIDs followers = LongArrayIDs.allocateDirect();
+ * followers.addAllPages(LongArrayIDs.followersIDs(twitter, userId)).sort();
+ * </pre>
+ *
+ * @since Twitter4J 4.0.8
+ */
+public final class LongArrayIDs {
+    private static final int CHUNK_SHIFT = 20;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_IDS_PER_PAGE = 5000;
+
+    private final boolean direct;
+    private LongBuffer[] chunks = new LongBuffer[0];
+    private int size = 0;
+    private boolean sorted = true;
+    private long cursor = -1;
+
+    /**
+     * Fetches one page of IDs.
+     */
+    public interface Pager {
+        /**
+         * @param cursor cursor of the page, -1 for the first page
+         * @return the page
+         * @throws TwitterException when the page could not be fetched
+         */
+        IDs page(long cursor) throws TwitterException;
+    }
+
+    private LongArrayIDs(boolean direct) {
+        this.direct = direct;
+    }
+
+    /**
+     * @return an empty store on the Java heap
+     */
+    public static LongArrayIDs allocate() {
+        return new LongArrayIDs(false);
+    }
+
+    /**
+     * @return an empty store in direct memory, which does not count against the Java heap
+     * @see ByteBuffer#allocateDirect(int)
+     */
+    public static LongArrayIDs allocateDirect() {
+        return new LongArrayIDs(true);
+    }
+
+    /**
+     * @param resources resources to fetch the pages with
+     * @param userId    the ID of the user
+     * @return pages of followers/ids of the user, 5000 IDs each
+     */
+    public static Pager followersIDs(final FriendsFollowersResources resources, final long userId) {
+        return new Pager() {
+            @Override
+            public IDs page(long cursor) throws TwitterException {
+                return resources.getFollowersIDs(userId, cursor, MAX_IDS_PER_PAGE);
+            }
+        };
+    }
+
+    /**
+     * @param resources resources to fetch the pages with
+     * @param userId    the ID of the user
+     * @return pages of friends/ids of the user, 5000 IDs each
+     */
+    public static Pager friendsIDs(final FriendsFollowersResources resources, final long userId) {
+        return new Pager() {
+            @Override
+            public IDs page(long cursor) throws TwitterException {
+                return resources.getFriendsIDs(userId, cursor, MAX_IDS_PER_PAGE);
+            }
+        };
+    }
+
+    /**
+     * Adds the IDs of all remaining pages, starting from the cursor following the last page added.
+     *
+     * @param pager pager fetching the pages
+     * @return this store
+     * @throws TwitterException when a page could not be fetched. Calling this method again resumes from that page.
+     */
+    public LongArrayIDs addAllPages(Pager pager) throws TwitterException {
+        while (hasNextPage()) {
+            IDs page = pager.page(cursor);
+            addAll(page.getIDs());
+            cursor = page.getNextCursor();
+        }
+        return this;
+    }
+
+    /**
+     * @return false once {@link #addAllPages(Pager)} has added the last page
+     */
+    public boolean hasNextPage() {
+        return cursor != 0;
+    }
+
+    /**
+     * @return the cursor of the next page {@link #addAllPages(Pager)} will fetch
+     */
+    public long getNextCursor() {
+        return cursor;
+    }
+
+    public LongArrayIDs add(long id) {
+        int offset = size & CHUNK_MASK;
+        int chunk = size >>> CHUNK_SHIFT;
+        if (chunk == chunks.length || offset == chunks[chunk].capacity()) {
+            grow();
+        }
+        if (sorted && size > 0 && get(size - 1) >= id) {
+            sorted = false;
+        }
+        chunks[chunk].put(offset, id);
+        size++;
+        return this;
+    }
+
+    public LongArrayIDs addAll(long[] ids) {
+        for (long id : ids) {
+            add(id);
+        }
+        return this;
+    }
+
+    private void grow() {
+        int chunk = size >>> CHUNK_SHIFT;
+        if (chunk == 0) {
+            // the first chunk grows from a small capacity, so that small stores stay small
+            int capacity = chunks.length == 0 ? 1024 : Math.min(chunks[0].capacity() * 2, CHUNK_SIZE);
+            LongBuffer grown = newChunk(capacity);
+            for (int i = 0; i < size; i++) {
+                grown.put(i, chunks[0].get(i));
+            }
+            chunks = new LongBuffer[]{grown};
+        } else {
+            chunks = Arrays.copyOf(chunks, chunk + 1);
+            chunks[chunk] = newChunk(CHUNK_SIZE);
+        }
+    }
+
+    private LongBuffer newChunk(int capacity) {
+        if (direct) {
+            return ByteBuffer.allocateDirect(capacity * 8).order(ByteOrder.nativeOrder()).asLongBuffer();
+        }
+        return LongBuffer.allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long get(int index) {
+        if (index < 0 || size <= index) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return chunks[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK);
+    }
+
+    private void set(int index, long id) {
+        chunks[index >>> CHUNK_SHIFT].put(index & CHUNK_MASK, id);
+    }
+
+    public long[] toArray() {
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = get(i);
+        }
+        return ids;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * @return true if the IDs are in ascending order without duplicates
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Sorts the IDs in ascending order and removes duplicates, in place.
+     *
+     * @return this store
+     */
+    public LongArrayIDs sort() {
+        if (!sorted) {
+            quickSort(0, size - 1, 2 * (32 - Integer.numberOfLeadingZeros(size)));
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                long id = get(i);
+                if (unique == 0 || get(unique - 1) != id) {
+                    set(unique++, id);
+                }
+            }
+            size = unique;
+            sorted = true;
+        }
+        return this;
+    }
+
+    // introsort: quicksort falling back to heapsort when partitioning goes badly
+    private void quickSort(int low, int high, int depth) {
+        while (high - low > 16) {
+            if (depth-- == 0) {
+                heapSort(low, high);
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            if (get(middle) < get(low)) swap(middle, low);
+            if (get(high) < get(low)) swap(high, low);
+            if (get(high) < get(middle)) swap(high, middle);
+            long pivot = get(middle);
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (get(i) < pivot) i++;
+                while (pivot < get(j)) j--;
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            // recurse into the smaller partition to bound the stack depth
+            if (j - low < high - i) {
+                quickSort(low, j, depth);
+                low = i;
+            } else {
+                quickSort(i, high, depth);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            long id = get(i);
+            int j = i - 1;
+            for (; j >= low && get(j) > id; j--) {
+                set(j + 1, get(j));
+            }
+            set(j + 1, id);
+        }
+    }
+
+    private void heapSort(int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(low, low + end);
+            siftDown(low, 0, end);
+        }
+    }
+
+    private void siftDown(int low, int root, int n) {
+        while (2 * root + 1 < n) {
+            int child = 2 * root + 1;
+            if (child + 1 < n && get(low + child) < get(low + child + 1)) {
+                child++;
+            }
+            if (get(low + root) >= get(low + child)) {
+                return;
+            }
+            swap(low + root, low + child);
+            root = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        long id = get(i);
+        set(i, get(j));
+        set(j, id);
+    }
+
+    /**
+     * @param id ID to look for
+     * @return true if the store contains the ID. Binary search if the store is sorted, linear search otherwise.
+     */
+    public boolean contains(long id) {
+        if (!sorted) {
+            for (int i = 0; i < size; i++) {
+                if (get(i) == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long value = get(middle);
+            if (value < id) {
+                low = middle + 1;
+            } else if (value > id) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param other sorted store
+     * @return a new sorted store of the IDs in both stores, e.g. followers two accounts have in common
+     * @throws IllegalStateException if either store is not sorted
+     */
+    public LongArrayIDs intersect(LongArrayIDs other) {
+        checkSorted(other);
+        LongArrayIDs result = new LongArrayIDs(direct);
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            long a = get(i);
+            long b = other.get(j);
+            if (a < b) {
+                i++;
+            } else if (b < a) {
+                j++;
+            } else {
+                result.add(a);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param other sorted store
+     * @return a new sorted store of the IDs in this store and not in the other, e.g. followers not followed back
+     * @throws IllegalStateException if either store is not sorted
+     */
+    public LongArrayIDs difference(LongArrayIDs other) {
+        checkSorted(other);
+        LongArrayIDs result = new LongArrayIDs(direct);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            long a = get(i);
+            while (j < other.size && other.get(j) < a) {
+                j++;
+            }
+            if (j == other.size || other.get(j) != a) {
+                result.add(a);
+            }
+        }
+        return result;
+    }
+
+    private void checkSorted(LongArrayIDs other) {
+        if (!sorted || !other.sorted) {
+            throw new IllegalStateException("set operations require sorted stores. call sort() first.");
+        }
+    }
+
+    /**
+     * Encodes the IDs in order, each as the zigzag varint of the difference from the previous one.
+     *
+     * @return the encoded IDs
+     * @see #fromCompressedBytes(byte[], boolean)
+     */
+    public byte[] toCompressedBytes() {
+        int length = varintLength(size);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            long id = get(i);
+            length += varintLength(zigzag(id - previous));
+            previous = id;
+        }
+        byte[] bytes = new byte[length];
+        int position = writeVarint(bytes, 0, size);
+        previous = 0;
+        for (int i = 0; i < size; i++) {
+            long id = get(i);
+            position = writeVarint(bytes, position, zigzag(id - previous));
+            previous = id;
+        }
+        return bytes;
+    }
+
+    /**
+     * @param compressed IDs encoded by {@link #toCompressedBytes()}
+     * @param direct     true to decode into direct memory
+     * @return the decoded store
+     * @throws IllegalArgumentException if the bytes are not encoded IDs
+     */
+    public static LongArrayIDs fromCompressedBytes(byte[] compressed, boolean direct) {
+        LongArrayIDs ids = new LongArrayIDs(direct);
+        long[] value = new long[1];
+        int position = readVarint(compressed, 0, value);
+        long count = value[0];
+        long previous = 0;
+        for (long i = 0; i < count; i++) {
+            position = readVarint(compressed, position, value);
+            previous += (value[0] >>> 1) ^ -(value[0] & 1);
+            ids.add(previous);
+        }
+        return ids;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int varintLength(long value) {
+        int length = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            length++;
+        }
+        return length;
+    }
+
+    private static int writeVarint(byte[] bytes, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+        return position;
+    }
+
+    private static int readVarint(byte[] bytes, int position, long[] value) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position == bytes.length) {
+                throw new IllegalArgumentException("truncated at " + position);
+            }
+            byte b = bytes[position++];
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                value[0] = result;
+                return position;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint at " + position);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongArrayIDs)) return false;
+
+        LongArrayIDs that = (LongArrayIDs) o;
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (get(i) != that.get(i)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            long id = get(i);
+            result = 31 * result + (int) (id ^ (id >>> 32));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "LongArrayIDs{" +
+                "size=" + size +
+                ", direct=" + direct +
+                ", sorted=" + sorted +
+                ", nextCursor=" + cursor +
+                '}';
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+import twitter4j.management.StreamDispatchStatistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class BoundedDispatcherTest {
+    private BoundedDispatcher dispatcher;
+    private final List<String> handled = Collections.synchronizedList(new ArrayList<String>());
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Object handler = new Object();
+
+    @AfterEach
+    void afterEach() {
+        release.countDown();
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    private BoundedDispatcher create(String policy) {
+        return new BoundedDispatcher(new ConfigurationBuilder()
+                .setAsyncNumThreads(1)
+                .setStreamDispatchQueueSize(2)
+                .setStreamDispatchOverflowPolicy(policy)
+                .setStreamDispatchDroppableTypes("status")
+                .build());
+    }
+
+    /**
+     * occupies the only dispatcher thread until the test releases it
+     */
+    private void stall() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        dispatcher.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ignore) {
+                }
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    private void awaitHandled(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (handled.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, handled.size(), handled.toString());
+    }
+
+    @Test
+    void testBlock() throws Exception {
+        dispatcher = create("block");
+        stall();
+        dispatcher.invokeLater(new TestEvent("status", "1"));
+        dispatcher.invokeLater(new TestEvent("status", "2"));
+        final CountDownLatch queued = new CountDownLatch(1);
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                dispatcher.invokeLater(new TestEvent("status", "3"));
+                queued.countDown();
+            }
+        };
+        reader.start();
+        // the buffer is full, the reader waits for room
+        assertEquals(false, queued.await(200, TimeUnit.MILLISECONDS));
+
+        long blockedReads = BoundedDispatcher.getStatistics().getBlockedReads();
+        release.countDown();
+        assertTrue(queued.await(5, TimeUnit.SECONDS));
+        awaitHandled(3);
+        assertEquals(Arrays.asList("1", "2", "3"), handled);
+        assertTrue(BoundedDispatcher.getStatistics().getBlockedReads() > blockedReads);
+    }
+
+    @Test
+    void testShutdownHookDrainsQueue() throws Exception {
+        dispatcher = create("block");
+        stall();
+        dispatcher.invokeLater(new TestEvent("status", "1"));
+        Thread hook = BoundedDispatcher.addShutdownHook(dispatcher);
+        try {
+            release.countDown();
+            // what the JVM does on exit
+            hook.run();
+            assertEquals(Arrays.asList("1"), handled);
+        } finally {
+            assertTrue(Runtime.getRuntime().removeShutdownHook(hook));
+        }
+    }
+
+    @Test
+    void testDropOldest() throws Exception {
+        dispatcher = create("drop_oldest");
+        stall();
+        long dropped = BoundedDispatcher.getStatistics().getDroppedEvents();
+        for (int i = 1; i <= 5; i++) {
+            dispatcher.invokeLater(new TestEvent("status", String.valueOf(i)));
+        }
+        assertEquals(3, BoundedDispatcher.getStatistics().getDroppedEvents() - dropped);
+        release.countDown();
+        awaitHandled(2);
+        assertEquals(Arrays.asList("4", "5"), handled);
+    }
+
+    @Test
+    void testDropOldestKeepsControlTasks() throws Exception {
+        dispatcher = create("drop_oldest");
+        stall();
+        dispatcher.invokeLater(new ControlTask("connect"));
+        dispatcher.invokeLater(new TestEvent("status", "1"));
+        // the oldest event is dropped, not the control task ahead of it
+        dispatcher.invokeLater(new TestEvent("status", "2"));
+        final CountDownLatch queued = new CountDownLatch(1);
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                // control tasks wait for room
+                dispatcher.invokeLater(new ControlTask("cleanUp"));
+                queued.countDown();
+            }
+        };
+        reader.start();
+        assertEquals(false, queued.await(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(queued.await(5, TimeUnit.SECONDS));
+        awaitHandled(3);
+        assertEquals(Arrays.asList("connect", "2", "cleanUp"), handled);
+    }
+
+    @Test
+    void testDropType() throws Exception {
+        dispatcher = create("DROP_TYPE");
+        stall();
+        dispatcher.invokeLater(new TestEvent("status", "1"));
+        dispatcher.invokeLater(new TestEvent("delete", "2"));
+        // statuses are dropped while the buffer is full
+        dispatcher.invokeLater(new TestEvent("status", "3"));
+        final CountDownLatch queued = new CountDownLatch(1);
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                // other types wait for room
+                dispatcher.invokeLater(new TestEvent("limit", "4"));
+                queued.countDown();
+            }
+        };
+        reader.start();
+        assertEquals(false, queued.await(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(queued.await(5, TimeUnit.SECONDS));
+        awaitHandled(3);
+        assertEquals(Arrays.asList("1", "2", "4"), handled);
+    }
+
+    @Test
+    void testSpill() throws Exception {
+        dispatcher = create("spill");
+        stall();
+        StreamDispatchStatistics statistics = BoundedDispatcher.getStatistics();
+        long spilled = statistics.getSpilledEvents();
+        for (int i = 1; i <= 6; i++) {
+            dispatcher.invokeLater(new TestEvent("status", "{\"text\":\"あ " + i + "\"}"));
+        }
+        assertEquals(4, statistics.getSpilledEvents() - spilled);
+        assertEquals(4, statistics.getSpillDepth());
+        release.countDown();
+        awaitHandled(6);
+        for (int i = 1; i <= 6; i++) {
+            assertEquals("{\"text\":\"あ " + i + "\"}", handled.get(i - 1));
+        }
+        assertEquals(0, statistics.getSpillDepth());
+    }
+
+    @Test
+    void testShutdownRunsQueuedTasks() throws Exception {
+        dispatcher = create("block");
+        dispatcher.invokeLater(new TestEvent("status", "1"));
+        dispatcher.invokeLater(new TestEvent("status", "2"));
+        dispatcher.shutdown();
+        assertEquals(Arrays.asList("1", "2"), handled);
+        try {
+            dispatcher.invokeLater(new TestEvent("status", "3"));
+            fail("expecting RejectedExecutionException");
+        } catch (RejectedExecutionException expected) {
+        }
+        dispatcher = null;
+    }
+
+    private final class ControlTask implements Runnable {
+        private final String name;
+
+        ControlTask(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void run() {
+            handled.add(name);
+        }
+    }
+
+    private final class TestEvent implements BoundedDispatcher.Event {
+        private final String type;
+        private final String message;
+
+        TestEvent(String type, String message) {
+            this.type = type;
+            this.message = message;
+        }
+
+        @Override
+        public void run() {
+            handled.add(message);
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public Object getHandler() {
+            return handler;
+        }
+
+        @Override
+        public BoundedDispatcher.Event withMessage(String message) {
+            return new TestEvent(type, message);
+        }
+    }
+}
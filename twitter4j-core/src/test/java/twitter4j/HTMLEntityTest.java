@@ -20,6 +20,8 @@ import org.junit.jupiter.api.Test;
 import twitter4j.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class HTMLEntityTest {
 
@@ -261,4 +263,37 @@ class HTMLEntityTest {
 		assertEquals("#🇧hutan", actualText.substring(bhutanHashtag.getStart(), bhutanHashtag.getEnd()));
 		assertEquals("#Maldi🇻es", actualText.substring(maldivesHashtag.getStart(), maldivesHashtag.getEnd()));
 	}
+
+    @Test
+    void testUnescapeReturnsTextWithoutReferencesAsIs() {
+        String original = "no references here \u307b\u3052";
+        assertSame(original, HTMLEntity.unescape(original));
+        assertNull(HTMLEntity.unescape((String) null));
+
+        HashtagEntityJSONImpl hashtag = new HashtagEntityJSONImpl(3, 8, "test");
+        assertSame(original, HTMLEntity.unescapeAndSlideEntityIncdices(original, null, null, new HashtagEntity[]{hashtag}, null));
+        assertEquals(3, hashtag.getStart());
+        assertEquals(8, hashtag.getEnd());
+    }
+
+    @Test
+    void testUnescapeNumericReferences() {
+        assertEquals("<\u00A0\u20AC&#x3c;&#99999;", HTMLEntity.unescape("&#60;&#160;&#8364;&#x3c;&#99999;"));
+        // truncated and unterminated references are left alone
+        assertEquals("a &lt", HTMLEntity.unescape("a &lt"));
+        assertEquals("&thereisnosuchentityreference;", HTMLEntity.unescape("&thereisnosuchentityreference;"));
+    }
+
+    @Test
+    void testUnescapeAndSlideEntityIncdicesWithAdjacentEntities() {
+        String textFromTwitterAPI = "&lt;#a#b&gt;";
+        HashtagEntityJSONImpl a = new HashtagEntityJSONImpl(4, 6, "a");
+        HashtagEntityJSONImpl b = new HashtagEntityJSONImpl(6, 8, "b");
+
+        String actualText = HTMLEntity.unescapeAndSlideEntityIncdices(textFromTwitterAPI, null, null, new HashtagEntity[]{a, b}, null);
+
+        assertEquals("<#a#b>", actualText);
+        assertEquals("#a", actualText.substring(a.getStart(), a.getEnd()));
+        assertEquals("#b", actualText.substring(b.getStart(), b.getEnd()));
+    }
 }
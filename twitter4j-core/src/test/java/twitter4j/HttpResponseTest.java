@@ -0,0 +1,150 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpResponseTest {
+    @Test
+    void testParseJSONObjectInPlace() throws Exception {
+        HttpResponse res = new MockHttpResponse("{\"text\":\"café あ\",\"id\":1}");
+        JSONObject json = res.asJSONObject();
+        assertEquals("café あ", json.getString("text"));
+        assertEquals(1, json.getLong("id"));
+        assertSame(json, res.asJSONObject());
+        // the body can still be retrieved as a string after being parsed in place
+        assertEquals("café あ", new JSONObject(res.asString()).getString("text"));
+    }
+
+    @Test
+    void testParseLargeJSONArrayInPlace() throws Exception {
+        StringBuilder body = new StringBuilder("﻿[");
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":").append(i).append(",\"name\":\"あ\\u3044").append(i).append("\"}");
+        }
+        body.append(']');
+        // twice on the same thread, so that the second response reuses the buffers of the first one
+        for (int round = 0; round < 2; round++) {
+            JSONArray array = new MockHttpResponse(body.toString()).asJSONArray();
+            assertEquals(10000, array.length());
+            assertEquals(9999, array.getJSONObject(9999).getInt("id"));
+            assertEquals("あい9999", array.getJSONObject(9999).getString("name"));
+        }
+    }
+
+    @Test
+    void testMalformedBodyIsReported() throws Exception {
+        HttpResponse res = new MockHttpResponse("<html>Over capacity</html>");
+        try {
+            res.asJSONObject();
+            fail("should fail");
+        } catch (TwitterException te) {
+            assertEquals("<html>Over capacity</html>", res.asString().trim());
+        }
+    }
+
+    @Test
+    void testBodyFillingTheSizeHintIsNotCopied() throws Exception {
+        ResponseBodyBuffer threadBuffer = ResponseBodyBuffer.acquire();
+        // a new buffer, as the thread's buffer may have been grown by other tests
+        ResponseBodyBuffer buffer = ResponseBodyBuffer.acquire();
+        try {
+            byte[] body = new byte[10000];
+            assertEquals(body.length, buffer.readBytes(new ByteArrayInputStream(body), body.length));
+            assertEquals(body.length, buffer.getBytes().length);
+            // a body longer than the hint still grows the buffer
+            body[body.length - 1] = 'x';
+            byte[] longer = new byte[body.length + 1];
+            System.arraycopy(body, 0, longer, 0, body.length);
+            assertEquals(longer.length, buffer.readBytes(new ByteArrayInputStream(longer), body.length));
+            assertEquals('x', buffer.getBytes()[body.length - 1]);
+        } finally {
+            buffer.release();
+            threadBuffer.release();
+        }
+    }
+
+    /**
+     * Response with a canned status, headers and body, shared by the tests of the package.
+     */
+    static class MockHttpResponse extends HttpResponse {
+        private final Map<String, List<String>> headers = new HashMap<String, List<String>>();
+
+        MockHttpResponse(String body) {
+            this(200, body);
+        }
+
+        /**
+         * @param statusCode status code
+         * @param body       body, or null
+         * @param headers    header names and values, alternately
+         */
+        MockHttpResponse(int statusCode, String body, String... headers) {
+            super(new ConfigurationBuilder().build().getHttpClientConfiguration());
+            this.statusCode = statusCode;
+            if (body != null) {
+                this.is = new ByteArrayInputStream(body.getBytes(Charset.forName("UTF-8")));
+            }
+            for (int i = 0; i < headers.length; i += 2) {
+                header(headers[i], headers[i + 1]);
+            }
+        }
+
+        /**
+         * Adds a response header.
+         *
+         * @return this instance
+         */
+        MockHttpResponse header(String name, String value) {
+            List<String> values = headers.get(name);
+            if (values == null) {
+                values = new ArrayList<String>(1);
+                headers.put(name, values);
+            }
+            values.add(value);
+            return this;
+        }
+
+        @Override
+        public String getResponseHeader(String name) {
+            List<String> values = headers.get(name);
+            return values != null ? values.get(0) : null;
+        }
+
+        @Override
+        public Map<String, List<String>> getResponseHeaderFields() {
+            return headers;
+        }
+
+        @Override
+        public void disconnect() {
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class IDsJSONImplTest {
+    private static final String IDS = "{\"ids\":[657693,183709371,7588892,38895958,0,-1,\"12345\"],"
+            + "\"next_cursor\":1305102810874389703,\"next_cursor_str\":\"1305102810874389703\",\"previous_cursor\":0,\"previous_cursor_str\":\"0\"}";
+    private static final long[] EXPECTED = {657693L, 183709371L, 7588892L, 38895958L, 0L, -1L, 12345L};
+
+    @Test
+    void testTreeAndStreamingBindingAgree() throws Exception {
+        IDs tree = new IDsJSONImpl(IDS);
+        assertArrayEquals(EXPECTED, tree.getIDs());
+        assertEquals(1305102810874389703L, tree.getNextCursor());
+        assertEquals(0L, tree.getPreviousCursor());
+
+        IDs streaming = new JSONImplFactory(new ConfigurationBuilder().setJSONStreamingParserEnabled(true).build())
+                .createIDs(new HttpResponseTest.MockHttpResponse(IDS));
+        assertEquals(tree, streaming);
+        assertEquals(1305102810874389703L, streaming.getNextCursor());
+        assertEquals(0L, streaming.getPreviousCursor());
+        assertTrue(streaming.hasNext());
+    }
+
+    @Test
+    void testLargePage() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        long[] expected = new long[5000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = 1050118621198921728L + i;
+            json.append(i == 0 ? "" : ",").append(expected[i]);
+        }
+        json.append("]");
+        assertArrayEquals(expected, new IDsJSONImpl(json.toString()).getIDs());
+        assertArrayEquals(expected, new JSONImplFactory(new ConfigurationBuilder().setJSONStreamingParserEnabled(true).build())
+                .createIDs(new HttpResponseTest.MockHttpResponse(json.toString())).getIDs());
+    }
+
+    @Test
+    void testMalformedID() throws Exception {
+        try {
+            new IDsJSONImpl("[1,\"two\"]");
+            fail("expecting TwitterException");
+        } catch (TwitterException expected) {
+            assertTrue(expected.getMessage().contains("malformed"));
+        }
+    }
+
+    @Test
+    void testTokenerNumbers() throws Exception {
+        JSONArray numbers = new JSONArray("[0,-0,7,-2147483648,2147483648,1050118621198921728,-1050118621198921728,"
+                + "9223372036854775807,99999999999999999999,012,0x1F,1.5,2e3,-7]");
+        Object[] expected = {0, 0, 7, Integer.MIN_VALUE, 2147483648L, 1050118621198921728L, -1050118621198921728L,
+                Long.MAX_VALUE, 1e20, 10, 31, 1.5, 2000.0, -7};
+        assertEquals(expected.length, numbers.length());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], numbers.get(i), String.valueOf(i));
+        }
+        assertEquals(1050118621198921728L, numbers.getLong(5));
+        assertEquals(7, numbers.getInt(2));
+        assertEquals(1.5, numbers.getDouble(11));
+        JSONObject json = new JSONObject("{\"count\":100,\"id\":1050118621198921728,\"ratio\":0.5,\"flag\":true,\"plus\":\"100+\"}");
+        assertEquals(100, ParseUtil.getInt("count", json));
+        assertEquals(1050118621198921728L, ParseUtil.getLong("id", json));
+        assertEquals(-1, ParseUtil.getInt("id", json));
+        assertEquals(0.5, ParseUtil.getDouble("ratio", json));
+        assertTrue(ParseUtil.getBoolean("flag", json));
+        assertEquals(101, ParseUtil.getLong("plus", json));
+        assertEquals(-1, ParseUtil.getLong("missing", json));
+    }
+}
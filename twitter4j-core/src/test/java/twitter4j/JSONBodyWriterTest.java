@@ -0,0 +1,149 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class JSONBodyWriterTest {
+
+    @Test
+    void testWriteNested() throws Exception {
+        JSONBodyWriter writer = JSONBodyWriter.acquire();
+        try {
+            writer.object()
+                    .key("id").value(-9223372036854775808L)
+                    .key("count").value(0L)
+                    .key("truncated").value(false)
+                    .key("text").value("\"quoted\" \\ / \t\n\u0001")
+                    .key("empty").array().endArray()
+                    .key("nested").object().key("ids").array().value(1L).value(1234567890123L).endArray().endObject()
+                    .key("none").value((String) null)
+                    .endObject();
+            JSONObject json = new JSONObject(writer.toString());
+            assertEquals(Long.MIN_VALUE, json.getLong("id"));
+            assertEquals(0, json.getLong("count"));
+            assertEquals(false, json.getBoolean("truncated"));
+            assertEquals("\"quoted\" \\ / \t\n\u0001", json.getString("text"));
+            assertEquals(0, json.getJSONArray("empty").length());
+            assertEquals(1234567890123L, json.getJSONObject("nested").getJSONArray("ids").getLong(1));
+            assertEquals(true, json.isNull("none"));
+            assertEquals(writer.length(), writer.toByteArray().length);
+        } finally {
+            writer.release();
+        }
+    }
+
+    @Test
+    void testUTF8() throws Exception {
+        String text = "café 日本語 😀";
+        JSONBodyWriter writer = JSONBodyWriter.acquire();
+        try {
+            writer.array().value(text).endArray();
+            assertArrayEquals(("[\"" + text + "\"]").getBytes("UTF-8"), writer.toByteArray());
+            assertEquals(text, new JSONArray(writer.toString()).getString(0));
+        } finally {
+            writer.release();
+        }
+    }
+
+    @Test
+    void testWriteJSONObject() throws Exception {
+        JSONObject source = new JSONObject("{\"event\":{\"type\":\"message_create\",\"message_create\":{\"target\":{\"recipient_id\":\"12\"},"
+                + "\"message_data\":{\"text\":\"hi\",\"options\":[{\"label\":\"a\"},1,true]}}}}");
+        JSONBodyWriter writer = JSONBodyWriter.acquire();
+        try {
+            writer.value(source);
+            assertEquals(source.toString(), new JSONObject(writer.toString()).toString());
+        } finally {
+            writer.release();
+        }
+    }
+
+    @Test
+    void testGrowsAndReuses() throws Exception {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            buf.append('x');
+        }
+        JSONBodyWriter writer = JSONBodyWriter.acquire();
+        assertNotSame(writer, JSONBodyWriter.acquire());
+        writer.object().key("text").value(buf.toString()).endObject();
+        assertEquals(buf.toString(), new JSONObject(writer.toString()).getString("text"));
+        writer.release();
+
+        assertSame(writer, JSONBodyWriter.acquire());
+        assertEquals(0, writer.length());
+        writer.array().endArray();
+        assertEquals("[]", writer.toString());
+        writer.release();
+    }
+
+    @Test
+    void testMalformed() throws Exception {
+        JSONBodyWriter writer = new JSONBodyWriter();
+        writer.value("top-level string");
+        try {
+            writer.array();
+            fail("expecting JSONException");
+        } catch (JSONException expected) {
+        }
+
+        writer = new JSONBodyWriter();
+        writer.object();
+        try {
+            writer.value(1L);
+            fail("expecting JSONException");
+        } catch (JSONException expected) {
+        }
+        try {
+            writer.endArray();
+            fail("expecting JSONException");
+        } catch (JSONException expected) {
+        }
+        writer.key("a").value(1L).endObject();
+        try {
+            writer.object();
+            fail("expecting JSONException");
+        } catch (JSONException expected) {
+        }
+        assertEquals("{\"a\":1}", writer.toString());
+    }
+
+    @Test
+    void testHttpParameterBody() throws Exception {
+        HttpParameter param = new HttpParameter(new JSONBodyWriter.Body() {
+            @Override
+            public void writeTo(JSONBodyWriter writer) throws JSONException {
+                writer.object().key("recipient_id").value(12L).endObject();
+            }
+        });
+        assertEquals(true, HttpParameter.containsJson(new HttpParameter[]{param}));
+        JSONBodyWriter writer = JSONBodyWriter.acquire();
+        try {
+            param.writeJSON(writer);
+            assertEquals("{\"recipient_id\":12}", writer.toString());
+        } finally {
+            writer.release();
+        }
+    }
+}
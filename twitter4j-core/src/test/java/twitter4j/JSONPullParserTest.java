@@ -0,0 +1,173 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.UnsupportedEncodingException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class JSONPullParserTest {
+    private static final String USER = ("{'id':6253282,'id_str':'6253282','name':'Twitter API','screen_name':'twitterapi'," +
+            "'location':'San Francisco, CA','description':'Docs at https://t.co/abc &amp; more','url':'https://t.co/xyz'," +
+            "'entities':{'url':{'urls':[{'url':'https://t.co/xyz','expanded_url':null,'indices':[0,15]}]}," +
+            "'description':{'urls':[{'url':'https://t.co/abc','expanded_url':'https://dev.twitter.com','display_url':'dev.twitter.com','indices':[8,24]}]}}," +
+            "'protected':false,'followers_count':1533137,'friends_count':33,'listed_count':11369,'created_at':'Wed May 23 06:01:13 +0000 2007'," +
+            "'favourites_count':25,'utc_offset':null,'time_zone':'Pacific Time (US & Canada)','geo_enabled':true,'verified':true," +
+            "'statuses_count':'3392','lang':'en','contributors_enabled':true,'is_translator':false,'profile_background_color':'C0DEED'," +
+            "'profile_image_url_https':'https://si0.twimg.com/profile_images/7df3h38zabcvjylnyfe3_normal.png','profile_background_tile':true," +
+            "'default_profile':false,'following':null,'follow_request_sent':false,'withheld_in_countries':['DE','FR']}").replace('\'', '"');
+
+    private static final String STATUS = ("{'created_at':'Mon Mar 11 19:37:00 +0000 2013','id':311199093852618752,'id_str':'311199093852618752'," +
+            "'full_text':'@anywhere \\u00e9t\\u00e9 \\ud83d\\ude00 &lt;3 #t4j $TWTR https://t.co/BrLLpVyuCe https://t.co/media','display_text_range':[0,52]," +
+            "'source':'<a href=\\'http://twitter.com\\' rel=\\'nofollow\\'>web</a>','truncated':false,'in_reply_to_status_id':null," +
+            "'in_reply_to_user_id':9576402,'in_reply_to_screen_name':'anywhere','user':" + USER + ",'geo':null," +
+            "'coordinates':{'type':'Point','coordinates':[0.70928444,52.25604116]}," +
+            "'place':{'id':'55c6bcd3013a0607','bounding_box':{'type':'Polygon','coordinates':[[[0.38178,52.055592],[0.38178,52.400796],[0.967452,52.400796],[0.967452,52.055592]]]}," +
+            "'place_type':'city','name':'St. Edmundsbury','country_code':'GB','url':'http://api.twitter.com/1/geo/id/55c6bcd3013a0607.json','country':'United Kingdom','full_name':'St. Edmundsbury, Suffolk'}," +
+            "'contributors':[819797],'retweet_count':131,'favorite_count':'12','unknown':{'nested':[1,2.5e3,{'a':[true,false,null]}],'s':'\\\"}]'}," +
+            "'extended_entities':{'media':[{'id':1,'id_str':'1','media_url':'http://pbs.twimg.com/media/x.jpg','media_url_https':'https://pbs.twimg.com/media/x.jpg'," +
+            "'url':'https://t.co/media','display_url':'pic.twitter.com/x','expanded_url':'https://twitter.com/x/photo/1','type':'photo','indices':[56,75]," +
+            "'sizes':{'thumb':{'w':150,'h':150,'resize':'crop'}}}]}," +
+            "'entities':{'hashtags':[{'text':'t4j','indices':[20,24]}],'symbols':[{'text':'TWTR','indices':[25,30]}]," +
+            "'urls':[{'url':'https://t.co/BrLLpVyuCe','expanded_url':'https://dev.twitter.com/docs','display_url':'dev.twitter.com/docs','indices':[31,54]}]," +
+            "'user_mentions':[{'screen_name':'anywhere','name':'Anywhere','id':9576402,'id_str':'9576402','indices':[0,9]}]}," +
+            "'current_user_retweet':{'id':26815871309,'id_str':'26815871309'},'scopes':{'place_ids':['55c6bcd3013a0607']}," +
+            "'quoted_status_id':309090333021581313,'quoted_status':{'id':309090333021581313,'text':'quoted &amp; escaped','user':" + USER + "}," +
+            "'retweeted_status':{'id':1,'text':'retweeted','entities':null,'user':null},'withheld_in_countries':['XY']," +
+            "'favorited':false,'retweeted':true,'possibly_sensitive':false,'lang':'en'}").replace('\'', '"');
+
+    @Test
+    void testReadsValues() throws Exception {
+        JSONPullParser parser = parser("{\"s\":\"a\\\"b\\\\c\\/\\n\\u00e9\\ud83d\\ude00\u3042\",\"n\":-12.5e1,\"l\":123456789012," +
+                "\"b\":true,\"z\":null,\"o\":{\"x\":[1,{\"y\":\"}\"}]},\"a\":[1,2]}");
+        parser.beginObject();
+        assertTrue(parser.hasNext());
+        assertEquals("s", parser.nextName());
+        assertEquals("a\"b\\c/\n\u00e9\ud83d\ude00\u3042", parser.nextString());
+        assertTrue(parser.hasNext());
+        String name = parser.nextName();
+        assertSame("n", name);
+        assertEquals(JSONPullParser.NUMBER, parser.peek());
+        assertEquals(-125.0, parser.nextDouble(), 0.0001);
+        parser.hasNext();
+        assertEquals("l", parser.nextName());
+        assertEquals(123456789012L, parser.nextLong());
+        parser.hasNext();
+        assertEquals("b", parser.nextName());
+        assertTrue(parser.nextBoolean());
+        parser.hasNext();
+        assertEquals("z", parser.nextName());
+        assertEquals(-1, parser.nextInt());
+        parser.hasNext();
+        assertEquals("o", parser.nextName());
+        parser.skipValue();
+        parser.hasNext();
+        assertEquals("a", parser.nextName());
+        assertEquals("[1,2]", parser.nextJSONArray().toString());
+        assertFalse(parser.hasNext());
+        parser.endObject();
+        assertEquals(JSONPullParser.END_DOCUMENT, parser.peek());
+    }
+
+    @Test
+    void testReportsSyntaxErrors() throws Exception {
+        JSONPullParser parser = parser("{\"unterminated");
+        parser.beginObject();
+        parser.hasNext();
+        try {
+            parser.nextName();
+            fail("should throw JSONException");
+        } catch (JSONException expected) {
+        }
+    }
+
+    @Test
+    void testBindsStatusesAsTheTreeDoes() throws Exception {
+        StatusJSONImpl expected = new StatusJSONImpl(new JSONObject(STATUS));
+        StatusJSONImpl actual = new StatusJSONImpl(parser(STATUS));
+        assertEquals(describe(expected), describe(actual));
+        assertEquals(expected.getQuotedStatus().toString(), actual.getQuotedStatus().toString());
+        assertEquals(expected.getRetweetedStatus().toString(), actual.getRetweetedStatus().toString());
+        assertEquals(expected.getUser().getDescription(), actual.getUser().getDescription());
+        assertEquals(expected.getUser().getDescriptionURLEntities()[0].getStart(), actual.getUser().getDescriptionURLEntities()[0].getStart());
+        assertEquals("@anywhere \u00e9t\u00e9 \ud83d\ude00 <3 #t4j $TWTR https://t.co/BrLLpVyuCe https://t.co/media", actual.getText());
+        assertEquals(26815871309L, actual.getCurrentUserRetweetId());
+        assertEquals(-1, actual.getInReplyToStatusId());
+        assertEquals(12, actual.getFavoriteCount());
+        assertEquals(-1, actual.getUser().getUtcOffset());
+        assertEquals(3392, actual.getUser().getStatusesCount());
+    }
+
+    @Test
+    void testBindsResponsesWhenEnabled() throws Exception {
+        ObjectFactory factory = new JSONImplFactory(new ConfigurationBuilder().setJSONStreamingParserEnabled(true).build());
+        ResponseList<Status> statuses = factory.createStatusList(response("[" + STATUS + "," + STATUS + "]"));
+        assertEquals(2, statuses.size());
+        assertEquals(describe(new StatusJSONImpl(new JSONObject(STATUS))), describe(statuses.get(1)));
+
+        PagableResponseList<User> users = factory.createPagableUserList(response(
+                "{\"previous_cursor\":0,\"users\":[" + USER + "],\"next_cursor\":1489467234237774933}"));
+        assertEquals(1, users.size());
+        assertEquals(new UserJSONImpl(new JSONObject(USER)).toString(), users.get(0).toString());
+        assertFalse(users.hasPrevious());
+        assertEquals(1489467234237774933L, users.getNextCursor());
+
+        User user = factory.createUser(response(USER));
+        assertEquals("twitterapi", user.getScreenName());
+    }
+
+    @Test
+    void testFallsBackToTheTreeWithJSONStore() throws Exception {
+        ObjectFactory factory = new JSONImplFactory(new ConfigurationBuilder().setJSONStreamingParserEnabled(true)
+                .setJSONStoreEnabled(true).build());
+        Status status = factory.createStatus(response(STATUS));
+        assertNotNull(TwitterObjectFactory.getRawJSON(status));
+    }
+
+    @Test
+    void testMalformedResponseFails() throws Exception {
+        ObjectFactory factory = new JSONImplFactory(new ConfigurationBuilder().setJSONStreamingParserEnabled(true).build());
+        try {
+            factory.createStatus(response("{\"id\":1,\"user\":{\"id\":"));
+            fail("should throw TwitterException");
+        } catch (TwitterException te) {
+            assertTrue(te.getCause() instanceof JSONException);
+        }
+    }
+
+    // drops the identity hashes of arrays in toString()
+    private static String describe(Object object) {
+        return object.toString().replaceAll(";@[0-9a-f]+", ";");
+    }
+
+    private static JSONPullParser parser(String json) throws UnsupportedEncodingException {
+        byte[] bytes = json.getBytes("UTF-8");
+        return new JSONPullParser(bytes, 0, bytes.length);
+    }
+
+    private static HttpResponse response(String body) throws UnsupportedEncodingException {
+        return new HttpResponseTest.MockHttpResponse(body);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the chunked media upload against an in-process server emulating media/upload.json.
+ */
+class MediaUploadTest {
+    private HttpServer server;
+    private ExecutorService executor;
+    private String base;
+    private final Map<Integer, byte[]> segments = new ConcurrentHashMap<Integer, byte[]>();
+    private final AtomicInteger concurrentAppends = new AtomicInteger();
+    private volatile int maxConcurrentAppends = 0;
+    private volatile long initTotalBytes = -1;
+    private volatile boolean finalized = false;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/1.1/media/upload.json", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                byte[] body = readFully(exchange.getRequestBody());
+                String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                String response;
+                if (contentType != null && contentType.startsWith("multipart/form-data")) {
+                    int concurrent = concurrentAppends.incrementAndGet();
+                    maxConcurrentAppends = Math.max(maxConcurrentAppends, concurrent);
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException ignore) {
+                    }
+                    String boundary = "--" + contentType.substring(contentType.indexOf("boundary=") + 9);
+                    int segmentIndex = Integer.parseInt(new String(part(body, boundary, "segment_index"), "UTF-8"));
+                    segments.put(segmentIndex, part(body, boundary, "media"));
+                    concurrentAppends.decrementAndGet();
+                    response = "";
+                } else {
+                    String params = new String(body, "UTF-8");
+                    if (params.contains("command=INIT")) {
+                        initTotalBytes = Long.parseLong(params.replaceAll(".*total_bytes=(\\d+).*", "$1"));
+                        response = "{\"media_id\":710511363345354753,\"media_id_string\":\"710511363345354753\"}";
+                    } else {
+                        finalized = true;
+                        response = "{\"media_id\":710511363345354753,\"size\":" + initTotalBytes
+                                + ",\"processing_info\":{\"state\":\"succeeded\"}}";
+                    }
+                }
+                byte[] bytes = response.getBytes("UTF-8");
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(bytes.length == 0 ? 204 : 200, bytes.length == 0 ? -1 : bytes.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(bytes);
+                out.close();
+            }
+        });
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+        base = "http://127.0.0.1:" + server.getAddress().getPort() + "/1.1/";
+    }
+
+    @AfterEach
+    void afterEach() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[8192];
+        int count;
+        while ((count = in.read(buf)) != -1) {
+            out.write(buf, 0, count);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return content of the named part of a multipart body
+     */
+    private static byte[] part(byte[] body, String boundary, String name) throws IOException {
+        String latin1 = new String(body, "ISO-8859-1");
+        int start = latin1.indexOf("name=\"" + name + "\"");
+        start = latin1.indexOf("\r\n\r\n", start) + 4;
+        int end = latin1.indexOf("\r\n" + boundary, start);
+        return Arrays.copyOfRange(body, start, end);
+    }
+
+    private Twitter twitter(int concurrency) {
+        return new TwitterFactory(new ConfigurationBuilder()
+                .setOAuthConsumerKey("consumerKey").setOAuthConsumerSecret("consumerSecret")
+                .setOAuthAccessToken("1-accessToken").setOAuthAccessTokenSecret("accessTokenSecret")
+                .setUploadBaseURL(base).setMediaUploadConcurrency(concurrency).build()).getInstance();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private byte[] reassemble() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < segments.size(); i++) {
+            byte[] segment = segments.get(i);
+            assertNotNull(segment, "missing segment " + i);
+            out.write(segment, 0, segment.length);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void testChunkedUploadFromFile() throws Exception {
+        byte[] media = randomBytes(5 * 1024 * 1024 + 123);
+        File file = File.createTempFile("twitter4j-test", ".mp4");
+        try {
+            FileOutputStream out = new FileOutputStream(file);
+            out.write(media);
+            out.close();
+            UploadedMedia uploaded = twitter(3).uploadMediaChunked(file);
+            assertEquals(710511363345354753L, uploaded.getMediaId());
+            assertEquals(media.length, initTotalBytes);
+            assertEquals(3, segments.size());
+            assertArrayEquals(media, reassemble());
+            assertTrue(finalized);
+            assertTrue(maxConcurrentAppends > 1, "segments should be appended in parallel");
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    void testChunkedUploadFromStream() throws Exception {
+        byte[] media = randomBytes(2 * 1024 * 1024 + 1);
+        UploadedMedia uploaded = twitter(1).uploadMediaChunked("video.mp4", new ByteArrayInputStream(media));
+        assertEquals(710511363345354753L, uploaded.getMediaId());
+        assertEquals(media.length, initTotalBytes);
+        assertEquals(2, segments.size());
+        assertArrayEquals(media, reassemble());
+        assertEquals(1, maxConcurrentAppends);
+    }
+
+    @Test
+    void testMultipartBodyLength() throws Exception {
+        File file = File.createTempFile("twitter4j-test", ".jpg");
+        try {
+            FileOutputStream out = new FileOutputStream(file);
+            out.write(randomBytes(3000));
+            out.close();
+            HttpClientBase client = new HttpClientImpl();
+            String boundary = "----Twitter4J-upload1234";
+            HttpParameter[] params = new HttpParameter[]{new HttpParameter("command", "APPEND")
+                    , new HttpParameter("status", "あいう")
+                    , new HttpParameter("media", file)
+                    , new HttpParameter("media", "video.mp4", new ByteArrayInputStream(randomBytes(1234)))};
+            long expected = client.getMultipartBodyLength(boundary, params);
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            client.writeMultipartBody(new DataOutputStream(body), boundary, params);
+            assertEquals(body.size(), expected);
+
+            assertEquals(-1, client.getMultipartBodyLength(boundary, new HttpParameter[]{
+                    new HttpParameter("media", "video.mp4", new InputStream() {
+                        @Override
+                        public int read() {
+                            return -1;
+                        }
+                    })}));
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+}
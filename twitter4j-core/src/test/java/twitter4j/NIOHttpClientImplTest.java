@@ -0,0 +1,274 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+import twitter4j.management.ConnectionPoolStatistics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs NIOHttpClientImpl against a minimal in-process HTTP/1.1 server.
+ */
+class NIOHttpClientImplTest {
+    private ServerSocket serverSocket;
+    private final AtomicInteger accepted = new AtomicInteger();
+    private String base;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        serverSocket = new ServerSocket(0);
+        base = "http://127.0.0.1:" + serverSocket.getLocalPort();
+        Thread acceptor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (true) {
+                        final Socket socket = serverSocket.accept();
+                        accepted.incrementAndGet();
+                        new Thread(new Runnable() {
+                            @Override
+                            public void run() {
+                                serve(socket);
+                            }
+                        }).start();
+                    }
+                } catch (IOException ignore) {
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        serverSocket.close();
+    }
+
+    private HttpClientConfiguration conf(int pipeliningDepth) {
+        return new ConfigurationBuilder().setGZIPEnabled(false)
+                .setHttpNIOPipeliningDepth(pipeliningDepth).build().getHttpClientConfiguration();
+    }
+
+    @Test
+    void testKeepAliveConnectionIsReused() throws Exception {
+        HttpClient client = new NIOHttpClientImpl(conf(1));
+        for (int i = 0; i < 5; i++) {
+            HttpResponse res = client.get(base + "/length?i=" + i);
+            assertEquals(200, res.getStatusCode());
+            assertEquals("{\"path\":\"/length?i=" + i + "\"}", res.asString().trim());
+            assertEquals("application/json", res.getResponseHeader("content-type"));
+        }
+        assertEquals(1, accepted.get());
+    }
+
+    @Test
+    void testIdleConnectionIsEvicted() throws Exception {
+        ConnectionPoolStatistics statistics = ConnectionPoolMonitor.getInstance().getStatistics();
+        long created = statistics.getCreatedConnections();
+        long reused = statistics.getReusedConnections();
+        long evicted = statistics.getEvictedConnections();
+        HttpClient client = new NIOHttpClientImpl(new ConfigurationBuilder().setGZIPEnabled(false)
+                .setHttpKeepAliveMillis(200).setHttpConnectionEvictionIntervalMillis(100)
+                .build().getHttpClientConfiguration());
+        client.get(base + "/length").asString();
+        client.get(base + "/length").asString();
+        assertEquals(1, accepted.get());
+        assertEquals(created + 1, statistics.getCreatedConnections());
+        assertEquals(reused + 1, statistics.getReusedConnections());
+        long deadline = System.currentTimeMillis() + 5000;
+        while (statistics.getEvictedConnections() == evicted && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(evicted + 1, statistics.getEvictedConnections());
+        client.get(base + "/length").asString();
+        assertEquals(2, accepted.get());
+    }
+
+    @Test
+    void testChunkedAndCloseDelimitedBodies() throws Exception {
+        HttpClient client = new NIOHttpClientImpl(conf(1));
+        assertEquals("[1,2,3]", client.get(base + "/chunked").asString().trim());
+        assertEquals("until close", client.get(base + "/close").asString().trim());
+        // the connection closed by the server is replaced transparently
+        assertEquals("[1,2,3]", client.get(base + "/chunked").asString().trim());
+        assertEquals(2, accepted.get());
+    }
+
+    @Test
+    void testPostBody() throws Exception {
+        HttpClient client = new NIOHttpClientImpl(conf(1));
+        HttpResponse res = client.post(base + "/echo", new HttpParameter[]{new HttpParameter("status", "hello world")}, null, null);
+        assertEquals("status=hello%20world", res.asString().trim());
+    }
+
+    @Test
+    void testErrorStatus() throws Exception {
+        HttpClient client = new NIOHttpClientImpl(conf(1));
+        try {
+            client.get(base + "/notfound");
+            fail("should throw");
+        } catch (TwitterException te) {
+            assertEquals(404, te.getStatusCode());
+        }
+        // connection is still usable afterwards
+        assertEquals("[1,2,3]", client.get(base + "/chunked").asString().trim());
+        assertEquals(1, accepted.get());
+    }
+
+    @Test
+    void testConcurrentPipelinedRequests() throws Exception {
+        final HttpClient client = new NIOHttpClientImpl(conf(8));
+        final int count = 40;
+        final CountDownLatch latch = new CountDownLatch(count);
+        final List<String> failures = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        String body = client.get(base + "/length?i=" + index).asString().trim();
+                        if (!body.equals("{\"path\":\"/length?i=" + index + "\"}")) {
+                            synchronized (failures) {
+                                failures.add(body);
+                            }
+                        }
+                    } catch (TwitterException te) {
+                        synchronized (failures) {
+                            failures.add(te.getMessage());
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                }
+            }).start();
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        assertEquals(0, failures.size(), failures.toString());
+        assertTrue(accepted.get() <= 16);
+    }
+
+    @Test
+    void testStreamingBody() throws Exception {
+        HttpClient client = new NIOHttpClientImpl(conf(1));
+        HttpResponse res = client.get(base + "/stream");
+        InputStream is = res.asStream();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        byte[] buf = new byte[8192];
+        int read;
+        while ((read = is.read(buf)) != -1) {
+            received.write(buf, 0, read);
+        }
+        // 4MB body larger than the back pressure threshold
+        assertEquals(4 * 1024 * 1024, received.size());
+        res.disconnect();
+    }
+
+    @Test
+    void testHostnameMatching() {
+        assertTrue(NIOHttpConnection.matchesHostname("api.twitter.com", "api.twitter.com"));
+        assertTrue(NIOHttpConnection.matchesHostname("api.twitter.com", "*.twitter.com"));
+        assertFalse(NIOHttpConnection.matchesHostname("twitter.com", "*.twitter.com"));
+        assertFalse(NIOHttpConnection.matchesHostname("a.b.twitter.com", "*.twitter.com"));
+        assertFalse(NIOHttpConnection.matchesHostname("api.twitter.com.evil.com", "api.twitter.com"));
+    }
+
+    private void serve(Socket socket) {
+        try {
+            InputStream in = socket.getInputStream();
+            OutputStream out = socket.getOutputStream();
+            while (true) {
+                String requestLine = readLine(in);
+                if (requestLine == null) {
+                    return;
+                }
+                int contentLength = 0;
+                String header;
+                while ((header = readLine(in)) != null && header.length() > 0) {
+                    if (header.toLowerCase().startsWith("content-length:")) {
+                        contentLength = Integer.parseInt(header.substring(15).trim());
+                    }
+                }
+                byte[] body = new byte[contentLength];
+                int offset = 0;
+                while (offset < contentLength) {
+                    offset += in.read(body, offset, contentLength - offset);
+                }
+                String path = requestLine.split(" ")[1];
+                if (path.startsWith("/length")) {
+                    byte[] json = ("{\"path\":\"" + path + "\"}").getBytes("UTF-8");
+                    out.write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: " + json.length + "\r\n\r\n").getBytes("UTF-8"));
+                    out.write(json);
+                } else if (path.equals("/chunked")) {
+                    out.write("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n3;ext=1\r\n[1,\r\n4\r\n2,3]\r\n0\r\nX-Trailer: t\r\n\r\n".getBytes("UTF-8"));
+                } else if (path.equals("/close")) {
+                    out.write("HTTP/1.1 200 OK\r\nConnection: close\r\n\r\nuntil close".getBytes("UTF-8"));
+                    out.flush();
+                    socket.close();
+                    return;
+                } else if (path.equals("/echo")) {
+                    out.write(("HTTP/1.1 200 OK\r\nContent-Length: " + body.length + "\r\n\r\n").getBytes("UTF-8"));
+                    out.write(body);
+                } else if (path.equals("/stream")) {
+                    out.write(("HTTP/1.1 200 OK\r\nContent-Length: " + (4 * 1024 * 1024) + "\r\n\r\n").getBytes("UTF-8"));
+                    byte[] chunk = new byte[1024];
+                    for (int i = 0; i < 4 * 1024; i++) {
+                        out.write(chunk);
+                    }
+                } else {
+                    out.write("HTTP/1.1 404 Not Found\r\nContent-Length: 9\r\n\r\nnot found".getBytes("UTF-8"));
+                }
+                out.flush();
+            }
+        } catch (IOException ignore) {
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') {
+                return line.toString().trim();
+            }
+            line.append((char) c);
+        }
+        return line.length() == 0 ? null : line.toString();
+    }
+}
@@ -19,9 +19,11 @@ package twitter4j;
 import org.junit.jupiter.api.Test;
 
 import java.text.SimpleDateFormat;
+import java.util.Locale;
 import java.util.TimeZone;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
 
 /**
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -47,4 +49,49 @@ class ParseUtilTest {
                 , sdf.format(ParseUtil.parseTrendsDate("2011-07-11T05:31:52Z")));
     }
 
+    @Test
+    void testDateParserAgreesWithSimpleDateFormat() throws Exception {
+        String[][] dates = {
+                {"EEE MMM d HH:mm:ss z yyyy", "Wed Oct 10 20:19:24 +0000 2018"},
+                {"EEE MMM d HH:mm:ss z yyyy", "Thu Feb 29 00:00:00 +0000 2024"},
+                {"EEE MMM d HH:mm:ss z yyyy", "Sat Jan 1 23:59:59 -0930 2000"},
+                {"EEE MMM dd HH:mm:ss z yyyy", "Tue Mar 21 20:50:14 +0000 2006"},
+                {"EEE MMM dd HH:mm:ss z yyyy", "Fri Dec 31 12:00:00 UTC 1999"},
+                {"yyyy-MM-dd'T'HH:mm:ss'Z'", "2011-07-11T05:31:52Z"},
+                {"EEE, d MMM yyyy HH:mm:ss z", "Mon, 11 Jul 2011 05:31:52 +0000"},
+                {"EEE, d MMM yyyy HH:mm:ss z", "Mon, 4 Jul 2011 05:31:52 GMT"},
+        };
+        for (String[] date : dates) {
+            assertEquals(parseWithSimpleDateFormat(date[1], date[0]), DateParser.parse(date[1], date[0]), date[1]);
+            // second time from the cache
+            assertEquals(parseWithSimpleDateFormat(date[1], date[0]), DateParser.parse(date[1], date[0]), date[1]);
+            assertEquals(parseWithSimpleDateFormat(date[1], date[0]), ParseUtil.getDate(date[1], date[0]).getTime(), date[1]);
+        }
+    }
+
+    @Test
+    void testUnsupportedDatesFallBackToSimpleDateFormat() throws Exception {
+        String[][] dates = {
+                // rolled over leniently by SimpleDateFormat
+                {"EEE MMM d HH:mm:ss z yyyy", "Wed Feb 30 20:19:24 +0000 2018"},
+                {"EEE MMM d HH:mm:ss z yyyy", "Wed Oct 10 24:19:24 +0000 2018"},
+                {"EEE MMM d HH:mm:ss z yyyy", "Wed Oct 10 20:19:24 PST 2018"},
+                {"yyyy-MM-dd HH:mm:ss", "2018-10-10 20:19:24"},
+        };
+        for (String[] date : dates) {
+            assertEquals(DateParser.UNPARSEABLE, DateParser.parse(date[1], date[0]), date[1]);
+            assertEquals(parseWithSimpleDateFormat(date[1], date[0]), ParseUtil.getDate(date[1], date[0]).getTime(), date[1]);
+        }
+        try {
+            ParseUtil.getDate("Wed Oct", "EEE MMM d HH:mm:ss z yyyy");
+            fail("expecting TwitterException");
+        } catch (TwitterException expected) {
+        }
+    }
+
+    private static long parseWithSimpleDateFormat(String date, String format) throws Exception {
+        SimpleDateFormat sdf = new SimpleDateFormat(format, Locale.US);
+        sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return sdf.parse(date).getTime();
+    }
 }
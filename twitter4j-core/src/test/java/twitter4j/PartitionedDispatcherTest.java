@@ -0,0 +1,121 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionedDispatcherTest {
+    private PartitionedDispatcher dispatcher;
+
+    @AfterEach
+    void afterEach() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void testTasksSharingKeyRunInOrder() throws Exception {
+        dispatcher = new PartitionedDispatcher(new ConfigurationBuilder()
+                .setAsyncNumThreads(4)
+                .setStreamDispatchQueueSize(64)
+                .build());
+        final int keys = 16;
+        final int tasksPerKey = 200;
+        final List<List<Integer>> handled = new ArrayList<List<Integer>>();
+        for (int i = 0; i < keys; i++) {
+            handled.add(new ArrayList<Integer>());
+        }
+        final CountDownLatch done = new CountDownLatch(keys * tasksPerKey);
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        for (int n = 0; n < tasksPerKey; n++) {
+            for (int key = 0; key < keys; key++) {
+                final int k = key;
+                final int sequence = n;
+                dispatcher.invokeLater(new KeyedTask(key) {
+                    @Override
+                    public void run() {
+                        // lists are only touched by the lane owning the key
+                        handled.get(k).add(sequence);
+                        threads.add(Thread.currentThread());
+                        done.countDown();
+                    }
+                });
+            }
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (List<Integer> sequences : handled) {
+            assertEquals(tasksPerKey, sequences.size());
+            for (int i = 0; i < tasksPerKey; i++) {
+                assertEquals(i, (int) sequences.get(i));
+            }
+        }
+        assertTrue(threads.size() > 1, "keys should be spread over the lanes");
+    }
+
+    @Test
+    void testLane() {
+        dispatcher = new PartitionedDispatcher(new ConfigurationBuilder()
+                .setAsyncNumThreads(3)
+                .setStreamDispatchQueueSize(3)
+                .build());
+        Runnable plain = new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+        assertEquals(0, dispatcher.getLane(plain));
+        assertEquals(0, dispatcher.getLane(new KeyedTask(-1)));
+        for (long key = 0; key < 1000; key++) {
+            int lane = dispatcher.getLane(new KeyedTask(key * 1000));
+            assertTrue(0 <= lane && lane < 3);
+            assertEquals(lane, dispatcher.getLane(new KeyedTask(key * 1000)));
+        }
+        assertTrue(dispatcher.getLane(new KeyedTask(Long.MAX_VALUE)) >= 0);
+        assertTrue(dispatcher.getLane(new KeyedTask(Long.MIN_VALUE)) >= 0);
+    }
+
+    private static class KeyedTask implements PartitionedDispatcher.Keyed {
+        private final long key;
+
+        KeyedTask(long key) {
+            this.key = key;
+        }
+
+        @Override
+        public long getPartitionKey() {
+            return key;
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.auth.Authorization;
+import twitter4j.auth.BasicAuthorization;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledAuthorizationTest {
+    private static final String TIMELINE = "https://api.twitter.com/1.1/statuses/home_timeline.json";
+    private static final String FOLLOWERS = "https://api.twitter.com/1.1/followers/ids.json";
+
+    private final Authorization a = new BasicAuthorization("a", "password");
+    private final Authorization b = new BasicAuthorization("b", "password");
+    private final Authorization c = new BasicAuthorization("c", "password");
+    private final PooledAuthorization pool = new PooledAuthorization(a, b, c);
+
+    @Test
+    void testUnknownQuotaIsRoundRobin() {
+        Map<String, Integer> counts = new HashMap<String, Integer>();
+        for (int i = 0; i < 6; i++) {
+            String header = pool.getAuthorizationHeader(request(TIMELINE));
+            counts.put(header, counts.containsKey(header) ? counts.get(header) + 1 : 1);
+        }
+        assertEquals(3, counts.size());
+        for (Integer count : counts.values()) {
+            assertEquals(Integer.valueOf(2), count);
+        }
+    }
+
+    @Test
+    void testMostRemainingQuotaIsUsed() {
+        respond(TIMELINE, 200, 10);
+        respond(TIMELINE, 200, 50);
+        respond(TIMELINE, 200, 5);
+        String header = pool.getAuthorizationHeader(request(TIMELINE));
+        assertEquals(b.getAuthorizationHeader(null), header);
+    }
+
+    @Test
+    void testTooManyRequestsQuarantinesEndpointFamily() {
+        Authorization exhausted = respond(TIMELINE, 429, 0);
+        for (int i = 0; i < 10; i++) {
+            assertNotEquals(exhausted.getAuthorizationHeader(null), pool.getAuthorizationHeader(request(TIMELINE)));
+        }
+        // other endpoint families are not affected
+        boolean used = false;
+        for (int i = 0; i < 3; i++) {
+            used |= exhausted.getAuthorizationHeader(null).equals(pool.getAuthorizationHeader(request(FOLLOWERS)));
+        }
+        assertTrue(used);
+    }
+
+    @Test
+    void testUnauthorizedQuarantinesCredential() {
+        Authorization revoked = respond(FOLLOWERS, 401, -1);
+        for (int i = 0; i < 10; i++) {
+            assertNotEquals(revoked.getAuthorizationHeader(null), pool.getAuthorizationHeader(request(TIMELINE)));
+        }
+        respond(TIMELINE, 401, -1);
+        respond(TIMELINE, 401, -1);
+        // all credentials are quarantined. calls still go through with one of them
+        assertNotNull(pool.getAuthorizationHeader(request(TIMELINE)));
+        assertTrue(pool.isEnabled());
+        List<Authorization> authorizations = pool.getAuthorizations();
+        assertEquals(3, authorizations.size());
+    }
+
+    @Test
+    void testRetriedAttemptsAreAttributed() throws Exception {
+        final List<String> signers = new ArrayList<String>();
+        // retries a rate limited attempt right away, as it can be signed by another credential
+        RetryPolicy retryOnce = new RetryPolicy() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public long getRetryDelayMillis(HttpRequest req, int retriedCount, TwitterException te) {
+                return retriedCount == 0 ? 0 : -1;
+            }
+        };
+        HttpClientBase client = new HttpClientBase(new ConfigurationBuilder()
+                .setHttpRetryPolicy(retryOnce).build().getHttpClientConfiguration()) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            HttpResponse handleRequest(HttpRequest req) throws TwitterException {
+                for (int retriedCount = getInitialRetriedCount(); ; retriedCount++) {
+                    signers.add(req.getAuthorization().getAuthorizationHeader(req));
+                    if (retriedCount > 0) {
+                        return response(200, 100);
+                    }
+                    TwitterException te = new TwitterException("error", response(429, 0));
+                    if (!retry(req, retriedCount, te)) {
+                        throw te;
+                    }
+                }
+            }
+        };
+        client.request(request(TIMELINE));
+        assertEquals(2, signers.size());
+        // the credential rejected by the first attempt is not used again
+        Authorization exhausted = credential(signers.get(0));
+        assertNotEquals(exhausted, credential(signers.get(1)));
+        for (int i = 0; i < 6; i++) {
+            assertNotEquals(exhausted.getAuthorizationHeader(null), pool.getAuthorizationHeader(request(TIMELINE)));
+        }
+    }
+
+    @Test
+    void testUnreportedAttemptIsNotAttributedToTheNextCall() {
+        // e.g. a RuntimeException thrown after signing
+        pool.getAuthorizationHeader(request(TIMELINE));
+        Authorization signer = respond(TIMELINE, 429, 0);
+        for (int i = 0; i < 6; i++) {
+            assertNotEquals(signer.getAuthorizationHeader(null), pool.getAuthorizationHeader(request(TIMELINE)));
+        }
+    }
+
+    @Test
+    void testChunkedUploadIsSignedByASingleCredential() {
+        String upload = "https://upload.twitter.com/1.1/media/upload.json";
+        List<HttpRequest> requests = new ArrayList<HttpRequest>();
+        requests.add(new HttpRequest(RequestMethod.POST, upload, new HttpParameter[]{new HttpParameter("command", "INIT")}, pool, null));
+        for (int i = 0; i < 3; i++) {
+            requests.add(new HttpRequest(RequestMethod.POST, upload, new HttpParameter[]{new HttpParameter("command", "APPEND")
+                    , new HttpParameter("segment_index", i)}, pool, null));
+        }
+        requests.add(new HttpRequest(RequestMethod.POST, upload, new HttpParameter[]{new HttpParameter("command", "FINALIZE")}, pool, null));
+        requests.add(new HttpRequest(RequestMethod.GET, upload + "?command=STATUS", null, pool, null));
+        requests.add(new HttpRequest(RequestMethod.POST, "https://api.twitter.com/1.1/statuses/update.json", null, pool, null));
+        for (HttpRequest req : requests) {
+            assertEquals(a.getAuthorizationHeader(null), pool.getAuthorizationHeader(req));
+        }
+    }
+
+    /**
+     * Sends a call through the pool and delivers a response to it.
+     *
+     * @return the credential which signed the call
+     */
+    private Authorization respond(String url, int statusCode, int remaining) {
+        HttpRequest req = request(url);
+        String header = pool.getAuthorizationHeader(req);
+        HttpResponse res = response(statusCode, remaining);
+        if (statusCode == 200) {
+            pool.attemptCompleted(req, res, null);
+        } else {
+            pool.attemptCompleted(req, null, new TwitterException("error", res));
+        }
+        return credential(header);
+    }
+
+    private Authorization credential(String header) {
+        for (Authorization auth : new Authorization[]{a, b, c}) {
+            if (auth.getAuthorizationHeader(null).equals(header)) {
+                return auth;
+            }
+        }
+        throw new AssertionError("unknown credential");
+    }
+
+    private HttpRequest request(String url) {
+        return new HttpRequest(RequestMethod.GET, url, null, pool, null);
+    }
+
+    /**
+     * @param remaining remaining quota told by the response, or -1 for a response without rate limit headers
+     */
+    private static HttpResponse response(int statusCode, int remaining) {
+        if (remaining < 0) {
+            return new HttpResponseTest.MockHttpResponse(statusCode, null);
+        }
+        return new HttpResponseTest.MockHttpResponse(statusCode, null,
+                "X-Rate-Limit-Limit", "180",
+                "X-Rate-Limit-Remaining", String.valueOf(remaining),
+                "X-Rate-Limit-Reset", String.valueOf(System.currentTimeMillis() / 1000 + 600));
+    }
+}
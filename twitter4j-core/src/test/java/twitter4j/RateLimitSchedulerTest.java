@@ -0,0 +1,113 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.auth.Authorization;
+import twitter4j.auth.NullAuthorization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitSchedulerTest {
+    private final RateLimitScheduler scheduler = RateLimitScheduler.getInstance();
+    private final Authorization auth = NullAuthorization.getInstance();
+
+    @Test
+    void testEndpointFamily() {
+        assertEquals("statuses", RateLimitScheduler.getEndpointFamily("https://api.twitter.com/1.1/statuses/home_timeline.json?count=200"));
+        assertEquals("friends", RateLimitScheduler.getEndpointFamily("https://api.twitter.com/1.1/friends/ids.json"));
+        assertNull(RateLimitScheduler.getEndpointFamily("https://upload.twitter.com"));
+    }
+
+    @Test
+    void testUnknownQuotaIsNotDelayed() throws Exception {
+        String url = "https://api.twitter.com/1.1/unknown/show.json";
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            scheduler.acquire(url, auth, 0);
+        }
+        assertTrue(System.currentTimeMillis() - start < 500);
+    }
+
+    @Test
+    void testRemainingQuotaIsSpreadOverWindow() throws Exception {
+        String url = "https://api.twitter.com/1.1/spread/show.json";
+        // 2 calls left in a window ending in 2 to 3 seconds
+        scheduler.update(url, auth, status(100, 2, 3), false);
+        long start = System.currentTimeMillis();
+        scheduler.acquire(url, auth, 0);
+        assertTrue(System.currentTimeMillis() - start < 500);
+        scheduler.acquire(url, auth, 0);
+        assertTrue(System.currentTimeMillis() - start >= 900);
+    }
+
+    @Test
+    void testPriority() throws Exception {
+        final String url = "https://api.twitter.com/1.1/priority/show.json";
+        // quota exhausted until the window resets in 1 to 2 seconds
+        scheduler.update(url, auth, status(100000, 5, 2), true);
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+        List<Thread> threads = new ArrayList<Thread>();
+        for (final int priority : new int[]{0, 0, 5}) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        scheduler.acquire(url, auth, priority);
+                        order.add(priority);
+                    } catch (TwitterException ignore) {
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+            Thread.sleep(100);
+        }
+        assertEquals(3, scheduler.getStatistics().getQueueDepth());
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+        assertEquals(Integer.valueOf(5), order.get(0));
+        assertEquals(3, order.size());
+        assertEquals(0, scheduler.getStatistics().getQueueDepth());
+        assertTrue(scheduler.getStatistics().getMaxWaitTime() >= 500);
+    }
+
+    @Test
+    void testIdleBucketIsEvictedOnceTheWindowHasReset() throws Exception {
+        String url = "https://api.twitter.com/1.1/evict/show.json";
+        scheduler.update(url, auth, status(100, 0, 2), true);
+        assertTrue(scheduler.hasBucket(url, auth));
+        scheduler.evictIdleBuckets(System.currentTimeMillis());
+        // the quota is still exhausted
+        assertTrue(scheduler.hasBucket(url, auth));
+        scheduler.evictIdleBuckets(System.currentTimeMillis() + 3000);
+        assertFalse(scheduler.hasBucket(url, auth));
+        // a new bucket is created on the next call
+        scheduler.acquire(url, auth, 0);
+        assertTrue(scheduler.hasBucket(url, auth));
+    }
+
+    private static RateLimitStatus status(int limit, int remaining, int secondsUntilReset) throws TwitterException {
+        long reset = System.currentTimeMillis() / 1000 + secondsUntilReset;
+        return new RateLimitStatusJSONImpl(new JSONObject("{\"limit\":" + limit + ",\"remaining\":" + remaining + ",\"reset\":" + reset + "}"));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+    private static final String URL = "https://api.twitter.com/1.1/users/show.json";
+
+    @Test
+    void testIdenticalGetsAreCoalesced() throws Exception {
+        BlockingHttpClient client = new BlockingHttpClient(true, null);
+        long hits = RequestCoalescer.getStatistics().getHits();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<JSONObject>> results = new ArrayList<Future<JSONObject>>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(client.call(RequestMethod.GET, "yusuke")));
+            }
+            // wait until the three other requests joined the first one
+            while (RequestCoalescer.getStatistics().getHits() - hits < 3) {
+                Thread.sleep(10);
+            }
+            client.release.countDown();
+            JSONObject first = results.get(0).get(5, TimeUnit.SECONDS);
+            assertEquals("yusuke", first.getString("screen_name"));
+            for (Future<JSONObject> result : results) {
+                // parsed once and shared
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, client.sent.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDifferentOrNonGetRequestsAreSent() throws Exception {
+        BlockingHttpClient client = new BlockingHttpClient(true, null);
+        client.release.countDown();
+        client.call(RequestMethod.GET, "a").call();
+        client.call(RequestMethod.GET, "b").call();
+        client.call(RequestMethod.POST, "a").call();
+        client.call(RequestMethod.POST, "a").call();
+        assertEquals(4, client.sent.get());
+
+        // requests not in flight at the same time are sent again
+        client.call(RequestMethod.GET, "a").call();
+        assertEquals(5, client.sent.get());
+    }
+
+    @Test
+    void testFailureIsShared() throws Exception {
+        BlockingHttpClient client = new BlockingHttpClient(true, new TwitterException("over capacity"));
+        long hits = RequestCoalescer.getStatistics().getHits();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<JSONObject> first = executor.submit(client.call(RequestMethod.GET, "yusuke"));
+            Future<JSONObject> second = executor.submit(client.call(RequestMethod.GET, "yusuke"));
+            while (RequestCoalescer.getStatistics().getHits() == hits) {
+                Thread.sleep(10);
+            }
+            client.release.countDown();
+            for (Future<JSONObject> result : new Future[]{first, second}) {
+                try {
+                    result.get(5, TimeUnit.SECONDS);
+                    fail("should fail");
+                } catch (ExecutionException expected) {
+                    assertSame(client.failure, expected.getCause());
+                }
+            }
+            assertEquals(1, client.sent.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testWaitersAreBoundFromTheSameBody() throws Exception {
+        final BlockingHttpClient client = new BlockingHttpClient(true, null);
+        long hits = RequestCoalescer.getStatistics().getHits();
+        final JSONPullParser.Binder<String> binder = new JSONPullParser.Binder<String>() {
+            @Override
+            public String bind(JSONPullParser parser) throws TwitterException {
+                parser.beginObject();
+                parser.nextName();
+                return parser.nextString();
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        return client.request(new HttpRequest(RequestMethod.GET, URL, new HttpParameter[]{new HttpParameter("screen_name", "yusuke")}
+                                , null, client.getRequestHeaders())).bindJSON(binder);
+                    }
+                }));
+            }
+            while (RequestCoalescer.getStatistics().getHits() - hits < 2) {
+                Thread.sleep(10);
+            }
+            client.release.countDown();
+            // the body stream can be read only once, every waiter is bound from the buffered bytes
+            for (Future<String> result : results) {
+                assertEquals("yusuke", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, client.sent.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDisabledByDefault() throws Exception {
+        BlockingHttpClient client = new BlockingHttpClient(false, null);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<JSONObject> first = executor.submit(client.call(RequestMethod.GET, "yusuke"));
+            Future<JSONObject> second = executor.submit(client.call(RequestMethod.GET, "yusuke"));
+            while (client.sent.get() < 2) {
+                Thread.sleep(10);
+            }
+            client.release.countDown();
+            assertNotSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * HttpClient whose requests block until released.
+     */
+    private static class BlockingHttpClient extends HttpClientBase {
+        private static final long serialVersionUID = 1L;
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger sent = new AtomicInteger();
+        final TwitterException failure;
+
+        BlockingHttpClient(boolean coalescing, TwitterException failure) {
+            super(new ConfigurationBuilder().setHttpRequestCoalescingEnabled(coalescing).build().getHttpClientConfiguration());
+            this.failure = failure;
+        }
+
+        Callable<JSONObject> call(final RequestMethod method, final String screenName) {
+            return new Callable<JSONObject>() {
+                @Override
+                public JSONObject call() throws Exception {
+                    return request(new HttpRequest(method, URL, new HttpParameter[]{new HttpParameter("screen_name", screenName)}
+                            , null, getRequestHeaders())).asJSONObject();
+                }
+            };
+        }
+
+        @Override
+        HttpResponse handleRequest(HttpRequest req) throws TwitterException {
+            sent.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new TwitterException(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            // GET parameters are moved to the query string
+            String screenName = req.getParameters().length > 0 ? req.getParameters()[0].getValue()
+                    : req.getURL().substring(req.getURL().indexOf('=') + 1);
+            return new HttpResponseTest.MockHttpResponse("{\"screen_name\":\"" + screenName + "\"}");
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.auth.BasicAuthorization;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+    private static final String API = "https://api.twitter.com/1.1/";
+
+    @Test
+    void testTimeToLiveMatching() {
+        ResponseCache cache = new ResponseCache(new ConfigurationBuilder()
+                .setHttpResponseCacheTTLs("geo/id=60,users/show=5,users=1").build().getHttpClientConfiguration());
+        assertEquals(60000, cache.getTimeToLive(get(API + "geo/id/df51dec6f4ee2b2c.json")));
+        assertEquals(5000, cache.getTimeToLive(get(API + "users/show.json?screen_name=yusuke")));
+        assertEquals(1000, cache.getTimeToLive(get(API + "users/lookup.json")));
+        assertEquals(-1, cache.getTimeToLive(get(API + "geo/idx.json")));
+        assertEquals(-1, cache.getTimeToLive(get(API + "statuses/home_timeline.json")));
+        assertEquals(-1, cache.getTimeToLive(new HttpRequest(RequestMethod.POST, API + "users/show.json", null, null, null)));
+    }
+
+    @Test
+    void testFreshResponseIsServedFromMemory() throws Exception {
+        long hits = ResponseCache.getStatistics().getHits();
+        StubHttpClient client = new StubHttpClient(new ConfigurationBuilder().setHttpResponseCacheEnabled(true));
+        client.headers.put("x-rate-limit-remaining", "10");
+        assertEquals(140, client.get(API + "help/configuration.json", null, null, null).asJSONObject().getInt("photo_size_limit"));
+        HttpResponse cached = client.get(API + "help/configuration.json", null, null, null);
+        assertEquals(140, cached.asJSONObject().getInt("photo_size_limit"));
+        assertEquals(1, client.sent.size());
+        assertEquals(1, ResponseCache.getStatistics().getHits() - hits);
+        // stale rate limit headers are not served
+        assertNull(cached.getResponseHeader("x-rate-limit-remaining"));
+        assertEquals("application/json", cached.getResponseHeader("content-type"));
+
+        // responses are per authorization
+        client.get(API + "help/configuration.json", null, new BasicAuthorization("user", "password"), null);
+        assertEquals(2, client.sent.size());
+        // endpoints without time to live are not cached
+        client.get(API + "statuses/home_timeline.json", null, null, null);
+        client.get(API + "statuses/home_timeline.json", null, null, null);
+        assertEquals(4, client.sent.size());
+    }
+
+    @Test
+    void testExpiredResponseIsRevalidated() throws Exception {
+        long revalidations = ResponseCache.getStatistics().getRevalidations();
+        StubHttpClient client = new StubHttpClient(new ConfigurationBuilder().setHttpResponseCacheEnabled(true)
+                .setHttpResponseCacheTTLs("help/languages=0"));
+        client.headers.put("ETag", "\"v1\"");
+        client.get(API + "help/languages.json", null, null, null);
+        client.notModified = true;
+        HttpResponse res = client.get(API + "help/languages.json", null, null, null);
+        assertEquals(140, res.asJSONObject().getInt("photo_size_limit"));
+        assertEquals(200, res.getStatusCode());
+        assertEquals(2, client.sent.size());
+        assertEquals("\"v1\"", client.sent.get(1).getRequestHeaders().get("If-None-Match"));
+        assertNull(client.sent.get(0).getRequestHeaders().get("If-None-Match"));
+        assertEquals(1, ResponseCache.getStatistics().getRevalidations() - revalidations);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvictionAndDiskTier() throws Exception {
+        File directory = File.createTempFile("twitter4j", "cache");
+        assertTrue(directory.delete());
+        try {
+            StubHttpClient client = new StubHttpClient(new ConfigurationBuilder().setHttpResponseCacheEnabled(true)
+                    .setHttpResponseCacheMaxBytes(1500));
+            client.get(API + "geo/id/1.json", null, null, null);
+            client.get(API + "geo/id/2.json", null, null, null);
+            client.get(API + "geo/id/1.json", null, null, null);
+            // evicts geo/id/2, the least recently used
+            client.get(API + "geo/id/3.json", null, null, null);
+            client.get(API + "geo/id/1.json", null, null, null);
+            assertEquals(3, client.sent.size());
+            client.get(API + "geo/id/2.json", null, null, null);
+            assertEquals(4, client.sent.size());
+
+            // disk tier survives eviction and restarts
+            HttpClientConfiguration conf = new ConfigurationBuilder().setHttpResponseCacheEnabled(true)
+                    .setHttpResponseCacheMaxBytes(1500).setHttpResponseCacheDirectory(directory.getPath())
+                    .build().getHttpClientConfiguration();
+            client = new StubHttpClient(conf);
+            long diskHits = ResponseCache.getStatistics().getDiskHits();
+            client.get(API + "geo/id/1.json", null, null, null);
+            client.get(API + "geo/id/2.json", null, null, null);
+            client.get(API + "geo/id/3.json", null, null, null);
+            client = new StubHttpClient(conf);
+            for (int i = 1; i <= 3; i++) {
+                HttpResponse res = client.get(API + "geo/id/" + i + ".json", null, null, null);
+                assertEquals(140, res.asJSONObject().getInt("photo_size_limit"));
+            }
+            assertEquals(0, client.sent.size());
+            assertEquals(3, ResponseCache.getStatistics().getDiskHits() - diskHits);
+        } finally {
+            File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            directory.delete();
+        }
+    }
+
+    @Test
+    void testParametersTellDiskEntriesApart() throws Exception {
+        File directory = File.createTempFile("twitter4j", "cache");
+        assertTrue(directory.delete());
+        try {
+            // nothing fits in memory, so that every entry is read back from disk
+            HttpClientConfiguration conf = new ConfigurationBuilder().setHttpResponseCacheEnabled(true)
+                    .setHttpResponseCacheMaxBytes(1).setHttpResponseCacheDirectory(directory.getPath())
+                    .build().getHttpClientConfiguration();
+            StubHttpClient client = new StubHttpClient(conf);
+            client.body = "{\"screen_name\":\"a\"}";
+            client.get(API + "users/show.json", new HttpParameter[]{new HttpParameter("screen_name", "a")}, null, null);
+            client.body = "{\"screen_name\":\"b\"}";
+            client.get(API + "users/show.json", new HttpParameter[]{new HttpParameter("screen_name", "b")}, null, null);
+
+            client = new StubHttpClient(conf);
+            assertEquals("a", client.get(API + "users/show.json", new HttpParameter[]{new HttpParameter("screen_name", "a")}, null, null)
+                    .asJSONObject().getString("screen_name"));
+            assertEquals("b", client.get(API + "users/show.json", new HttpParameter[]{new HttpParameter("screen_name", "b")}, null, null)
+                    .asJSONObject().getString("screen_name"));
+            assertEquals(0, client.sent.size());
+        } finally {
+            File[] files = directory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            directory.delete();
+        }
+    }
+
+    @Test
+    void testKey() {
+        HttpParameter a = new HttpParameter("screen_name", "a");
+        HttpParameter b = new HttpParameter("count", "1");
+        assertNotEquals(ResponseCache.getKey(new HttpRequest(RequestMethod.GET, API + "users/show.json", new HttpParameter[]{a}, null, null)),
+                ResponseCache.getKey(new HttpRequest(RequestMethod.GET, API + "users/show.json", new HttpParameter[]{b}, null, null)));
+        assertEquals(ResponseCache.getKey(new HttpRequest(RequestMethod.POST, API + "users/lookup.json", new HttpParameter[]{a, b}, null, null)),
+                ResponseCache.getKey(new HttpRequest(RequestMethod.POST, API + "users/lookup.json", new HttpParameter[]{b, a}, null, null)));
+        assertNotEquals(ResponseCache.getKey(new HttpRequest(RequestMethod.POST, API + "users/lookup.json", new HttpParameter[]{a}, null, null)),
+                ResponseCache.getKey(new HttpRequest(RequestMethod.GET, API + "users/lookup.json", null, null, null)));
+    }
+
+    private static HttpRequest get(String url) {
+        return new HttpRequest(RequestMethod.GET, url, null, null, null);
+    }
+
+    /**
+     * HttpClient answering every request with the same JSON body.
+     */
+    private static class StubHttpClient extends HttpClientBase {
+        private static final long serialVersionUID = 1L;
+        final List<HttpRequest> sent = new ArrayList<HttpRequest>();
+        final Map<String, String> headers = new HashMap<String, String>();
+        boolean notModified = false;
+        String body = "{\"photo_size_limit\":140}";
+
+        StubHttpClient(ConfigurationBuilder builder) {
+            this(builder.build().getHttpClientConfiguration());
+        }
+
+        StubHttpClient(HttpClientConfiguration conf) {
+            super(conf);
+            headers.put("content-type", "application/json");
+        }
+
+        @Override
+        HttpResponse handleRequest(HttpRequest req) throws TwitterException {
+            sent.add(req);
+            if (notModified) {
+                throw new TwitterException("", response(304, headers, ""));
+            }
+            return response(200, headers, body);
+        }
+    }
+
+    private static HttpResponse response(int statusCode, Map<String, String> headers, String body) {
+        HttpResponseTest.MockHttpResponse res = new HttpResponseTest.MockHttpResponse(statusCode, body);
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            res.header(header.getKey(), header.getValue());
+        }
+        return res;
+    }
+}
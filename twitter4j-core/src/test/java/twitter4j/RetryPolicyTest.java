@@ -0,0 +1,99 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+    private static final HttpRequest GET = new HttpRequest(RequestMethod.GET, "https://api.twitter.com/1.1/statuses/home_timeline.json", null, null, null);
+    private static final HttpRequest POST = new HttpRequest(RequestMethod.POST, "https://api.twitter.com/1.1/statuses/update.json", null, null, null);
+
+    @Test
+    void testFixedIntervalKeepsLegacyBehavior() {
+        RetryPolicy policy = new FixedIntervalRetryPolicy(2, 3);
+        assertEquals(3000, policy.getRetryDelayMillis(POST, 0, failure(503)));
+        assertEquals(3000, policy.getRetryDelayMillis(GET, 1, new TwitterException("timeout", new SocketTimeoutException(), -1)));
+        assertEquals(-1, policy.getRetryDelayMillis(GET, 2, failure(503)));
+        assertEquals(-1, policy.getRetryDelayMillis(GET, 0, failure(404)));
+        assertEquals(policy, new FixedIntervalRetryPolicy(2, 3));
+    }
+
+    @Test
+    void testDefaultPolicyKeepsLegacySettings() {
+        HttpClientConfiguration conf = new ConfigurationBuilder().setHttpRetryCount(2).setHttpRetryIntervalSeconds(3)
+                .build().getHttpClientConfiguration();
+        assertEquals(new FixedIntervalRetryPolicy(2, 3), conf.getHttpRetryPolicy());
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy();
+        assertSame(policy, new ConfigurationBuilder().setHttpRetryPolicy(policy).build()
+                .getHttpClientConfiguration().getHttpRetryPolicy());
+    }
+
+    @Test
+    void testExponentialBackoffWithJitter() {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(5, 100, 1000, 100, 60000);
+        for (int i = 0; i < 20; i++) {
+            long first = policy.getRetryDelayMillis(GET, 0, failure(503));
+            assertTrue(0 <= first && first < 100, String.valueOf(first));
+            long fourth = policy.getRetryDelayMillis(GET, 3, failure(503));
+            assertTrue(0 <= fourth && fourth < 800, String.valueOf(fourth));
+            long capped = policy.getRetryDelayMillis(GET, 4, new TwitterException("timeout", new SocketTimeoutException(), -1));
+            assertTrue(0 <= capped && capped < 1000, String.valueOf(capped));
+        }
+        assertEquals(-1, policy.getRetryDelayMillis(GET, 5, failure(503)));
+        assertEquals(-1, policy.getRetryDelayMillis(GET, 0, failure(401)));
+    }
+
+    @Test
+    void testNonIdempotentRequestIsNotRetriedUnlessNotSent() {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy();
+        assertEquals(-1, policy.getRetryDelayMillis(POST, 0, failure(503)));
+        assertEquals(-1, policy.getRetryDelayMillis(POST, 0, new TwitterException("timeout", new SocketTimeoutException(), -1)));
+        assertTrue(policy.getRetryDelayMillis(POST, 0, new TwitterException("refused", new ConnectException(), -1)) >= 0);
+        assertTrue(policy.getRetryDelayMillis(GET, 0, new TwitterException("reset", new IOException(), -1)) >= 0);
+    }
+
+    @Test
+    void testRetryAfterIsHonored() {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, 100, 10000, 100, 60000);
+        assertEquals(7000, policy.getRetryDelayMillis(GET, 0, failure(503, "Retry-After", "7")));
+        // rate limited POSTs have not been processed, hence can be retried
+        assertEquals(2000, policy.getRetryDelayMillis(POST, 0, failure(429, "Retry-After", "2")));
+        // too far in the future
+        assertEquals(-1, policy.getRetryDelayMillis(GET, 0, failure(503, "Retry-After", "60")));
+        // rate limited without telling when to retry
+        assertEquals(-1, policy.getRetryDelayMillis(GET, 0, failure(429)));
+    }
+
+    @Test
+    void testRetryBudget() {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, 10, 10, 2, 60000);
+        assertTrue(policy.getRetryDelayMillis(GET, 0, failure(500)) >= 0);
+        assertTrue(policy.getRetryDelayMillis(GET, 1, failure(500)) >= 0);
+        assertEquals(-1, policy.getRetryDelayMillis(GET, 0, failure(500)));
+    }
+
+    private static TwitterException failure(int statusCode, String... headers) {
+        return new TwitterException("error", new HttpResponseTest.MockHttpResponse(statusCode, null, headers));
+    }
+}
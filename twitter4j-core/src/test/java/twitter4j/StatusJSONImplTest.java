@@ -2,9 +2,16 @@ package twitter4j;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
 
 /**
  * @author Cedric Meury - cedric at meury.com
@@ -217,4 +224,56 @@ public class StatusJSONImplTest {
         assertEquals(125, status.getDisplayTextRangeEnd());
     }
 
+    @Test
+    void testLazyBindingQuotedStatus() throws Exception {
+        String rawJson = "{\"created_at\":\"Thu May 21 20:03:48 +0000 2015\",\"id\":601478517394636801,\"id_str\":\"601478517394636801\",\"text\":\"Awesome news! https://t.co/plSZZhcvkP\",\"source\":\"<a href=\\\"http://twitter.com\\\" rel=\\\"nofollow\\\">Twitter Web Client</a>\",\"truncated\":false,\"in_reply_to_status_id\":null,\"in_reply_to_status_id_str\":null,\"in_reply_to_user_id\":null,\"in_reply_to_user_id_str\":null,\"in_reply_to_screen_name\":null,\"user\":{\"id\":3001969357,\"id_str\":\"3001969357\",\"name\":\"Jordan Brinks\",\"screen_name\":\"ilyanshe\",\"location\":\"Madagascar\",\"url\":\"http://spacejam.com\",\"description\":\"Alter Ego\",\"protected\":false,\"verified\":false,\"followers_count\":8,\"friends_count\":37,\"listed_count\":0,\"favourites_count\":1,\"statuses_count\":118,\"created_at\":\"Thu Jan 29 18:27:49 +0000 2015\",\"utc_offset\":3600,\"time_zone\":\"West Central Africa\",\"geo_enabled\":true,\"lang\":\"en\",\"contributors_enabled\":false,\"is_translator\":false,\"profile_background_color\":\"C0DEED\",\"profile_background_image_url\":\"http://abs.twimg.com/images/themes/theme1/bg.png\",\"profile_background_image_url_https\":\"https://abs.twimg.com/images/themes/theme1/bg.png\",\"profile_background_tile\":false,\"profile_link_color\":\"0084B4\",\"profile_sidebar_border_color\":\"C0DEED\",\"profile_sidebar_fill_color\":\"DDEEF6\",\"profile_text_color\":\"333333\",\"profile_use_background_image\":true,\"profile_image_url\":\"http://pbs.twimg.com/profile_images/601155672395227136/qakfE9EU_normal.jpg\",\"profile_image_url_https\":\"https://pbs.twimg.com/profile_images/601155672395227136/qakfE9EU_normal.jpg\",\"profile_banner_url\":\"https://pbs.twimg.com/profile_banners/3001969357/1432161817\",\"default_profile\":true,\"default_profile_image\":false,\"following\":null,\"follow_request_sent\":null,\"notifications\":null},\"geo\":null,\"coordinates\":null,\"place\":null,\"contributors\":null,\"quoted_status_id\":560101531794821120,\"quoted_status_id_str\":\"560101531794821120\",\"quoted_status\":{\"created_at\":\"Tue Jan 27 15:46:26 +0000 2015\",\"id\":560101531794821120,\"id_str\":\"560101531794821120\",\"text\":\"Native video support in REST and Streaming API https://t.co/VrFm1qGZnF\",\"source\":\"<a href=\\\"http://itunes.apple.com/us/app/twitter/id409789998?mt=12\\\" rel=\\\"nofollow\\\">Twitter for Mac</a>\",\"truncated\":false,\"in_reply_to_status_id\":null,\"in_reply_to_status_id_str\":null,\"in_reply_to_user_id\":null,\"in_reply_to_user_id_str\":null,\"in_reply_to_screen_name\":null,\"user\":{\"id\":6253282,\"id_str\":\"6253282\",\"name\":\"Twitter API\",\"screen_name\":\"twitterapi\",\"location\":\"San Francisco, CA\",\"url\":\"http://dev.twitter.com\",\"description\":\"The Real Twitter API. I tweet about API changes, service issues and happily answer questions about Twitter and our API. Don't get an answer? It's on my website.\",\"protected\":false,\"verified\":true,\"followers_count\":3331390,\"friends_count\":48,\"listed_count\":12956,\"favourites_count\":27,\"statuses_count\":3534,\"created_at\":\"Wed May 23 06:01:13 +0000 2007\",\"utc_offset\":-25200,\"time_zone\":\"Pacific Time (US & Canada)\",\"geo_enabled\":true,\"lang\":\"en\",\"contributors_enabled\":false,\"is_translator\":false,\"profile_background_color\":\"C0DEED\",\"profile_background_image_url\":\"http://pbs.twimg.com/profile_background_images/656927849/miyt9dpjz77sc0w3d4vj.png\",\"profile_background_image_url_https\":\"https://pbs.twimg.com/profile_background_images/656927849/miyt9dpjz77sc0w3d4vj.png\",\"profile_background_tile\":true,\"profile_link_color\":\"0084B4\",\"profile_sidebar_border_color\":\"C0DEED\",\"profile_sidebar_fill_color\":\"DDEEF6\",\"profile_text_color\":\"333333\",\"profile_use_background_image\":true,\"profile_image_url\":\"http://pbs.twimg.com/profile_images/2284174872/7df3h38zabcvjylnyfe3_normal.png\",\"profile_image_url_https\":\"https://pbs.twimg.com/profile_images/2284174872/7df3h38zabcvjylnyfe3_normal.png\",\"profile_banner_url\":\"https://pbs.twimg.com/profile_banners/6253282/1431474710\",\"default_profile\":false,\"default_profile_image\":false,\"following\":null,\"follow_request_sent\":null,\"notifications\":null,\"place\":{\"id\":\"96683cc9126741d1\"}},\"geo\":null,\"coordinates\":null,\"place\":null,\"contributors\":null,\"retweet_count\":0,\"favorite_count\":0,\"entities\":{\"hashtags\":[],\"trends\":[],\"urls\":[{\"url\":\"https://t.co/VrFm1qGZnF\",\"expanded_url\":\"https://twittercommunity.com/t/twitter-video-now-supported-in-rest-and-streaming-api/31258\",\"display_url\":\"twittercommunity.com/t/twitter-vide…\",\"indices\":[47,70]}],\"user_mentions\":[],\"symbols\":[]},\"favorited\":false,\"retweeted\":false,\"possibly_sensitive\":false,\"filter_level\":\"low\",\"lang\":\"en\"},\"retweet_count\":0,\"favorite_count\":0,\"entities\":{\"hashtags\":[],\"trends\":[],\"urls\":[{\"url\":\"https://t.co/plSZZhcvkP\",\"expanded_url\":\"https://twitter.com/twitterapi/status/560101531794821120\",\"display_url\":\"twitter.com/twitterapi/sta…\",\"indices\":[14,37]}],\"user_mentions\":[],\"symbols\":[]},\"favorited\":false,\"retweeted\":false,\"possibly_sensitive\":false,\"filter_level\":\"low\",\"lang\":\"en\",\"timestamp_ms\":\"1432238628134\"}";
+
+        StatusJSONImpl eager = new StatusJSONImpl(new JSONObject(rawJson));
+        StatusJSONImpl lazy = new StatusJSONImpl(new JSONObject(rawJson), true);
+
+        assertEquals(eager.getId(), lazy.getId());
+        assertEquals(eager.getCreatedAt(), lazy.getCreatedAt());
+        assertEquals(eager.getQuotedStatusId(), lazy.getQuotedStatusId());
+        assertEquals(eager.getText(), lazy.getText());
+        assertArrayEquals(eager.getURLEntities(), lazy.getURLEntities());
+        assertEquals(eager.getUser(), lazy.getUser());
+        assertEquals(eager.getUser().getDescription(), lazy.getUser().getDescription());
+        assertNotNull(lazy.getQuotedStatus());
+        assertEquals(eager.getQuotedStatus().getText(), lazy.getQuotedStatus().getText());
+        assertEquals(eager.getQuotedStatus().getUser().getScreenName(), lazy.getQuotedStatus().getUser().getScreenName());
+        assertEquals(eager.toString(), lazy.toString());
+    }
+
+    @Test
+    void testLazyBindingSerialization() throws Exception {
+        String rawJson = "{\"created_at\":\"Mon Mar 28 14:39:13 +0000 2016\",\"id\":714461850188926976,\"id_str\":\"714461850188926976\",\"text\":\"@jeremycloud It's neat to have owls and raccoons around until you realize that raccoons will eat the eggs from the … https://t.co/OY7qmdJQnO\",\"entities\":{\"hashtags\":[],\"symbols\":[],\"user_mentions\":[{\"screen_name\":\"jeremycloud\",\"name\":\"/dev/cloud/jeremy\",\"id\":15062340,\"id_str\":\"15062340\",\"indices\":[0,12]}],\"urls\":[{\"url\":\"https://t.co/OY7qmdJQnO\",\"expanded_url\":\"https://twitter.com/i/web/status/714461850188926976\",\"display_url\":\"twitter.com/i/web/status/7…\",\"indices\":[117,140]}]},\"truncated\":true,\"extended_tweet\":{\"full_text\":\"@jeremycloud It's neat to have owls and raccoons around until you realize that raccoons will eat the eggs from the owl's nest https://t.co/Q0pkaU4ORH\",\"display_text_range\":[13,125],\"entities\":{\"hashtags\":[],\"symbols\":[],\"user_mentions\":[{\"screen_name\":\"jeremycloud\",\"name\":\"/dev/cloud/jeremy\",\"id\":15062340,\"id_str\":\"15062340\",\"indices\":[0,12]}],\"urls\":[{\"url\":\"https://t.co/Q0pkaU4ORH\",\"expanded_url\":\"https://twitter.com/jeremycloud/status/704059336788606976\",\"display_url\":\"twitter.com/jeremycloud/st…\",\"indices\":[126,149]}]}},\"source\":\"<a href=\\\"http://twitter.com\\\" rel=\\\"nofollow\\\">Twitter Web Client</a>\",\"in_reply_to_status_id\":706860403981099008,\"in_reply_to_status_id_str\":\"706860403981099008\",\"in_reply_to_user_id\":15062340,\"in_reply_to_user_id_str\":\"15062340\",\"in_reply_to_screen_name\":\"jeremycloud\",\"user\":{\"id\":4449621923,\"id_str\":\"4449621923\",\"name\":\"Mr Bones\",\"screen_name\":\"MrBonesDroid\",\"location\":\"\",\"profile_location\":null,\"description\":\"\",\"url\":null,\"entities\":{\"description\":{\"urls\":[]}},\"protected\":true,\"followers_count\":5,\"friends_count\":7,\"listed_count\":0,\"created_at\":\"Fri Dec 11 15:18:02 +0000 2015\",\"favourites_count\":7,\"utc_offset\":-25200,\"time_zone\":\"Pacific Time (US & Canada)\",\"geo_enabled\":false,\"verified\":false,\"statuses_count\":35,\"lang\":\"en-gb\",\"contributors_enabled\":false,\"is_translator\":false,\"is_translation_enabled\":false,\"profile_background_color\":\"F5F8FA\",\"profile_background_image_url\":null,\"profile_background_image_url_https\":null,\"profile_background_tile\":false,\"profile_image_url\":\"http://pbs.twimg.com/profile_images/677097663288860672/zZxWCPSI_normal.jpg\",\"profile_image_url_https\":\"https://pbs.twimg.com/profile_images/677097663288860672/zZxWCPSI_normal.jpg\",\"profile_link_color\":\"2B7BB9\",\"profile_sidebar_border_color\":\"C0DEED\",\"profile_sidebar_fill_color\":\"DDEEF6\",\"profile_text_color\":\"333333\",\"profile_use_background_image\":true,\"has_extended_profile\":false,\"default_profile\":true,\"default_profile_image\":false,\"following\":true,\"follow_request_sent\":false,\"notifications\":false},\"geo\":null,\"coordinates\":null,\"place\":null,\"contributors\":null,\"quoted_status_id\":704059336788606976,\"quoted_status_id_str\":\"704059336788606976\",\"quoted_status\":{\"created_at\":\"Sun Feb 28 21:43:21 +0000 2016\",\"id\":704059336788606976,\"id_str\":\"704059336788606976\",\"text\":\"My favorite photographic subject, up closer than ever before. https://t.co/K958bKh9Sd\",\"entities\":{\"hashtags\":[],\"symbols\":[],\"user_mentions\":[],\"urls\":[],\"media\":[{\"id\":704059330149031936,\"id_str\":\"704059330149031936\",\"indices\":[62,85],\"media_url\":\"http://pbs.twimg.com/media/CcVSOwJVIAAKwE6.jpg\",\"media_url_https\":\"https://pbs.twimg.com/media/CcVSOwJVIAAKwE6.jpg\",\"url\":\"https://t.co/K958bKh9Sd\",\"display_url\":\"pic.twitter.com/K958bKh9Sd\",\"expanded_url\":\"http://twitter.com/jeremycloud/status/704059336788606976/photo/1\",\"type\":\"photo\",\"sizes\":{\"medium\":{\"w\":600,\"h\":600,\"resize\":\"fit\"},\"thumb\":{\"w\":150,\"h\":150,\"resize\":\"crop\"},\"large\":{\"w\":871,\"h\":871,\"resize\":\"fit\"},\"small\":{\"w\":340,\"h\":340,\"resize\":\"fit\"}}}]},\"extended_entities\":{\"media\":[{\"id\":704059330149031936,\"id_str\":\"704059330149031936\",\"indices\":[62,85],\"media_url\":\"http://pbs.twimg.com/media/CcVSOwJVIAAKwE6.jpg\",\"media_url_https\":\"https://pbs.twimg.com/media/CcVSOwJVIAAKwE6.jpg\",\"url\":\"https://t.co/K958bKh9Sd\",\"display_url\":\"pic.twitter.com/K958bKh9Sd\",\"expanded_url\":\"http://twitter.com/jeremycloud/status/704059336788606976/photo/1\",\"type\":\"photo\",\"sizes\":{\"medium\":{\"w\":600,\"h\":600,\"resize\":\"fit\"},\"thumb\":{\"w\":150,\"h\":150,\"resize\":\"crop\"},\"large\":{\"w\":871,\"h\":871,\"resize\":\"fit\"},\"small\":{\"w\":340,\"h\":340,\"resize\":\"fit\"}}}]},\"truncated\":false,\"source\":\"<a href=\\\"http://twitter.com/download/iphone\\\" rel=\\\"nofollow\\\">Twitter for iPhone</a>\",\"in_reply_to_status_id\":null,\"in_reply_to_status_id_str\":null,\"in_reply_to_user_id\":null,\"in_reply_to_user_id_str\":null,\"in_reply_to_screen_name\":null,\"user\":{\"id\":15062340,\"id_str\":\"15062340\",\"name\":\"/dev/cloud/jeremy\",\"screen_name\":\"jeremycloud\",\"location\":\"Madison, Wisconsin\",\"description\":\"Professional yak shaver. Amateur bike shedder.\",\"url\":\"https://t.co/FcYeBkOpVY\",\"entities\":{\"url\":{\"urls\":[{\"url\":\"https://t.co/FcYeBkOpVY\",\"expanded_url\":\"http://about.me/jeremy.cloud\",\"display_url\":\"about.me/jeremy.cloud\",\"indices\":[0,23]}]},\"description\":{\"urls\":[]}},\"protected\":false,\"followers_count\":4324,\"friends_count\":410,\"listed_count\":103,\"created_at\":\"Mon Jun 09 17:00:58 +0000 2008\",\"favourites_count\":815,\"utc_offset\":-18000,\"time_zone\":\"Central Time (US & Canada)\",\"geo_enabled\":true,\"verified\":false,\"statuses_count\":2218,\"lang\":\"en\",\"contributors_enabled\":false,\"is_translator\":false,\"is_translation_enabled\":false,\"profile_background_color\":\"000000\",\"profile_background_image_url\":\"http://abs.twimg.com/images/themes/theme1/bg.png\",\"profile_background_image_url_https\":\"https://abs.twimg.com/images/themes/theme1/bg.png\",\"profile_background_tile\":false,\"profile_image_url\":\"http://pbs.twimg.com/profile_images/436903139183054849/i_MbCcoW_normal.jpeg\",\"profile_image_url_https\":\"https://pbs.twimg.com/profile_images/436903139183054849/i_MbCcoW_normal.jpeg\",\"profile_banner_url\":\"https://pbs.twimg.com/profile_banners/15062340/1447451621\",\"profile_link_color\":\"4A913C\",\"profile_sidebar_border_color\":\"000000\",\"profile_sidebar_fill_color\":\"000000\",\"profile_text_color\":\"000000\",\"profile_use_background_image\":false,\"has_extended_profile\":true,\"default_profile\":false,\"default_profile_image\":false,\"following\":true,\"follow_request_sent\":false,\"notifications\":false},\"geo\":null,\"coordinates\":null,\"place\":null,\"contributors\":null,\"is_quote_status\":false,\"retweet_count\":0,\"favorite_count\":11,\"favorited\":false,\"retweeted\":false,\"possibly_sensitive\":false,\"possibly_sensitive_appealable\":false,\"lang\":\"en\"},\"is_quote_status\":true,\"retweet_count\":0,\"favorite_count\":0,\"favorited\":false,\"retweeted\":false,\"possibly_sensitive\":false,\"possibly_sensitive_appealable\":false,\"lang\":\"en\"}";
+
+        StatusJSONImpl lazy = new StatusJSONImpl(new JSONObject(rawJson), true);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(bytes);
+        oos.writeObject(lazy);
+        oos.close();
+        Status deserialized = (Status) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        StatusJSONImpl eager = new StatusJSONImpl(new JSONObject(rawJson));
+        assertEquals(eager.getText(), deserialized.getText());
+        assertEquals(eager.getDisplayTextRangeStart(), deserialized.getDisplayTextRangeStart());
+        assertEquals(eager.getDisplayTextRangeEnd(), deserialized.getDisplayTextRangeEnd());
+        assertArrayEquals(eager.getUserMentionEntities(), deserialized.getUserMentionEntities());
+        assertEquals(eager.getUser().getScreenName(), deserialized.getUser().getScreenName());
+    }
+
+    @Test
+    void testLazyBindingFailureIsReportedOnAccess() throws Exception {
+        StatusJSONImpl lazy = new StatusJSONImpl(new JSONObject("{\"id\":1,\"text\":\"hello\",\"user\":\"not an object\"}"), true);
+
+        assertEquals(1L, lazy.getId());
+        try {
+            lazy.getUser();
+            fail("expecting IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class StringDedupPoolTest {
+
+    @Test
+    void testDedup() {
+        StringDedupPool pool = new StringDedupPool(new HashSet<String>(Arrays.asList("lang")), 16);
+        String en = new String("en");
+        assertSame(en, pool.dedup(en));
+        assertSame(en, pool.dedup(new String("en")));
+        String ja = new String("ja");
+        assertSame(ja, pool.dedup(ja));
+        assertSame(ja, pool.dedup(new String("ja")));
+    }
+
+    @Test
+    void testStatusesShareFieldValues() throws Exception {
+        ObjectFactory factory = new JSONImplFactory(new ConfigurationBuilder().setJSONStringDedupEnabled(true).build());
+        long hits = StringDedupPool.getStatistics().getHits();
+        String json = "[{\"id\":1,\"text\":\"a\",\"lang\":\"en\",\"source\":\"web\",\"user\":{\"id\":1,\"screen_name\":\"t4j\",\"time_zone\":\"Tokyo\"}},"
+                + "{\"id\":2,\"text\":\"b\",\"lang\":\"en\",\"source\":\"web\",\"user\":{\"id\":1,\"screen_name\":\"t4j\",\"time_zone\":\"Tokyo\"}}]";
+        ResponseList<Status> statuses = factory.createStatusList(new HttpResponseTest.MockHttpResponse(json));
+
+        assertEquals("en", statuses.get(1).getLang());
+        assertSame(statuses.get(0).getLang(), statuses.get(1).getLang());
+        assertSame(statuses.get(0).getSource(), statuses.get(1).getSource());
+        assertSame(statuses.get(0).getUser().getTimeZone(), statuses.get(1).getUser().getTimeZone());
+        // screen names are not pooled by default
+        assertNotSame(statuses.get(0).getUser().getScreenName(), statuses.get(1).getUser().getScreenName());
+        assertTrue(StringDedupPool.getStatistics().getHits() - hits >= 3);
+        assertTrue(StringDedupPool.getStatistics().getEntries() > 0);
+    }
+
+    @Test
+    void testConflictingConfigurationIsRejected() {
+        new JSONImplFactory(new ConfigurationBuilder().setJSONStringDedupEnabled(true).build());
+        // same settings, and disabled pools, share the installed pool
+        new JSONImplFactory(new ConfigurationBuilder().setJSONStringDedupEnabled(true).build());
+        new JSONImplFactory(new ConfigurationBuilder().setJSONStringDedupEnabled(false).setJSONStringDedupFields("lang").build());
+        try {
+            new JSONImplFactory(new ConfigurationBuilder().setJSONStringDedupEnabled(true).setJSONStringDedupFields("lang").build());
+            fail("expecting IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+        try {
+            new JSONImplFactory(new ConfigurationBuilder().setJSONStringDedupEnabled(true).setJSONStringDedupMaxEntries(16).build());
+            fail("expecting IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TwitterObjectFactoryTest {
+    private static final String STATUSES = "[{\"id\":1,\"text\":\"first\",\"created_at\":\"Fri Feb 01 08:50:12 +0000 2013\",\"user\":{\"id\":10,\"screen_name\":\"a\"}},"
+            + "{\"id\":2,\"text\":\"second\",\"created_at\":\"Fri Feb 01 08:50:13 +0000 2013\",\"user\":{\"id\":20,\"screen_name\":\"b\"}}]";
+
+    private final ObjectFactory factory = new JSONImplFactory(new ConfigurationBuilder().setJSONStoreEnabled(true).build());
+
+    @Test
+    void testRawJSONIsAttachedToEachObject() throws Exception {
+        ResponseList<Status> statuses = factory.createStatusList(new HttpResponseTest.MockHttpResponse(STATUSES));
+
+        String first = TwitterObjectFactory.getRawJSON(statuses.get(0));
+        assertEquals(1L, new JSONObject(first).getLong("id"));
+        assertEquals(2L, new JSONObject(TwitterObjectFactory.getRawJSON(statuses.get(1))).getLong("id"));
+        assertEquals(2, new JSONArray(TwitterObjectFactory.getRawJSON(statuses)).length());
+        // encoded once
+        assertSame(first, TwitterObjectFactory.getRawJSON(statuses.get(0)));
+
+        // a later response doesn't evict earlier ones
+        factory.createStatusList(new HttpResponseTest.MockHttpResponse(STATUSES));
+        assertSame(first, TwitterObjectFactory.getRawJSON(statuses.get(0)));
+    }
+
+    @Test
+    void testRawJSONIsAvailableFromOtherThreads() throws Exception {
+        final ResponseList<Status> statuses = factory.createStatusList(new HttpResponseTest.MockHttpResponse(STATUSES));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> rawJSON = executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return TwitterObjectFactory.getRawJSON(statuses.get(1));
+                }
+            });
+            assertTrue(rawJSON.get().contains("\"second\""));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testRawJSONOfObjectsWithoutHolder() throws Exception {
+        JSONObject json = new JSONObject("{\"resources\":{\"statuses\":{\"/statuses/home_timeline\":{\"limit\":15,\"remaining\":15,\"reset\":1403602426}}}}");
+        Map<String, RateLimitStatus> map = TwitterObjectFactory.registerJSONObject(RateLimitStatusJSONImpl.createRateLimitStatuses(json), json);
+
+        assertNotNull(TwitterObjectFactory.getRawJSON(map));
+        assertNull(TwitterObjectFactory.getRawJSON(new Object()));
+    }
+}
@@ -18,6 +18,8 @@
 package twitter4j.conf;
 
 import org.junit.jupiter.api.Test;
+import twitter4j.ExponentialBackoffRetryPolicy;
+import twitter4j.FixedIntervalRetryPolicy;
 import twitter4j.auth.RequestToken;
 
 import java.io.*;
@@ -147,6 +149,146 @@ public class ConfigurationTest {
         assertEquals(10, conf.getHttpClientConfiguration().getHttpReadTimeout());
         System.getProperties().remove("twitter4j.http.readTimeout");
 
+        System.getProperties().remove("twitter4j.http.nio.pipeliningDepth");
+        conf = new PropertyConfiguration();
+        assertEquals(2, conf.getHttpClientConfiguration().getHttpNIOSelectorThreads());
+        assertEquals(1, conf.getHttpClientConfiguration().getHttpNIOPipeliningDepth());
+        System.setProperty("twitter4j.http.nio.pipeliningDepth", "4");
+        conf = new PropertyConfiguration();
+        assertEquals(4, conf.getHttpClientConfiguration().getHttpNIOPipeliningDepth());
+        conf.setHttpNIOPipeliningDepth(8);
+        assertEquals(8, conf.getHttpClientConfiguration().getHttpNIOPipeliningDepth());
+        System.getProperties().remove("twitter4j.http.nio.pipeliningDepth");
+
+        System.getProperties().remove("twitter4j.http.maxConnectionsPerHost");
+        conf = new PropertyConfiguration();
+        assertEquals(16, conf.getHttpClientConfiguration().getHttpMaxConnectionsPerHost());
+        assertEquals(30000, conf.getHttpClientConfiguration().getHttpKeepAliveMillis());
+        assertEquals(1000, conf.getHttpClientConfiguration().getHttpConnectionEvictionIntervalMillis());
+        System.setProperty("twitter4j.http.maxConnectionsPerHost", "32");
+        System.setProperty("twitter4j.http.keepAliveMillis", "60000");
+        conf = new PropertyConfiguration();
+        assertEquals(32, conf.getHttpClientConfiguration().getHttpMaxConnectionsPerHost());
+        assertEquals(60000, conf.getHttpClientConfiguration().getHttpKeepAliveMillis());
+        conf.setHttpConnectionEvictionIntervalMillis(0);
+        assertEquals(0, conf.getHttpClientConfiguration().getHttpConnectionEvictionIntervalMillis());
+        System.getProperties().remove("twitter4j.http.maxConnectionsPerHost");
+        System.getProperties().remove("twitter4j.http.keepAliveMillis");
+
+        conf = new PropertyConfiguration();
+        assertFalse(conf.isRateLimitSchedulingEnabled());
+        assertEquals(0, conf.getRateLimitSchedulingPriority());
+        System.setProperty("twitter4j.rateLimitScheduling.enabled", "true");
+        System.setProperty("twitter4j.rateLimitScheduling.priority", "10");
+        conf = new PropertyConfiguration();
+        assertTrue(conf.isRateLimitSchedulingEnabled());
+        assertEquals(10, conf.getRateLimitSchedulingPriority());
+        System.getProperties().remove("twitter4j.rateLimitScheduling.enabled");
+        System.getProperties().remove("twitter4j.rateLimitScheduling.priority");
+
+        conf = new PropertyConfiguration();
+        assertFalse(conf.isJSONStreamingParserEnabled());
+        System.setProperty("twitter4j.jsonStreamingParserEnabled", "true");
+        conf = new PropertyConfiguration();
+        assertTrue(conf.isJSONStreamingParserEnabled());
+        System.getProperties().remove("twitter4j.jsonStreamingParserEnabled");
+
+        conf = new PropertyConfiguration();
+        assertFalse(conf.isJSONLazyBindingEnabled());
+        System.setProperty("twitter4j.jsonLazyBindingEnabled", "true");
+        conf = new PropertyConfiguration();
+        assertTrue(conf.isJSONLazyBindingEnabled());
+        System.getProperties().remove("twitter4j.jsonLazyBindingEnabled");
+
+        conf = new PropertyConfiguration();
+        assertFalse(conf.isJSONStringDedupEnabled());
+        assertTrue(conf.getJSONStringDedupFields().contains("lang"));
+        assertEquals(4096, conf.getJSONStringDedupMaxEntries());
+        System.setProperty("twitter4j.jsonStringDedupEnabled", "true");
+        System.setProperty("twitter4j.jsonStringDedupFields", "lang,source");
+        System.setProperty("twitter4j.jsonStringDedupMaxEntries", "256");
+        conf = new PropertyConfiguration();
+        assertTrue(conf.isJSONStringDedupEnabled());
+        assertEquals("lang,source", conf.getJSONStringDedupFields());
+        assertEquals(256, conf.getJSONStringDedupMaxEntries());
+        System.getProperties().remove("twitter4j.jsonStringDedupEnabled");
+        System.getProperties().remove("twitter4j.jsonStringDedupFields");
+        System.getProperties().remove("twitter4j.jsonStringDedupMaxEntries");
+
+        conf = new PropertyConfiguration();
+        assertEquals(10000, conf.getStreamDispatchQueueSize());
+        assertEquals("BLOCK", conf.getStreamDispatchOverflowPolicy());
+        assertEquals("status", conf.getStreamDispatchDroppableTypes());
+        assertNull(conf.getStreamDispatchSpillDirectory());
+        assertNull(conf.getStreamDispatchPartitionKey());
+        System.setProperty("twitter4j.stream.dispatch.queueSize", "500");
+        System.setProperty("twitter4j.stream.dispatch.overflowPolicy", "SPILL");
+        System.setProperty("twitter4j.stream.dispatch.droppableTypes", "status,limit");
+        System.setProperty("twitter4j.stream.dispatch.spillDirectory", "/var/tmp");
+        System.setProperty("twitter4j.stream.dispatch.partitionKey", "user");
+        conf = new PropertyConfiguration();
+        assertEquals(500, conf.getStreamDispatchQueueSize());
+        assertEquals("SPILL", conf.getStreamDispatchOverflowPolicy());
+        assertEquals("status,limit", conf.getStreamDispatchDroppableTypes());
+        assertEquals("/var/tmp", conf.getStreamDispatchSpillDirectory());
+        assertEquals("user", conf.getStreamDispatchPartitionKey());
+        System.getProperties().remove("twitter4j.stream.dispatch.queueSize");
+        System.getProperties().remove("twitter4j.stream.dispatch.overflowPolicy");
+        System.getProperties().remove("twitter4j.stream.dispatch.droppableTypes");
+        System.getProperties().remove("twitter4j.stream.dispatch.spillDirectory");
+        System.getProperties().remove("twitter4j.stream.dispatch.partitionKey");
+
+        conf = new PropertyConfiguration();
+        assertFalse(conf.isStreamDelimitedLengthEnabled());
+        System.setProperty("twitter4j.stream.delimitedLength", "true");
+        conf = new PropertyConfiguration();
+        assertTrue(conf.isStreamDelimitedLengthEnabled());
+        System.getProperties().remove("twitter4j.stream.delimitedLength");
+
+        conf = new PropertyConfiguration();
+        assertEquals(400, conf.getStreamShardMaxTrack());
+        assertEquals(5000, conf.getStreamShardMaxFollow());
+        assertEquals(100000, conf.getStreamShardDedupCapacity());
+        System.setProperty("twitter4j.stream.shard.maxTrack", "2");
+        System.setProperty("twitter4j.stream.shard.maxFollow", "3");
+        System.setProperty("twitter4j.stream.shard.dedupCapacity", "10");
+        conf = new PropertyConfiguration();
+        assertEquals(2, conf.getStreamShardMaxTrack());
+        assertEquals(3, conf.getStreamShardMaxFollow());
+        assertEquals(10, conf.getStreamShardDedupCapacity());
+        System.getProperties().remove("twitter4j.stream.shard.maxTrack");
+        System.getProperties().remove("twitter4j.stream.shard.maxFollow");
+        System.getProperties().remove("twitter4j.stream.shard.dedupCapacity");
+
+        conf = new PropertyConfiguration();
+        assertTrue(conf.getHttpClientConfiguration().getHttpRetryPolicy() instanceof FixedIntervalRetryPolicy);
+        System.setProperty("twitter4j.http.retryPolicy", "twitter4j.ExponentialBackoffRetryPolicy");
+        conf = new PropertyConfiguration();
+        assertTrue(conf.getHttpClientConfiguration().getHttpRetryPolicy() instanceof ExponentialBackoffRetryPolicy);
+        System.getProperties().remove("twitter4j.http.retryPolicy");
+
+        assertFalse(conf.getHttpClientConfiguration().isHttpRequestCoalescingEnabled());
+        System.setProperty("twitter4j.http.requestCoalescing", "true");
+        conf = new PropertyConfiguration();
+        assertTrue(conf.getHttpClientConfiguration().isHttpRequestCoalescingEnabled());
+        System.getProperties().remove("twitter4j.http.requestCoalescing");
+
+        assertFalse(conf.getHttpClientConfiguration().isHttpResponseCacheEnabled());
+        assertNull(conf.getHttpClientConfiguration().getHttpResponseCacheDirectory());
+        System.setProperty("twitter4j.http.responseCache.enabled", "true");
+        System.setProperty("twitter4j.http.responseCache.maxBytes", "1024");
+        System.setProperty("twitter4j.http.responseCache.ttls", "help/configuration=60");
+        System.setProperty("twitter4j.http.responseCache.directory", "/tmp/twitter4j");
+        conf = new PropertyConfiguration();
+        assertTrue(conf.getHttpClientConfiguration().isHttpResponseCacheEnabled());
+        assertEquals(1024, conf.getHttpClientConfiguration().getHttpResponseCacheMaxBytes());
+        assertEquals("help/configuration=60", conf.getHttpClientConfiguration().getHttpResponseCacheTTLs());
+        assertEquals("/tmp/twitter4j", conf.getHttpClientConfiguration().getHttpResponseCacheDirectory());
+        System.getProperties().remove("twitter4j.http.responseCache.enabled");
+        System.getProperties().remove("twitter4j.http.responseCache.maxBytes");
+        System.getProperties().remove("twitter4j.http.responseCache.ttls");
+        System.getProperties().remove("twitter4j.http.responseCache.directory");
+
         writeFile("./twitter4j.properties", "twitter4j.http.readTimeout=1234");
         conf = new PropertyConfiguration();
         assertEquals(1234, conf.getHttpClientConfiguration().getHttpReadTimeout());
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j.util;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.IDs;
+import twitter4j.RateLimitStatus;
+import twitter4j.TwitterException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class LongArrayIDsTest {
+    @Test
+    void testSortRemovesDuplicates() throws Exception {
+        for (LongArrayIDs ids : new LongArrayIDs[]{LongArrayIDs.allocate(), LongArrayIDs.allocateDirect()}) {
+            Random random = new Random(1);
+            long[] expected = new long[100000];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = i % 10 == 0 ? 42 : random.nextLong() >>> 1;
+                ids.add(expected[i]);
+            }
+            assertFalse(ids.isSorted());
+            ids.sort();
+            assertTrue(ids.isSorted());
+            Arrays.sort(expected);
+            int unique = 0;
+            for (int i = 0; i < expected.length; i++) {
+                if (unique == 0 || expected[unique - 1] != expected[i]) {
+                    expected[unique++] = expected[i];
+                }
+            }
+            assertArrayEquals(Arrays.copyOf(expected, unique), ids.toArray());
+            assertTrue(ids.contains(42));
+            assertFalse(ids.contains(43));
+        }
+    }
+
+    @Test
+    void testGrowsBeyondOneChunk() throws Exception {
+        LongArrayIDs ids = LongArrayIDs.allocate();
+        int size = (1 << 20) * 2 + 3;
+        for (int i = size - 1; i >= 0; i--) {
+            ids.add(i);
+        }
+        assertEquals(size, ids.size());
+        assertEquals(0, ids.get(size - 1));
+        ids.sort();
+        for (int i = 0; i < size; i++) {
+            if (ids.get(i) != i) {
+                fail("unexpected id at " + i + ": " + ids.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testSetOperations() throws Exception {
+        LongArrayIDs a = LongArrayIDs.allocate().addAll(new long[]{9, 1, 5, 3, 7, 3}).sort();
+        LongArrayIDs b = LongArrayIDs.allocateDirect().addAll(new long[]{2, 3, 4, 5, 10}).sort();
+        assertArrayEquals(new long[]{3, 5}, a.intersect(b).toArray());
+        assertArrayEquals(new long[]{1, 7, 9}, a.difference(b).toArray());
+        assertArrayEquals(new long[]{2, 4, 10}, b.difference(a).toArray());
+        assertTrue(b.intersect(a).isDirect());
+        try {
+            a.intersect(LongArrayIDs.allocate().addAll(new long[]{2, 1}));
+            fail("expecting IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    void testCompression() throws Exception {
+        LongArrayIDs ids = LongArrayIDs.allocate();
+        for (long id = 1050118621198921728L; id < 1050118621198921728L + 100000; id += 3) {
+            ids.add(id);
+        }
+        ids.add(Long.MIN_VALUE).add(Long.MAX_VALUE).add(-1).add(0);
+        byte[] compressed = ids.toCompressedBytes();
+        assertEquals(ids, LongArrayIDs.fromCompressedBytes(compressed, true));
+        ids.sort();
+        byte[] sorted = ids.toCompressedBytes();
+        assertEquals(ids, LongArrayIDs.fromCompressedBytes(sorted, false));
+        // one byte per delta of 3
+        assertTrue(sorted.length < ids.size() + 64, String.valueOf(sorted.length));
+        try {
+            LongArrayIDs.fromCompressedBytes(Arrays.copyOf(sorted, sorted.length - 1), false);
+            fail("expecting IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    void testAddAllPagesResumesAfterFailure() throws Exception {
+        final long[][] pages = {{1, 2}, {3, 4}, {5}};
+        final int[] calls = {0};
+        LongArrayIDs.Pager pager = new LongArrayIDs.Pager() {
+            @Override
+            public IDs page(long cursor) throws TwitterException {
+                if (++calls[0] == 2) {
+                    throw new TwitterException("rate limited");
+                }
+                int page = cursor == -1 ? 0 : (int) cursor;
+                return new Page(pages[page], page + 1 == pages.length ? 0 : page + 1);
+            }
+        };
+        LongArrayIDs ids = LongArrayIDs.allocate();
+        try {
+            ids.addAllPages(pager);
+            fail("expecting TwitterException");
+        } catch (TwitterException expected) {
+        }
+        assertEquals(1, ids.getNextCursor());
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5}, ids.addAllPages(pager).toArray());
+        assertFalse(ids.hasNextPage());
+        assertEquals(4, calls[0]);
+    }
+
+    private static final class Page implements IDs {
+        private static final long serialVersionUID = 1L;
+        private final long[] ids;
+        private final long nextCursor;
+
+        Page(long[] ids, long nextCursor) {
+            this.ids = ids;
+            this.nextCursor = nextCursor;
+        }
+
+        @Override
+        public long[] getIDs() {
+            return ids;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return false;
+        }
+
+        @Override
+        public long getPreviousCursor() {
+            return 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextCursor != 0;
+        }
+
+        @Override
+        public long getNextCursor() {
+            return nextCursor;
+        }
+
+        @Override
+        public RateLimitStatus getRateLimitStatus() {
+            return null;
+        }
+
+        @Override
+        public int getAccessLevel() {
+            return 0;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import okio.BufferedSink;
 import okio.Okio;
 import okio.Source;
 import twitter4j.conf.ConfigurationContext;
+import twitter4j.management.ConnectionPoolStatistics;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -43,12 +44,11 @@ public class AlternativeHttpClientImpl extends HttpClientBase implements HttpRes
     private static final long serialVersionUID = 1757413669925424213L;
     private static final Logger logger = Logger.getLogger(AlternativeHttpClientImpl.class);
 
-    private static final int MAX_CONNECTIONS = 5;
-    private static final int KEEP_ALIVE_DURATION_MS = 300;
-
     private static final MediaType TEXT = MediaType.parse("text/plain; charset=utf-8");
     private static final MediaType FORM_URL_ENCODED = MediaType.parse("application/x-www-form-urlencoded");
     private static final MediaType APPLICATION_JSON = MediaType.parse("application/json");
+    // api, upload and stream hosts the client typically talks to, used to size OkHttp's pool whose idle limit is not per host
+    private static final int HOSTS = 3;
 
     private OkHttpClient okHttpClient;
 
@@ -69,7 +69,6 @@ public class AlternativeHttpClientImpl extends HttpClientBase implements HttpRes
     HttpResponse handleRequest(HttpRequest req) throws TwitterException {
         prepareOkHttpClient();
 
-        OkHttpResponse res = null;
         Request.Builder requestBuilder = new Request.Builder();
         requestBuilder.url(req.getURL()).headers(getHeaders(req));
         switch (req.getMethod()) {
@@ -93,13 +92,12 @@ public class AlternativeHttpClientImpl extends HttpClientBase implements HttpRes
         final Request request = requestBuilder.build();
 
 
-        int retriedCount;
-        int retry = CONF.getHttpRetryCount() + 1;
-        for (retriedCount = 0; retriedCount < retry; retriedCount++) {
+        for (int retriedCount = getInitialRetriedCount(); ; retriedCount++) {
             int responseCode = -1;
+            TwitterException te;
             try {
                 Call call = okHttpClient.newCall(request);
-                res = new OkHttpResponse(call, okHttpClient, CONF);
+                OkHttpResponse res = new OkHttpResponse(call, okHttpClient, CONF);
                 lastRequestProtocol = res.getProtocol();
                 responseCode = res.getStatusCode();
 
@@ -117,35 +115,17 @@ public class AlternativeHttpClientImpl extends HttpClientBase implements HttpRes
                         }
                     }
                 }
-                if (responseCode < OK || (responseCode != FOUND && MULTIPLE_CHOICES <= responseCode)) {
-                    if (responseCode == ENHANCE_YOUR_CLAIM ||
-                            responseCode == BAD_REQUEST ||
-                            responseCode < INTERNAL_SERVER_ERROR ||
-                            retriedCount == CONF.getHttpRetryCount()) {
-
-                        throw new TwitterException(res.asString(), res);
-                    }
-                } else {
-                    break;
+                if (OK <= responseCode && (responseCode == FOUND || responseCode < MULTIPLE_CHOICES)) {
+                    return res;
                 }
-
+                te = new TwitterException(res.asString(), res);
             } catch (IOException e) {
-                if (retriedCount == CONF.getHttpRetryCount()) {
-                    throw new TwitterException(e.getMessage(), e, responseCode);
-                }
+                te = new TwitterException(e.getMessage(), e, responseCode);
             }
-            try {
-                if (logger.isDebugEnabled() && res != null) {
-                    res.asString();
-                }
-                logger.debug("Sleeping " + CONF.getHttpRetryIntervalSeconds() + " seconds until the next retry.");
-                Thread.sleep(CONF.getHttpRetryIntervalSeconds() * 1000);
-            } catch (InterruptedException ignore) {
-                //nothing to do
+            if (!retry(req, retriedCount, te)) {
+                throw te;
             }
-
         }
-        return res;
     }
 
     private RequestBody getRequestBody(HttpRequest req) throws UnsupportedEncodingException {
@@ -175,7 +155,13 @@ public class AlternativeHttpClientImpl extends HttpClientBase implements HttpRes
             }
             return multipartBodyBuilder.build();
         } else if (HttpParameter.containsJson(req.getParameters())) {
-            return RequestBody.create(APPLICATION_JSON, req.getParameters()[0].getJsonObject().toString());
+            JSONBodyWriter writer = JSONBodyWriter.acquire();
+            try {
+                req.getParameters()[0].writeJSON(writer);
+                return RequestBody.create(APPLICATION_JSON, writer.toByteArray());
+            } finally {
+                writer.release();
+            }
         } else {
             return RequestBody.create(FORM_URL_ENCODED, HttpParameter.encodeParameters(req.getParameters()).getBytes("UTF-8"));
         }
@@ -246,7 +232,52 @@ public class AlternativeHttpClientImpl extends HttpClientBase implements HttpRes
             builder.protocols(protocols);
 
             //connectionPool setup
-            builder.connectionPool(new ConnectionPool(MAX_CONNECTIONS, KEEP_ALIVE_DURATION_MS, TimeUnit.MILLISECONDS));
+            // the dispatcher limits enqueued calls only. calls executed by handleRequest() are bounded by the calling threads
+            okhttp3.Dispatcher dispatcher = new okhttp3.Dispatcher();
+            dispatcher.setMaxRequestsPerHost(CONF.getHttpMaxConnectionsPerHost());
+            builder.dispatcher(dispatcher);
+            final ConnectionPool connectionPool = new ConnectionPool(CONF.getHttpMaxConnectionsPerHost() * HOSTS
+                    , CONF.getHttpKeepAliveMillis(), TimeUnit.MILLISECONDS);
+            builder.connectionPool(connectionPool);
+            final ConnectionPoolStatistics statistics = ConnectionPoolMonitor.getInstance().getStatistics();
+            statistics.addGauge(new ConnectionPoolStatistics.Gauge() {
+                @Override
+                public int getLeasedConnections() {
+                    return connectionPool.connectionCount() - connectionPool.idleConnectionCount();
+                }
+
+                @Override
+                public int getIdleConnections() {
+                    return connectionPool.idleConnectionCount();
+                }
+
+                @Override
+                public int getPendingRequests() {
+                    // calls are executed synchronously and never queued by OkHttp's dispatcher
+                    return 0;
+                }
+            });
+            builder.eventListenerFactory(new EventListener.Factory() {
+                @Override
+                public EventListener create(Call call) {
+                    return new EventListener() {
+                        private boolean connected = false;
+
+                        @Override
+                        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+                            connected = true;
+                            statistics.connectionCreated();
+                        }
+
+                        @Override
+                        public void connectionAcquired(Call call, Connection connection) {
+                            if (!connected) {
+                                statistics.connectionReused();
+                            }
+                        }
+                    };
+                }
+            });
 
             //redirect disable
             builder.followSslRedirects(false);
@@ -193,7 +193,31 @@ public final class FilterQuery implements java.io.Serializable {
     }
 
 
-    /*package*/ HttpParameter[] asHttpParameterArray(HttpParameter stallWarningsParam) {
+    /*package*/ int getCount() {
+        return count;
+    }
+
+    /*package*/ long[] getFollow() {
+        return follow;
+    }
+
+    /*package*/ String[] getTrack() {
+        return track;
+    }
+
+    /*package*/ double[][] getLocations() {
+        return locations;
+    }
+
+    /*package*/ String[] getLanguage() {
+        return language;
+    }
+
+    /*package*/ String getFilterLevel() {
+        return filterLevel;
+    }
+
+    /*package*/ HttpParameter[] asHttpParameterArray(HttpParameter... streamParams) {
         ArrayList<HttpParameter> params = new ArrayList<HttpParameter>();
 
         params.add(new HttpParameter("count", count));
@@ -212,7 +236,7 @@ public final class FilterQuery implements java.io.Serializable {
         if (filterLevel != null) {
             params.add(new HttpParameter("filter_level", filterLevel));
         }
-        params.add(stallWarningsParam);
+        params.addAll(Arrays.asList(streamParams));
         HttpParameter[] paramArray = new HttpParameter[params.size()];
         return params.toArray(paramArray);
     }
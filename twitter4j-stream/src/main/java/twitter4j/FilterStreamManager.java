@@ -0,0 +1,76 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+/**
+ * Consumes one large filter query over several connections.<br>
+ * The follow and track predicates are sharded so that no connection exceeds the per-connection limits of the streaming API, each connection being authorized with a credential of its own. The statuses received on all the connections are merged into a single listener pipeline, and the statuses matched by more than one connection are delivered only once.
+ *
+ * @see TwitterStreamFactory#getFilterStreamManager(twitter4j.auth.Authorization...)
+ * @since Twitter4J 4.0.8
+ */
+public interface FilterStreamManager {
+    /**
+     * @param listener StatusListener or RawStreamListener to add
+     * @return this instance
+     */
+    FilterStreamManager addListener(StreamListener listener);
+
+    /**
+     * @param listener listener to remove
+     * @return this instance
+     */
+    FilterStreamManager removeListener(StreamListener listener);
+
+    /**
+     * Starts consuming the statuses matching the query, replacing the query being consumed if any.<br>
+     * count, locations, language and filter level are not sharded: locations go to the first connection, and the others apply to every connection.
+     *
+     * @param query filter query
+     * @return this instance
+     * @throws IllegalStateException when no listener is set, or when there are not enough credentials to shard the query
+     */
+    FilterStreamManager filter(FilterQuery query);
+
+    /**
+     * Adds keywords to track. Keywords go to the least loaded connections, and only the connections whose predicates changed are reconnected.
+     *
+     * @param track keywords to add
+     * @return this instance
+     * @throws IllegalStateException when there are not enough credentials to shard the query
+     */
+    FilterStreamManager track(String... track);
+
+    /**
+     * Adds users to follow. Users go to the least loaded connections, and only the connections whose predicates changed are reconnected.
+     *
+     * @param follow ids of the users to add
+     * @return this instance
+     * @throws IllegalStateException when there are not enough credentials to shard the query
+     */
+    FilterStreamManager follow(long... follow);
+
+    /**
+     * @return the queries of the connections
+     */
+    FilterQuery[] getShards();
+
+    /**
+     * Closes all the connections and releases the threads consuming them.
+     */
+    void shutdown();
+}
@@ -0,0 +1,554 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import twitter4j.auth.Authorization;
+import twitter4j.conf.Configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * FilterStreamManager implementation. This class is NOT intended to be extended but left non-final for the ease of mock testing.
+ * <p>
+ * Shard i is consumed with the i-th credential. The connections run on a shared pool of I/O threads instead of threads of their own, so that the threads are reused when shards are reconnected.
+ *
+ * @since Twitter4J 4.0.8
+ */
+class FilterStreamManagerImpl implements FilterStreamManager {
+    private static final Logger logger = Logger.getLogger(FilterStreamManagerImpl.class);
+    private static final String[] STATUS_ID = {"id"};
+    private static final String[] DELETED_STATUS_ID = {"delete", "status", "id"};
+
+    private final Configuration conf;
+    private final Authorization[] authorizations;
+    private final int maxTrack;
+    private final int maxFollow;
+    private final ExecutorService ioPool;
+    private final List<StreamListener> listeners = new CopyOnWriteArrayList<StreamListener>();
+    private final StatusMerger statusMerger;
+    private final NoticeMerger noticeMerger;
+    private final RawMerger rawMerger;
+    private final List<Shard> shards = new ArrayList<Shard>();
+
+    // predicates of the logical query
+    private final Set<String> track = new LinkedHashSet<String>();
+    private final Set<Long> follow = new LinkedHashSet<Long>();
+    // count, locations, language and filter level of the logical query
+    private FilterQuery query = null;
+    private boolean shutdown = false;
+
+    /*package*/ FilterStreamManagerImpl(final Configuration conf, Authorization[] authorizations) {
+        if (authorizations.length == 0) {
+            throw new IllegalArgumentException("At least one credential is required.");
+        }
+        this.conf = conf;
+        this.authorizations = authorizations.clone();
+        this.maxTrack = conf.getStreamShardMaxTrack();
+        this.maxFollow = conf.getStreamShardMaxFollow();
+        RecentIds deletions = new RecentIds(conf.getStreamShardDedupCapacity());
+        this.statusMerger = new StatusMerger(new RecentIds(conf.getStreamShardDedupCapacity()), deletions);
+        this.noticeMerger = new NoticeMerger(deletions);
+        this.rawMerger = new RawMerger(conf.getStreamShardDedupCapacity());
+        this.ioPool = Executors.newCachedThreadPool(new ThreadFactory() {
+            int count = 0;
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r);
+                thread.setName(String.format("Twitter4J Stream I/O[%d]", count++));
+                thread.setDaemon(conf.isDaemonEnabled());
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * @param auth credential of the shard
+     * @return a stream consumed on the shared I/O threads
+     */
+    TwitterStream newStream(Authorization auth) {
+        return new TwitterStreamImpl(conf, auth, ioPool);
+    }
+
+    void connect(TwitterStream stream, FilterQuery query) {
+        stream.filter(query);
+    }
+
+    void disconnect(TwitterStream stream) {
+        stream.cleanUp();
+    }
+
+    void release(TwitterStream stream) {
+        stream.shutdown();
+    }
+
+    @Override
+    public synchronized FilterStreamManager addListener(StreamListener listener) {
+        listeners.add(listener);
+        for (Shard shard : shards) {
+            shard.updateMergers();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized FilterStreamManager removeListener(StreamListener listener) {
+        listeners.remove(listener);
+        for (Shard shard : shards) {
+            shard.updateMergers();
+        }
+        return this;
+    }
+
+    private boolean hasListeners(Class<? extends StreamListener> type) {
+        for (StreamListener listener : listeners) {
+            if (type.isInstance(listener)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasStatusConsumers() {
+        for (StreamListener listener : listeners) {
+            if (StatusStreamBase.consumesStatuses(listener)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized FilterStreamManager filter(FilterQuery query) {
+        ensureNotShutdown();
+        if (!hasListeners(StatusListener.class) && !hasListeners(RawStreamListener.class)) {
+            throw new IllegalStateException("StatusListener is not set.");
+        }
+        Set<String> track = new LinkedHashSet<String>();
+        if (query.getTrack() != null) {
+            for (String term : query.getTrack()) {
+                track.add(term);
+            }
+        }
+        Set<Long> follow = new LinkedHashSet<Long>();
+        if (query.getFollow() != null) {
+            for (long id : query.getFollow()) {
+                follow.add(id);
+            }
+        }
+        ensureCapacity(Math.max(1, Math.max(shardsFor(track.size(), maxTrack), shardsFor(follow.size(), maxFollow))));
+
+        this.query = query;
+        this.track.clear();
+        this.follow.clear();
+        for (Shard shard : shards) {
+            shard.track.clear();
+            shard.follow.clear();
+            // count, locations, language or filter level may have changed as well
+            shard.changed = true;
+        }
+        if (shards.isEmpty()) {
+            shards.add(new Shard(newStream(authorizations[0])));
+        }
+        assign(track, follow);
+        apply();
+        return this;
+    }
+
+    @Override
+    public synchronized FilterStreamManager track(String... track) {
+        if (query == null) {
+            return filter(new FilterQuery().track(track));
+        }
+        ensureNotShutdown();
+        Set<String> added = new LinkedHashSet<String>();
+        for (String term : track) {
+            if (!this.track.contains(term)) {
+                added.add(term);
+            }
+        }
+        assign(added, new ArrayList<Long>(0));
+        apply();
+        return this;
+    }
+
+    @Override
+    public synchronized FilterStreamManager follow(long... follow) {
+        if (query == null) {
+            return filter(new FilterQuery().follow(follow));
+        }
+        ensureNotShutdown();
+        Set<Long> added = new LinkedHashSet<Long>();
+        for (long id : follow) {
+            if (!this.follow.contains(id)) {
+                added.add(id);
+            }
+        }
+        assign(new ArrayList<String>(0), added);
+        apply();
+        return this;
+    }
+
+    private static int shardsFor(int predicates, int max) {
+        return (predicates + max - 1) / max;
+    }
+
+    private void ensureCapacity(int numberOfShards) {
+        if (numberOfShards > authorizations.length) {
+            throw new IllegalStateException(String.format("The query needs %d connections, but only %d credentials are available.",
+                    numberOfShards, authorizations.length));
+        }
+    }
+
+    private void ensureNotShutdown() {
+        if (shutdown) {
+            throw new IllegalStateException("FilterStreamManager has been shut down.");
+        }
+    }
+
+    /**
+     * Adds the predicates to the least loaded shards, opening new shards when the existing ones are full.
+     */
+    private void assign(Collection<String> track, Collection<Long> follow) {
+        int freeTrack = 0;
+        int freeFollow = 0;
+        for (Shard shard : shards) {
+            freeTrack += maxTrack - shard.track.size();
+            freeFollow += maxFollow - shard.follow.size();
+        }
+        int newShards = Math.max(shardsFor(Math.max(0, track.size() - freeTrack), maxTrack),
+                shardsFor(Math.max(0, follow.size() - freeFollow), maxFollow));
+        ensureCapacity(shards.size() + newShards);
+        for (int i = 0; i < newShards; i++) {
+            shards.add(new Shard(newStream(authorizations[shards.size()])));
+        }
+        for (String term : track) {
+            Shard shard = null;
+            for (Shard candidate : shards) {
+                if (candidate.track.size() < maxTrack && (shard == null || candidate.track.size() < shard.track.size())) {
+                    shard = candidate;
+                }
+            }
+            shard.track.add(term);
+            shard.changed = true;
+            this.track.add(term);
+        }
+        for (Long id : follow) {
+            Shard shard = null;
+            for (Shard candidate : shards) {
+                if (candidate.follow.size() < maxFollow && (shard == null || candidate.follow.size() < shard.follow.size())) {
+                    shard = candidate;
+                }
+            }
+            shard.follow.add(id);
+            shard.changed = true;
+            this.follow.add(id);
+        }
+    }
+
+    /**
+     * Reconnects the shards whose predicates changed, and releases the credentials of the trailing shards left without predicates.
+     */
+    private void apply() {
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get(i);
+            if (!shard.changed) {
+                continue;
+            }
+            shard.changed = false;
+            FilterQuery shardQuery = shard.toQuery(i == 0);
+            if (shardQuery != null) {
+                logger.info("Connecting shard " + i + ": " + shardQuery);
+                shard.updateMergers();
+                connect(shard.stream, shardQuery);
+                shard.connected = true;
+            } else if (shard.connected) {
+                disconnect(shard.stream);
+                shard.connected = false;
+            }
+        }
+        while (shards.size() > 1 && !shards.get(shards.size() - 1).connected) {
+            release(shards.remove(shards.size() - 1).stream);
+        }
+    }
+
+    @Override
+    public synchronized FilterQuery[] getShards() {
+        List<FilterQuery> queries = new ArrayList<FilterQuery>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            FilterQuery shardQuery = shards.get(i).toQuery(i == 0);
+            if (shardQuery != null) {
+                queries.add(shardQuery);
+            }
+        }
+        return queries.toArray(new FilterQuery[queries.size()]);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        for (Shard shard : shards) {
+            shard.stream.shutdown();
+        }
+        shards.clear();
+        ioPool.shutdown();
+    }
+
+    /**
+     * One connection, and the part of the logical query it consumes.
+     */
+    private final class Shard {
+        private final TwitterStream stream;
+        private final Set<String> track = new LinkedHashSet<String>();
+        private final Set<Long> follow = new LinkedHashSet<Long>();
+        private boolean changed = false;
+        private boolean connected = false;
+        // statusMerger, noticeMerger or null
+        private StatusListener addedStatusMerger = null;
+        private boolean rawMergerAdded = false;
+
+        Shard(TwitterStream stream) {
+            this.stream = stream;
+        }
+
+        /**
+         * Adds the mergers the listeners need to the stream, and removes the others so that the stream doesn't bind or decode messages for nothing.
+         * Statuses are bound only if a listener consumes them, the notices are merged for the other status listeners.
+         */
+        void updateMergers() {
+            StatusListener merger = hasStatusConsumers() ? statusMerger
+                    : hasListeners(StatusListener.class) ? noticeMerger : null;
+            if (merger != addedStatusMerger) {
+                if (addedStatusMerger != null) {
+                    stream.removeListener(addedStatusMerger);
+                }
+                if (merger != null) {
+                    stream.addListener(merger);
+                }
+                addedStatusMerger = merger;
+            }
+            boolean rawListeners = hasListeners(RawStreamListener.class);
+            if (rawListeners != rawMergerAdded) {
+                if (rawListeners) {
+                    stream.addListener(rawMerger);
+                } else {
+                    stream.removeListener(rawMerger);
+                }
+                rawMergerAdded = rawListeners;
+            }
+        }
+
+        /**
+         * @param first true for the shard consuming the locations
+         * @return query of the shard, or null if the shard has no predicates
+         */
+        FilterQuery toQuery(boolean first) {
+            double[][] locations = first ? query.getLocations() : null;
+            boolean hasLocations = locations != null && locations.length > 0;
+            if (track.isEmpty() && follow.isEmpty() && !hasLocations) {
+                return null;
+            }
+            FilterQuery shardQuery = new FilterQuery().count(query.getCount());
+            if (!track.isEmpty()) {
+                shardQuery.track(track.toArray(new String[track.size()]));
+            }
+            if (!follow.isEmpty()) {
+                long[] ids = new long[follow.size()];
+                int i = 0;
+                for (Long id : follow) {
+                    ids[i++] = id;
+                }
+                shardQuery.follow(ids);
+            }
+            if (hasLocations) {
+                shardQuery.locations(locations);
+            }
+            if (query.getLanguage() != null) {
+                shardQuery.language(query.getLanguage());
+            }
+            if (query.getFilterLevel() != null) {
+                shardQuery.filterLevel(query.getFilterLevel());
+            }
+            return shardQuery;
+        }
+    }
+
+    /**
+     * Ids seen lately. The oldest ids are forgotten beyond the capacity, which only needs to cover the time a status takes to arrive on all the connections matching it.
+     */
+    static final class RecentIds {
+        private final long[] ring;
+        private final Set<Long> ids;
+        private int next = 0;
+
+        RecentIds(int capacity) {
+            ring = new long[Math.max(1, capacity)];
+            ids = new HashSet<Long>(ring.length * 4 / 3 + 1);
+        }
+
+        /**
+         * @param id id
+         * @return false if the id has been seen lately
+         */
+        synchronized boolean add(long id) {
+            if (!ids.add(id)) {
+                return false;
+            }
+            if (ids.size() > ring.length) {
+                ids.remove(ring[next]);
+            }
+            ring[next] = id;
+            next = (next + 1) % ring.length;
+            return true;
+        }
+    }
+
+    /**
+     * Hands the messages received on all the connections to the status listeners, each status and deletion notice once.
+     */
+    final class StatusMerger extends NoticeMerger {
+        private final RecentIds statuses;
+
+        StatusMerger(RecentIds statuses, RecentIds deletions) {
+            super(deletions);
+            this.statuses = statuses;
+        }
+
+        @Override
+        public void onStatus(Status status) {
+            if (statuses.add(status.getId())) {
+                for (StreamListener listener : listeners) {
+                    if (listener instanceof StatusListener) {
+                        ((StatusListener) listener).onStatus(status);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands the notices received on all the connections to the status listeners, each deletion notice once.
+     * Inherits the no-op onStatus of StatusAdapter, so that the streams skip binding statuses while no listener consumes them.
+     */
+    class NoticeMerger extends StatusAdapter {
+        private final RecentIds deletions;
+
+        NoticeMerger(RecentIds deletions) {
+            this.deletions = deletions;
+        }
+
+        @Override
+        public void onDeletionNotice(StatusDeletionNotice statusDeletionNotice) {
+            if (deletions.add(statusDeletionNotice.getStatusId())) {
+                for (StreamListener listener : listeners) {
+                    if (listener instanceof StatusListener) {
+                        ((StatusListener) listener).onDeletionNotice(statusDeletionNotice);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+            // limit notices count the statuses of one connection
+            for (StreamListener listener : listeners) {
+                if (listener instanceof StatusListener) {
+                    ((StatusListener) listener).onTrackLimitationNotice(numberOfLimitedStatuses);
+                }
+            }
+        }
+
+        @Override
+        public void onScrubGeo(long userId, long upToStatusId) {
+            for (StreamListener listener : listeners) {
+                if (listener instanceof StatusListener) {
+                    ((StatusListener) listener).onScrubGeo(userId, upToStatusId);
+                }
+            }
+        }
+
+        @Override
+        public void onStallWarning(StallWarning warning) {
+            for (StreamListener listener : listeners) {
+                if (listener instanceof StatusListener) {
+                    ((StatusListener) listener).onStallWarning(warning);
+                }
+            }
+        }
+
+        @Override
+        public void onException(Exception ex) {
+            for (StreamListener listener : listeners) {
+                if (listener instanceof StatusListener) {
+                    listener.onException(ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands the messages received on all the connections to the raw listeners, each status and deletion notice once.
+     */
+    final class RawMerger implements RawStreamListener {
+        private final RecentIds statuses;
+        private final RecentIds deletions;
+
+        RawMerger(int capacity) {
+            statuses = new RecentIds(capacity);
+            deletions = new RecentIds(capacity);
+        }
+
+        @Override
+        public void onMessage(String rawString) {
+            String type = StatusStreamBase.StreamEvent.getType(rawString, rawString.indexOf('"') + 1);
+            if (type == null) {
+                long id = StreamMessageScanner.findLong(rawString, STATUS_ID, null);
+                if (id >= 0 && !statuses.add(id)) {
+                    return;
+                }
+            } else if ("delete".equals(type)) {
+                long id = StreamMessageScanner.findLong(rawString, DELETED_STATUS_ID, null);
+                if (id >= 0 && !deletions.add(id)) {
+                    return;
+                }
+            }
+            for (StreamListener listener : listeners) {
+                if (listener instanceof RawStreamListener) {
+                    ((RawStreamListener) listener).onMessage(rawString);
+                }
+            }
+        }
+
+        @Override
+        public void onException(Exception ex) {
+            for (StreamListener listener : listeners) {
+                if (listener instanceof RawStreamListener) {
+                    listener.onException(ex);
+                }
+            }
+        }
+    }
+}
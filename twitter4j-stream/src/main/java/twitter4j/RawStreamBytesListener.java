@@ -0,0 +1,32 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+/**
+ * A {@link RawStreamListener} receiving the raw UTF-8 bytes of the messages, so that they don't have to be decoded into Strings.<br>
+ * {@link #onMessage(String)} is not called for listeners implementing this interface.
+ *
+ * @since Twitter4J 4.0.8
+ */
+public interface RawStreamBytesListener extends RawStreamListener {
+    /**
+     * @param message UTF-8 bytes of the message. The array is shared with the other listeners and must not be modified.
+     * @param offset  offset of the message in the array
+     * @param length  length of the message in bytes
+     */
+    void onMessage(byte[] message, int offset, int length);
+}
@@ -40,9 +40,10 @@ final class SiteStreamsImpl extends StatusStreamBase {
     }
 
     @Override
-    protected String parseLine(String line) {
-        if ("".equals(line) || null == line) {
-            return line;
+    protected StreamMessage parseLine(StreamMessage message) {
+        String line = message.toString();
+        if ("".equals(line)) {
+            return message;
         }
         int userIdEnd = line.indexOf(',', 12);
         // in the documentation for_user is not quoted, but actually it is quoted
@@ -66,14 +67,14 @@ final class SiteStreamsImpl extends StatusStreamBase {
         if (line.charAt(2) == 'd') {
             // disconnection notice
             // {"disconnect":{"code":3,"stream_name":"yusuke-sitestream6139-yusuke","reason":"control request for yusuke-sitestream6139 106.171.17.29 /1.1/site.json sitestream"}}
-            return line;
+            return message;
         }
         if (line.charAt(12) == '"') {
             forUser.set(Long.parseLong(line.substring(13, userIdEnd - 1)));
         } else {
             forUser.set(Long.parseLong(line.substring(12, userIdEnd)));
         }
-        return line.substring(userIdEnd + 11, line.length() - 1);
+        return new StreamMessage(line.substring(userIdEnd + 11, line.length() - 1));
     }
 
     @Override
@@ -90,9 +91,13 @@ final class SiteStreamsImpl extends StatusStreamBase {
             };
 
     @Override
-    protected void onMessage(String rawString, RawStreamListener[] listeners) throws TwitterException {
+    protected void onMessage(StreamMessage message, RawStreamListener[] listeners) throws TwitterException {
         for (RawStreamListener listener : listeners) {
-            listener.onMessage(rawString);
+            if (listener instanceof RawStreamBytesListener) {
+                ((RawStreamBytesListener) listener).onMessage(message.getBytes(), 0, message.getBytes().length);
+            } else {
+                listener.onMessage(message.toString());
+            }
         }
     }
 
@@ -104,18 +109,16 @@ final class SiteStreamsImpl extends StatusStreamBase {
     }
 
     @Override
-    protected void onDelete(final JSONObject json, StreamListener[] listeners) throws JSONException {
-        JSONObject deletionNotice = json.getJSONObject("delete");
-        if (deletionNotice.has("status")) {
-            for (StreamListener listener : listeners) {
-                ((SiteStreamsListener) listener).onDeletionNotice(forUser.get(), new StatusDeletionNoticeImpl(deletionNotice.getJSONObject("status")));
-            }
-        } else {
-            JSONObject directMessage = deletionNotice.getJSONObject("direct_message");
-            for (StreamListener listener : listeners) {
-                ((SiteStreamsListener) listener).onDeletionNotice(forUser.get(), ParseUtil.getInt("id", directMessage)
-                        , ParseUtil.getLong("user_id", directMessage));
-            }
+    protected void onDelete(final StatusDeletionNotice deletionNotice, StreamListener[] listeners) {
+        for (StreamListener listener : listeners) {
+            ((SiteStreamsListener) listener).onDeletionNotice(forUser.get(), deletionNotice);
+        }
+    }
+
+    @Override
+    protected void onDirectMessageDeletion(final long directMessageId, final long userId, StreamListener[] listeners) {
+        for (StreamListener listener : listeners) {
+            ((SiteStreamsListener) listener).onDeletionNotice(forUser.get(), directMessageId, userId);
         }
     }
 
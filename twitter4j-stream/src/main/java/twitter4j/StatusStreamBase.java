@@ -18,10 +18,10 @@ package twitter4j;
 
 import twitter4j.conf.Configuration;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.util.Arrays;
 
 /**
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -31,21 +31,23 @@ abstract class StatusStreamBase implements StatusStream {
     static final Logger logger = Logger.getLogger(StatusStreamImpl.class);
 
     private boolean streamAlive = true;
-    private BufferedReader br;
+    private StreamMessageReader reader;
     private InputStream is;
     private HttpResponse response;
     private final Dispatcher dispatcher;
     final Configuration CONF;
     private ObjectFactory factory;
+    private final StreamPartitionKey partitionKey;
 
     /*package*/
 
     StatusStreamBase(Dispatcher dispatcher, InputStream stream, Configuration conf) throws IOException {
         this.is = stream;
-        this.br = new BufferedReader(new InputStreamReader(stream, "UTF-8"));
+        this.reader = new StreamMessageReader(stream);
         this.dispatcher = dispatcher;
         this.CONF = conf;
         this.factory = new JSONImplFactory(conf);
+        this.partitionKey = StreamPartitionKey.of(conf.getStreamDispatchPartitionKey());
     }
     /*package*/
 
@@ -54,15 +56,352 @@ abstract class StatusStreamBase implements StatusStream {
         this.response = response;
     }
 
-    String parseLine(String line) {
-        return line;
+    StreamMessage parseLine(StreamMessage message) {
+        return message;
     }
 
-    abstract class StreamEvent implements Runnable {
-        String line;
+    /**
+     * Listeners the messages of this stream are handed to. The handler is kept as long as the same listeners are passed, so that consecutive events share it.
+     */
+    private Handler handler;
 
-        StreamEvent(String line) {
-            this.line = line;
+    final class Handler {
+        private final StreamListener[] listeners;
+        private final RawStreamListener[] rawStreamListeners;
+        private final boolean statusesConsumed;
+        private final boolean userEventsConsumed;
+
+        Handler(StreamListener[] listeners, RawStreamListener[] rawStreamListeners) {
+            this.listeners = listeners;
+            this.rawStreamListeners = rawStreamListeners;
+            boolean statusesConsumed = false;
+            boolean userEventsConsumed = false;
+            for (StreamListener listener : listeners) {
+                statusesConsumed |= consumesStatuses(listener);
+                userEventsConsumed |= listener instanceof UserStreamListener || listener instanceof SiteStreamsListener;
+            }
+            this.statusesConsumed = statusesConsumed;
+            this.userEventsConsumed = userEventsConsumed;
+        }
+
+        boolean handles(StreamListener[] listeners, RawStreamListener[] rawStreamListeners) {
+            return Arrays.equals(this.listeners, listeners) && Arrays.equals(this.rawStreamListeners, rawStreamListeners);
+        }
+
+        StreamPartitionKey getPartitionKey() {
+            return partitionKey;
+        }
+
+        void handle(StreamMessage message) {
+            try {
+                if (rawStreamListeners.length > 0) {
+                    onMessage(message, rawStreamListeners);
+                }
+                // SiteStreamsImpl will parse "forUser" attribute
+                StreamMessage line = parseLine(message);
+                if (line != null && !line.isEmpty()) {
+                    // parsing JSON is an expensive process and can be avoided when all listeners are instanceof RawStreamListener
+                    if (listeners.length > 0 && !decode(line)) {
+                        JSONObject json = new JSONObject(line.toString());
+                        JSONObjectType.Type event = JSONObjectType.determine(json);
+                        if (logger.isDebugEnabled()) {
+                            logger.debug("Received:", CONF.getHttpClientConfiguration().isPrettyDebugEnabled() ? json.toString(1) : json.toString());
+                        }
+                        switch (event) {
+                            case SENDER:
+                                onSender(json, listeners);
+                                break;
+                            case STATUS:
+                                onStatus(json, listeners);
+                                break;
+                            case DIRECT_MESSAGE:
+                                onDirectMessage(json, listeners);
+                                break;
+                            case DELETE:
+                                decodeDelete(line);
+                                break;
+                            case LIMIT:
+                                // a missing or malformed track count is reported through onException
+                                onLimit(json.getJSONObject("limit").getInt("track"), listeners);
+                                break;
+                            case STALL_WARNING:
+                                onStallWarning(json, listeners);
+                                break;
+                            case SCRUB_GEO:
+                                decodeScrubGeo(line);
+                                break;
+                            case FRIENDS:
+                                onFriends(json, listeners);
+                                break;
+                            case FAVORITE:
+                                onFavorite(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case UNFAVORITE:
+                                onUnfavorite(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case FOLLOW:
+                                onFollow(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
+                                break;
+                            case UNFOLLOW:
+                                onUnfollow(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
+                                break;
+                            case USER_LIST_MEMBER_ADDED:
+                                onUserListMemberAddition(json.getJSONObject("target"), json.getJSONObject("source"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case USER_LIST_MEMBER_DELETED:
+                                onUserListMemberDeletion(json.getJSONObject("target"), json.getJSONObject("source"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case USER_LIST_SUBSCRIBED:
+                                onUserListSubscription(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case USER_LIST_UNSUBSCRIBED:
+                                onUserListUnsubscription(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case USER_LIST_CREATED:
+                                onUserListCreation(json.getJSONObject("source"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case USER_LIST_UPDATED:
+                                onUserListUpdated(json.getJSONObject("source"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case USER_LIST_DESTROYED:
+                                onUserListDestroyed(json.getJSONObject("source"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case USER_UPDATE:
+                                onUserUpdate(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
+                                break;
+                            case USER_DELETE:
+                                onUserDeletion(json.getLong("target"), listeners);
+                                break;
+                            case USER_SUSPEND:
+                                onUserSuspension(json.getLong("target"), listeners);
+                                break;
+                            case BLOCK:
+                                onBlock(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
+                                break;
+                            case UNBLOCK:
+                                onUnblock(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
+                                break;
+                            case RETWEETED_RETWEET:
+                                onRetweetedRetweet(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case FAVORITED_RETWEET:
+                                onFavoritedRetweet(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case QUOTED_TWEET:
+                                onQuotedTweet(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
+                                break;
+                            case DISCONNECTION:
+                                onDisconnectionNotice(line.toString(), listeners);
+                                break;
+                            case MUTE:
+                                onMute(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
+                                break;
+                            case UNMUTE:
+                                onUnmute(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
+                                break;
+                            case UNKNOWN:
+                            default:
+                                logger.warn("Received unknown event:", CONF.getHttpClientConfiguration().isPrettyDebugEnabled() ? json.toString(1) : json.toString());
+                        }
+                    }
+                }
+            } catch (Exception ex) {
+                onException(ex, listeners);
+            }
+        }
+
+        /**
+         * Hands the message to the listeners without building a JSONObject when the type sniffed from its first key allows it.
+         *
+         * @param line the message, unwrapped from the site streams envelope
+         * @return false if the message has to be parsed
+         */
+        private boolean decode(StreamMessage line) throws TwitterException, JSONException {
+            CharSequence scannable = line.getScannable();
+            String type = StreamEvent.getType(scannable, StreamMessageScanner.indexOf(scannable, "\"", 0) + 1);
+            if ("delete".equals(type)) {
+                decodeDelete(line);
+            } else if ("limit".equals(type)) {
+                if (!decodeLimit(line)) {
+                    return false;
+                }
+            } else if ("scrub_geo".equals(type)) {
+                decodeScrubGeo(line);
+            } else if ("event".equals(type) || "friends".equals(type) || "friends_str".equals(type) || "direct_message".equals(type)) {
+                if (userEventsConsumed) {
+                    return false;
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Skipped:", line.toString());
+                }
+                return true;
+            } else if (type == null) {
+                // statuses, as well as user stream events and direct messages whose first key doesn't tell their type
+                if (statusesConsumed || userEventsConsumed) {
+                    return false;
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Skipped:", line.toString());
+                }
+                return true;
+            } else {
+                return false;
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Received:", line.toString());
+            }
+            return true;
+        }
+
+        private void decodeDelete(StreamMessage line) throws TwitterException, JSONException {
+            CharSequence scannable = line.getScannable();
+            long statusId = StreamMessageScanner.findLong(scannable, DELETED_STATUS_ID, null);
+            if (statusId >= 0) {
+                onDelete(new StatusDeletionNoticeImpl(statusId, StreamMessageScanner.findLong(scannable, DELETED_STATUS_USER_ID, null)), listeners);
+                return;
+            }
+            long directMessageId = StreamMessageScanner.findLong(scannable, DELETED_DIRECT_MESSAGE_ID, null);
+            if (directMessageId < 0) {
+                throw new JSONException("Unexpected deletion notice: " + line);
+            }
+            onDirectMessageDeletion(directMessageId, StreamMessageScanner.findLong(scannable, DELETED_DIRECT_MESSAGE_USER_ID, null), listeners);
+        }
+
+        /**
+         * @return false if the track count could not be scanned, so that the message is parsed
+         */
+        private boolean decodeLimit(StreamMessage line) throws TwitterException {
+            long track = StreamMessageScanner.findLong(line.getScannable(), LIMIT_TRACK, null);
+            if (track < 0) {
+                return false;
+            }
+            onLimit((int) track, listeners);
+            return true;
+        }
+
+        private void decodeScrubGeo(StreamMessage line) throws TwitterException {
+            CharSequence scannable = line.getScannable();
+            onScrubGeo(StreamMessageScanner.findLong(scannable, SCRUB_GEO_USER_ID, null)
+                    , StreamMessageScanner.findLong(scannable, SCRUB_GEO_UP_TO_STATUS_ID, null), listeners);
+        }
+    }
+
+    // paths of the values the lightweight decoders read from the raw messages
+    private static final String[] DELETED_STATUS_ID = {"delete", "status", "id"};
+    private static final String[] DELETED_STATUS_USER_ID = {"delete", "status", "user_id"};
+    private static final String[] DELETED_DIRECT_MESSAGE_ID = {"delete", "direct_message", "id"};
+    private static final String[] DELETED_DIRECT_MESSAGE_USER_ID = {"delete", "direct_message", "user_id"};
+    private static final String[] LIMIT_TRACK = {"limit", "track"};
+    private static final String[] SCRUB_GEO_USER_ID = {"scrub_geo", "user_id"};
+    private static final String[] SCRUB_GEO_UP_TO_STATUS_ID = {"scrub_geo", "up_to_status_id"};
+
+    /**
+     * @param listener listener
+     * @return false if the listener inherits the no-op onStatus of the adapters, so that statuses don't need to be bound for it
+     */
+    static boolean consumesStatuses(StreamListener listener) {
+        try {
+            Method onStatus;
+            if (listener instanceof SiteStreamsListener) {
+                onStatus = listener.getClass().getMethod("onStatus", long.class, Status.class);
+            } else if (listener instanceof StatusListener) {
+                onStatus = listener.getClass().getMethod("onStatus", Status.class);
+            } else {
+                return false;
+            }
+            Class<?> declaringClass = onStatus.getDeclaringClass();
+            return declaringClass != StatusAdapter.class && declaringClass != SiteStreamsAdapter.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        } catch (SecurityException e) {
+            return true;
+        }
+    }
+
+    /**
+     * One message of the stream, waiting to be handed to the listeners.
+     */
+    static final class StreamEvent implements BoundedDispatcher.Event, PartitionedDispatcher.Keyed {
+        // top-level keys of the messages other than statuses, see https://developer.twitter.com/en/docs/tweets/filter-realtime/guides/streaming-message-types
+        private static final String[] TYPES = {"delete", "limit", "scrub_geo", "status_withheld", "user_withheld", "disconnect",
+                "warning", "friends", "friends_str", "event", "direct_message", "control"};
+        private final Handler handler;
+        private final StreamMessage message;
+        private String type;
+
+        StreamEvent(Handler handler, StreamMessage message) {
+            this.handler = handler;
+            this.message = message;
+        }
+
+        @Override
+        public void run() {
+            handler.handle(message);
+        }
+
+        /**
+         * @return the first top-level key of the message if it's one of the non-status message types, "event" for user stream events, "status" otherwise
+         */
+        @Override
+        public String getType() {
+            if (type == null) {
+                type = getType(message.getScannable());
+            }
+            return type;
+        }
+
+        private static String getType(CharSequence line) {
+            String envelope = null;
+            int keyStart = StreamMessageScanner.indexOf(line, "\"", 0) + 1;
+            if (StreamMessageScanner.startsWith(line, "for_user\"", keyStart)) {
+                // site streams envelope: {"for_user":1888,"message":{...}}
+                envelope = "message";
+                int message = StreamMessageScanner.indexOf(line, "\"message\"", keyStart);
+                keyStart = message < 0 ? 0 : StreamMessageScanner.indexOf(line, "\"", message + 10) + 1;
+            }
+            String type = getType(line, keyStart);
+            if (type != null) {
+                return type;
+            }
+            // the event key of user stream events may come after source, target and target_object
+            return StreamMessageScanner.hasKey(line, "event", envelope) ? "event" : "status";
+        }
+
+        /**
+         * @param line     the message
+         * @param keyStart index of the first key of the message, after the opening quote
+         * @return the key if it's one of the non-status message types, null otherwise
+         */
+        static String getType(CharSequence line, int keyStart) {
+            if (keyStart > 0) {
+                for (String type : TYPES) {
+                    if (StreamMessageScanner.startsWith(line, type, keyStart) && StreamMessageScanner.startsWith(line, "\"", keyStart + type.length())) {
+                        return type;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public long getPartitionKey() {
+            StreamPartitionKey key = handler.getPartitionKey();
+            return key == null ? -1 : key.get(getType(), message.getScannable());
+        }
+
+        @Override
+        public String getMessage() {
+            return message.toString();
+        }
+
+        @Override
+        public Object getHandler() {
+            return handler;
+        }
+
+        @Override
+        public BoundedDispatcher.Event withMessage(String message) {
+            return new StreamEvent(handler, new StreamMessage(message));
         }
     }
 
@@ -72,134 +411,17 @@ abstract class StatusStreamBase implements StatusStream {
             throw new IllegalStateException("Stream already closed.");
         }
         try {
-            String line = br.readLine();
-            if (null == line) {
+            StreamMessage message = reader.next();
+            if (null == message) {
                 //invalidate this status stream
                 throw new IOException("the end of the stream has been reached");
             }
-            dispatcher.invokeLater(new StreamEvent(line) {
-                @Override
-                public void run() {
-                    try {
-                        if (rawStreamListeners.length > 0) {
-                            onMessage(line, rawStreamListeners);
-                        }
-                        // SiteStreamsImpl will parse "forUser" attribute
-                        line = parseLine(line);
-                        if (line != null && line.length() > 0) {
-                            // parsing JSON is an expensive process and can be avoided when all listeners are instanceof RawStreamListener
-                            if (listeners.length > 0) {
-                                if (CONF.isJSONStoreEnabled()) {
-                                    TwitterObjectFactory.clearThreadLocalMap();
-                                }
-                                JSONObject json = new JSONObject(line);
-                                JSONObjectType.Type event = JSONObjectType.determine(json);
-                                if (logger.isDebugEnabled()) {
-                                    logger.debug("Received:", CONF.getHttpClientConfiguration().isPrettyDebugEnabled() ? json.toString(1) : json.toString());
-                                }
-                                switch (event) {
-                                    case SENDER:
-                                        onSender(json, listeners);
-                                        break;
-                                    case STATUS:
-                                        onStatus(json, listeners);
-                                        break;
-                                    case DIRECT_MESSAGE:
-                                        onDirectMessage(json, listeners);
-                                        break;
-                                    case DELETE:
-                                        onDelete(json, listeners);
-                                        break;
-                                    case LIMIT:
-                                        onLimit(json, listeners);
-                                        break;
-                                    case STALL_WARNING:
-                                        onStallWarning(json, listeners);
-                                        break;
-                                    case SCRUB_GEO:
-                                        onScrubGeo(json, listeners);
-                                        break;
-                                    case FRIENDS:
-                                        onFriends(json, listeners);
-                                        break;
-                                    case FAVORITE:
-                                        onFavorite(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case UNFAVORITE:
-                                        onUnfavorite(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case FOLLOW:
-                                        onFollow(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
-                                        break;
-                                    case UNFOLLOW:
-                                        onUnfollow(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
-                                        break;
-                                    case USER_LIST_MEMBER_ADDED:
-                                        onUserListMemberAddition(json.getJSONObject("target"), json.getJSONObject("source"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case USER_LIST_MEMBER_DELETED:
-                                        onUserListMemberDeletion(json.getJSONObject("target"), json.getJSONObject("source"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case USER_LIST_SUBSCRIBED:
-                                        onUserListSubscription(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case USER_LIST_UNSUBSCRIBED:
-                                        onUserListUnsubscription(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case USER_LIST_CREATED:
-                                        onUserListCreation(json.getJSONObject("source"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case USER_LIST_UPDATED:
-                                        onUserListUpdated(json.getJSONObject("source"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case USER_LIST_DESTROYED:
-                                        onUserListDestroyed(json.getJSONObject("source"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case USER_UPDATE:
-                                        onUserUpdate(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
-                                        break;
-                                    case USER_DELETE:
-                                        onUserDeletion(json.getLong("target"), listeners);
-                                        break;
-                                    case USER_SUSPEND:
-                                        onUserSuspension(json.getLong("target"), listeners);
-                                        break;
-                                    case BLOCK:
-                                        onBlock(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
-                                        break;
-                                    case UNBLOCK:
-                                        onUnblock(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
-                                        break;
-                                    case RETWEETED_RETWEET:
-                                        onRetweetedRetweet(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case FAVORITED_RETWEET:
-                                        onFavoritedRetweet(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case QUOTED_TWEET:
-                                        onQuotedTweet(json.getJSONObject("source"), json.getJSONObject("target"), json.getJSONObject("target_object"), listeners);
-                                        break;
-                                    case DISCONNECTION:
-                                        onDisconnectionNotice(line, listeners);
-                                        break;
-                                    case MUTE:
-                                        onMute(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
-                                        break;
-                                    case UNMUTE:
-                                        onUnmute(json.getJSONObject("source"), json.getJSONObject("target"), listeners);
-                                        break;
-                                    case UNKNOWN:
-                                    default:
-                                        logger.warn("Received unknown event:", CONF.getHttpClientConfiguration().isPrettyDebugEnabled() ? json.toString(1) : json.toString());
-                                }
-                            }
-                        }
-                    } catch (Exception ex) {
-                        onException(ex, listeners);
-                    }
-                }
-            });
-
+            Handler handler = this.handler;
+            if (handler == null || !handler.handles(listeners, rawStreamListeners)) {
+                handler = new Handler(listeners, rawStreamListeners);
+                this.handler = handler;
+            }
+            dispatcher.invokeLater(new StreamEvent(handler, message));
         } catch (IOException ioe) {
             try {
                 is.close();
@@ -214,7 +436,7 @@ abstract class StatusStreamBase implements StatusStream {
         }
     }
 
-    void onMessage(String rawString, RawStreamListener[] listeners) throws TwitterException {
+    void onMessage(StreamMessage message, RawStreamListener[] listeners) throws TwitterException {
         logger.warn("Unhandled event: onMessage");
     }
 
@@ -230,11 +452,15 @@ abstract class StatusStreamBase implements StatusStream {
         logger.warn("Unhandled event: onDirectMessage");
     }
 
-    void onDelete(JSONObject json, StreamListener[] listeners) throws TwitterException, JSONException {
+    void onDelete(StatusDeletionNotice deletionNotice, StreamListener[] listeners) throws TwitterException {
         logger.warn("Unhandled event: onDelete");
     }
 
-    void onLimit(JSONObject json, StreamListener[] listeners) throws TwitterException, JSONException {
+    void onDirectMessageDeletion(long directMessageId, long userId, StreamListener[] listeners) throws TwitterException {
+        logger.warn("Unhandled event: onDirectMessageDeletion");
+    }
+
+    void onLimit(int numberOfLimitedStatuses, StreamListener[] listeners) throws TwitterException {
         logger.warn("Unhandled event: onLimit");
     }
 
@@ -242,7 +468,7 @@ abstract class StatusStreamBase implements StatusStream {
         logger.warn("Unhandled event: onStallWarning");
     }
 
-    void onScrubGeo(JSONObject json, StreamListener[] listeners) throws TwitterException, JSONException {
+    void onScrubGeo(long userId, long upToStatusId, StreamListener[] listeners) throws TwitterException {
         logger.warn("Unhandled event: onScrubGeo");
     }
 
@@ -347,7 +573,7 @@ abstract class StatusStreamBase implements StatusStream {
     public void close() throws IOException {
         streamAlive = false;
         is.close();
-        br.close();
+        reader.close();
         if (response != null) {
             response.disconnect();
         }
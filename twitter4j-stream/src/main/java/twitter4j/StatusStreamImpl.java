@@ -39,7 +39,7 @@ class StatusStreamImpl extends StatusStreamBase {
         super(dispatcher, response, conf);
     }
 
-    String line;
+    StreamMessage line;
 
     static final RawStreamListener[] EMPTY = new RawStreamListener[0];
 
@@ -57,15 +57,19 @@ class StatusStreamImpl extends StatusStreamBase {
     }
 
     @Override
-    protected String parseLine(String line) {
-        this.line = line;
-        return line;
+    protected StreamMessage parseLine(StreamMessage message) {
+        this.line = message;
+        return message;
     }
 
     @Override
-    protected void onMessage(String rawString, RawStreamListener[] listeners) throws TwitterException {
+    protected void onMessage(StreamMessage message, RawStreamListener[] listeners) throws TwitterException {
         for (RawStreamListener listener : listeners) {
-            listener.onMessage(rawString);
+            if (listener instanceof RawStreamBytesListener) {
+                ((RawStreamBytesListener) listener).onMessage(message.getBytes(), 0, message.getBytes().length);
+            } else {
+                listener.onMessage(message.toString());
+            }
         }
     }
 
@@ -77,23 +81,16 @@ class StatusStreamImpl extends StatusStreamBase {
     }
 
     @Override
-    protected void onDelete(JSONObject json, StreamListener[] listeners) throws TwitterException, JSONException {
+    protected void onDelete(StatusDeletionNotice deletionNotice, StreamListener[] listeners) throws TwitterException {
         for (StreamListener listener : listeners) {
-            JSONObject deletionNotice = json.getJSONObject("delete");
-            if (deletionNotice.has("status")) {
-                ((StatusListener) listener).onDeletionNotice(new StatusDeletionNoticeImpl(deletionNotice.getJSONObject("status")));
-            } else {
-                JSONObject directMessage = deletionNotice.getJSONObject("direct_message");
-                ((UserStreamListener) listener).onDeletionNotice(ParseUtil.getLong("id", directMessage)
-                        , ParseUtil.getLong("user_id", directMessage));
-            }
+            ((StatusListener) listener).onDeletionNotice(deletionNotice);
         }
     }
 
     @Override
-    protected void onLimit(JSONObject json, StreamListener[] listeners) throws TwitterException, JSONException {
+    protected void onLimit(int numberOfLimitedStatuses, StreamListener[] listeners) throws TwitterException {
         for (StreamListener listener : listeners) {
-            ((StatusListener) listener).onTrackLimitationNotice(ParseUtil.getInt("track", json.getJSONObject("limit")));
+            ((StatusListener) listener).onTrackLimitationNotice(numberOfLimitedStatuses);
         }
     }
 
@@ -105,13 +102,10 @@ class StatusStreamImpl extends StatusStreamBase {
     }
 
     @Override
-    protected void onScrubGeo(JSONObject json, StreamListener[] listeners) throws TwitterException, JSONException {
-        JSONObject scrubGeo = json.getJSONObject("scrub_geo");
+    protected void onScrubGeo(long userId, long upToStatusId, StreamListener[] listeners) throws TwitterException {
         for (StreamListener listener : listeners) {
-            ((StatusListener) listener).onScrubGeo(ParseUtil.getLong("user_id", scrubGeo)
-                    , ParseUtil.getLong("up_to_status_id", scrubGeo));
+            ((StatusListener) listener).onScrubGeo(userId, upToStatusId);
         }
-
     }
 
     @Override
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.nio.charset.Charset;
+
+/**
+ * A message of the stream as framed by {@link StreamMessageReader}. The raw UTF-8 bytes of the message are kept, and decoded into a String only when asked for.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class StreamMessage {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+    private final byte[] bytes;
+    private String string;
+    private CharSequence scannable;
+
+    /**
+     * @param bytes UTF-8 bytes of the message, not copied
+     */
+    StreamMessage(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    StreamMessage(String string) {
+        this.bytes = string.getBytes(UTF_8);
+        this.string = string;
+        this.scannable = string;
+    }
+
+    /**
+     * @return UTF-8 bytes of the message, not to be modified
+     */
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    boolean isEmpty() {
+        return bytes.length == 0;
+    }
+
+    /**
+     * Returns the message for {@link StreamMessageScanner} to look the ASCII keys, numbers and structural characters up.<br>
+     * Unless the message has been decoded already, these are the raw bytes read as ISO-8859-1 characters, one per byte. They match the decoded
+     * message on every ASCII character, while any other text reads as mojibake, so that only ASCII is to be looked up.
+     *
+     * @return the message as ISO-8859-1 characters, or the decoded message
+     */
+    CharSequence getScannable() {
+        if (scannable == null) {
+            scannable = string != null ? string : new Latin1Chars(bytes, 0, bytes.length);
+        }
+        return scannable;
+    }
+
+    /**
+     * @return the decoded message
+     */
+    @Override
+    public String toString() {
+        if (string == null) {
+            string = new String(bytes, UTF_8);
+        }
+        return string;
+    }
+
+    /**
+     * Bytes read as ISO-8859-1 characters, without copying them.
+     */
+    private static final class Latin1Chars implements CharSequence {
+        private final byte[] bytes;
+        private final int offset;
+        private final int length;
+
+        Latin1Chars(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            return (char) (bytes[offset + index] & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+            }
+            return new Latin1Chars(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a stream into a reusable buffer and frames its messages, without decoding them.<br>
+ * Messages are delimited by line breaks, or prefixed with their length in bytes when the stream is requested with delimited=length.
+ *
+ * @see <a href="https://developer.twitter.com/en/docs/tweets/filter-realtime/guides/processing-streaming-data">Processing streaming data</a>
+ * @since Twitter4J 4.0.8
+ */
+final class StreamMessageReader implements Closeable {
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    private static final StreamMessage EMPTY = new StreamMessage(new byte[0]);
+
+    private final InputStream stream;
+    // unread bytes are between position and limit
+    private byte[] buffer;
+    private int position = 0;
+    private int limit = 0;
+    // index up to which the unread bytes have been looked for a line break
+    private int scanned = 0;
+    // length of the message announced by the last length prefix, or -1
+    private int messageLength = -1;
+
+    StreamMessageReader(InputStream stream) {
+        this(stream, INITIAL_CAPACITY);
+    }
+
+    StreamMessageReader(InputStream stream, int capacity) {
+        this.stream = stream;
+        this.buffer = new byte[capacity];
+    }
+
+    /**
+     * @return the next message, an empty message for a keep-alive line break, or null if the end of the stream has been reached
+     * @throws IOException when the stream cannot be read
+     */
+    StreamMessage next() throws IOException {
+        while (true) {
+            if (messageLength >= 0) {
+                if (limit - position >= messageLength) {
+                    int start = position;
+                    int next = start + messageLength;
+                    messageLength = -1;
+                    // the announced length includes the trailing line break
+                    return take(start, trimLineBreak(start, next), next);
+                }
+            } else {
+                byte[] buffer = this.buffer;
+                int lineBreak = -1;
+                for (int i = Math.max(scanned, position); i < limit; i++) {
+                    if (buffer[i] == '\n') {
+                        lineBreak = i;
+                        break;
+                    }
+                }
+                if (lineBreak >= 0) {
+                    int start = position;
+                    int end = trimLineBreak(start, lineBreak + 1);
+                    int length = parseLength(start, end);
+                    if (length < 0) {
+                        return take(start, end, lineBreak + 1);
+                    }
+                    position = lineBreak + 1;
+                    messageLength = length;
+                    continue;
+                }
+                scanned = limit;
+            }
+            if (!fill()) {
+                if (messageLength < 0 && position < limit) {
+                    // the last line may not be terminated
+                    return take(position, limit, limit);
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @return index of the line break at the end of the bytes between start and end, or end if there is none
+     */
+    private int trimLineBreak(int start, int end) {
+        if (end > start && buffer[end - 1] == '\n') {
+            end--;
+        }
+        if (end > start && buffer[end - 1] == '\r') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * @return the length prefix between start and end, or -1 if the line is not a length prefix
+     */
+    private int parseLength(int start, int end) {
+        // JSON messages never consist of digits only, and lengths beyond 9 digits are not to be buffered
+        if (end == start || end - start > 9) {
+            return -1;
+        }
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer[i];
+            if (b < '0' || b > '9') {
+                return -1;
+            }
+            length = length * 10 + (b - '0');
+        }
+        return length;
+    }
+
+    /**
+     * Copies the bytes between start and end out of the buffer, and moves the position to next.
+     */
+    private StreamMessage take(int start, int end, int next) {
+        StreamMessage message;
+        if (end == start) {
+            message = EMPTY;
+        } else {
+            byte[] bytes = new byte[end - start];
+            System.arraycopy(buffer, start, bytes, 0, bytes.length);
+            message = new StreamMessage(bytes);
+        }
+        position = next;
+        return message;
+    }
+
+    /**
+     * Reads more bytes into the buffer, compacting or growing it as needed.
+     *
+     * @return false if the end of the stream has been reached
+     */
+    private boolean fill() throws IOException {
+        int shift = position;
+        int unread = limit - position;
+        int required = Math.max(unread + 1, messageLength);
+        if (required > buffer.length) {
+            byte[] grown = new byte[Math.max(buffer.length * 2, required)];
+            System.arraycopy(buffer, position, grown, 0, unread);
+            buffer = grown;
+        } else if (shift > 0) {
+            System.arraycopy(buffer, position, buffer, 0, unread);
+        }
+        position = 0;
+        limit = unread;
+        scanned -= shift;
+        int read = stream.read(buffer, limit, buffer.length - limit);
+        if (read > 0) {
+            limit += read;
+        }
+        return read >= 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+}
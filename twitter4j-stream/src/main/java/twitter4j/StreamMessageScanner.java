@@ -0,0 +1,214 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+/**
+ * Looks values up in raw streaming API messages, skipping the values of the other members without parsing them.<br>
+ * Messages are read either as Strings or as the raw UTF-8 bytes of a {@link StreamMessage} viewed by {@link StreamMessage#getScannable()}, since keys and structural characters are all ASCII.
+ *
+ * @since Twitter4J 4.0.8
+ */
+final class StreamMessageScanner {
+    private StreamMessageScanner() {
+        // should never be instantiated
+        throw new AssertionError();
+    }
+
+    /**
+     * @param json     JSON object
+     * @param path     keys of the nested objects leading to the number
+     * @param envelope key of the object the path starts from, or null to start from the top-level object
+     * @return the number, or -1 if there is none at the path
+     */
+    static long findLong(CharSequence json, String[] path, String envelope) {
+        int i = findValue(json, path, envelope);
+        return i < 0 ? -1 : parseLong(json, i);
+    }
+
+    /**
+     * @param json     JSON object
+     * @param key      key name
+     * @param envelope key of the object to look the key up in, or null to look it up in the top-level object
+     * @return true if the object has the key
+     */
+    static boolean hasKey(CharSequence json, String key, String envelope) {
+        return findValue(json, new String[]{key}, envelope) >= 0;
+    }
+
+    /**
+     * @param s      characters, or {@link StreamMessage#getScannable()}
+     * @param prefix ASCII prefix
+     * @param offset index to look the prefix up at
+     * @return true if s has the prefix at offset
+     */
+    static boolean startsWith(CharSequence s, String prefix, int offset) {
+        if (offset < 0 || offset + prefix.length() > s.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (s.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param s         characters, or {@link StreamMessage#getScannable()}
+     * @param str       ASCII string to look up
+     * @param fromIndex index to start from
+     * @return index of the first occurrence of str, or -1 if there is none
+     */
+    static int indexOf(CharSequence s, String str, int fromIndex) {
+        if (s instanceof String) {
+            return ((String) s).indexOf(str, fromIndex);
+        }
+        int last = s.length() - str.length();
+        char first = str.charAt(0);
+        for (int i = Math.max(0, fromIndex); i <= last; i++) {
+            if (s.charAt(i) == first && startsWith(s, str, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return index of the value at the path, or -1 if there is none
+     */
+    private static int findValue(CharSequence json, String[] path, String envelope) {
+        int length = json.length();
+        int i = skipWhitespace(json, 0);
+        if (i == length || json.charAt(i) != '{') {
+            return -1;
+        }
+        i++;
+        int level = envelope != null ? -1 : 0;
+        while (true) {
+            i = skipWhitespace(json, i);
+            if (i == length || json.charAt(i) != '"') {
+                return -1;
+            }
+            int keyEnd = skipString(json, i);
+            String key = level < 0 ? envelope : path[level];
+            boolean matches = keyEnd - i - 2 == key.length() && startsWith(json, key, i + 1);
+            i = skipWhitespace(json, keyEnd);
+            if (i == length || json.charAt(i) != ':') {
+                return -1;
+            }
+            i = skipWhitespace(json, i + 1);
+            if (matches) {
+                if (level == path.length - 1) {
+                    return i;
+                }
+                if (i == length || json.charAt(i) != '{') {
+                    return -1;
+                }
+                level++;
+                i++;
+                continue;
+            }
+            i = skipValue(json, i);
+            i = skipWhitespace(json, i);
+            if (i == length || json.charAt(i) != ',') {
+                // end of the object the key was looked up in
+                return -1;
+            }
+            i++;
+        }
+    }
+
+    private static int skipWhitespace(CharSequence json, int i) {
+        int length = json.length();
+        while (i < length && json.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return index after the closing quote of the string starting at i
+     */
+    private static int skipString(CharSequence json, int i) {
+        int length = json.length();
+        for (i++; i < length; i++) {
+            char c = json.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i + 1;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * @return index after the value starting at i
+     */
+    private static int skipValue(CharSequence json, int i) {
+        int length = json.length();
+        if (i == length) {
+            return i;
+        }
+        char c = json.charAt(i);
+        if (c == '"') {
+            return skipString(json, i);
+        }
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            while (i < length) {
+                c = json.charAt(i);
+                if (c == '"') {
+                    i = skipString(json, i);
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if ((c == '}' || c == ']') && --depth == 0) {
+                    return i + 1;
+                }
+                i++;
+            }
+            return length;
+        }
+        while (i < length && (c = json.charAt(i)) != ',' && c != '}' && c != ']' && c > ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return the number at i, quoted or not, or -1 if there is none
+     */
+    private static long parseLong(CharSequence json, int i) {
+        int length = json.length();
+        if (i < length && json.charAt(i) == '"') {
+            i++;
+        }
+        long value = 0;
+        int start = i;
+        while (i < length) {
+            char c = json.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            value = value * 10 + (c - '0');
+            i++;
+        }
+        return i == start ? -1 : value;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import java.util.Locale;
+
+/**
+ * Keys streaming API messages are partitioned by. Keys are read from the raw message with {@link StreamMessageScanner}.
+ *
+ * @since Twitter4J 4.0.8
+ */
+enum StreamPartitionKey {
+    /**
+     * the user a message is about: the author of a status or a deletion notice, the source of an event, or the sender of a direct message
+     */
+    USER,
+    /**
+     * the status a message is about: a status, its deletion notice, or the target of an event
+     */
+    STATUS,
+    /**
+     * the user a site streams message is delivered for
+     */
+    FOR_USER;
+
+    private static final String[] USER_ID = {"user", "id"};
+    private static final String[] STATUS_ID = {"id"};
+    private static final String[] DELETED_STATUS_USER_ID = {"delete", "status", "user_id"};
+    private static final String[] DELETED_STATUS_ID = {"delete", "status", "id"};
+    private static final String[] SCRUB_GEO_USER_ID = {"scrub_geo", "user_id"};
+    private static final String[] WITHHELD_STATUS_USER_ID = {"status_withheld", "user_id"};
+    private static final String[] WITHHELD_STATUS_ID = {"status_withheld", "id"};
+    private static final String[] WITHHELD_USER_ID = {"user_withheld", "id"};
+    private static final String[] EVENT_SOURCE_ID = {"source", "id"};
+    private static final String[] EVENT_TARGET_OBJECT_ID = {"target_object", "id"};
+    private static final String[] DIRECT_MESSAGE_SENDER_ID = {"direct_message", "sender_id"};
+    private static final String[] FOR_USER_ID = {"for_user"};
+    private static final String ENVELOPE = "message";
+
+    /**
+     * @param key key name, like "user" or "for_user"
+     * @return the key, or null if name is null
+     */
+    static StreamPartitionKey of(String key) {
+        return key == null ? null : valueOf(key.trim().toUpperCase(Locale.US));
+    }
+
+    /**
+     * @param type type of the message as sniffed by {@link StatusStreamBase.StreamEvent#getType()}
+     * @param line the message
+     * @return the key of the message, or -1 if the message has none
+     */
+    long get(String type, CharSequence line) {
+        if (this == FOR_USER) {
+            return StreamMessageScanner.findLong(line, FOR_USER_ID, null);
+        }
+        String[] path = getPath(type);
+        if (path == null) {
+            return -1;
+        }
+        // site streams wrap the messages: {"for_user":1888,"message":{...}}
+        boolean wrapped = StreamMessageScanner.startsWith(line, "for_user\"", StreamMessageScanner.indexOf(line, "\"", 0) + 1);
+        return StreamMessageScanner.findLong(line, path, wrapped ? ENVELOPE : null);
+    }
+
+    private String[] getPath(String type) {
+        if (this == USER) {
+            if ("status".equals(type)) {
+                return USER_ID;
+            } else if ("delete".equals(type)) {
+                return DELETED_STATUS_USER_ID;
+            } else if ("scrub_geo".equals(type)) {
+                return SCRUB_GEO_USER_ID;
+            } else if ("status_withheld".equals(type)) {
+                return WITHHELD_STATUS_USER_ID;
+            } else if ("user_withheld".equals(type)) {
+                return WITHHELD_USER_ID;
+            } else if ("event".equals(type)) {
+                return EVENT_SOURCE_ID;
+            } else if ("direct_message".equals(type)) {
+                return DIRECT_MESSAGE_SENDER_ID;
+            }
+        } else {
+            if ("status".equals(type)) {
+                return STATUS_ID;
+            } else if ("delete".equals(type)) {
+                return DELETED_STATUS_ID;
+            } else if ("status_withheld".equals(type)) {
+                return WITHHELD_STATUS_ID;
+            } else if ("event".equals(type)) {
+                return EVENT_TARGET_OBJECT_ID;
+            }
+        }
+        return null;
+    }
+}
@@ -106,6 +106,39 @@ public final class TwitterStreamFactory implements java.io.Serializable {
         return getInstance(conf, auth);
     }
 
+    /**
+     * Returns a FilterStreamManager sharding filter queries over connections authorized with the given credentials, one connection per credential.
+     *
+     * @param authorizations credentials
+     * @return FilterStreamManager
+     * @since Twitter4J 4.0.8
+     */
+    public FilterStreamManager getFilterStreamManager(Authorization... authorizations) {
+        return new FilterStreamManagerImpl(conf, authorizations);
+    }
+
+    /**
+     * Returns a FilterStreamManager sharding filter queries over connections authorized with the given access tokens and the consumer key and secret of the configuration, one connection per access token.
+     *
+     * @param accessTokens access tokens
+     * @return FilterStreamManager
+     * @since Twitter4J 4.0.8
+     */
+    public FilterStreamManager getFilterStreamManager(AccessToken... accessTokens) {
+        String consumerKey = conf.getOAuthConsumerKey();
+        String consumerSecret = conf.getOAuthConsumerSecret();
+        if (null == consumerKey && null == consumerSecret) {
+            throw new IllegalStateException("Consumer key and Consumer secret not supplied.");
+        }
+        Authorization[] authorizations = new Authorization[accessTokens.length];
+        for (int i = 0; i < accessTokens.length; i++) {
+            OAuthAuthorization oauth = new OAuthAuthorization(conf);
+            oauth.setOAuthAccessToken(accessTokens[i]);
+            authorizations[i] = oauth;
+        }
+        return getFilterStreamManager(authorizations);
+    }
+
     private TwitterStream getInstance(Configuration conf, Authorization auth) {
         return new TwitterStreamImpl(conf, auth);
     }
@@ -22,7 +22,9 @@ import twitter4j.util.function.Consumer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static java.lang.String.format;
 import static twitter4j.HttpResponseCode.FORBIDDEN;
@@ -43,20 +45,35 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
     private final List<ConnectionLifeCycleListener> lifeCycleListeners = new ArrayList<ConnectionLifeCycleListener>(0);
     private TwitterStreamConsumer handler = null;
 
-    private final String stallWarningsGetParam;
-    private final HttpParameter stallWarningsParam;
+    private final String streamGetParams;
+    private final HttpParameter[] streamParams;
+    // runs the consumers instead of threads of their own when set
+    private final transient Executor consumerExecutor;
 
     /*package*/
     TwitterStreamImpl(Configuration conf, Authorization auth) {
+        this(conf, auth, null);
+    }
+
+    /*package*/
+    TwitterStreamImpl(Configuration conf, Authorization auth, Executor consumerExecutor) {
         super(conf, auth);
+        this.consumerExecutor = consumerExecutor;
         http = HttpClientFactory.getInstance(new StreamingReadTimeoutConfiguration(conf));
         // turning off keepalive connection explicitly because Streaming API doesn't need keepalive connection.
         // and this will reduce the shutdown latency of streaming api connection
         // see also - http://jira.twitter4j.org/browse/TFJ-556
         http.addDefaultRequestHeader("Connection", "close");
 
-        stallWarningsGetParam = "stall_warnings=" + (conf.isStallWarningsEnabled() ? "true" : "false");
-        stallWarningsParam = new HttpParameter("stall_warnings", conf.isStallWarningsEnabled());
+        HttpParameter stallWarningsParam = new HttpParameter("stall_warnings", conf.isStallWarningsEnabled());
+        if (conf.isStreamDelimitedLengthEnabled()) {
+            // messages are prefixed with their length, see StreamMessageReader
+            streamGetParams = "stall_warnings=" + (conf.isStallWarningsEnabled() ? "true" : "false") + "&delimited=length";
+            streamParams = new HttpParameter[]{stallWarningsParam, new HttpParameter("delimited", "length")};
+        } else {
+            streamGetParams = "stall_warnings=" + (conf.isStallWarningsEnabled() ? "true" : "false");
+            streamParams = new HttpParameter[]{stallWarningsParam};
+        }
     }
     
     /* Streaming API */
@@ -121,13 +138,19 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
         ensureAuthorizationEnabled();
         try {
             return new StatusStreamImpl(getDispatcher(), http.post(conf.getStreamBaseURL() + relativeUrl
-                    , new HttpParameter[]{new HttpParameter("count", String.valueOf(count))
-                    , stallWarningsParam}, auth, null), conf);
+                    , withStreamParams(new HttpParameter("count", String.valueOf(count))), auth, null), conf);
         } catch (IOException e) {
             throw new TwitterException(e);
         }
     }
 
+    private HttpParameter[] withStreamParams(HttpParameter param) {
+        HttpParameter[] params = new HttpParameter[streamParams.length + 1];
+        params[0] = param;
+        System.arraycopy(streamParams, 0, params, 1, streamParams.length);
+        return params;
+    }
+
     @Override
     public TwitterStream retweet() {
         ensureAuthorizationEnabled();
@@ -154,7 +177,7 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
         ensureAuthorizationEnabled();
         try {
             return new StatusStreamImpl(getDispatcher(), http.post(conf.getStreamBaseURL() + "statuses/retweet.json"
-                    , new HttpParameter[]{stallWarningsParam}, auth, null), conf);
+                    , streamParams, auth, null), conf);
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -199,7 +222,7 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
         ensureAuthorizationEnabled();
         try {
             return new StatusStreamImpl(getDispatcher(), http.get(conf.getStreamBaseURL() + "statuses/sample.json?"
-                    + stallWarningsGetParam, null, auth, null), conf);
+                    + streamGetParams, null, auth, null), conf);
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -220,7 +243,7 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
         ensureAuthorizationEnabled();
         try {
             return new StatusStreamImpl(getDispatcher(), http.get(conf.getStreamBaseURL() + "statuses/sample.json?"
-                    + stallWarningsGetParam + "&language=" + language, null, auth, null), conf);
+                    + streamGetParams + "&language=" + language, null, auth, null), conf);
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -234,7 +257,7 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
                     // dispatcher is held statically, but it'll be instantiated with
                     // the configuration instance associated with this TwitterStream
                     // instance which invokes getDispatcher() on the first time.
-                    TwitterStreamImpl.dispatcher = new DispatcherFactory(conf).getInstance();
+                    TwitterStreamImpl.dispatcher = new DispatcherFactory(conf).getStreamInstance();
                 }
             }
         }
@@ -279,7 +302,7 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
         try {
             return new StatusStreamImpl(getDispatcher(), http.post(conf.getStreamBaseURL()
                     + "statuses/filter.json"
-                    , query.asHttpParameterArray(stallWarningsParam), auth, null), conf);
+                    , query.asHttpParameterArray(streamParams), auth, null), conf);
         } catch (IOException e) {
             throw new TwitterException(e);
         }
@@ -317,6 +340,7 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
     public synchronized TwitterStream cleanUp() {
         if (handler != null) {
             handler.close();
+            handler = null;
             numberOfHandlers--;
         }
         return this;
@@ -453,20 +477,28 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
         user, status, site
     }
 
-    abstract class TwitterStreamConsumer extends Thread {
+    abstract class TwitterStreamConsumer implements Runnable {
         private StatusStreamBase stream = null;
         private final String NAME;
         private volatile boolean closed = false;
         private StreamListener[] streamListeners;
         private RawStreamListener[] rawStreamListeners;
         private final Mode mode;
+        private volatile Thread runner;
 
         TwitterStreamConsumer(Mode mode) {
             super();
             this.mode = mode;
             NAME = format("Twitter Stream consumer / %s [%s]", conf.getStreamThreadName(), ++count);
             updateListeners();
-            setName(NAME + "[initializing]");
+        }
+
+        void start() {
+            if (consumerExecutor != null) {
+                consumerExecutor.execute(this);
+            } else {
+                new Thread(this, NAME + "[initializing]").start();
+            }
         }
 
         void updateListeners() {
@@ -483,6 +515,19 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
 
         @Override
         public void run() {
+            runner = Thread.currentThread();
+            // pooled threads get their name back when the consumer is done
+            String name = runner.getName();
+            try {
+                consume();
+            } finally {
+                Thread thread = runner;
+                runner = null;
+                thread.setName(name);
+            }
+        }
+
+        private void consume() {
             int timeToSleep = NO_WAIT;
             boolean connected = false;
             while (!closed) {
@@ -624,7 +669,10 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
 
         private void setStatus(String message) {
             String actualMessage = NAME + message;
-            setName(actualMessage);
+            Thread runner = this.runner;
+            if (runner != null) {
+                runner.setName(actualMessage);
+            }
             logger.debug(actualMessage);
         }
 
@@ -644,9 +692,9 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
         if (http != null ? !http.equals(that.http) : that.http != null) return false;
         if (!lifeCycleListeners.equals(that.lifeCycleListeners))
             return false;
-        if (stallWarningsGetParam != null ? !stallWarningsGetParam.equals(that.stallWarningsGetParam) : that.stallWarningsGetParam != null)
+        if (streamGetParams != null ? !streamGetParams.equals(that.streamGetParams) : that.streamGetParams != null)
             return false;
-        if (stallWarningsParam != null ? !stallWarningsParam.equals(that.stallWarningsParam) : that.stallWarningsParam != null)
+        if (!Arrays.equals(streamParams, that.streamParams))
             return false;
         return streamListeners.equals(that.streamListeners);
     }
@@ -657,8 +705,8 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
         result = 31 * result + (http != null ? http.hashCode() : 0);
         result = 31 * result + lifeCycleListeners.hashCode();
         result = 31 * result + (handler != null ? handler.hashCode() : 0);
-        result = 31 * result + (stallWarningsGetParam != null ? stallWarningsGetParam.hashCode() : 0);
-        result = 31 * result + (stallWarningsParam != null ? stallWarningsParam.hashCode() : 0);
+        result = 31 * result + (streamGetParams != null ? streamGetParams.hashCode() : 0);
+        result = 31 * result + Arrays.hashCode(streamParams);
         result = 31 * result + streamListeners.hashCode();
         return result;
     }
@@ -669,8 +717,8 @@ class TwitterStreamImpl extends TwitterBaseImpl implements TwitterStream {
                 "http=" + http +
                 ", lifeCycleListeners=" + lifeCycleListeners +
                 ", handler=" + handler +
-                ", stallWarningsGetParam='" + stallWarningsGetParam + '\'' +
-                ", stallWarningsParam=" + stallWarningsParam +
+                ", streamGetParams='" + streamGetParams + '\'' +
+                ", streamParams=" + Arrays.toString(streamParams) +
                 ", streamListeners=" + streamListeners +
                 '}';
     }
@@ -738,4 +786,60 @@ class StreamingReadTimeoutConfiguration implements HttpClientConfiguration {
     public boolean isGZIPEnabled() {
         return nestedConf.getHttpClientConfiguration().isGZIPEnabled();
     }
+
+    @Override
+    public int getHttpNIOSelectorThreads() {
+        return nestedConf.getHttpClientConfiguration().getHttpNIOSelectorThreads();
+    }
+
+    @Override
+    public int getHttpNIOPipeliningDepth() {
+        return nestedConf.getHttpClientConfiguration().getHttpNIOPipeliningDepth();
+    }
+
+    @Override
+    public int getHttpMaxConnectionsPerHost() {
+        return nestedConf.getHttpClientConfiguration().getHttpMaxConnectionsPerHost();
+    }
+
+    @Override
+    public int getHttpKeepAliveMillis() {
+        return nestedConf.getHttpClientConfiguration().getHttpKeepAliveMillis();
+    }
+
+    @Override
+    public int getHttpConnectionEvictionIntervalMillis() {
+        return nestedConf.getHttpClientConfiguration().getHttpConnectionEvictionIntervalMillis();
+    }
+
+    @Override
+    public boolean isHttpRequestCoalescingEnabled() {
+        // each stream needs a connection of its own, and is never cached
+        return false;
+    }
+
+    @Override
+    public boolean isHttpResponseCacheEnabled() {
+        return false;
+    }
+
+    @Override
+    public int getHttpResponseCacheMaxBytes() {
+        return nestedConf.getHttpClientConfiguration().getHttpResponseCacheMaxBytes();
+    }
+
+    @Override
+    public String getHttpResponseCacheTTLs() {
+        return nestedConf.getHttpClientConfiguration().getHttpResponseCacheTTLs();
+    }
+
+    @Override
+    public String getHttpResponseCacheDirectory() {
+        return nestedConf.getHttpClientConfiguration().getHttpResponseCacheDirectory();
+    }
+
+    @Override
+    public RetryPolicy getHttpRetryPolicy() {
+        return nestedConf.getHttpClientConfiguration().getHttpRetryPolicy();
+    }
 }
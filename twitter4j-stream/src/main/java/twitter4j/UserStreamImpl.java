@@ -55,7 +55,14 @@ final class UserStreamImpl extends StatusStreamImpl implements UserStream {
     }
 
     @Override
-    protected void onScrubGeo(JSONObject json, StreamListener[] listeners) throws TwitterException {
+    protected void onDirectMessageDeletion(long directMessageId, long userId, StreamListener[] listeners) throws TwitterException {
+        for (StreamListener listener : listeners) {
+            ((UserStreamListener) listener).onDeletionNotice(directMessageId, userId);
+        }
+    }
+
+    @Override
+    protected void onScrubGeo(long userId, long upToStatusId, StreamListener[] listeners) throws TwitterException {
         // Not implemented yet
         logger.info("Geo-tagging deletion notice (not implemented yet): " + line);
     }
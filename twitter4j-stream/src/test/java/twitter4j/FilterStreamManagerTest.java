@@ -0,0 +1,256 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.auth.Authorization;
+import twitter4j.auth.NullAuthorization;
+import twitter4j.conf.Configuration;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterStreamManagerTest {
+    private static final Configuration conf = new ConfigurationBuilder()
+            .setStreamShardMaxTrack(2)
+            .setStreamShardMaxFollow(2)
+            .setStreamShardDedupCapacity(2)
+            .build();
+
+    /**
+     * Records the connections instead of opening them.
+     */
+    private static class RecordingManager extends FilterStreamManagerImpl {
+        final List<TwitterStream> streams = new ArrayList<TwitterStream>();
+        final List<List<StreamListener>> streamListeners = new ArrayList<List<StreamListener>>();
+        final List<String> events = new ArrayList<String>();
+
+        RecordingManager(int credentials) {
+            super(conf, credentials(credentials));
+        }
+
+        private static Authorization[] credentials(int count) {
+            Authorization[] authorizations = new Authorization[count];
+            Arrays.fill(authorizations, NullAuthorization.getInstance());
+            return authorizations;
+        }
+
+        @Override
+        TwitterStream newStream(Authorization auth) {
+            final List<StreamListener> listeners = new ArrayList<StreamListener>();
+            TwitterStream stream = new TwitterStreamImpl(conf, auth) {
+                @Override
+                public synchronized TwitterStream addListener(StreamListener listener) {
+                    listeners.add(listener);
+                    return super.addListener(listener);
+                }
+
+                @Override
+                public synchronized TwitterStream removeListener(StreamListener listener) {
+                    listeners.remove(listener);
+                    return super.removeListener(listener);
+                }
+            };
+            streams.add(stream);
+            streamListeners.add(listeners);
+            return stream;
+        }
+
+        @Override
+        void connect(TwitterStream stream, FilterQuery query) {
+            events.add("connect " + streams.indexOf(stream) + " track=" + Arrays.toString(query.getTrack())
+                    + " follow=" + Arrays.toString(query.getFollow()));
+        }
+
+        @Override
+        void disconnect(TwitterStream stream) {
+            events.add("disconnect " + streams.indexOf(stream));
+        }
+
+        @Override
+        void release(TwitterStream stream) {
+            events.add("release " + streams.indexOf(stream));
+            super.release(stream);
+        }
+    }
+
+    @Test
+    void testSharding() {
+        RecordingManager manager = new RecordingManager(3);
+        manager.addListener(new StatusAdapter());
+        manager.filter(new FilterQuery().track("a", "b", "c").follow(1L).language("en"));
+        assertEquals(Arrays.asList("connect 0 track=[a, c] follow=[1]", "connect 1 track=[b] follow=null"), manager.events);
+        FilterQuery[] shards = manager.getShards();
+        assertEquals(2, shards.length);
+        assertArrayEquals(new String[]{"en"}, shards[1].getLanguage());
+
+        // only the shard taking the new term reconnects
+        manager.events.clear();
+        manager.track("d", "a");
+        assertEquals(Arrays.asList("connect 1 track=[b, d] follow=null"), manager.events);
+
+        // full shards spill over to a new connection
+        manager.events.clear();
+        manager.track("e");
+        manager.follow(2L, 3L);
+        assertEquals(Arrays.asList("connect 2 track=[e] follow=null",
+                "connect 1 track=[b, d] follow=[2]", "connect 2 track=[e] follow=[3]"), manager.events);
+
+        manager.events.clear();
+        manager.track("f");
+        try {
+            manager.track("g", "h");
+            fail("expecting IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+        assertEquals(Arrays.asList("connect 2 track=[e, f] follow=[3]"), manager.events);
+        assertEquals(3, manager.getShards().length);
+    }
+
+    @Test
+    void testRefilter() {
+        RecordingManager manager = new RecordingManager(2);
+        manager.addListener(new StatusAdapter());
+        double[][] locations = {{-122.75, 36.8}, {-121.75, 37.8}};
+        manager.filter(new FilterQuery().track("a", "b", "c").locations(locations));
+        FilterQuery[] shards = manager.getShards();
+        assertEquals(2, shards.length);
+        assertArrayEquals(locations, shards[0].getLocations());
+        assertNull(shards[1].getLocations());
+
+        manager.events.clear();
+        manager.filter(new FilterQuery().track("x"));
+        assertEquals(Arrays.asList("connect 0 track=[x] follow=null", "disconnect 1", "release 1"), manager.events);
+        assertEquals(1, manager.getShards().length);
+
+        try {
+            manager.filter(new FilterQuery().track("a", "b", "c", "d", "e"));
+            fail("expecting IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+        assertArrayEquals(new String[]{"x"}, manager.getShards()[0].getTrack());
+    }
+
+    @Test
+    void testListenerIsRequired() {
+        RecordingManager manager = new RecordingManager(1);
+        try {
+            manager.filter(new FilterQuery().track("a"));
+            fail("expecting IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    void testMergedListenersReceiveEachStatusOnce() throws Exception {
+        RecordingManager manager = new RecordingManager(2);
+        final List<Object> received = new ArrayList<Object>();
+        manager.addListener(new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+                received.add(status.getId());
+            }
+
+            @Override
+            public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+                received.add(numberOfLimitedStatuses);
+            }
+        });
+        manager.filter(new FilterQuery().track("a", "b", "c"));
+        assertEquals(1, manager.streamListeners.get(0).size());
+        StatusListener first = (StatusListener) manager.streamListeners.get(0).get(0);
+        StatusListener second = (StatusListener) manager.streamListeners.get(1).get(0);
+
+        Status status = TwitterObjectFactory.createStatus("{\"id\":1,\"text\":\"a b\"}");
+        first.onStatus(status);
+        second.onStatus(status);
+        first.onTrackLimitationNotice(10);
+        second.onTrackLimitationNotice(10);
+        assertEquals(Arrays.<Object>asList(1L, 10, 10), received);
+
+        // raw listeners are merged by the ids sniffed from the messages
+        final List<String> raw = new ArrayList<String>();
+        RawStreamListener rawListener = new RawStreamListener() {
+            @Override
+            public void onMessage(String rawString) {
+                raw.add(rawString);
+            }
+
+            @Override
+            public void onException(Exception ex) {
+            }
+        };
+        manager.addListener(rawListener);
+        assertEquals(2, manager.streamListeners.get(1).size());
+        RawStreamListener rawFirst = (RawStreamListener) manager.streamListeners.get(0).get(1);
+        RawStreamListener rawSecond = (RawStreamListener) manager.streamListeners.get(1).get(1);
+        rawFirst.onMessage("{\"created_at\":\"Sat Sep 27 18:22:04 +0000 2008\",\"id\":2,\"text\":\"a\"}");
+        rawSecond.onMessage("{\"created_at\":\"Sat Sep 27 18:22:04 +0000 2008\",\"id\":2,\"text\":\"a\"}");
+        rawFirst.onMessage("{\"delete\":{\"status\":{\"id\":2,\"user_id\":3}}}");
+        rawSecond.onMessage("{\"delete\":{\"status\":{\"id\":2,\"user_id\":3}}}");
+        rawSecond.onMessage("{\"created_at\":\"Sat Sep 27 18:22:04 +0000 2008\",\"id\":3,\"text\":\"b\"}");
+        assertEquals(3, raw.size());
+
+        // streams stop handing raw messages over once no raw listener is left
+        manager.removeListener(rawListener);
+        assertEquals(1, manager.streamListeners.get(0).size());
+        assertEquals(1, manager.streamListeners.get(1).size());
+    }
+
+    @Test
+    void testStatusesAreBoundOnlyForConsumingListeners() {
+        RecordingManager manager = new RecordingManager(1);
+        manager.addListener(new StatusAdapter() {
+            @Override
+            public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+            }
+        });
+        manager.filter(new FilterQuery().track("a"));
+        StreamListener merger = manager.streamListeners.get(0).get(0);
+        // the stream can skip binding statuses
+        assertFalse(StatusStreamBase.consumesStatuses(merger));
+
+        StatusListener consumer = new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+            }
+        };
+        manager.addListener(consumer);
+        assertEquals(1, manager.streamListeners.get(0).size());
+        assertTrue(StatusStreamBase.consumesStatuses(manager.streamListeners.get(0).get(0)));
+
+        manager.removeListener(consumer);
+        assertEquals(1, manager.streamListeners.get(0).size());
+        assertSame(merger, manager.streamListeners.get(0).get(0));
+    }
+
+    @Test
+    void testRecentIds() {
+        FilterStreamManagerImpl.RecentIds ids = new FilterStreamManagerImpl.RecentIds(2);
+        assertTrue(ids.add(1L));
+        assertTrue(ids.add(2L));
+        assertFalse(ids.add(1L));
+        assertTrue(ids.add(3L));
+        // 1 has been forgotten
+        assertTrue(ids.add(1L));
+        assertFalse(ids.add(3L));
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+import twitter4j.conf.ConfigurationBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusStreamDecoderTest {
+    private static final Dispatcher SYNC = new Dispatcher() {
+        @Override
+        public void invokeLater(Runnable task) {
+            task.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    };
+
+    private static InputStream lines(String... lines) throws Exception {
+        StringBuilder buf = new StringBuilder();
+        for (String line : lines) {
+            buf.append(line).append("\r\n");
+        }
+        return new ByteArrayInputStream(buf.toString().getBytes("UTF-8"));
+    }
+
+    @Test
+    void testLightweightDecoders() throws Exception {
+        final List<Object> received = new ArrayList<Object>();
+        StatusListener listener = new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+                received.add(status.getText());
+            }
+
+            @Override
+            public void onDeletionNotice(StatusDeletionNotice statusDeletionNotice) {
+                received.add(statusDeletionNotice);
+            }
+
+            @Override
+            public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+                received.add(numberOfLimitedStatuses);
+            }
+
+            @Override
+            public void onScrubGeo(long userId, long upToStatusId) {
+                received.add(userId + ":" + upToStatusId);
+            }
+
+            @Override
+            public void onException(Exception ex) {
+                received.add(ex);
+            }
+        };
+        StatusStream stream = new StatusStreamImpl(SYNC, getClass().getResourceAsStream("/streamingapi-testcase.json"), new ConfigurationBuilder().build());
+        for (int i = 0; i < 6; i++) {
+            stream.next(listener);
+        }
+        assertEquals(6, received.size());
+        StatusDeletionNotice deletionNotice = (StatusDeletionNotice) received.get(0);
+        assertEquals(6832057002L, deletionNotice.getStatusId());
+        assertEquals(18378841L, deletionNotice.getUserId());
+        assertEquals("aaa minha irma ta enchendo aki querendo entra --'", received.get(1));
+        assertEquals(121564, received.get(3));
+        assertEquals("ngantuk banget nguap mulu", received.get(4));
+        assertEquals("14090452:23260136625", received.get(5));
+    }
+
+    @Test
+    void testStatusesAreNotBoundWithoutConsumer() throws Exception {
+        final List<Object> received = new ArrayList<Object>();
+        StatusListener listener = new StatusAdapter() {
+            @Override
+            public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+                received.add(numberOfLimitedStatuses);
+            }
+
+            @Override
+            public void onException(Exception ex) {
+                received.add(ex);
+            }
+        };
+        assertFalse(StatusStreamBase.consumesStatuses(listener));
+        assertFalse(StatusStreamBase.consumesStatuses(new UserStreamAdapter()));
+        assertFalse(StatusStreamBase.consumesStatuses(new SiteStreamsAdapter()));
+        assertTrue(StatusStreamBase.consumesStatuses(new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+            }
+        }));
+
+        // a broken status would raise an exception if it were parsed
+        StatusStream stream = new StatusStreamImpl(SYNC, lines("{\"text\":\"broken\",", "{\"limit\":{\"track\":12}}",
+                "{\"target\":{\"id\":1},\"source\":{\"id\":2},\"event\":\"follow\"}"), new ConfigurationBuilder().build());
+        stream.next(listener);
+        stream.next(listener);
+        stream.next(listener);
+        assertEquals(1, received.size());
+        assertEquals(12, received.get(0));
+    }
+
+    @Test
+    void testUserEventsAreSkippedWithoutUserStreamListener() throws Exception {
+        final List<Object> received = new ArrayList<Object>();
+        StatusListener listener = new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+                received.add(status);
+            }
+
+            @Override
+            public void onException(Exception ex) {
+                received.add(ex);
+            }
+        };
+        StatusStream stream = new UserStreamImpl(SYNC, lines("{\"friends\":[1,2,3]}", "{\"event\":\"follow\",\"source\":{\"id\":2}}"),
+                new ConfigurationBuilder().build());
+        stream.next(listener);
+        stream.next(listener);
+        assertEquals(0, received.size());
+    }
+
+    @Test
+    void testDirectMessageDeletion() throws Exception {
+        final List<Long> received = new ArrayList<Long>();
+        UserStreamListener listener = new UserStreamAdapter() {
+            @Override
+            public void onDeletionNotice(long directMessageId, long userId) {
+                received.add(directMessageId);
+                received.add(userId);
+            }
+        };
+        UserStream stream = new UserStreamImpl(SYNC, lines("{\"delete\":{\"direct_message\":{\"id\":1234567890123,\"user_id\":3,\"user_id_str\":\"3\"}}}"),
+                new ConfigurationBuilder().build());
+        stream.next(listener);
+        assertEquals(2, received.size());
+        assertEquals(1234567890123L, (long) received.get(0));
+        assertEquals(3L, (long) received.get(1));
+    }
+
+    @Test
+    void testRawStreamBytesListener() throws Exception {
+        final List<String> received = new ArrayList<String>();
+        RawStreamListener bytesListener = new RawStreamBytesListener() {
+            @Override
+            public void onMessage(byte[] message, int offset, int length) {
+                try {
+                    received.add("bytes:" + new String(message, offset, length, "UTF-8"));
+                } catch (java.io.UnsupportedEncodingException e) {
+                    throw new AssertionError(e);
+                }
+            }
+
+            @Override
+            public void onMessage(String rawString) {
+                received.add("string:" + rawString);
+            }
+
+            @Override
+            public void onException(Exception ex) {
+            }
+        };
+        RawStreamListener stringListener = new RawStreamListener() {
+            @Override
+            public void onMessage(String rawString) {
+                received.add("string:" + rawString);
+            }
+
+            @Override
+            public void onException(Exception ex) {
+            }
+        };
+        StatusStreamImpl stream = new StatusStreamImpl(SYNC, lines("{\"limit\":{\"track\":1}}"), new ConfigurationBuilder().build());
+        stream.next(new StreamListener[0], new RawStreamListener[]{bytesListener, stringListener});
+        assertEquals(2, received.size());
+        assertEquals("bytes:{\"limit\":{\"track\":1}}", received.get(0));
+        assertEquals("string:{\"limit\":{\"track\":1}}", received.get(1));
+    }
+
+    @Test
+    void testUnexpectedDeletionNotice() throws Exception {
+        final List<Exception> received = new ArrayList<Exception>();
+        StatusListener listener = new StatusAdapter() {
+            @Override
+            public void onException(Exception ex) {
+                received.add(ex);
+            }
+        };
+        StatusStream stream = new StatusStreamImpl(SYNC, lines("{\"delete\":{}}"), new ConfigurationBuilder().build());
+        stream.next(listener);
+        assertEquals(1, received.size());
+        assertTrue(received.get(0) instanceof JSONException);
+    }
+
+    @Test
+    void testMalformedLimitNoticeIsReported() throws Exception {
+        final List<Object> received = new ArrayList<Object>();
+        StatusListener listener = new StatusAdapter() {
+            @Override
+            public void onTrackLimitationNotice(int numberOfLimitedStatuses) {
+                received.add(numberOfLimitedStatuses);
+            }
+
+            @Override
+            public void onException(Exception ex) {
+                received.add(ex);
+            }
+        };
+        // a missing or non-numeric count is not delivered as -1
+        StatusStream stream = new StatusStreamImpl(SYNC, lines("{\"limit\":{\"track\":\"7\"}}", "{\"limit\":{}}",
+                "{\"limit\":{\"track\":\"many\"}}"), new ConfigurationBuilder().build());
+        stream.next(listener);
+        stream.next(listener);
+        stream.next(listener);
+        assertEquals(3, received.size());
+        assertEquals(7, received.get(0));
+        assertTrue(received.get(1) instanceof JSONException);
+        assertTrue(received.get(2) instanceof JSONException);
+    }
+}
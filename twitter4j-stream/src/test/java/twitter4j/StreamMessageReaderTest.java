@@ -0,0 +1,138 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamMessageReaderTest {
+
+    private static StreamMessageReader reader(String stream, int capacity) throws Exception {
+        return new StreamMessageReader(new ByteArrayInputStream(stream.getBytes("UTF-8")), capacity);
+    }
+
+    @Test
+    void testLineBreaks() throws Exception {
+        StreamMessageReader reader = reader("{\"a\":1}\r\n\r\n{\"b\":\"あ\"}\n{\"c\":3}", 1024);
+        assertEquals("{\"a\":1}", reader.next().toString());
+        // keep-alive
+        assertEquals("", reader.next().toString());
+        assertEquals("{\"b\":\"あ\"}", reader.next().toString());
+        // the last line may not be terminated
+        assertEquals("{\"c\":3}", reader.next().toString());
+        assertNull(reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testDelimitedLength() throws Exception {
+        String first = "{\"text\":\"line\\nbreak あ\"}\r\n";
+        String second = "{\"limit\":{\"track\":12}}\r\n";
+        StreamMessageReader reader = reader(first.getBytes("UTF-8").length + "\r\n" + first
+                + "\r\n" + second.getBytes("UTF-8").length + "\r\n" + second, 1024);
+        assertEquals("{\"text\":\"line\\nbreak あ\"}", reader.next().toString());
+        assertEquals("", reader.next().toString());
+        assertEquals("{\"limit\":{\"track\":12}}", reader.next().toString());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testBufferGrows() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            text.append("あbc");
+        }
+        String message = "{\"text\":\"" + text + "\"}";
+        String delimited = message + "\r\n";
+        StreamMessageReader reader = reader(message + "\r\n" + delimited.getBytes("UTF-8").length + "\r\n" + delimited + message, 16);
+        assertEquals(message, reader.next().toString());
+        assertEquals(message, reader.next().toString());
+        assertEquals(message, reader.next().toString());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testPartialReads() throws Exception {
+        final byte[] bytes = "{\"a\":1}\r\n9\r\n{\"b\":2}\r\n{\"c\":3}\r\n".getBytes("UTF-8");
+        // hands the bytes out one by one
+        InputStream trickle = new InputStream() {
+            private int index = 0;
+
+            @Override
+            public int read() {
+                return index < bytes.length ? bytes[index++] : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (index == bytes.length) {
+                    return -1;
+                }
+                b[off] = bytes[index++];
+                return 1;
+            }
+        };
+        StreamMessageReader reader = new StreamMessageReader(trickle, 4);
+        assertEquals("{\"a\":1}", reader.next().toString());
+        assertEquals("{\"b\":2}", reader.next().toString());
+        assertEquals("{\"c\":3}", reader.next().toString());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testRawBytes() throws Exception {
+        String json = "{\"delete\":{\"status\":{\"id\":1,\"user_id\":2}},\"x\":\"あ\"}";
+        StreamMessage message = reader(json + "\r\n", 1024).next();
+        CharSequence scannable = message.getScannable();
+        assertEquals(1, StreamMessageScanner.findLong(scannable, new String[]{"delete", "status", "id"}, null));
+        assertEquals(2, StreamMessageScanner.findLong(scannable, new String[]{"delete", "status", "user_id"}, null));
+        assertTrue(StreamMessageScanner.hasKey(scannable, "x", null));
+        assertArrayEquals(json.getBytes("UTF-8"), message.getBytes());
+        assertEquals(json, message.toString());
+        assertSame(message.toString(), message.toString());
+
+        // the scannable view is a CharSequence of its own: ISO-8859-1 characters, one per byte
+        String latin1 = new String(json.getBytes("UTF-8"), "ISO-8859-1");
+        assertEquals(latin1.length(), scannable.length());
+        assertEquals(latin1, scannable.toString());
+        assertEquals(latin1.charAt(latin1.length() - 3), scannable.charAt(scannable.length() - 3));
+        assertEquals(latin1.substring(2, 8), scannable.subSequence(2, 8).toString());
+        try {
+            scannable.charAt(scannable.length());
+            fail("expecting IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+
+    @Test
+    void testClose() throws Exception {
+        final boolean[] closed = new boolean[1];
+        InputStream stream = new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+            }
+        };
+        new StreamMessageReader(stream).close();
+        assertTrue(closed[0]);
+    }
+}
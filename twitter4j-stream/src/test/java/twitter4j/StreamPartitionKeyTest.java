@@ -0,0 +1,78 @@
+/*
+ * Copyright 2007 Yusuke Yamamoto
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package twitter4j;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StreamPartitionKeyTest {
+
+    private static String type(String line) {
+        return new StatusStreamBase.StreamEvent(null, new StreamMessage(line)).getType();
+    }
+
+    @Test
+    void testType() throws Exception {
+        assertEquals("delete", type("{\"delete\":{\"status\":{\"id\":6832057002,\"user_id\":18378841}}}"));
+        assertEquals("limit", type("{\"limit\":{\"track\":1234}}"));
+        assertEquals("friends", type("{\"for_user\":6358482,\"message\":{\"friends\":[6377362,4933401]}}"));
+        assertEquals("status", type("{\"created_at\":\"Sat Dec 19 16:01:35 +0000 2009\",\"id\":1,\"text\":\"delete\"}"));
+        assertEquals("event", type("{\"target\":{\"id\":1},\"source\":{\"id\":2},\"event\":\"follow\"}"));
+        assertEquals("event", type("{\"for_user\":1,\"message\":{\"source\":{\"id\":2},\"event\":\"follow\"}}"));
+        assertEquals("status", type("{\"for_user\":1,\"message\":{\"id\":2,\"text\":\"\\\"event\\\":1\"}}"));
+    }
+
+    @Test
+    void testStreamingAPITestCase() throws Exception {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("/streamingapi-testcase.json"), "UTF-8"));
+        String delete = reader.readLine();
+        assertEquals("delete", type(delete));
+        assertEquals(18378841L, StreamPartitionKey.USER.get("delete", delete));
+        assertEquals(6832057002L, StreamPartitionKey.STATUS.get("delete", delete));
+        String status = reader.readLine();
+        assertEquals("status", type(status));
+        JSONObject json = new JSONObject(status);
+        assertEquals(json.getJSONObject("user").getLong("id"), StreamPartitionKey.USER.get("status", status));
+        assertEquals(json.getLong("id"), StreamPartitionKey.STATUS.get("status", status));
+        reader.close();
+    }
+
+    @Test
+    void testNestedKeysAreSkipped() {
+        String retweet = "{\"retweeted_status\":{\"id\":1,\"user\":{\"id\":2}},\"entities\":{\"urls\":[{\"id\":3,\"s\":\"}]{[\"}]},"
+                + " \"user\" : { \"name\":\"id\", \"id\" : 4 }, \"id\":5}";
+        assertEquals(4, StreamPartitionKey.USER.get("status", retweet));
+        assertEquals(5, StreamPartitionKey.STATUS.get("status", retweet));
+        assertEquals(-1, StreamPartitionKey.USER.get("status", "{\"id\":5,\"user\":null}"));
+        assertEquals(-1, StreamPartitionKey.USER.get("limit", "{\"limit\":{\"track\":1234}}"));
+        assertEquals(-1, StreamPartitionKey.STATUS.get("status", "{\"id\":"));
+    }
+
+    @Test
+    void testForUser() {
+        assertEquals(6358482, StreamPartitionKey.FOR_USER.get("friends", "{\"for_user\":6358482,\"message\":{\"friends\":[6377362]}}"));
+        assertEquals(6358481, StreamPartitionKey.FOR_USER.get("friends", "{\"for_user\":\"6358481\",\"message\":{\"friends\":[6377362]}}"));
+        assertEquals(7, StreamPartitionKey.USER.get("event", "{\"for_user\":1,\"message\":{\"target\":{\"id\":2},\"source\":{\"id\":7},\"event\":\"follow\"}}"));
+        assertEquals(StreamPartitionKey.FOR_USER, StreamPartitionKey.of("for_user"));
+        assertEquals(null, StreamPartitionKey.of(null));
+    }
+}